@@ -8,6 +8,7 @@
 package io.camunda.application.commons.actor;
 
 import io.camunda.application.commons.actor.ActorIdleStrategyConfiguration.IdleStrategySupplier;
+import io.camunda.zeebe.scheduler.ActorProfiler;
 import io.camunda.zeebe.scheduler.ActorScheduler;
 import io.camunda.zeebe.util.VisibleForTesting;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -43,13 +44,23 @@ public final class ActorSchedulerConfiguration {
     final var metricsEnabled = schedulerConfiguration.metricsEnabled();
     final var prefix = schedulerConfiguration.schedulerPrefix();
     final var nodeId = schedulerConfiguration.nodeId();
+    final var cpuThreadNodes = schedulerConfiguration.cpuThreadNodes();
+    final var lifoSlotEnabled = schedulerConfiguration.lifoSlotEnabled();
+    final var virtualIoThreads = schedulerConfiguration.virtualIoThreads();
+    final var hierarchicalTimerWheel = schedulerConfiguration.hierarchicalTimerWheel();
+    final var profilingEnabled = schedulerConfiguration.profilingEnabled();
 
     final var scheduler =
         ActorScheduler.newActorScheduler()
             .setActorClock(actorClockConfiguration.getClock().orElse(null))
             .setCpuBoundActorThreadCount(cpuThreads)
+            .setCpuBoundActorThreadNodeCount(cpuThreadNodes)
+            .setLifoSlotEnabled(lifoSlotEnabled)
             .setIoBoundActorThreadCount(ioThreads)
+            .setIoBoundActorThreadsVirtual(virtualIoThreads)
+            .setHierarchicalTimerWheelEnabled(hierarchicalTimerWheel)
             .setMeterRegistry(metricsEnabled ? registry : null)
+            .setActorProfiler(profilingEnabled ? new ActorProfiler(registry) : null)
             .setSchedulerName(String.format("%s-%s", prefix, nodeId))
             .setIdleStrategySupplier(idleStrategySupplier)
             .build();
@@ -63,5 +74,30 @@ public final class ActorSchedulerConfiguration {
       int ioThreads,
       boolean metricsEnabled,
       String schedulerPrefix,
-      String nodeId) {}
+      String nodeId,
+      int cpuThreadNodes,
+      boolean lifoSlotEnabled,
+      boolean virtualIoThreads,
+      boolean profilingEnabled,
+      boolean hierarchicalTimerWheel) {
+
+    public SchedulerConfiguration(
+        final int cpuThreads,
+        final int ioThreads,
+        final boolean metricsEnabled,
+        final String schedulerPrefix,
+        final String nodeId) {
+      this(
+          cpuThreads,
+          ioThreads,
+          metricsEnabled,
+          schedulerPrefix,
+          nodeId,
+          1,
+          false,
+          false,
+          false,
+          false);
+    }
+  }
 }
@@ -71,9 +71,20 @@ public class BrokerBasedConfiguration {
     final var threadCfg = properties.getThreads();
     final var cpuThreads = threadCfg.getCpuThreadCount();
     final var ioThreads = threadCfg.getIoThreadCount();
-    final var metricsEnabled = properties.getExperimental().getFeatures().isEnableActorMetrics();
+    final var features = properties.getExperimental().getFeatures();
+    final var metricsEnabled = features.isEnableActorMetrics();
     final var nodeId = String.valueOf(properties.getCluster().getNodeId());
-    return new SchedulerConfiguration(cpuThreads, ioThreads, metricsEnabled, "Broker", nodeId);
+    return new SchedulerConfiguration(
+        cpuThreads,
+        ioThreads,
+        metricsEnabled,
+        "Broker",
+        nodeId,
+        threadCfg.getCpuThreadNodeCount(),
+        threadCfg.isLifoSlotEnabled(),
+        threadCfg.isVirtualIoThreadsEnabled(),
+        features.isEnableActorProfiling(),
+        threadCfg.isHierarchicalTimerWheelEnabled());
   }
 
   @ConditionalOnRestGatewayEnabled
@@ -0,0 +1,82 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.shared.management;
+
+import io.camunda.zeebe.scheduler.ActorProfiler.ActorCpuUsage;
+import io.camunda.zeebe.scheduler.ActorProfiler.ThreadQueueDepth;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * An actuator endpoint which exposes the profile of the actors, i.e. the actors which used the most
+ * CPU time recently, and the number of actors queued on each actor thread. The actors are only
+ * profiled if enabled via configuration (which by default they aren't); otherwise, any request
+ * results in a 404 response.
+ */
+@Component
+@WebEndpoint(id = "actors")
+public final class ActorsEndpoint {
+  static final int DEFAULT_LIMIT = 10;
+
+  private final ActorScheduler scheduler;
+
+  @Autowired
+  public ActorsEndpoint(final ActorScheduler scheduler) {
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * GET /actuator/actors?limit=10 - returns the actors which used the most CPU time within the
+   * profiling window, in descending order, as well as the queue depth of each actor thread.
+   *
+   * @param limit the maximum number of actors to return, defaults to {@link #DEFAULT_LIMIT}
+   */
+  @ReadOperation
+  public WebEndpointResponse<?> profile(@Nullable final Integer limit) {
+    final var profiler = scheduler.getProfiler();
+    if (profiler == null) {
+      return new WebEndpointResponse<>(
+          Map.of(
+              "error",
+              "Actors are not profiled; enable them with zeebe.broker.experimental.features.enableActorProfiling"),
+          WebEndpointResponse.STATUS_NOT_FOUND,
+          MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    if (limit != null && limit < 1) {
+      return new WebEndpointResponse<>(
+          Map.of("error", "Expected limit to be at least 1, but was %d".formatted(limit)),
+          WebEndpointResponse.STATUS_BAD_REQUEST,
+          MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    return new WebEndpointResponse<>(
+        new ActorsProfile(
+            profiler.getWindow(),
+            profiler.getSamplingInterval(),
+            profiler.getTopActorsByCpuTime(limit != null ? limit : DEFAULT_LIMIT),
+            profiler.getQueueDepths()),
+        WebEndpointResponse.STATUS_OK,
+        MimeTypeUtils.APPLICATION_JSON);
+  }
+
+  public record ActorsProfile(
+      Duration window,
+      int samplingInterval,
+      List<ActorCpuUsage> topActors,
+      List<ThreadQueueDepth> queueDepths) {}
+}
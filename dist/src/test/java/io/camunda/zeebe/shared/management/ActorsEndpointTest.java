@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.shared.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.from;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorProfiler;
+import io.camunda.zeebe.scheduler.ActorProfiler.ActorCpuUsage;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.shared.management.ActorsEndpoint.ActorsProfile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+final class ActorsEndpointTest {
+  private ActorScheduler scheduler;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void shouldReturnNotFoundIfActorsAreNotProfiled() {
+    // given
+    startScheduler(null);
+    final var endpoint = new ActorsEndpoint(scheduler);
+
+    // when
+    final var response = endpoint.profile(null);
+
+    // then
+    assertThat(response)
+        .returns(WebEndpointResponse.STATUS_NOT_FOUND, from(WebEndpointResponse::getStatus));
+  }
+
+  @Test
+  void shouldRejectInvalidLimit() {
+    // given
+    startScheduler(new ActorProfiler(null));
+    final var endpoint = new ActorsEndpoint(scheduler);
+
+    // when
+    final var response = endpoint.profile(0);
+
+    // then
+    assertThat(response)
+        .returns(WebEndpointResponse.STATUS_BAD_REQUEST, from(WebEndpointResponse::getStatus));
+  }
+
+  @Test
+  void shouldReturnProfileOfActors() {
+    // given
+    startScheduler(new ActorProfiler(null));
+    final var endpoint = new ActorsEndpoint(scheduler);
+    for (int i = 0; i < 3; i++) {
+      scheduler.submitActor(Actor.newActor().name("actor-" + i).build()).join();
+    }
+
+    // when
+    final var response = endpoint.profile(2);
+
+    // then
+    assertThat(response)
+        .returns(WebEndpointResponse.STATUS_OK, from(WebEndpointResponse::getStatus));
+    final var profile = (ActorsProfile) response.getBody();
+    assertThat(profile.window()).isEqualTo(ActorProfiler.DEFAULT_WINDOW);
+    assertThat(profile.topActors())
+        .hasSize(2)
+        .extracting(ActorCpuUsage::actorName)
+        .allMatch(name -> name.startsWith("actor-"));
+    assertThat(profile.queueDepths()).hasSize(2);
+  }
+
+  private void startScheduler(final ActorProfiler profiler) {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setActorProfiler(profiler)
+            .build();
+    scheduler.start();
+  }
+}
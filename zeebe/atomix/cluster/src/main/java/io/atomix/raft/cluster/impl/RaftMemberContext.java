@@ -25,6 +25,7 @@ import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.nio.ByteBuffer;
+import java.util.Set;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +36,7 @@ public final class RaftMemberContext {
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
   private final int maxAppendsPerMember;
+  private final int maxInstallsPerMember;
   private boolean open = true;
   private long term;
   private long configIndex;
@@ -48,19 +50,26 @@ public final class RaftMemberContext {
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
-  private boolean installing;
+  private int inFlightInstallCount;
+  private boolean installPipelined;
+  private long installAttempt;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
   private SnapshotChunkReader snapshotChunkReader;
+  private Set<String> reusedSnapshotFiles = Set.of();
+  private String reusedSnapshotFilesChunk;
+  private boolean compressSnapshotChunks;
   private IndexedRaftLogEntry currentEntry;
 
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxInstallsPerMember) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
     this.maxAppendsPerMember = maxAppendsPerMember;
+    this.maxInstallsPerMember = maxInstallsPerMember;
   }
 
   /** Resets the member state. */
@@ -74,7 +83,9 @@ public final class RaftMemberContext {
     inFlightAppendCount = 0;
     timeStats.clear();
     configuring = false;
-    installing = false;
+    inFlightInstallCount = 0;
+    installPipelined = false;
+    installAttempt++;
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
@@ -226,22 +237,59 @@ public final class RaftMemberContext {
   }
 
   /**
-   * Returns a boolean indicating whether an install request can be sent to the member.
+   * Returns a boolean indicating whether an install request can be sent to the member. Only one
+   * install request can be in flight at a time, unless the install requests are pipelined and there
+   * are chunks left to send, in which case up to the configured maximum can be in flight.
    *
    * @return Indicates whether an install request can be sent to the member.
    */
   public boolean canInstall() {
-    return open && !installing;
+    return open
+        && (inFlightInstallCount == 0
+            || (installPipelined
+                && nextSnapshotChunk != null
+                && inFlightInstallCount < maxInstallsPerMember));
   }
 
   /** Starts an install request to the member. */
   public void startInstall() {
-    installing = true;
+    inFlightInstallCount++;
   }
 
   /** Completes an install request to the member. */
   public void completeInstall() {
-    installing = false;
+    // the count is reset with the state, while responses to earlier requests may still arrive
+    inFlightInstallCount = Math.max(0, inFlightInstallCount - 1);
+  }
+
+  /**
+   * Sets whether the next chunks of the snapshot can be sent before the previous ones are
+   * acknowledged.
+   *
+   * @param installPipelined whether install requests to the member are pipelined
+   */
+  public void setInstallPipelined(final boolean installPipelined) {
+    this.installPipelined = installPipelined;
+  }
+
+  /**
+   * Returns the current install attempt, which changes whenever an install request failed. The
+   * responses to requests which were sent in an earlier attempt must be ignored, as the leader
+   * already went back to an earlier chunk.
+   *
+   * @return the current install attempt
+   */
+  public long getInstallAttempt() {
+    return installAttempt;
+  }
+
+  /**
+   * Fails the current install attempt, such that the responses to all install requests in flight
+   * are ignored, and stops pipelining install requests until a chunk was acknowledged again.
+   */
+  public void failInstall() {
+    installAttempt++;
+    installPipelined = false;
   }
 
   /**
@@ -277,7 +325,7 @@ public final class RaftMemberContext {
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("installing", inFlightInstallCount)
         .add("failures", failures)
         .toString();
   }
@@ -460,6 +508,68 @@ public final class RaftMemberContext {
 
   public void setSnapshotChunkReader(final SnapshotChunkReader snapshotChunkReader) {
     this.snapshotChunkReader = snapshotChunkReader;
+    reusedSnapshotFiles = Set.of();
+    reusedSnapshotFilesChunk = null;
+    compressSnapshotChunks = false;
+  }
+
+  /**
+   * Returns the files of the snapshot which is currently sent, which the member reuses from its
+   * previous snapshot instead of receiving them.
+   *
+   * @return the member's reused snapshot files
+   */
+  public Set<String> getReusedSnapshotFiles() {
+    return reusedSnapshotFiles;
+  }
+
+  /**
+   * Sets the files of the snapshot which is currently sent, which the member reuses from its
+   * previous snapshot instead of receiving them.
+   *
+   * @param reusedSnapshotFiles the member's reused snapshot files
+   */
+  public void setReusedSnapshotFiles(final Set<String> reusedSnapshotFiles) {
+    this.reusedSnapshotFiles = reusedSnapshotFiles;
+  }
+
+  /**
+   * Returns the chunk of the snapshot which is currently sent, which announces the reused snapshot
+   * files to the member.
+   *
+   * @return the name of the chunk, or null if the reused files were not announced yet
+   */
+  public String getReusedSnapshotFilesChunk() {
+    return reusedSnapshotFilesChunk;
+  }
+
+  /**
+   * Sets the chunk of the snapshot which is currently sent, which announces the reused snapshot
+   * files to the member.
+   *
+   * @param reusedSnapshotFilesChunk the name of the chunk
+   */
+  public void setReusedSnapshotFilesChunk(final String reusedSnapshotFilesChunk) {
+    this.reusedSnapshotFilesChunk = reusedSnapshotFilesChunk;
+  }
+
+  /**
+   * Returns whether the chunks of the snapshot which is currently sent are compressed, which is
+   * only the case if the member accepts compressed chunks.
+   *
+   * @return true if the snapshot chunks sent to the member are compressed
+   */
+  public boolean isCompressSnapshotChunks() {
+    return compressSnapshotChunks;
+  }
+
+  /**
+   * Sets whether the chunks of the snapshot which is currently sent are compressed.
+   *
+   * @param compressSnapshotChunks whether to compress the snapshot chunks sent to the member
+   */
+  public void setCompressSnapshotChunks(final boolean compressSnapshotChunks) {
+    this.compressSnapshotChunks = compressSnapshotChunks;
   }
 
   public boolean hasNextEntry() {
@@ -553,7 +553,8 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     checkArgument(commitIndex >= 0, "commitIndex must be positive");
     final long previousCommitIndex = this.commitIndex;
     if (commitIndex > previousCommitIndex) {
-      if (isLeader()) {
+      // if the log flushes asynchronously, the leader appender only commits flushed entries
+      if (isLeader() && !raftLog.flushesAsynchronously()) {
         // leader counts itself in quorum, so in order to commit the leader must persist
         try {
           raftLog.flush();
@@ -1285,6 +1286,14 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return snapshotChunkSize;
   }
 
+  public int getMaxInFlightSnapshotChunks() {
+    return partitionConfig.getMaxInFlightSnapshotChunks();
+  }
+
+  public boolean isCompressSnapshotChunks() {
+    return partitionConfig.isCompressSnapshotChunks();
+  }
+
   public CompletableFuture<Collection<Path>> getTailSegments(final long index) {
     final var fut = new CompletableFuture<Collection<Path>>();
     threadContext.execute(
@@ -58,6 +58,55 @@ public enum SnapshotReplicationMetricsDoc implements ExtendedMeterDocumentation
       return "ms";
     }
 
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION, RaftKeyNames.PARTITION_GROUP};
+    }
+  },
+  /** Total bytes of snapshot chunks received from the leader, as sent over the wire */
+  RECEIVED_BYTES {
+    @Override
+    public String getName() {
+      return "atomix.snapshot.replication.received.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Total bytes of snapshot chunks received from the leader, as sent over the wire";
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION, RaftKeyNames.PARTITION_GROUP};
+    }
+  },
+  /** Throughput of the last completed snapshot replication in bytes of snapshot data per second */
+  THROUGHPUT {
+    @Override
+    public String getName() {
+      return "atomix.snapshot.replication.throughput.bytes.per.second";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Throughput of the last completed snapshot replication in bytes of snapshot data per second";
+    }
+
     @Override
     public KeyName[] getKeyNames() {
       return new KeyName[] {PartitionKeyNames.PARTITION, RaftKeyNames.PARTITION_GROUP};
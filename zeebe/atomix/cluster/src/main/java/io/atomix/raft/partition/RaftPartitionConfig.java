@@ -30,6 +30,7 @@ public class RaftPartitionConfig {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final Duration DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT = Duration.ofSeconds(0);
   private static final int DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  private static final int DEFAULT_MAX_IN_FLIGHT_SNAPSHOT_CHUNKS = 1;
 
   private Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
@@ -45,6 +46,8 @@ public class RaftPartitionConfig {
   private EntryValidator entryValidator;
   private Duration configurationChangeTimeout;
   private int snapshotChunkSize;
+  private int maxInFlightSnapshotChunks = DEFAULT_MAX_IN_FLIGHT_SNAPSHOT_CHUNKS;
+  private boolean compressSnapshotChunks;
 
   /**
    * Returns the Raft leader election timeout.
@@ -144,6 +147,34 @@ public class RaftPartitionConfig {
     this.snapshotChunkSize = snapshotChunkSize;
   }
 
+  public int getMaxInFlightSnapshotChunks() {
+    return maxInFlightSnapshotChunks;
+  }
+
+  /**
+   * Sets how many snapshot chunks a leader may send to a follower before it receives the response
+   * to the first one. With a value of 1, every chunk is only sent after the previous one was
+   * acknowledged; higher values keep the link busy when the round trip time dominates.
+   *
+   * @param maxInFlightSnapshotChunks the maximum number of unacknowledged snapshot chunks
+   */
+  public void setMaxInFlightSnapshotChunks(final int maxInFlightSnapshotChunks) {
+    this.maxInFlightSnapshotChunks = maxInFlightSnapshotChunks;
+  }
+
+  public boolean isCompressSnapshotChunks() {
+    return compressSnapshotChunks;
+  }
+
+  /**
+   * Sets whether a leader compresses the snapshot chunks it sends to followers which support it.
+   *
+   * @param compressSnapshotChunks true to compress snapshot chunks on the wire
+   */
+  public void setCompressSnapshotChunks(final boolean compressSnapshotChunks) {
+    this.compressSnapshotChunks = compressSnapshotChunks;
+  }
+
   public Duration getConfigurationChangeTimeout() {
     return configurationChangeTimeout;
   }
@@ -228,6 +259,10 @@ public class RaftPartitionConfig {
         + snapshotRequestTimeout
         + ", snapshotChunkSize="
         + snapshotChunkSize
+        + ", maxInFlightSnapshotChunks="
+        + maxInFlightSnapshotChunks
+        + ", compressSnapshotChunks="
+        + compressSnapshotChunks
         + ", configurationChangeTimeout="
         + configurationChangeTimeout
         + ", minStepDownFailureCount="
@@ -19,6 +19,7 @@ package io.atomix.raft.partition;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.utils.concurrent.ThreadContext;
+import java.time.Duration;
 
 /** Raft storage configuration. */
 public class RaftStorageConfig {
@@ -36,6 +37,8 @@ public class RaftStorageConfig {
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private Duration groupCommitMaxDelay;
+  private int groupCommitMaxBatchSize;
 
   /**
    * Returns the Raft log segment size.
@@ -125,6 +128,33 @@ public class RaftStorageConfig {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
 
+  /**
+   * @return the maximum delay of a flush request with group commit, or null if it is disabled
+   */
+  public Duration getGroupCommitMaxDelay() {
+    return groupCommitMaxDelay;
+  }
+
+  /**
+   * @return the number of pending flush requests after which they are flushed immediately with
+   *     group commit
+   */
+  public int getGroupCommitMaxBatchSize() {
+    return groupCommitMaxBatchSize;
+  }
+
+  /**
+   * Enables group commit for the journal of the {@link RaftLog}. See {@link
+   * io.atomix.raft.storage.RaftStorage.Builder#withGroupCommit(Duration, int)}.
+   *
+   * @param maxDelay the maximum time a flush request is delayed to be merged with later requests
+   * @param maxBatchSize the number of pending requests after which they are flushed immediately
+   */
+  public void setGroupCommit(final Duration maxDelay, final int maxBatchSize) {
+    groupCommitMaxDelay = maxDelay;
+    groupCommitMaxBatchSize = maxBatchSize;
+  }
+
   @Override
   public String toString() {
     return "RaftStorageConfig{"
@@ -138,6 +168,10 @@ public class RaftStorageConfig {
         + journalIndexDensity
         + ", preallocateSegmentFiles="
         + preallocateSegmentFiles
+        + ", groupCommitMaxDelay="
+        + groupCommitMaxDelay
+        + ", groupCommitMaxBatchSize="
+        + groupCommitMaxBatchSize
         + '}';
   }
 }
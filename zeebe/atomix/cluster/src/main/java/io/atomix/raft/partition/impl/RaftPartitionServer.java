@@ -306,7 +306,13 @@ public class RaftPartitionServer implements HealthMonitorable {
 
   private RaftStorage createRaftStorage() {
     final RaftStorageConfig storageConfig = config.getStorageConfig();
-    return RaftStorage.builder(meterRegistry)
+    final var builder = RaftStorage.builder(meterRegistry);
+    if (storageConfig.getGroupCommitMaxDelay() != null) {
+      builder.withGroupCommit(
+          storageConfig.getGroupCommitMaxDelay(), storageConfig.getGroupCommitMaxBatchSize());
+    }
+
+    return builder
         .withPrefix(partition.name())
         .withPartitionId(partition.id().id())
         .withDirectory(partition.dataDirectory())
@@ -24,6 +24,9 @@ import io.atomix.cluster.MemberId;
 import io.atomix.utils.misc.StringUtils;
 import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -58,6 +61,14 @@ public class InstallRequest extends AbstractRaftRequest {
   private final boolean initial;
   // true if this is the last chunk
   private final boolean complete;
+  // the files the follower should reuse from its own snapshot, instead of receiving them; may be
+  // null when sent by an older leader
+  private final ArrayList<String> reusedFiles;
+  // the names of all files of the snapshot, sent along with the reused files such that the follower
+  // can verify that only reused files were skipped; may be null when sent by an older leader
+  private final ArrayList<String> snapshotFiles;
+  // true if the data is compressed, which the leader only does if the follower accepts it
+  private final boolean compressed;
 
   public InstallRequest(
       final long currentTerm,
@@ -69,7 +80,10 @@ public class InstallRequest extends AbstractRaftRequest {
       final ByteBuffer nextChunkId,
       final ByteBuffer data,
       final boolean initial,
-      final boolean complete) {
+      final boolean complete,
+      final ArrayList<String> reusedFiles,
+      final ArrayList<String> snapshotFiles,
+      final boolean compressed) {
     this.currentTerm = currentTerm;
     this.leader = leader;
     this.index = index;
@@ -80,6 +94,9 @@ public class InstallRequest extends AbstractRaftRequest {
     this.initial = initial;
     this.complete = complete;
     this.term = term;
+    this.reusedFiles = reusedFiles;
+    this.snapshotFiles = snapshotFiles;
+    this.compressed = compressed;
   }
 
   /**
@@ -153,7 +170,7 @@ public class InstallRequest extends AbstractRaftRequest {
   }
 
   /**
-   * Returns the snapshot data.
+   * Returns the snapshot data, which is compressed if {@link #compressed()} is true.
    *
    * @return The snapshot data.
    */
@@ -161,6 +178,16 @@ public class InstallRequest extends AbstractRaftRequest {
     return data;
   }
 
+  /**
+   * Returns whether the snapshot data is compressed, see {@link
+   * io.atomix.raft.snapshot.impl.SnapshotChunkCompression}.
+   *
+   * @return true if the snapshot data is compressed
+   */
+  public boolean compressed() {
+    return compressed;
+  }
+
   /**
    * Returns a boolean value indicating whether this is the last chunk of the snapshot.
    *
@@ -170,10 +197,44 @@ public class InstallRequest extends AbstractRaftRequest {
     return complete;
   }
 
+  /**
+   * Returns the files which the follower already holds with the same content, and which it should
+   * take over from its own snapshot instead of receiving them. These files are skipped by the
+   * leader, so chunks of the following files may arrive earlier than the follower expects.
+   *
+   * @return the names of the files to reuse, never null
+   */
+  public List<String> reusedFiles() {
+    return reusedFiles == null ? List.of() : reusedFiles;
+  }
+
+  /**
+   * Returns the names of all files of the snapshot, in the order in which the leader sends them.
+   * They are only sent along with the {@link #reusedFiles()}, such that the follower can verify
+   * that all files which were skipped are reused.
+   *
+   * @return the names of the files of the snapshot, never null
+   */
+  public List<String> snapshotFiles() {
+    return snapshotFiles == null ? List.of() : snapshotFiles;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
-        currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+        currentTerm,
+        leader,
+        index,
+        term,
+        version,
+        chunkId,
+        nextChunkId,
+        data,
+        initial,
+        complete,
+        reusedFiles(),
+        snapshotFiles(),
+        compressed);
   }
 
   @Override
@@ -191,10 +252,13 @@ public class InstallRequest extends AbstractRaftRequest {
         && version == that.version
         && initial == that.initial
         && complete == that.complete
+        && compressed == that.compressed
         && Objects.equals(leader, that.leader)
         && Objects.equals(chunkId, that.chunkId)
         && Objects.equals(nextChunkId, that.nextChunkId)
-        && Objects.equals(data, that.data);
+        && Objects.equals(data, that.data)
+        && Objects.equals(reusedFiles(), that.reusedFiles())
+        && Objects.equals(snapshotFiles(), that.snapshotFiles());
   }
 
   @Override
@@ -212,6 +276,9 @@ public class InstallRequest extends AbstractRaftRequest {
         .add("data", StringUtils.printShortBuffer(data))
         .add("initial", initial)
         .add("complete", complete)
+        .add("reusedFiles", reusedFiles())
+        .add("snapshotFiles", snapshotFiles())
+        .add("compressed", compressed)
         .toString();
   }
 
@@ -233,6 +300,9 @@ public class InstallRequest extends AbstractRaftRequest {
     private boolean complete;
     private boolean initial;
     private long term;
+    private ArrayList<String> reusedFiles;
+    private ArrayList<String> snapshotFiles;
+    private boolean compressed;
 
     /**
      * Sets the request current term.
@@ -346,6 +416,39 @@ public class InstallRequest extends AbstractRaftRequest {
       return this;
     }
 
+    /**
+     * Sets the files which the follower should reuse from its own snapshot.
+     *
+     * @param reusedFiles the names of the files to reuse
+     * @return the request builder
+     */
+    public Builder withReusedFiles(final Collection<String> reusedFiles) {
+      this.reusedFiles = reusedFiles.isEmpty() ? null : new ArrayList<>(reusedFiles);
+      return this;
+    }
+
+    /**
+     * Sets the names of all files of the snapshot, in the order in which they are sent.
+     *
+     * @param snapshotFiles the names of the files of the snapshot
+     * @return the request builder
+     */
+    public Builder withSnapshotFiles(final Collection<String> snapshotFiles) {
+      this.snapshotFiles = snapshotFiles.isEmpty() ? null : new ArrayList<>(snapshotFiles);
+      return this;
+    }
+
+    /**
+     * Sets whether the snapshot data is compressed.
+     *
+     * @param compressed whether the snapshot data is compressed
+     * @return the request builder
+     */
+    public Builder withCompressed(final boolean compressed) {
+      this.compressed = compressed;
+      return this;
+    }
+
     /**
      * @throws IllegalStateException if member is null
      */
@@ -353,7 +456,19 @@ public class InstallRequest extends AbstractRaftRequest {
     public InstallRequest build() {
       validate();
       return new InstallRequest(
-          currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+          currentTerm,
+          leader,
+          index,
+          term,
+          version,
+          chunkId,
+          nextChunkId,
+          data,
+          initial,
+          complete,
+          reusedFiles,
+          snapshotFiles,
+          compressed);
     }
 
     @Override
@@ -20,6 +20,8 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Snapshot installation response.
@@ -31,22 +33,57 @@ import io.atomix.raft.RaftError;
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  // the files the follower can reuse from its own snapshot, with their checksums; may be null when
+  // sent by an older follower
+  protected HashMap<String, Long> reusableFiles;
+  // true if the follower accepts compressed snapshot chunks; false when sent by an older follower
+  protected boolean compressedChunksAccepted;
 
-  public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final HashMap<String, Long> reusableFiles,
+      final boolean compressedChunksAccepted) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.reusableFiles = reusableFiles;
+    this.compressedChunksAccepted = compressedChunksAccepted;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  /**
+   * Returns the files which the follower already holds from a previous snapshot, mapped to their
+   * checksums. The leader does not have to send the files which have the same checksum in the
+   * snapshot it is replicating.
+   *
+   * @return the reusable files of the follower, never null
+   */
+  public Map<String, Long> reusableFiles() {
+    return reusableFiles == null ? Map.of() : reusableFiles;
+  }
+
+  /**
+   * Returns whether the follower accepts compressed snapshot chunks, in which case the leader may
+   * compress the following chunks of the snapshot.
+   *
+   * @return true if the follower accepts compressed snapshot chunks
+   */
+  public boolean compressedChunksAccepted() {
+    return compressedChunksAccepted;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add("reusableFiles", reusableFiles())
+        .add("compressedChunksAccepted", compressedChunksAccepted)
         .toString();
   }
 
@@ -62,17 +99,30 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected HashMap<String, Long> reusableFiles;
+    protected boolean compressedChunksAccepted;
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(
+          status, error, preferredChunkSize, reusableFiles, compressedChunksAccepted);
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
     }
+
+    public Builder withReusableFiles(final Map<String, Long> reusableFiles) {
+      this.reusableFiles = reusableFiles.isEmpty() ? null : new HashMap<>(reusableFiles);
+      return this;
+    }
+
+    public Builder withCompressedChunksAccepted(final boolean compressedChunksAccepted) {
+      this.compressedChunksAccepted = compressedChunksAccepted;
+      return this;
+    }
   }
 }
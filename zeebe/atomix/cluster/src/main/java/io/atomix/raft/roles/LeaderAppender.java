@@ -22,6 +22,7 @@ import io.atomix.raft.RaftException;
 import io.atomix.raft.RaftException.CommitFailedException;
 import io.atomix.raft.RaftException.NoLeader;
 import io.atomix.raft.RaftServer;
+import io.atomix.raft.RaftServer.Role;
 import io.atomix.raft.cluster.RaftMember;
 import io.atomix.raft.cluster.impl.DefaultRaftMember;
 import io.atomix.raft.cluster.impl.RaftMemberContext;
@@ -37,6 +38,7 @@ import io.atomix.raft.protocol.RaftRequest;
 import io.atomix.raft.protocol.RaftResponse;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.snapshot.impl.SnapshotChunkCompression;
 import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.utils.logging.ContextualLoggerFactory;
@@ -44,14 +46,17 @@ import io.atomix.utils.logging.LoggerContext;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
+import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
@@ -64,6 +69,7 @@ import org.slf4j.Logger;
 final class LeaderAppender {
 
   private static final int MIN_BACKOFF_FAILURE_COUNT = 5;
+  private static final int REPLICATABLE_RECORD_CACHE_CAPACITY = 1024;
 
   private final int maxBatchSizePerAppend;
   private final Logger log;
@@ -79,6 +85,11 @@ final class LeaderAppender {
   private final long heartbeatTime;
   private final int minStepDownFailureCount;
   private final long maxQuorumResponseTimeout;
+  private final ReplicatableRecordCache replicatableRecords;
+  // only used if the log flushes asynchronously: the highest index known to be flushed locally, and
+  // the highest index up to which a flush was requested
+  private long flushedIndex;
+  private long requestedFlushIndex;
 
   LeaderAppender(final LeaderRole leader) {
     raft = checkNotNull(leader.raft, "context cannot be null");
@@ -97,6 +108,10 @@ final class LeaderAppender {
         raft.getMaxQuorumResponseTimeout().isZero()
             ? electionTimeout * 2
             : raft.getMaxQuorumResponseTimeout().toMillis();
+    // followers replicating in lockstep will request the same entries, so a couple of batches are
+    // enough to share most records between them
+    replicatableRecords =
+        new ReplicatableRecordCache(REPLICATABLE_RECORD_CACHE_CAPACITY, 2L * maxBatchSizePerAppend);
   }
 
   /**
@@ -185,7 +200,7 @@ final class LeaderAppender {
     while (hasMoreEntries(member)) {
       // Otherwise, read the next entry and add it to the batch.
       final IndexedRaftLogEntry entry = member.nextEntry();
-      final var replicatableRecord = entry.getReplicatableJournalRecord();
+      final var replicatableRecord = replicatableRecords.get(entry);
       entries.add(replicatableRecord);
       size += replicatableRecord.approximateSize();
       if (entry.index() == lastIndex || size >= maxBatchSizePerAppend) {
@@ -415,7 +430,14 @@ final class LeaderAppender {
         return Optional.empty();
       }
       final ByteBuffer currentChunkId = reader.nextId();
+      final boolean announcesReusedFiles = announcesReusedSnapshotFiles(member, currentChunkId);
       final SnapshotChunk chunk = reader.next();
+      final ByteBuffer data = new SnapshotChunkImpl(chunk).toByteBuffer();
+      final ByteBuffer compressedData =
+          member.isCompressSnapshotChunks() ? SnapshotChunkCompression.compress(data) : null;
+      // chunks of files which are compressed already may not get any smaller
+      final boolean compressed =
+          compressedData != null && compressedData.remaining() < data.remaining();
 
       // Create the install request, indicating whether this is the last chunk of data based on
       // the number of bytes remaining in the buffer.
@@ -428,11 +450,17 @@ final class LeaderAppender {
               .withIndex(persistedSnapshot.getIndex())
               .withTerm(persistedSnapshot.getTerm())
               .withVersion(persistedSnapshot.version())
-              .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
+              .withData(compressed ? compressedData : data)
+              .withCompressed(compressed)
               .withChunkId(currentChunkId)
               .withInitial(member.getNextSnapshotChunk() == null)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
+              .withReusedFiles(announcesReusedFiles ? member.getReusedSnapshotFiles() : Set.of())
+              .withSnapshotFiles(
+                  announcesReusedFiles
+                      ? persistedSnapshot.getChecksums().getChecksums().keySet()
+                      : List.of())
               .build();
       return Optional.of(request);
     } catch (final UncheckedIOException e) {
@@ -448,10 +476,34 @@ final class LeaderAppender {
     }
   }
 
+  /**
+   * The member only needs the reused files, and the files of the snapshot to validate them, with
+   * the first chunk after the skipped files, where it checks that every skipped file is reused.
+   * They are sent again only if that chunk is sent again.
+   */
+  private boolean announcesReusedSnapshotFiles(
+      final RaftMemberContext member, final ByteBuffer chunkId) {
+    if (member.getReusedSnapshotFiles().isEmpty()) {
+      return false;
+    }
+
+    final var chunkName = new SnapshotChunkId(chunkId).toString();
+    if (member.getReusedSnapshotFilesChunk() == null) {
+      member.setReusedSnapshotFilesChunk(chunkName);
+    }
+    return chunkName.equals(member.getReusedSnapshotFilesChunk());
+  }
+
   /** Connects to the member and sends a snapshot request. */
   private void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
     // Start the install to the member.
     member.startInstall();
+    final long installAttempt = member.getInstallAttempt();
+
+    // Move on to the next chunk right away, such that it can be sent before this one is
+    // acknowledged if install requests are pipelined. There is nothing left to send after the
+    // last chunk.
+    member.setNextSnapshotChunkId(request.complete() ? null : request.nextChunkId());
 
     final long timestamp = System.currentTimeMillis();
 
@@ -464,7 +516,13 @@ final class LeaderAppender {
                 // Complete the install to the member.
                 member.completeInstall();
 
-                if (error == null) {
+                if (installAttempt != member.getInstallAttempt()) {
+                  // a previous request failed, and the chunks after it are sent again
+                  log.trace(
+                      "Ignoring response to {} from {} of a failed install attempt",
+                      request,
+                      member.getMember().memberId());
+                } else if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
                   handleInstallResponse(member, request, response, timestamp);
                 } else {
@@ -485,9 +543,14 @@ final class LeaderAppender {
         error instanceof TimeoutException
             || (error != null && error.getCause() instanceof TimeoutException);
 
+    member.failInstall();
     if (!isTimeout) {
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunkId(null);
+    } else {
+      // The member may have received the chunk anyway, as well as the chunks sent after it, which
+      // it acknowledges again. Send them again, starting with this chunk.
+      member.setNextSnapshotChunkId(request.isInitial() ? null : request.chunkId());
     }
 
     // Log the failed attempt to contact the member.
@@ -506,6 +569,12 @@ final class LeaderAppender {
     if (response.preferredChunkSize() > 0) {
       member.getSnapshotChunkReader().setMaximumChunkSize(response.preferredChunkSize());
     }
+    if (request.isInitial() && !request.complete()) {
+      member.setCompressSnapshotChunks(
+          raft.isCompressSnapshotChunks() && response.compressedChunksAccepted());
+      skipReusableSnapshotFiles(member, request, response);
+    }
+
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
     if (request.complete()) {
@@ -514,15 +583,63 @@ final class LeaderAppender {
       member.setSnapshotIndex(request.index());
       resetNextIndex(member, request.index() + 1);
     }
-    // If more install requests remain, increment the member's snapshot offset.
+    // If more install requests remain, the next chunks can be sent without waiting for this
+    // response; the member's snapshot offset was already moved on when sending the request.
     else {
-      member.setNextSnapshotChunkId(request.nextChunkId());
+      member.setInstallPipelined(true);
     }
 
     // Recursively append entries to the member.
     appendEntries(member);
   }
 
+  /**
+   * Skips the files of the snapshot which the member already holds with the same checksum in its
+   * previous snapshot, as advertised in the response to the first chunk. The member reuses these
+   * files instead. The file of the first chunk is never skipped, as it was already (partially)
+   * sent, nor is the last file, such that there is always a chunk left to complete the snapshot.
+   */
+  private void skipReusableSnapshotFiles(
+      final RaftMemberContext member,
+      final InstallRequest request,
+      final InstallResponse response) {
+    final var reusableFiles = response.reusableFiles();
+    final var persistedSnapshot = raft.getCurrentSnapshot();
+    if (reusableFiles.isEmpty()
+        || persistedSnapshot == null
+        || persistedSnapshot.getIndex() != request.index()) {
+      return;
+    }
+
+    final var checksums = persistedSnapshot.getChecksums().getChecksums();
+    if (checksums.isEmpty()) {
+      return;
+    }
+
+    final var sentFile = new SnapshotChunkId(request.chunkId()).fileName();
+    final var lastFile = checksums.lastKey();
+    final Set<String> reusedFiles = new HashSet<>();
+    checksums.forEach(
+        (fileName, checksum) -> {
+          if (!fileName.equals(sentFile)
+              && !fileName.equals(lastFile)
+              && checksum.equals(reusableFiles.get(fileName))) {
+            reusedFiles.add(fileName);
+          }
+        });
+
+    if (!reusedFiles.isEmpty()) {
+      log.debug(
+          "Skipping {} of {} files of snapshot {}, which {} reuses from its previous snapshot",
+          reusedFiles.size(),
+          checksums.size(),
+          persistedSnapshot.getId(),
+          member.getMember().memberId());
+      member.getSnapshotChunkReader().skip(reusedFiles);
+      member.setReusedSnapshotFiles(reusedFiles);
+    }
+  }
+
   /** Handles an ERROR install response. */
   @SuppressWarnings("unused")
   private void handleInstallResponseError(
@@ -535,6 +652,7 @@ final class LeaderAppender {
         member.getMember().memberId(),
         response.error().toString());
 
+    member.failInstall();
     member.setNextSnapshotIndex(0);
     member.setNextSnapshotChunkId(null);
   }
@@ -561,6 +679,12 @@ final class LeaderAppender {
     // commit.
     // The updated commit index will be sent to passive/reserve members on heartbeats.
     if (raft.getCluster().isSingleMemberCluster()) {
+      if (raft.getLog().flushesAsynchronously()) {
+        // committed by commitEntries once the entry is flushed
+        requestFlush();
+        return appendFutures.computeIfAbsent(index, i -> new CompletableFuture<>());
+      }
+
       try {
         raft.setCommitIndex(index);
         completeCommits(index);
@@ -575,6 +699,12 @@ final class LeaderAppender {
           new NoLeader("Cannot replicate entries on closed leader"));
     }
 
+    // flush locally while the entry is replicated, such that the flush is not delayed until a
+    // quorum of followers acknowledged it
+    if (raft.getLog().flushesAsynchronously()) {
+      requestFlush();
+    }
+
     // Only send entry-specific AppendRequests to active members of the cluster.
     return appendFutures.computeIfAbsent(
         index,
@@ -914,8 +1044,13 @@ final class LeaderAppender {
         "Replicating snapshot {} to {}",
         persistedSnapshot.getIndex(),
         member.getMember().memberId());
-    buildInstallRequest(member, persistedSnapshot)
-        .ifPresent(installRequest -> sendInstallRequest(member, installRequest));
+
+    // if install requests are pipelined, send as many chunks as may be in flight at once
+    Optional<InstallRequest> installRequest;
+    do {
+      installRequest = buildInstallRequest(member, persistedSnapshot);
+      installRequest.ifPresent(request -> sendInstallRequest(member, request));
+    } while (installRequest.isPresent() && member.canInstall());
   }
 
   private void replicateEvents(final RaftMemberContext member) {
@@ -1012,10 +1147,11 @@ final class LeaderAppender {
     raft.checkThread();
 
     final long commitIndex =
-        raft.getCluster()
-            .getQuorumFor(RaftMemberContext::getMatchIndex)
-            // If there are no remote members, commit up to the last log index.
-            .orElseGet(() -> raft.getLog().getLastIndex());
+        getFlushedIndex(
+            raft.getCluster()
+                .getQuorumFor(RaftMemberContext::getMatchIndex)
+                // If there are no remote members, commit up to the last log index.
+                .orElseGet(() -> raft.getLog().getLastIndex()));
 
     // If the commit index has increased then update the commit index. Note that in order to ensure
     // the leader completeness property holds, we verify that the commit index is greater than or
@@ -1031,6 +1167,52 @@ final class LeaderAppender {
     }
   }
 
+  /**
+   * The leader counts itself in the quorum, so it may only commit entries it has flushed. If the
+   * log flushes synchronously, this is ensured when the commit index is set. Otherwise, this caps
+   * the given index by the locally flushed index, and requests a flush if it is not yet covered.
+   * Entries are then committed once the flush completes.
+   */
+  private long getFlushedIndex(final long index) {
+    if (!raft.getLog().flushesAsynchronously() || index <= flushedIndex) {
+      return index;
+    }
+
+    requestFlush();
+    return flushedIndex;
+  }
+
+  private void requestFlush() {
+    final long lastIndex = raft.getLog().getLastIndex();
+    if (lastIndex <= requestedFlushIndex) {
+      return;
+    }
+
+    requestedFlushIndex = lastIndex;
+    raft.getLog()
+        .flushAsync()
+        .whenComplete(
+            (ignored, error) -> raft.getThreadContext().execute(() -> onFlushed(lastIndex, error)));
+  }
+
+  private void onFlushed(final long index, final Throwable error) {
+    if (!open) {
+      return;
+    }
+
+    if (error != null) {
+      log.warn(
+          "Failed to flush the log up to index {}, cannot commit entries; stepping down",
+          index,
+          error);
+      raft.transition(Role.FOLLOWER);
+      return;
+    }
+
+    flushedIndex = Math.max(flushedIndex, index);
+    commitEntries();
+  }
+
   private long computeResponseTime() {
     return raft.getCluster()
         .getQuorumFor(RaftMemberContext::getResponseTime)
@@ -42,6 +42,7 @@ import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.ReplicatableRaftRecord;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.raft.snapshot.impl.SnapshotChunkCompression;
 import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLogReader;
@@ -60,10 +61,12 @@ import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.zip.DataFormatException;
 import org.agrona.concurrent.UnsafeBuffer;
 
 /** Passive state. */
@@ -74,7 +77,15 @@ public class PassiveRole extends InactiveRole {
   private long pendingSnapshotStartTimestamp;
   private ReceivedSnapshot pendingSnapshot;
   private ByteBuffer nextPendingSnapshotChunkId;
-  private ByteBuffer previouslyReceivedSnapshotChunkId;
+  // the chunks of the pending snapshot which were received, to acknowledge them again when the
+  // leader resends them; chunk IDs repeat across snapshots, so they are only valid for the snapshot
+  // they were received for
+  private final Set<ByteBuffer> receivedSnapshotChunkIds = new HashSet<>();
+  private String receivedSnapshotChunksSnapshotId;
+  private long pendingSnapshotReceivedBytes;
+  // the files of the pending snapshot which were reused from our previous snapshot; the leader
+  // announces them once per snapshot, or again when it resends that chunk
+  private final Set<String> pendingSnapshotReusedFiles = new HashSet<>();
   private final int snapshotChunkSize;
 
   public PassiveRole(final RaftContext context) {
@@ -127,9 +138,10 @@ public class PassiveRole extends InactiveRole {
     logRequest(request);
     updateTermAndLeader(request.currentTerm(), request.leader());
 
+    snapshotReplicationMetrics.observeReceivedBytes(request.data().remaining());
     final var snapshotChunk = new SnapshotChunkImpl();
-    final var snapshotChunkBuffer = new UnsafeBuffer(request.data());
-    if (!snapshotChunk.tryWrap(snapshotChunkBuffer)) {
+    final var snapshotChunkData = readSnapshotChunkData(request);
+    if (snapshotChunkData == null || !snapshotChunk.tryWrap(new UnsafeBuffer(snapshotChunkData))) {
       abortPendingSnapshots();
       return CompletableFuture.completedFuture(
           logResponse(
@@ -160,7 +172,7 @@ public class PassiveRole extends InactiveRole {
     }
 
     // Validate the request and return if the request should not be processed further.
-    final var preProcessed = preProcessInstallRequest(request);
+    final var preProcessed = preProcessInstallRequest(request, snapshotChunk.getSnapshotId());
     if (preProcessed.isLeft()) {
       // The request is either rejected or skip processing with a success response
       return CompletableFuture.completedFuture(preProcessed.getLeft());
@@ -204,6 +216,8 @@ public class PassiveRole extends InactiveRole {
 
       log.info("Started receiving new snapshot {} from {}", pendingSnapshot, request.leader());
       pendingSnapshotStartTimestamp = System.currentTimeMillis();
+      pendingSnapshotReceivedBytes = 0L;
+      pendingSnapshotReusedFiles.clear();
       snapshotReplicationMetrics.incrementCount();
 
       // When all chunks of the snapshot is received the log will be reset. Hence notify the
@@ -212,7 +226,9 @@ public class PassiveRole extends InactiveRole {
     }
 
     try {
+      reuseSkippedFiles(request);
       pendingSnapshot.apply(snapshotChunk).join();
+      pendingSnapshotReceivedBytes += snapshotChunk.getContent().length;
     } catch (final Exception e) {
       log.warn(
           "Failed to write pending snapshot chunk {}, rolling back snapshot {}",
@@ -258,22 +274,35 @@ public class PassiveRole extends InactiveRole {
       pendingSnapshot = null;
       pendingSnapshotStartTimestamp = 0L;
       setNextExpected(null);
-      previouslyReceivedSnapshotChunkId = null;
+      clearReceivedSnapshotChunks();
       snapshotReplicationMetrics.decrementCount();
       snapshotReplicationMetrics.observeDuration(elapsed);
+      snapshotReplicationMetrics.observeThroughput(pendingSnapshotReceivedBytes, elapsed);
       raft.updateCurrentSnapshot();
       onSnapshotReceiveCompletedOrAborted();
     } else {
       setNextExpected(request.nextChunkId());
-      previouslyReceivedSnapshotChunkId = request.chunkId();
+      addReceivedSnapshotChunk(snapshotChunk.getSnapshotId(), request.chunkId());
     }
 
-    return CompletableFuture.completedFuture(
-        logResponse(
-            InstallResponse.builder()
-                .withStatus(RaftResponse.Status.OK)
-                .withPreferredChunkSize(snapshotChunkSize)
-                .build()));
+    return CompletableFuture.completedFuture(logResponse(installOkResponse(request)));
+  }
+
+  /**
+   * Builds the response to a successfully processed install request. The response to the first
+   * chunk of a snapshot advertises the files which we can reuse from our previous snapshot, such
+   * that the leader does not have to send them.
+   */
+  private InstallResponse installOkResponse(final InstallRequest request) {
+    final var response =
+        InstallResponse.builder()
+            .withStatus(RaftResponse.Status.OK)
+            .withPreferredChunkSize(snapshotChunkSize)
+            .withCompressedChunksAccepted(true);
+    if (request.isInitial() && pendingSnapshot != null) {
+      response.withReusableFiles(pendingSnapshot.reusableFiles());
+    }
+    return response.build();
   }
 
   @Override
@@ -429,20 +458,15 @@ public class PassiveRole extends InactiveRole {
 
   // validates install request and returns a response if the request should not be processed
   // further.
-  private Either<InstallResponse, Void> preProcessInstallRequest(final InstallRequest request) {
-    if (Objects.equals(request.chunkId(), previouslyReceivedSnapshotChunkId)) {
-      // Duplicate request for the same chunk that was previously processed
-      return Either.left(
-          logResponse(
-              InstallResponse.builder()
-                  .withStatus(Status.OK)
-                  .withPreferredChunkSize(snapshotChunkSize)
-                  .build()));
+  private Either<InstallResponse, Void> preProcessInstallRequest(
+      final InstallRequest request, final String snapshotId) {
+    if (isReceivedSnapshotChunk(snapshotId, request.chunkId())) {
+      // Duplicate request for a chunk that was previously processed, e.g. because the response
+      // timed out at the leader
+      return Either.left(logResponse(installOkResponse(request)));
     }
 
-    // if null assume it is first chunk of file
-    if (nextPendingSnapshotChunkId != null
-        && !nextPendingSnapshotChunkId.equals(request.chunkId())) {
+    if (!isExpectedSnapshotChunk(request)) {
       final var errMsg =
           "Expected chunkId of ["
               + new SnapshotChunkId(nextPendingSnapshotChunkId)
@@ -496,6 +520,19 @@ public class PassiveRole extends InactiveRole {
                   .build()));
     }
 
+    if (!request.reusedFiles().isEmpty()
+        && !new HashSet<>(request.snapshotFiles()).containsAll(request.reusedFiles())) {
+      abortPendingSnapshots();
+      return Either.left(
+          logResponse(
+              InstallResponse.builder()
+                  .withStatus(Status.ERROR)
+                  .withError(
+                      Type.PROTOCOL_ERROR,
+                      "Snapshot installation reuses files which are not part of the snapshot")
+                  .build()));
+    }
+
     if (!request.complete() && request.nextChunkId() == null) {
       abortPendingSnapshots();
       return Either.left(
@@ -510,6 +547,72 @@ public class PassiveRole extends InactiveRole {
     return Either.right(null);
   }
 
+  /**
+   * Reuses the files which the leader skips from our previous snapshot, unless they were reused for
+   * the pending snapshot already.
+   */
+  private void reuseSkippedFiles(final InstallRequest request) {
+    final var skippedFiles =
+        request.reusedFiles().stream()
+            .filter(fileName -> !pendingSnapshotReusedFiles.contains(fileName))
+            .toList();
+    if (!skippedFiles.isEmpty()) {
+      pendingSnapshot.reuse(skippedFiles).join();
+      pendingSnapshotReusedFiles.addAll(skippedFiles);
+    }
+  }
+
+  private boolean isExpectedSnapshotChunk(final InstallRequest request) {
+    // if null assume it is first chunk of file
+    if (nextPendingSnapshotChunkId == null
+        || nextPendingSnapshotChunkId.equals(request.chunkId())) {
+      return true;
+    }
+
+    if (request.reusedFiles().isEmpty()) {
+      return false;
+    }
+
+    // the leader skips the files we reuse, so the chunk may start a later file than expected, as
+    // long as every file of the snapshot from the expected one up to the received one is reused
+    final var expectedChunkId = new SnapshotChunkId(nextPendingSnapshotChunkId);
+    final var chunkId = new SnapshotChunkId(request.chunkId());
+    if (expectedChunkId.offset() != 0
+        || chunkId.offset() != 0
+        || chunkId.fileName().compareTo(expectedChunkId.fileName()) <= 0
+        || !request.snapshotFiles().contains(expectedChunkId.fileName())) {
+      return false;
+    }
+
+    final var reusedFiles = new HashSet<>(request.reusedFiles());
+    for (final var fileName : request.snapshotFiles()) {
+      if (fileName.compareTo(expectedChunkId.fileName()) >= 0
+          && fileName.compareTo(chunkId.fileName()) < 0
+          && !reusedFiles.contains(fileName)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns the serialized snapshot chunk of the request, decompressing it if necessary, or null if
+   * it cannot be decompressed.
+   */
+  private ByteBuffer readSnapshotChunkData(final InstallRequest request) {
+    if (!request.compressed()) {
+      return request.data();
+    }
+
+    try {
+      return SnapshotChunkCompression.decompress(request.data());
+    } catch (final DataFormatException e) {
+      log.warn("Failed to decompress snapshot chunk of {}", request, e);
+      return null;
+    }
+  }
+
   private CompletableFuture<InstallResponse> failIfSnapshotAlreadyExists(
       final ExecutionException errorCreatingPendingSnapshot,
       final SnapshotChunkImpl snapshotChunk) {
@@ -547,10 +650,28 @@ public class PassiveRole extends InactiveRole {
     nextPendingSnapshotChunkId = nextChunkId;
   }
 
+  private boolean isReceivedSnapshotChunk(final String snapshotId, final ByteBuffer chunkId) {
+    return snapshotId.equals(receivedSnapshotChunksSnapshotId)
+        && receivedSnapshotChunkIds.contains(chunkId);
+  }
+
+  private void addReceivedSnapshotChunk(final String snapshotId, final ByteBuffer chunkId) {
+    if (!snapshotId.equals(receivedSnapshotChunksSnapshotId)) {
+      clearReceivedSnapshotChunks();
+      receivedSnapshotChunksSnapshotId = snapshotId;
+    }
+    receivedSnapshotChunkIds.add(chunkId);
+  }
+
+  private void clearReceivedSnapshotChunks() {
+    receivedSnapshotChunkIds.clear();
+    receivedSnapshotChunksSnapshotId = null;
+  }
+
   private void abortPendingSnapshots() {
+    clearReceivedSnapshotChunks();
     if (pendingSnapshot != null) {
       setNextExpected(null);
-      previouslyReceivedSnapshotChunkId = null;
       log.info("Rolling back snapshot {}", pendingSnapshot);
       try {
         pendingSnapshot.abort();
@@ -768,6 +889,21 @@ public class PassiveRole extends InactiveRole {
       log.trace("Committed entries up to index {}", commitIndex);
     }
 
+    if (raft.getLog().flushesAsynchronously()) {
+      // acknowledge only once the asynchronous flush is done, to ensure we have persisted what we
+      // acknowledge; the completions run in order, so the responses keep the order of the requests.
+      // This applies to requests without new entries too, e.g. heartbeats, as they acknowledge
+      // the entries of previous requests which may not be flushed yet
+      final long appendedIndex = lastLogIndex;
+      raft.getLog()
+          .flushAsync()
+          .whenComplete(
+              (ignored, error) ->
+                  raft.getThreadContext()
+                      .execute(() -> onAppendFlushed(request, appendedIndex, error, future)));
+      return;
+    }
+
     try {
       //     Make sure all entries are flushed before ack to ensure we have persisted what we
       //     acknowledge
@@ -785,6 +921,22 @@ public class PassiveRole extends InactiveRole {
     succeedAppend(lastLogIndex, future);
   }
 
+  private void onAppendFlushed(
+      final InternalAppendRequest request,
+      final long appendedIndex,
+      final Throwable error,
+      final CompletableFuture<AppendResponse> future) {
+    if (error != null) {
+      log.warn(
+          "Failed to flush appended entries to the log, cannot guarantee durability; leader will retry the append operation",
+          error);
+      failAppend(request.prevLogIndex(), future);
+      return;
+    }
+
+    succeedAppend(appendedIndex, future);
+  }
+
   private void flush(final long lastFlushedIndex, final long previousEntryIndex)
       throws FlushException {
     if (lastFlushedIndex > previousEntryIndex) {
@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.roles;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.storage.log.IndexedRaftLogEntry;
+
+/**
+ * Caches the most recently replicated records, such that the serialized record copied out of the
+ * journal for one follower is shared with every other follower replicating the same entry, instead
+ * of being copied again for each of them.
+ *
+ * <p>Records are stored in a direct-mapped table keyed by their index, and are immutable, so
+ * sharing them between append requests is safe. The cache is bounded by the total size of the
+ * cached records: to make room for a new record, the records which were cached first are evicted.
+ * Only a record which is larger than the bound by itself is not cached.
+ *
+ * <p>This class is not thread-safe, and is expected to be only used from the Raft thread.
+ */
+final class ReplicatableRecordCache {
+  private final ReplicatableJournalRecord[] records;
+  // the cached records in the order in which they were cached, as a ring buffer; it may contain
+  // records which were already replaced in their slot, which are skipped when evicting
+  private final ReplicatableJournalRecord[] cacheOrder;
+  private final int mask;
+  private final long maxCachedBytes;
+  private long cachedBytes;
+  private int oldest;
+  private int cacheOrderSize;
+
+  /**
+   * @param capacity the maximum number of records cached; must be a power of two
+   * @param maxCachedBytes the maximum total size of the cached records
+   */
+  ReplicatableRecordCache(final int capacity, final long maxCachedBytes) {
+    checkArgument(
+        capacity > 0 && Integer.bitCount(capacity) == 1,
+        "Expected capacity to be a positive power of two, but was %s",
+        capacity);
+
+    records = new ReplicatableJournalRecord[capacity];
+    cacheOrder = new ReplicatableJournalRecord[capacity];
+    mask = capacity - 1;
+    this.maxCachedBytes = maxCachedBytes;
+  }
+
+  /**
+   * Returns the replicatable record of the given entry, reusing a previously created one if the
+   * same entry was replicated recently.
+   *
+   * @param entry the entry to replicate
+   * @return the record to replicate
+   */
+  ReplicatableJournalRecord get(final IndexedRaftLogEntry entry) {
+    final int slot = (int) (entry.index() & mask);
+    final var cached = records[slot];
+    if (cached != null && cached.index() == entry.index() && cached.term() == entry.term()) {
+      return cached;
+    }
+
+    final var record = entry.getReplicatableJournalRecord();
+    if (cached != null) {
+      evict(slot);
+    }
+
+    final int recordBytes = record.serializedJournalRecord().length;
+    if (recordBytes > maxCachedBytes) {
+      return record;
+    }
+
+    while (cachedBytes + recordBytes > maxCachedBytes || cacheOrderSize == cacheOrder.length) {
+      evictOldest();
+    }
+
+    records[slot] = record;
+    cachedBytes += recordBytes;
+    cacheOrder[(oldest + cacheOrderSize) & mask] = record;
+    cacheOrderSize++;
+
+    return record;
+  }
+
+  private void evictOldest() {
+    final var record = cacheOrder[oldest];
+    cacheOrder[oldest] = null;
+    oldest = (oldest + 1) & mask;
+    cacheOrderSize--;
+
+    final int slot = (int) (record.index() & mask);
+    if (records[slot] == record) {
+      evict(slot);
+    }
+  }
+
+  private void evict(final int slot) {
+    cachedBytes -= records[slot].serializedJournalRecord().length;
+    records[slot] = null;
+  }
+}
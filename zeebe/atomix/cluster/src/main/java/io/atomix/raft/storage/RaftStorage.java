@@ -36,6 +36,7 @@ import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.Objects;
 
 /**
@@ -65,6 +66,8 @@ public final class RaftStorage {
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final int journalIndexDensity;
   private final boolean preallocateSegmentFiles;
+  private final Duration groupCommitMaxDelay;
+  private final int groupCommitMaxBatchSize;
   private final MeterRegistry meterRegistry;
   private final RaftLogFlusher.Factory flusherFactory;
 
@@ -78,6 +81,8 @@ public final class RaftStorage {
       final ReceivableSnapshotStore persistedSnapshotStore,
       final int journalIndexDensity,
       final boolean preallocateSegmentFiles,
+      final Duration groupCommitMaxDelay,
+      final int groupCommitMaxBatchSize,
       final MeterRegistry meterRegistry) {
     this.prefix = prefix;
     this.partitionId = partitionId;
@@ -88,6 +93,8 @@ public final class RaftStorage {
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.journalIndexDensity = journalIndexDensity;
     this.preallocateSegmentFiles = preallocateSegmentFiles;
+    this.groupCommitMaxDelay = groupCommitMaxDelay;
+    this.groupCommitMaxBatchSize = groupCommitMaxBatchSize;
     this.meterRegistry = meterRegistry;
 
     try {
@@ -188,8 +195,12 @@ public final class RaftStorage {
    * @return The opened log.
    */
   public RaftLog openLog(final MetaStore metaStore, final ThreadContextFactory threadFactory) {
+    final var builder = RaftLog.builder(meterRegistry);
+    if (groupCommitMaxDelay != null) {
+      builder.withGroupCommit(groupCommitMaxDelay, groupCommitMaxBatchSize);
+    }
 
-    return RaftLog.builder(meterRegistry)
+    return builder
         .withName(prefix)
         .withPartitionId(partitionId)
         .withDirectory(directory)
@@ -265,6 +276,8 @@ public final class RaftStorage {
     private ReceivableSnapshotStore persistedSnapshotStore;
     private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
     private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+    private Duration groupCommitMaxDelay;
+    private int groupCommitMaxBatchSize;
     private int partitionId = DEFAULT_PARTITION_ID;
     private final MeterRegistry meterRegistry;
 
@@ -372,6 +385,24 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Enables group commit on the journal of the {@link RaftLog}, which merges asynchronous flush
+     * requests, i.e. the ones of the {@link io.atomix.raft.storage.log.GroupCommitFlusher}. See
+     * {@link io.atomix.raft.storage.log.RaftLogBuilder#withGroupCommit(Duration, int)}. Disabled by
+     * default.
+     *
+     * @param maxDelay the maximum time a flush request is delayed to be merged with later requests
+     * @param maxBatchSize the number of pending requests after which they are flushed immediately
+     * @return this builder for chaining
+     */
+    public Builder withGroupCommit(final Duration maxDelay, final int maxBatchSize) {
+      checkArgument(!maxDelay.isNegative(), "maxDelay must not be negative");
+      checkArgument(maxBatchSize > 0, "maxBatchSize must be positive");
+      groupCommitMaxDelay = maxDelay;
+      groupCommitMaxBatchSize = maxBatchSize;
+      return this;
+    }
+
     /**
      * The ID of the partition on which this storage resides.
      *
@@ -400,6 +431,8 @@ public final class RaftStorage {
           persistedSnapshotStore,
           journalIndexDensity,
           preallocateSegmentFiles,
+          groupCommitMaxDelay,
+          groupCommitMaxBatchSize,
           meterRegistry);
     }
   }
@@ -0,0 +1,63 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import io.camunda.zeebe.journal.Journal;
+import java.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link RaftLogFlusher} which flushes via {@link Journal#flushAsync()}. When
+ * group commit is enabled on the journal (see {@link RaftLogBuilder#withGroupCommit(
+ * java.time.Duration, int)}), the requests of consecutive appends are merged such that a single
+ * flush covers all of them, and the flushes are performed off the Raft thread.
+ *
+ * <p>Unlike {@link DelayedFlusher}, this does not trade safety for performance: the Raft roles use
+ * {@link #flushAsync(Journal)} for appends, and only acknowledge them, respectively advance the
+ * commit index, once the returned future is completed, i.e. once the entries are on disk.
+ *
+ * <p>{@link #flush(Journal)} only requests a flush without waiting for it; it is used where the
+ * caller does not need to wait, e.g. after truncating the log. If such a flush fails, the data is
+ * flushed again by the next request.
+ */
+public final class GroupCommitFlusher implements RaftLogFlusher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(GroupCommitFlusher.class);
+
+  @Override
+  public void flush(final Journal journal) {
+    final long lastIndex = journal.getLastIndex();
+    journal
+        .flushAsync()
+        .whenComplete(
+            (ignored, error) -> {
+              if (error != null) {
+                LOGGER.warn(
+                    "Failed to flush journal up to index {}, it will be flushed on the next request",
+                    lastIndex,
+                    error);
+              }
+            });
+  }
+
+  @Override
+  public CompletableFuture<Void> flushAsync(final Journal journal) {
+    return journal.flushAsync();
+  }
+
+  @Override
+  public boolean isAsync() {
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "GroupCommitFlusher{}";
+  }
+}
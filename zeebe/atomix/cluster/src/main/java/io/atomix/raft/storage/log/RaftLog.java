@@ -31,6 +31,7 @@ import io.micrometer.core.instrument.MeterRegistry;
 import java.io.Closeable;
 import java.nio.file.Path;
 import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
 import org.agrona.CloseHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -115,6 +116,14 @@ public final class RaftLog implements Closeable {
     return flusher.isDirect();
   }
 
+  /**
+   * @return true if appended entries are only guaranteed to be on disk once the future returned by
+   *     {@link #flushAsync()} is completed
+   */
+  public boolean flushesAsynchronously() {
+    return flusher.isAsync();
+  }
+
   public long getFirstIndex() {
     return journal.getFirstIndex();
   }
@@ -211,6 +220,17 @@ public final class RaftLog implements Closeable {
     flusher.flush(journal);
   }
 
+  /**
+   * Flushes the underlying journal using the configured flushing strategy, without blocking the
+   * caller. If {@link #flushesAsynchronously()} is true, the returned future is completed once
+   * everything appended before this call is on disk.
+   *
+   * @return a future completed once the flush is done
+   */
+  public CompletableFuture<Void> flushAsync() {
+    return flusher.flushAsync(journal);
+  }
+
   /**
    * Flushes the underlying journal in a blocking, synchronous way. When this returns, it is
    * guaranteed that any appended data since the last flush is persisted on disk.
@@ -23,6 +23,7 @@ import io.camunda.zeebe.journal.file.SegmentedJournal;
 import io.camunda.zeebe.journal.file.SegmentedJournalBuilder;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
+import java.time.Duration;
 
 public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
 
@@ -129,6 +130,23 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Enables group commit on the journal: asynchronous flush requests, like the ones of the {@link
+   * GroupCommitFlusher}, are merged such that a single flush covers all of them. A request is
+   * delayed by at most {@code maxDelay}, unless {@code maxBatchSize} requests are pending before
+   * that.
+   *
+   * <p>This has no effect with the {@link DirectFlusher}, which always flushes synchronously.
+   *
+   * @param maxDelay the maximum time a flush request is delayed to be merged with later requests
+   * @param maxBatchSize the number of pending requests after which they are flushed immediately
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withGroupCommit(final Duration maxDelay, final int maxBatchSize) {
+    journalBuilder.withGroupCommit(maxDelay, maxBatchSize);
+    return this;
+  }
+
   /**
    * The ID of the partition on which this log resides.
    *
@@ -11,6 +11,7 @@ import io.atomix.utils.concurrent.ThreadContextFactory;
 import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.util.CloseableSilently;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Configurable flush strategy for the {@link io.atomix.raft.storage.log.RaftLog}. You can use its
@@ -28,6 +29,10 @@ import io.camunda.zeebe.util.CloseableSilently;
  * you still wish a lower likelihood of corruption issues than with {@link NoopFlusher}. The
  * recommended configuration would be to find the smallest possible delay with which you achieve
  * your performance goals.
+ *
+ * <p>{@link GroupCommitFlusher} keeps the guarantees of {@link DirectFlusher}, but flushes
+ * asynchronously: appends are acknowledged once their flush completes, and the journal's group
+ * commit merges the flushes of consecutive appends into one.
  */
 @FunctionalInterface
 public interface RaftLogFlusher extends CloseableSilently {
@@ -49,6 +54,31 @@ public interface RaftLogFlusher extends CloseableSilently {
     return false;
   }
 
+  /**
+   * Flushes all data written to the journal so far without blocking the caller. Only meaningful if
+   * {@link #isAsync()} returns true; the default implementation flushes via {@link
+   * #flush(Journal)}, and completes the returned future afterwards.
+   *
+   * @param journal the journal to flush
+   * @return a future completed once the data written before this call is on disk
+   */
+  default CompletableFuture<Void> flushAsync(final Journal journal) {
+    try {
+      flush(journal);
+      return CompletableFuture.completedFuture(null);
+    } catch (final FlushException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * If this returns true, then callers which need durability must use {@link #flushAsync(Journal)}
+   * and wait for the returned future, as {@link #flush(Journal)} only requests a flush.
+   */
+  default boolean isAsync() {
+    return false;
+  }
+
   @Override
   default void close() {}
 
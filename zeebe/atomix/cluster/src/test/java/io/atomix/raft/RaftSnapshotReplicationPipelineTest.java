@@ -0,0 +1,159 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftRule.Configurator;
+import io.atomix.raft.partition.RaftPartitionConfig;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.TestRaftServerProtocol;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Replicates snapshots over a slow link, on which every install request is delayed, with several
+ * chunks in flight at once.
+ */
+public class RaftSnapshotReplicationPipelineTest {
+
+  private static final int MAX_IN_FLIGHT_SNAPSHOT_CHUNKS = 4;
+  private static final Duration LINK_DELAY = Duration.ofMillis(50);
+  private static final int NUMBER_OF_CHUNKS = 20;
+
+  @Rule
+  public RaftRule raftRule =
+      RaftRule.withBootstrappedNodes(
+          3,
+          new Configurator() {
+            @Override
+            public void configure(final MemberId id, final RaftServer.Builder builder) {
+              final var partitionConfig =
+                  new RaftPartitionConfig()
+                      .setElectionTimeout(Duration.ofSeconds(1))
+                      .setHeartbeatInterval(Duration.ofMillis(100));
+              partitionConfig.setMaxInFlightSnapshotChunks(MAX_IN_FLIGHT_SNAPSHOT_CHUNKS);
+              builder.withPartitionConfig(partitionConfig);
+            }
+          });
+
+  // a single thread delivers the delayed requests in the order in which they were sent
+  private final ScheduledExecutorService link = Executors.newSingleThreadScheduledExecutor();
+  private final AtomicInteger totalInstallRequests = new AtomicInteger();
+  private final AtomicInteger inFlightInstallRequests = new AtomicInteger();
+  private final AtomicInteger maxInFlightInstallRequests = new AtomicInteger();
+  private TestRaftServerProtocol leaderProtocol;
+  private RaftServer leader;
+  private RaftServer follower;
+
+  @Before
+  public void setup() {
+    leader = raftRule.getLeader().orElseThrow();
+    leaderProtocol = (TestRaftServerProtocol) leader.getContext().getProtocol();
+    leaderProtocol.interceptRequest(
+        InstallRequest.class, (Function<InstallRequest, CompletableFuture<Void>>) this::delay);
+    leaderProtocol.interceptResponse(InstallResponse.class, this::countResponse);
+  }
+
+  @After
+  public void tearDown() {
+    link.shutdownNow();
+  }
+
+  @Test
+  public void shouldSendSeveralChunksBeforeReceivingResponses() throws Exception {
+    // given
+    disconnectFollowerAndTakeSnapshot();
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(maxInFlightInstallRequests.get())
+        .isGreaterThan(1)
+        .isLessThanOrEqualTo(MAX_IN_FLIGHT_SNAPSHOT_CHUNKS);
+    assertThat(raftRule.getPersistedSnapshotStore(follower.name()).getLatestSnapshot())
+        .isEqualTo(raftRule.getPersistedSnapshotStore(leader.name()).getLatestSnapshot());
+  }
+
+  @Test
+  public void shouldResendChunksAfterResponseTimedOut() throws Exception {
+    // given
+    disconnectFollowerAndTakeSnapshot();
+    final var responses = new AtomicInteger();
+    leaderProtocol.interceptResponse(
+        InstallResponse.class,
+        response -> {
+          countResponse(response);
+          // the follower received the chunk, but the leader does not know
+          return responses.incrementAndGet() == NUMBER_OF_CHUNKS / 2
+              ? CompletableFuture.failedFuture(new TimeoutException())
+              : CompletableFuture.completedFuture(response);
+        });
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then - only the chunks which were in flight are sent again, not the whole snapshot
+    assertThat(totalInstallRequests.get())
+        // Before follower reconnects, sometimes leader sends an InstallRequest which
+        // ends up in connect exception
+        .isLessThan(NUMBER_OF_CHUNKS + MAX_IN_FLIGHT_SNAPSHOT_CHUNKS + 3);
+    assertThat(raftRule.getPersistedSnapshotStore(follower.name()).getLatestSnapshot())
+        .isEqualTo(raftRule.getPersistedSnapshotStore(leader.name()).getLatestSnapshot());
+  }
+
+  private CompletableFuture<Void> delay(final InstallRequest request) {
+    totalInstallRequests.incrementAndGet();
+    maxInFlightInstallRequests.accumulateAndGet(
+        inFlightInstallRequests.incrementAndGet(), Math::max);
+
+    final var delivered = new CompletableFuture<Void>();
+    link.schedule(() -> delivered.complete(null), LINK_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+    return delivered;
+  }
+
+  private CompletableFuture<InstallResponse> countResponse(final InstallResponse response) {
+    inFlightInstallRequests.decrementAndGet();
+    return CompletableFuture.completedFuture(response);
+  }
+
+  private void reconnectFollowerAndAwaitSnapshot() throws InterruptedException {
+    final var snapshotReceived = new CountDownLatch(1);
+    raftRule
+        .getPersistedSnapshotStore(follower.name())
+        .addSnapshotListener(s -> snapshotReceived.countDown());
+    raftRule.reconnect(follower);
+
+    assertThat(snapshotReceived.await(30, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private void disconnectFollowerAndTakeSnapshot() throws Exception {
+    follower = raftRule.getFollower().orElseThrow();
+    raftRule.partition(follower);
+
+    leader.getContext().setPreferSnapshotReplicationThreshold(1);
+    final var commitIndex = raftRule.appendEntries(2); // awaits commit
+
+    raftRule.takeSnapshot(leader, commitIndex, NUMBER_OF_CHUNKS);
+    raftRule.appendEntry();
+  }
+}
@@ -17,9 +17,11 @@ package io.atomix.raft.roles;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -51,6 +53,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -390,6 +393,49 @@ public class LeaderRoleTest {
     verify(leaderRole.raft, timeout(2000).atLeast(1)).transition(Role.FOLLOWER);
   }
 
+  @Test
+  public void shouldCommitOnlyOnceFlushedAsynchronously() throws InterruptedException {
+    // given
+    final var pendingFlush = new CompletableFuture<Void>();
+    when(log.isEmpty()).thenReturn(true);
+    when(log.getFirstIndex()).thenReturn(1L);
+    when(log.flushesAsynchronously()).thenReturn(true);
+    when(log.flushAsync()).thenReturn(pendingFlush);
+    when(context.getCluster().isSingleMemberCluster()).thenReturn(true);
+    leaderRole = new LeaderRole(context);
+
+    final ByteBuffer data = ByteBuffer.allocate(Integer.BYTES).putInt(0, 1);
+    final CountDownLatch written = new CountDownLatch(1);
+    final CountDownLatch committed = new CountDownLatch(1);
+    final AppendListener listener =
+        new AppendListener() {
+          @Override
+          public void onWrite(final IndexedRaftLogEntry indexed) {
+            written.countDown();
+          }
+
+          @Override
+          public void onCommit(final long index, final long highestPosition) {
+            committed.countDown();
+          }
+        };
+
+    // when
+    leaderRole.appendEntry(0, 1, data, listener);
+    assertThat(written.await(10, TimeUnit.SECONDS)).isTrue();
+
+    // then
+    assertThat(committed.await(100, TimeUnit.MILLISECONDS)).isFalse();
+    verify(context, never()).setCommitIndex(anyLong());
+
+    // when
+    pendingFlush.complete(null);
+
+    // then
+    assertThat(committed.await(10, TimeUnit.SECONDS)).isTrue();
+    verify(context, timeout(2000)).setCommitIndex(1L);
+  }
+
   private record TestIndexedRaftLogEntry(long index, long term, RaftEntry entry)
       implements IndexedRaftLogEntry {
 
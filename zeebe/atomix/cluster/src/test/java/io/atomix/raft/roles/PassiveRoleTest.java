@@ -17,6 +17,8 @@ package io.atomix.raft.roles;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -24,27 +26,43 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.impl.RaftClusterContext;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.RaftReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
 import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.protocol.ProtocolVersionHandler;
+import io.atomix.raft.protocol.RaftResponse.Status;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.snapshot.impl.SnapshotChunkCompression;
+import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.utils.concurrent.SingleThreadContext;
 import io.camunda.zeebe.journal.CheckedJournalException;
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
+import io.camunda.zeebe.snapshots.ReceivedSnapshot;
+import io.camunda.zeebe.snapshots.SnapshotChunk;
+import io.camunda.zeebe.snapshots.SnapshotId;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Rule;
@@ -53,11 +71,15 @@ import org.junit.jupiter.api.AutoClose;
 import org.junit.rules.Timeout;
 
 public class PassiveRoleTest {
+  private static final int CHUNK_CONTENT_LENGTH = 1024;
+  private static final List<String> SNAPSHOT_FILES =
+      List.of("1.sst", "2.sst", "3.sst", "4.sst", "5.sst");
 
   @Rule public Timeout timeout = new Timeout(30, TimeUnit.SECONDS);
   private RaftLog log;
   private PassiveRole role;
   private RaftContext ctx;
+  private ReceivableSnapshotStore store;
   @AutoClose private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
   @Before
@@ -72,7 +94,7 @@ public class PassiveRoleTest {
     when(snapshot.getIndex()).thenReturn(1L);
     when(snapshot.getTerm()).thenReturn(1L);
 
-    final ReceivableSnapshotStore store = mock(ReceivableSnapshotStore.class);
+    store = mock(ReceivableSnapshotStore.class);
     when(store.getLatestSnapshot()).thenReturn(Optional.of(snapshot));
 
     final RaftStorage storage = mock(RaftStorage.class);
@@ -83,6 +105,7 @@ public class PassiveRoleTest {
     when(ctx.getReplicationMetrics()).thenReturn(mock(RaftReplicationMetrics.class));
     when(ctx.getMeterRegistry()).thenReturn(meterRegistry);
     when(ctx.getName()).thenReturn("partition-1");
+    when(ctx.getCluster()).thenReturn(mock(RaftClusterContext.class));
 
     role = new PassiveRole(ctx);
   }
@@ -142,6 +165,129 @@ public class PassiveRoleTest {
     assertThat(response.lastLogIndex()).isEqualTo(2);
   }
 
+  @Test
+  public void shouldAcknowledgeAppendOnlyOnceFlushedAsynchronously() {
+    // given
+    final var entries = List.of(new ReplicatableJournalRecord(1, 1, 1, new byte[1]));
+    final VersionedAppendRequest request =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.anonymous())
+            .withPrevLogTerm(0)
+            .withPrevLogIndex(0)
+            .withEntries(entries)
+            .withCommitIndex(1)
+            .build();
+    final var pendingFlush = new CompletableFuture<Void>();
+    when(log.flushesDirectly()).thenReturn(false);
+    when(log.flushesAsynchronously()).thenReturn(true);
+    when(log.flushAsync()).thenReturn(pendingFlush);
+    when(log.append(any(ReplicatableJournalRecord.class)))
+        .thenReturn(mock(IndexedRaftLogEntry.class));
+    when(ctx.getThreadContext()).thenReturn(new SingleThreadContext("raft-%d"));
+
+    // when
+    final var response = role.handleAppend(ProtocolVersionHandler.transform(request));
+
+    // then
+    assertThat(response).isNotDone();
+
+    // when
+    pendingFlush.complete(null);
+
+    // then
+    assertThat(response.join().succeeded()).isTrue();
+    assertThat(response.join().lastLogIndex()).isOne();
+  }
+
+  @Test
+  public void shouldAcknowledgeHeartbeatOnlyOnceFlushedAsynchronously() {
+    // given
+    final var entries = List.of(new ReplicatableJournalRecord(1, 1, 1, new byte[1]));
+    final VersionedAppendRequest request =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.anonymous())
+            .withPrevLogTerm(0)
+            .withPrevLogIndex(0)
+            .withEntries(entries)
+            .withCommitIndex(0)
+            .build();
+    final VersionedAppendRequest heartbeat =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.anonymous())
+            .withPrevLogTerm(1)
+            .withPrevLogIndex(1)
+            .withEntries(List.of())
+            .withCommitIndex(0)
+            .build();
+    final var appendedEntry = mock(IndexedRaftLogEntry.class);
+    when(appendedEntry.index()).thenReturn(1L);
+    when(appendedEntry.term()).thenReturn(1L);
+    final var pendingFlush = new CompletableFuture<Void>();
+    final var heartbeatFlush = new CompletableFuture<Void>();
+    when(log.flushesDirectly()).thenReturn(false);
+    when(log.flushesAsynchronously()).thenReturn(true);
+    when(log.flushAsync()).thenReturn(pendingFlush).thenReturn(heartbeatFlush);
+    when(log.getLastEntry()).thenReturn(null).thenReturn(appendedEntry);
+    when(log.append(any(ReplicatableJournalRecord.class))).thenReturn(appendedEntry);
+    when(ctx.getThreadContext()).thenReturn(new SingleThreadContext("raft-%d"));
+    final var appendResponse = role.handleAppend(ProtocolVersionHandler.transform(request));
+
+    // when
+    final var heartbeatResponse = role.handleAppend(ProtocolVersionHandler.transform(heartbeat));
+
+    // then
+    assertThat(appendResponse).isNotDone();
+    assertThat(heartbeatResponse).isNotDone();
+
+    // when
+    pendingFlush.complete(null);
+
+    // then
+    assertThat(appendResponse.join().succeeded()).isTrue();
+    assertThat(heartbeatResponse).isNotDone();
+
+    // when
+    heartbeatFlush.complete(null);
+
+    // then
+    assertThat(heartbeatResponse.join().succeeded()).isTrue();
+    assertThat(heartbeatResponse.join().lastLogIndex()).isOne();
+  }
+
+  @Test
+  public void shouldFailAppendIfAsynchronousFlushFails() {
+    // given
+    final var entries = List.of(new ReplicatableJournalRecord(1, 1, 1, new byte[1]));
+    final VersionedAppendRequest request =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.anonymous())
+            .withPrevLogTerm(0)
+            .withPrevLogIndex(0)
+            .withEntries(entries)
+            .withCommitIndex(1)
+            .build();
+    when(log.flushesDirectly()).thenReturn(false);
+    when(log.flushesAsynchronously()).thenReturn(true);
+    when(log.flushAsync())
+        .thenReturn(
+            CompletableFuture.failedFuture(new FlushException(new IOException("expected"))));
+    when(log.append(any(ReplicatableJournalRecord.class)))
+        .thenReturn(mock(IndexedRaftLogEntry.class));
+    when(ctx.getThreadContext()).thenReturn(new SingleThreadContext("raft-%d"));
+
+    // when
+    final AppendResponse response =
+        role.handleAppend(ProtocolVersionHandler.transform(request)).join();
+
+    // then
+    assertThat(response.succeeded()).isFalse();
+    assertThat(response.lastLogIndex()).isZero();
+  }
+
   @Test
   public void shouldFlushAfterPartiallyAppendedRequest() throws CheckedJournalException {
     // given
@@ -258,4 +404,258 @@ public class PassiveRoleTest {
     // then
     assertThat(result.succeeded()).isFalse();
   }
+
+  @Test
+  public void shouldAdvertiseReusableFilesOnFirstChunk() {
+    // given
+    final var receivedSnapshot = mockReceivedSnapshot();
+    when(receivedSnapshot.reusableFiles()).thenReturn(Map.of("2.sst", 123L));
+
+    // when
+    final InstallResponse response =
+        role.onInstall(installRequest("1.sst", "2.sst", true, List.of())).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.OK);
+    assertThat(response.reusableFiles()).containsExactly(Map.entry("2.sst", 123L));
+  }
+
+  @Test
+  public void shouldReuseFilesSkippedByLeader() {
+    // given
+    final var receivedSnapshot = mockReceivedSnapshot();
+    when(receivedSnapshot.reusableFiles()).thenReturn(Map.of("2.sst", 123L));
+    role.onInstall(installRequest("1.sst", "2.sst", true, List.of())).join();
+
+    // when
+    final InstallResponse response =
+        role.onInstall(
+                installRequestBuilder("3.sst", "4.sst", false, List.of("2.sst"))
+                    .withSnapshotFiles(SNAPSHOT_FILES)
+                    .build())
+            .join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.OK);
+    verify(receivedSnapshot).reuse(List.of("2.sst"));
+  }
+
+  @Test
+  public void shouldReuseFilesOnlyOncePerSnapshot() {
+    // given
+    final var receivedSnapshot = mockReceivedSnapshot();
+    when(receivedSnapshot.reusableFiles()).thenReturn(Map.of("2.sst", 123L));
+    role.onInstall(installRequest("1.sst", "2.sst", true, List.of())).join();
+    role.onInstall(
+            installRequestBuilder("3.sst", "4.sst", false, List.of("2.sst"))
+                .withSnapshotFiles(SNAPSHOT_FILES)
+                .build())
+        .join();
+
+    // when - an older leader announces the reused files with every chunk
+    final InstallResponse response =
+        role.onInstall(
+                installRequestBuilder("4.sst", "5.sst", false, List.of("2.sst"))
+                    .withSnapshotFiles(SNAPSHOT_FILES)
+                    .build())
+            .join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.OK);
+    verify(receivedSnapshot, times(1)).reuse(List.of("2.sst"));
+  }
+
+  @Test
+  public void shouldRejectReusedFilesWhichAreNotPartOfSnapshot() {
+    // given
+    final var receivedSnapshot = mockReceivedSnapshot();
+    when(receivedSnapshot.reusableFiles()).thenReturn(Map.of("9.sst", 123L));
+    role.onInstall(installRequest("1.sst", "2.sst", true, List.of())).join();
+
+    // when
+    final InstallResponse response =
+        role.onInstall(
+                installRequestBuilder("2.sst", "3.sst", false, List.of("9.sst"))
+                    .withSnapshotFiles(SNAPSHOT_FILES)
+                    .build())
+            .join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.ERROR);
+    verify(receivedSnapshot, never()).reuse(any());
+    verify(receivedSnapshot).abort();
+  }
+
+  @Test
+  public void shouldRejectUnexpectedChunkIfSkippedFileIsNotReused() {
+    // given
+    final var receivedSnapshot = mockReceivedSnapshot();
+    when(receivedSnapshot.reusableFiles()).thenReturn(Map.of("2.sst", 123L));
+    role.onInstall(installRequest("1.sst", "2.sst", true, List.of())).join();
+
+    // when - the chunk of 3.sst was lost, but 3.sst is not reused
+    final InstallResponse response =
+        role.onInstall(
+                installRequestBuilder("4.sst", "5.sst", false, List.of("2.sst"))
+                    .withSnapshotFiles(SNAPSHOT_FILES)
+                    .build())
+            .join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.ERROR);
+    verify(receivedSnapshot, never()).reuse(any());
+  }
+
+  @Test
+  public void shouldRejectUnexpectedChunkIfSnapshotFilesAreUnknown() {
+    // given
+    final var receivedSnapshot = mockReceivedSnapshot();
+    when(receivedSnapshot.reusableFiles()).thenReturn(Map.of("2.sst", 123L));
+    role.onInstall(installRequest("1.sst", "2.sst", true, List.of())).join();
+
+    // when
+    final InstallResponse response =
+        role.onInstall(installRequest("3.sst", "4.sst", false, List.of("2.sst"))).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.ERROR);
+    verify(receivedSnapshot, never()).reuse(any());
+  }
+
+  @Test
+  public void shouldRejectUnexpectedChunkIfFilesAreNotReused() {
+    // given
+    final var receivedSnapshot = mockReceivedSnapshot();
+    role.onInstall(installRequest("1.sst", "2.sst", true, List.of())).join();
+
+    // when
+    final InstallResponse response =
+        role.onInstall(installRequest("3.sst", "4.sst", false, List.of())).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.ERROR);
+    verify(receivedSnapshot, never()).reuse(any());
+  }
+
+  @Test
+  public void shouldApplyCompressedChunk() {
+    // given
+    final var receivedSnapshot = mockReceivedSnapshot();
+    final var request = installRequest("1.sst", "2.sst", true, List.of());
+    final var compressedRequest =
+        installRequestBuilder("1.sst", "2.sst", true, List.of())
+            .withData(SnapshotChunkCompression.compress(request.data()))
+            .withCompressed(true)
+            .build();
+
+    // when
+    final InstallResponse response = role.onInstall(compressedRequest).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.OK);
+    assertThat(response.compressedChunksAccepted()).isTrue();
+    verify(receivedSnapshot)
+        .apply(argThat(chunk -> chunk.getContent().length == CHUNK_CONTENT_LENGTH));
+  }
+
+  @Test
+  public void shouldAcknowledgeChunkWhichIsResentAfterLaterChunks() {
+    // given
+    final var receivedSnapshot = mockReceivedSnapshot();
+    role.onInstall(installRequest("1.sst", "2.sst", true, List.of())).join();
+    role.onInstall(installRequest("2.sst", "3.sst", false, List.of())).join();
+    role.onInstall(installRequest("3.sst", "4.sst", false, List.of())).join();
+
+    // when - the leader resends the chunks after the one whose response timed out
+    final InstallResponse response =
+        role.onInstall(installRequest("2.sst", "3.sst", false, List.of())).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.OK);
+    verify(receivedSnapshot, times(3)).apply(any());
+    verify(receivedSnapshot, never()).abort();
+  }
+
+  @Test
+  public void shouldNotAcknowledgeChunkOfOtherSnapshotAsDuplicate() {
+    // given
+    final var receivedSnapshot = mockReceivedSnapshot();
+    role.onInstall(installRequest("1.sst", "2.sst", true, List.of())).join();
+    role.onInstall(installRequest("2.sst", "3.sst", false, List.of())).join();
+
+    // when - the chunk has the same ID as one of the previous snapshot
+    final InstallResponse response =
+        role.onInstall(
+                installRequestBuilder("3-1-1-1", "2.sst", "3.sst", false, List.of())
+                    .withIndex(3)
+                    .build())
+            .join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.ERROR);
+    verify(receivedSnapshot, times(2)).apply(any());
+    verify(receivedSnapshot).abort();
+  }
+
+  private ReceivedSnapshot mockReceivedSnapshot() {
+    final var snapshotId = mock(SnapshotId.class);
+    when(snapshotId.getSnapshotIdAsString()).thenReturn("2-1-1-1");
+
+    final var receivedSnapshot = mock(ReceivedSnapshot.class);
+    when(receivedSnapshot.snapshotId()).thenReturn(snapshotId);
+    when(receivedSnapshot.index()).thenReturn(2L);
+    when(receivedSnapshot.apply(any())).thenReturn(CompletableActorFuture.completed(null));
+    when(receivedSnapshot.reuse(any())).thenReturn(CompletableActorFuture.completed(null));
+    when(receivedSnapshot.reusableFiles()).thenReturn(Map.of());
+    doReturn(CompletableActorFuture.completed(receivedSnapshot))
+        .when(store)
+        .newReceivedSnapshot("2-1-1-1");
+    return receivedSnapshot;
+  }
+
+  private InstallRequest installRequest(
+      final String fileName,
+      final String nextFileName,
+      final boolean initial,
+      final List<String> reusedFiles) {
+    return installRequestBuilder(fileName, nextFileName, initial, reusedFiles).build();
+  }
+
+  private InstallRequest.Builder installRequestBuilder(
+      final String fileName,
+      final String nextFileName,
+      final boolean initial,
+      final List<String> reusedFiles) {
+    return installRequestBuilder("2-1-1-1", fileName, nextFileName, initial, reusedFiles);
+  }
+
+  private InstallRequest.Builder installRequestBuilder(
+      final String snapshotId,
+      final String fileName,
+      final String nextFileName,
+      final boolean initial,
+      final List<String> reusedFiles) {
+    final var chunk = mock(SnapshotChunk.class);
+    when(chunk.getSnapshotId()).thenReturn(snapshotId);
+    when(chunk.getChunkName()).thenReturn(fileName);
+    when(chunk.getTotalCount()).thenReturn(4);
+    when(chunk.getContent()).thenReturn(new byte[CHUNK_CONTENT_LENGTH]);
+
+    return InstallRequest.builder()
+        .withCurrentTerm(1)
+        .withLeader(MemberId.from("2"))
+        .withIndex(2)
+        .withTerm(1)
+        .withVersion(1)
+        .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
+        .withChunkId(chunkId(fileName))
+        .withNextChunkId(chunkId(nextFileName))
+        .withInitial(initial)
+        .withComplete(false)
+        .withReusedFiles(reusedFiles);
+  }
+
+  private static ByteBuffer chunkId(final String fileName) {
+    return ByteBuffer.wrap((fileName + "__0").getBytes(StandardCharsets.US_ASCII));
+  }
 }
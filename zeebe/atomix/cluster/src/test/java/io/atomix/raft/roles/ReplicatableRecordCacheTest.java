@@ -0,0 +1,143 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.roles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.storage.log.IndexedRaftLogEntry;
+import org.junit.jupiter.api.Test;
+
+final class ReplicatableRecordCacheTest {
+
+  @Test
+  void shouldShareRecordOfSameEntry() {
+    // given
+    final var cache = new ReplicatableRecordCache(4, 1024);
+    final var record = cache.get(entry(1, 1, 10));
+
+    // when
+    final var sharedRecord = cache.get(entry(1, 1, 10));
+
+    // then
+    assertThat(sharedRecord).isSameAs(record);
+  }
+
+  @Test
+  void shouldNotShareRecordOfDifferentTerm() {
+    // given
+    final var cache = new ReplicatableRecordCache(4, 1024);
+    final var record = cache.get(entry(1, 1, 10));
+
+    // when
+    final var otherRecord = cache.get(entry(1, 2, 10));
+
+    // then
+    assertThat(otherRecord).isNotSameAs(record);
+    assertThat(otherRecord.term()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldEvictRecordWithSameSlot() {
+    // given
+    final var cache = new ReplicatableRecordCache(4, 1024);
+    final var record = cache.get(entry(1, 1, 10));
+    cache.get(entry(5, 1, 10));
+
+    // when
+    final var recreatedRecord = cache.get(entry(1, 1, 10));
+
+    // then
+    assertThat(recreatedRecord).isNotSameAs(record).isEqualTo(record);
+  }
+
+  @Test
+  void shouldEvictOldestRecordsWhenExceedingMaxSize() {
+    // given
+    final var cache = new ReplicatableRecordCache(4, 25);
+    final var oldestRecord = cache.get(entry(1, 1, 10));
+    final var record = cache.get(entry(2, 1, 10));
+
+    // when
+    final var newRecord = cache.get(entry(3, 1, 10));
+
+    // then
+    assertThat(cache.get(entry(3, 1, 10))).isSameAs(newRecord);
+    assertThat(cache.get(entry(2, 1, 10))).isSameAs(record);
+    assertThat(cache.get(entry(1, 1, 10))).isNotSameAs(oldestRecord);
+  }
+
+  @Test
+  void shouldEvictAsManyRecordsAsNeededForNewRecord() {
+    // given
+    final var cache = new ReplicatableRecordCache(4, 30);
+    final var firstRecord = cache.get(entry(1, 1, 10));
+    final var secondRecord = cache.get(entry(2, 1, 10));
+    final var thirdRecord = cache.get(entry(3, 1, 10));
+
+    // when
+    final var largeRecord = cache.get(entry(4, 1, 20));
+
+    // then
+    assertThat(cache.get(entry(4, 1, 20))).isSameAs(largeRecord);
+    assertThat(cache.get(entry(3, 1, 10))).isSameAs(thirdRecord);
+    assertThat(cache.get(entry(2, 1, 10))).isNotSameAs(secondRecord);
+    assertThat(cache.get(entry(1, 1, 10))).isNotSameAs(firstRecord);
+  }
+
+  @Test
+  void shouldSkipReplacedRecordsWhenEvicting() {
+    // given - the record at index 1 is replaced by the one at index 5, which shares its slot
+    final var cache = new ReplicatableRecordCache(4, 1024);
+    cache.get(entry(1, 1, 10));
+    final var record = cache.get(entry(5, 1, 10));
+    cache.get(entry(2, 1, 10));
+    cache.get(entry(3, 1, 10));
+
+    // when
+    final var newRecord = cache.get(entry(4, 1, 10));
+
+    // then
+    assertThat(cache.get(entry(4, 1, 10))).isSameAs(newRecord);
+    assertThat(cache.get(entry(5, 1, 10))).isSameAs(record);
+  }
+
+  @Test
+  void shouldNotCacheRecordExceedingMaxSize() {
+    // given
+    final var cache = new ReplicatableRecordCache(4, 15);
+    final var record = cache.get(entry(1, 1, 10));
+    final var largeRecord = cache.get(entry(2, 1, 20));
+
+    // when
+    final var sharedRecord = cache.get(entry(1, 1, 10));
+    final var recreatedLargeRecord = cache.get(entry(2, 1, 20));
+
+    // then
+    assertThat(sharedRecord).isSameAs(record);
+    assertThat(recreatedLargeRecord).isNotSameAs(largeRecord);
+  }
+
+  @Test
+  void shouldRejectCapacityWhichIsNotPowerOfTwo() {
+    assertThatThrownBy(() -> new ReplicatableRecordCache(3, 1024))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private IndexedRaftLogEntry entry(final long index, final long term, final int size) {
+    final var entry = mock(IndexedRaftLogEntry.class);
+    when(entry.index()).thenReturn(index);
+    when(entry.term()).thenReturn(term);
+    when(entry.getReplicatableJournalRecord())
+        .thenAnswer(ignored -> new ReplicatableJournalRecord(term, index, 0, new byte[size]));
+    return entry;
+  }
+}
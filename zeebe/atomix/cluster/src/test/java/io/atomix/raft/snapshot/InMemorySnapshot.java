@@ -30,6 +30,8 @@ import io.camunda.zeebe.util.StringUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
@@ -120,6 +122,11 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
         iterator = chunks.tailMap(chunkId, true);
       }
 
+      @Override
+      public void skip(final Collection<String> fileNames) {
+        // in-memory snapshots never have reusable files
+      }
+
       @Override
       public ByteBuffer nextId() {
         if (!hasNext()) {
@@ -212,6 +219,16 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
     return CompletableActorFuture.completed(null);
   }
 
+  @Override
+  public Map<String, Long> reusableFiles() {
+    return Map.of();
+  }
+
+  @Override
+  public ActorFuture<Void> reuse(final Collection<String> fileNames) {
+    return CompletableActorFuture.completed(null);
+  }
+
   @Override
   public ActorFuture<Void> abort() {
     return CompletableActorFuture.completed(null);
@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.snapshot.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.zip.DataFormatException;
+import org.junit.jupiter.api.Test;
+
+final class SnapshotChunkCompressionTest {
+
+  @Test
+  void shouldDecompressCompressedChunk() throws DataFormatException {
+    // given
+    final var data = ByteBuffer.wrap("snapshot chunk ".repeat(1024).getBytes());
+
+    // when
+    final var compressed = SnapshotChunkCompression.compress(data);
+    final var decompressed = SnapshotChunkCompression.decompress(compressed);
+
+    // then
+    assertThat(compressed.remaining()).isLessThan(data.remaining());
+    assertThat(decompressed).isEqualTo(data);
+  }
+
+  @Test
+  void shouldDecompressIncompressibleChunk() throws DataFormatException {
+    // given
+    final var bytes = new byte[64 * 1024];
+    new Random(1).nextBytes(bytes);
+    final var data = ByteBuffer.wrap(bytes);
+
+    // when
+    final var decompressed =
+        SnapshotChunkCompression.decompress(SnapshotChunkCompression.compress(data));
+
+    // then
+    assertThat(decompressed).isEqualTo(data);
+  }
+
+  @Test
+  void shouldNotChangePositionOfBuffers() throws DataFormatException {
+    // given
+    final var data = ByteBuffer.wrap("snapshot chunk".getBytes());
+
+    // when
+    final var compressed = SnapshotChunkCompression.compress(data);
+    SnapshotChunkCompression.decompress(compressed);
+
+    // then
+    assertThat(data.position()).isZero();
+    assertThat(compressed.position()).isZero();
+  }
+
+  @Test
+  void shouldRejectTruncatedChunk() {
+    // given
+    final var compressed =
+        SnapshotChunkCompression.compress(
+            ByteBuffer.wrap("snapshot chunk ".repeat(1024).getBytes()));
+    final var truncated = compressed.limit(compressed.limit() / 2);
+
+    // when - then
+    assertThatThrownBy(() -> SnapshotChunkCompression.decompress(truncated))
+        .isInstanceOf(DataFormatException.class);
+  }
+}
@@ -35,16 +35,19 @@ import io.atomix.raft.storage.log.entry.InitialEntry;
 import io.atomix.raft.storage.log.entry.RaftLogEntry;
 import io.atomix.raft.storage.log.entry.SerializedApplicationEntry;
 import io.camunda.zeebe.journal.CheckedJournalException;
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.journal.JournalMetaStore;
 import io.camunda.zeebe.journal.JournalMetaStore.InMemory;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.time.Instant;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.AutoClose;
@@ -309,5 +312,57 @@ class RaftLogTest {
       verify(flusher, times(1)).flush(journal);
       verify(journal, never()).flush();
     }
+
+    @Test
+    void shouldRequestGroupCommitWithoutWaiting() throws CheckedJournalException {
+      // given
+      final var journal = mock(Journal.class);
+      final var pendingFlush = new CompletableFuture<Void>();
+      when(journal.flushAsync()).thenReturn(pendingFlush);
+      final var log = new RaftLog(journal, new GroupCommitFlusher());
+
+      // when
+      log.flush();
+
+      // then
+      verify(journal, times(1)).flushAsync();
+      verify(journal, never()).flush();
+      assertThat(pendingFlush).isNotDone();
+      assertThat(log.flushesDirectly()).isFalse();
+    }
+
+    @Test
+    void shouldCompleteAsyncFlushOnceGroupCommitIsDone() {
+      // given
+      final var journal = mock(Journal.class);
+      final var pendingFlush = new CompletableFuture<Void>();
+      when(journal.flushAsync()).thenReturn(pendingFlush);
+      final var log = new RaftLog(journal, new GroupCommitFlusher());
+
+      // when
+      final var flushed = log.flushAsync();
+
+      // then
+      assertThat(log.flushesAsynchronously()).isTrue();
+      assertThat(flushed).isNotDone();
+      pendingFlush.complete(null);
+      assertThat(flushed).isCompleted();
+    }
+
+    @Test
+    void shouldNotFailOnFailedGroupCommit() throws CheckedJournalException {
+      // given
+      final var journal = mock(Journal.class);
+      when(journal.flushAsync())
+          .thenReturn(CompletableFuture.failedFuture(new FlushException(new IOException("fail"))));
+      final var log = new RaftLog(journal, new GroupCommitFlusher());
+
+      // when
+      log.flush();
+      log.flush();
+
+      // then - the next request flushes again
+      verify(journal, times(2)).flushAsync();
+    }
   }
 }
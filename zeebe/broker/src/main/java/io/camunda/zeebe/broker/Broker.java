@@ -17,6 +17,7 @@ import io.camunda.zeebe.broker.system.SystemContext;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.monitoring.BrokerHealthCheckService;
 import io.camunda.zeebe.broker.system.monitoring.HealthTreeMetrics;
+import io.camunda.zeebe.el.ExpressionLanguageFactory;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.ActorScheduler;
@@ -69,6 +70,8 @@ public final class Broker implements AutoCloseable {
         new BrokerHealthCheckService(
             localBroker,
             new HealthTreeMetrics(systemContext.getMeterRegistry(), Tag.of("partition", "none")));
+    // the cache of parsed expressions is shared by all partitions
+    ExpressionLanguageFactory.registerMetrics(systemContext.getMeterRegistry());
 
     final var startupContext =
         new BrokerStartupContextImpl(
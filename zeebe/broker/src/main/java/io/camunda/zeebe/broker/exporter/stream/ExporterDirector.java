@@ -25,6 +25,7 @@ import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ScheduledTimer;
 import io.camunda.zeebe.scheduler.SchedulingHints;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.ActorFutureCollector;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
 import io.camunda.zeebe.scheduler.retry.EndlessRetryStrategy;
@@ -39,6 +40,7 @@ import java.time.Duration;
 import java.time.InstantSource;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -57,12 +59,15 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
+  private static final Duration EXPORTED_POSITION_REPORT_INTERVAL = Duration.ofMillis(100);
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
 
   // Use concrete type because it must be modifiable
   private final ArrayList<ExporterContainer> containers;
+  // only used with independent readers, one reader per container
+  private final Map<ExporterContainer, ExporterReader> readers = new HashMap<>();
   private final LogStream logStream;
   private final RecordExporter recordExporter;
   private final ZeebeDb zeebeDb;
@@ -86,6 +91,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private final Duration distributionInterval;
   private ExporterStateDistributionService exporterDistributionService;
   private ScheduledTimer exporterDistributionTimer;
+  private ScheduledTimer exportedPositionTimer;
   private final int partitionId;
   private final EventFilter positionsToSkipFilter;
   private final MeterRegistry meterRegistry;
@@ -93,6 +99,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   // The actor is still running, but it is not actively doing any work.
   private boolean idle;
   private final InstantSource clock;
+  private final boolean independentReaders;
+  private ActorSchedulingService actorSchedulingService;
 
   public ExporterDirector(
       final ExporterDirectorContext context, final ExporterPhase exporterPhase) {
@@ -124,12 +132,15 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterMode = context.getExporterMode();
     distributionInterval = context.getDistributionInterval();
     positionsToSkipFilter = context.getPositionsToSkipFilter();
+    // followers do not read the log, so they never need readers of their own
+    independentReaders = context.isIndependentReaders() && exporterMode == ExporterMode.ACTIVE;
 
     // needs name to be initialized
     healthReport = HealthReport.healthy(this);
   }
 
   public ActorFuture<Void> startAsync(final ActorSchedulingService actorSchedulingService) {
+    this.actorSchedulingService = actorSchedulingService;
     return actorSchedulingService.submitActor(this, SchedulingHints.ioBound());
   }
 
@@ -151,11 +162,13 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
-    return actor.call(
-        () -> {
-          metrics.setExporterPaused();
-          exporterPhase = ExporterPhase.PAUSED;
-        });
+    return actor
+        .call(
+            () -> {
+              metrics.setExporterPaused();
+              exporterPhase = ExporterPhase.PAUSED;
+            })
+        .andThen(ok -> awaitReaders(ExporterReader::pauseExporting), actor);
   }
 
   /**
@@ -173,12 +186,16 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
-    return actor.call(
-        () -> {
-          containers.stream().forEach(ExporterContainer::softPauseExporter);
-          exporterPhase = ExporterPhase.SOFT_PAUSED;
-          metrics.setExporterSoftPaused();
-        });
+    return actor
+        .call(
+            () -> {
+              if (!independentReaders) {
+                containers.stream().forEach(ExporterContainer::softPauseExporter);
+              }
+              exporterPhase = ExporterPhase.SOFT_PAUSED;
+              metrics.setExporterSoftPaused();
+            })
+        .andThen(ok -> awaitReaders(ExporterReader::softPauseExporting), actor);
   }
 
   /**
@@ -194,17 +211,35 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       return CompletableActorFuture.completed(null);
     }
 
-    return actor.call(
-        () -> {
-          if (exporterPhase == ExporterPhase.SOFT_PAUSED) {
-            containers.stream().forEach(ExporterContainer::undoSoftPauseExporter);
-          }
-          exporterPhase = ExporterPhase.EXPORTING;
-          metrics.setExporterActive();
-          if (exporterMode == ExporterMode.ACTIVE) {
-            actor.submit(this::readNextEvent);
-          }
-        });
+    return actor
+        .call(
+            () -> {
+              final boolean fromSoftPause = exporterPhase == ExporterPhase.SOFT_PAUSED;
+              if (!independentReaders && fromSoftPause) {
+                containers.stream().forEach(ExporterContainer::undoSoftPauseExporter);
+              }
+              exporterPhase = ExporterPhase.EXPORTING;
+              metrics.setExporterActive();
+              if (exporterMode == ExporterMode.ACTIVE && !independentReaders) {
+                actor.submit(this::readNextEvent);
+              }
+              return fromSoftPause;
+            })
+        .andThen(
+            fromSoftPause -> awaitReaders(reader -> reader.resumeExporting(fromSoftPause)), actor);
+  }
+
+  /**
+   * Applies the given action to all independent readers, and completes once all of them have
+   * applied it. A reader which has failed does not export anymore, so its result is ignored.
+   */
+  private ActorFuture<Void> awaitReaders(final Function<ExporterReader, ActorFuture<Void>> action) {
+    final ActorFuture<Void> result = actor.createFuture();
+    readers.values().stream()
+        .map(action)
+        .collect(new ActorFutureCollector<>(actor))
+        .onComplete((ok, error) -> result.complete(null), actor);
+    return result;
   }
 
   /**
@@ -232,9 +267,16 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void removeExporter(final String exporterId, final ExporterContainer container) {
-    container.close();
     containers.remove(container);
-    state.removeExporterState(exporterId);
+    final var reader = readers.remove(container);
+    if (reader != null) {
+      // the reader closes the container, and may update its position until then
+      actor.runOnCompletion(
+          reader.closeAsync(), (ignored, error) -> state.removeExporterState(exporterId));
+    } else {
+      container.close();
+      state.removeExporterState(exporterId);
+    }
     // After removing this exporter, the exporter index has changed. Reset it so that we don't
     // miss to export the record to any of the exporters whose index has changed.
     recordExporter.resetExporterIndex();
@@ -314,7 +356,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
     final ExporterContainer container =
         new ExporterContainer(descriptor, partitionId, initializationInfo, meterRegistry, clock);
-    container.initContainer(actor, metrics, state, exporterPhase);
+    final var reader = independentReaders ? newReader(container) : null;
+    if (reader == null) {
+      container.initContainer(actor, metrics, state, exporterPhase);
+    }
     try {
       container.configureExporter();
     } catch (final Exception e) {
@@ -323,7 +368,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
     // initializes metadata and position in the runtime state
     container.initMetadata();
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (reader != null) {
+      // the reader opens the exporter itself, on its own actor
+      readers.put(container, reader);
+      actorSchedulingService.submitActor(reader, SchedulingHints.ioBound());
+    } else if (exporterMode == ExporterMode.ACTIVE) {
       container.openExporter();
     }
     containers.add(container);
@@ -355,7 +404,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   protected void onActorStarting() {
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (exporterMode == ExporterMode.ACTIVE && !independentReaders) {
       logStreamReader = logStream.newLogStreamReader();
     }
   }
@@ -407,7 +456,17 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   @Override
   protected void onActorCloseRequested() {
     isOpened.set(false);
-    containers.forEach(ExporterContainer::close);
+    if (independentReaders) {
+      // the readers close their containers, and must not update their positions afterwards
+      readers
+          .values()
+          .forEach(
+              reader ->
+                  actor.runOnCompletionBlockingCurrentPhase(
+                      reader.closeAsync(), (ignored, error) -> {}));
+    } else {
+      containers.forEach(ExporterContainer::close);
+    }
     exporterDistributionService.close();
   }
 
@@ -446,7 +505,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   private void initContainers() throws Exception {
     for (final ExporterContainer container : containers) {
-      container.initContainer(actor, metrics, state, exporterPhase);
+      if (independentReaders) {
+        readers.put(container, newReader(container));
+      } else {
+        container.initContainer(actor, metrics, state, exporterPhase);
+      }
       container.configureExporter();
     }
 
@@ -463,7 +526,20 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         snapshotPosition);
   }
 
-  private ExporterEventFilter createEventFilter(final List<ExporterContainer> containers) {
+  private ExporterReader newReader(final ExporterContainer container) {
+    return new ExporterReader(
+        name,
+        container,
+        logStream,
+        zeebeDb,
+        positionsToSkipFilter,
+        exporterPhase,
+        metrics,
+        clock,
+        () -> actor.run(this::onFailure));
+  }
+
+  static EventFilter createEventFilter(final List<ExporterContainer> containers) {
 
     final List<Context.RecordFilter> recordFilters =
         containers.stream().map(c -> c.getContext().getFilter()).collect(Collectors.toList());
@@ -500,6 +576,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       exporterDistributionTimer.cancel();
       exporterDistributionTimer = null;
     }
+    if (exportedPositionTimer != null) {
+      exportedPositionTimer.cancel();
+      exportedPositionTimer = null;
+    }
     if (logStreamReader != null) {
       // We have to close it, otherwise it will prevent journal segment deletion
       logStreamReader.close();
@@ -518,6 +598,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void startActiveExportingMode() {
+    if (independentReaders) {
+      startIndependentReaders();
+      return;
+    }
+
     final var containerOpenFutures = new ArrayList<ActorFuture<Boolean>>();
     for (final ExporterContainer container : containers) {
       container.initMetadata();
@@ -552,7 +637,58 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         });
   }
 
+  private void startIndependentReaders() {
+    for (final ExporterContainer container : containers) {
+      container.initMetadata();
+    }
+
+    if (!state.hasExporters()) {
+      becomeIdle();
+      return;
+    }
+
+    readers
+        .values()
+        .forEach(reader -> actorSchedulingService.submitActor(reader, SchedulingHints.ioBound()));
+    startDistributingExporterState();
+  }
+
+  private void startDistributingExporterState() {
+    exporterDistributionTimer =
+        actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
+    exportedPositionTimer =
+        actor.runAtFixedRate(EXPORTED_POSITION_REPORT_INTERVAL, this::reportExportedPosition);
+  }
+
+  /**
+   * With independent readers, every exporter progresses at its own speed; the flow control is
+   * informed about the slowest one, as it would be with a single reader.
+   */
+  private void reportExportedPosition() {
+    readers.entrySet().stream()
+        .mapToLong(entry -> getExportedPosition(entry.getKey(), entry.getValue()))
+        // exporters which never exported anything hold back nothing yet
+        .filter(position -> position >= 0)
+        .min()
+        .ifPresent(position -> logStream.getFlowControl().onExported(position));
+  }
+
+  /**
+   * A reader which has not started yet did not pass or skip any record, so its exporter is still at
+   * the position which was last committed for it.
+   */
+  private long getExportedPosition(final ExporterContainer container, final ExporterReader reader) {
+    final long exportedPosition = reader.getExportedPosition();
+    return exportedPosition >= 0 ? exportedPosition : state.getPosition(container.getId());
+  }
+
   private void restartActiveExportingMode() {
+    if (independentReaders) {
+      // the readers of the new exporters were already started when they were added
+      startDistributingExporterState();
+      return;
+    }
+
     logStreamReader = logStream.newLogStreamReader();
     startActiveExportingFrom(-1);
   }
@@ -33,6 +33,7 @@ public final class ExporterDirectorContext {
   private EventFilter positionsToSkipFilter;
   private MeterRegistry meterRegistry;
   private InstantSource clock;
+  private boolean independentReaders;
 
   public int getId() {
     return id;
@@ -78,6 +79,10 @@ public final class ExporterDirectorContext {
     return clock;
   }
 
+  public boolean isIndependentReaders() {
+    return independentReaders;
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -135,6 +140,16 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  /**
+   * @param independentReaders if true, each exporter reads the log on an actor of its own in the
+   *     {@link ExporterMode#ACTIVE} mode, instead of sharing a single reader with the other
+   *     exporters
+   */
+  public ExporterDirectorContext independentReaders(final boolean independentReaders) {
+    this.independentReaders = independentReaders;
+    return this;
+  }
+
   public enum ExporterMode {
     /**
      * ACTIVE, means it is actively running the exporting and distributes the exporter positions to
@@ -0,0 +1,272 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.EndlessRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.RetryStrategy;
+import io.camunda.zeebe.stream.api.EventFilter;
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+
+/**
+ * Reads the log and exports its records to a single exporter, on an actor of its own. A slow
+ * exporter therefore only holds back itself, and not the other exporters of the partition.
+ *
+ * <p>The {@link ExporterDirector} still coordinates the readers: it initializes the exporters
+ * state, pauses and resumes exporting, distributes the exporter positions, and reports the lowest
+ * exported position to the flow control. The reader writes the position of its exporter through a
+ * transaction context of its own, so that it does not share any state with the director's actor.
+ */
+final class ExporterReader extends Actor implements LogRecordAwaiter {
+
+  private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
+      "Expected to export record '{}' successfully to exporter '{}', but exception was thrown.";
+  private static final String ERROR_MESSAGE_RECOVER_FAILED =
+      "Expected to find event with the position %d in log stream, but nothing was found. Failed to recover '%s'.";
+
+  private final String name;
+  private final int partitionId;
+  private final ExporterContainer container;
+  private final LogStream logStream;
+  private final ExportersState state;
+  private final ExporterMetrics metrics;
+  private final RecordExporter recordExporter;
+  private final EventFilter positionsToSkipFilter;
+  private final RetryStrategy exportingRetryStrategy;
+  private final RetryStrategy recordWrapStrategy;
+  private final Runnable onFailure;
+  private LogStreamReader logStreamReader;
+  private EventFilter eventFilter;
+  private boolean isOpened;
+  private boolean paused;
+  private boolean inExportingPhase;
+
+  // read by the director to report the lowest exported position to the flow control
+  private volatile long exportedPosition = -1;
+
+  ExporterReader(
+      final String directorName,
+      final ExporterContainer container,
+      final LogStream logStream,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final EventFilter positionsToSkipFilter,
+      final ExporterPhase phase,
+      final ExporterMetrics metrics,
+      final InstantSource clock,
+      final Runnable onFailure) {
+    name = directorName + "-" + container.getId();
+    partitionId = logStream.getPartitionId();
+    this.container = container;
+    this.logStream = logStream;
+    this.positionsToSkipFilter = positionsToSkipFilter;
+    this.onFailure = onFailure;
+    state = new ExportersState(zeebeDb, zeebeDb.createContext());
+    this.metrics = metrics;
+    recordExporter = new RecordExporter(metrics, List.of(container), partitionId, clock);
+    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
+    recordWrapStrategy = new EndlessRetryStrategy(actor);
+    paused = phase == ExporterPhase.PAUSED;
+
+    // from now on, the container is only accessed from the actor of this reader
+    container.initContainer(actor, metrics, state, phase);
+  }
+
+  @Override
+  protected Map<String, String> createContext() {
+    final var context = super.createContext();
+    context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+    return context;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  protected void onActorStarting() {
+    logStreamReader = logStream.newLogStreamReader();
+    eventFilter = positionsToSkipFilter.and(ExporterDirector.createEventFilter(List.of(container)));
+  }
+
+  @Override
+  protected void onActorStarted() {
+    final var openFuture =
+        new BackOffRetryStrategy(actor, Duration.ofSeconds(10))
+            .runWithRetry(
+                () -> {
+                  try {
+                    container.openExporter();
+                    return true;
+                  } catch (final Exception e) {
+                    LOG.error("Failed to open exporter '{}'. Retrying...", container.getId(), e);
+                    return false;
+                  }
+                },
+                this::isClosed);
+
+    actor.runOnCompletion(
+        openFuture, (opened, error) -> startExportingFrom(container.getPosition()));
+  }
+
+  @Override
+  protected void onActorClosing() {
+    if (logStreamReader != null) {
+      // We have to close it, otherwise it will prevent journal segment deletion
+      logStreamReader.close();
+    }
+    logStream.removeRecordAvailableListener(this);
+  }
+
+  @Override
+  protected void onActorCloseRequested() {
+    isOpened = false;
+    container.close();
+  }
+
+  @Override
+  protected void handleFailure(final Throwable failure) {
+    LOG.error(
+        "Actor '{}' failed in phase {} with: {} .",
+        name,
+        actor.getLifecyclePhase(),
+        failure,
+        failure);
+    actor.fail(failure);
+    onFailure.run();
+  }
+
+  @Override
+  public void onRecordAvailable() {
+    actor.run(this::readNextEvent);
+  }
+
+  ActorFuture<Void> pauseExporting() {
+    return actor.call(
+        () -> {
+          paused = true;
+        });
+  }
+
+  ActorFuture<Void> softPauseExporting() {
+    return actor.call(container::softPauseExporter);
+  }
+
+  ActorFuture<Void> resumeExporting(final boolean fromSoftPause) {
+    return actor.call(
+        () -> {
+          if (fromSoftPause) {
+            container.undoSoftPauseExporter();
+          }
+          paused = false;
+          actor.submit(this::readNextEvent);
+        });
+  }
+
+  /**
+   * @return the position of the last record which was passed to, or skipped for, the exporter
+   */
+  long getExportedPosition() {
+    return exportedPosition;
+  }
+
+  private void startExportingFrom(final long position) {
+    if (isClosed()) {
+      return;
+    }
+
+    if (!logStreamReader.seekToNextEvent(position)) {
+      throw new IllegalStateException(String.format(ERROR_MESSAGE_RECOVER_FAILED, position, name));
+    }
+
+    isOpened = true;
+    logStream.registerRecordAvailableListener(this);
+    actor.submit(this::readNextEvent);
+  }
+
+  private void readNextEvent() {
+    if (shouldExport()) {
+      final LoggedEvent currentEvent = logStreamReader.next();
+      if (eventFilter.applies(currentEvent)) {
+        inExportingPhase = true;
+        exportEvent(currentEvent);
+      } else {
+        skipRecord(currentEvent);
+      }
+    }
+  }
+
+  private boolean shouldExport() {
+    return isOpened && !paused && !inExportingPhase && logStreamReader.hasNext();
+  }
+
+  private void skipRecord(final LoggedEvent currentEvent) {
+    final RecordMetadata metadata = new RecordMetadata();
+    final long eventPosition = currentEvent.getPosition();
+
+    currentEvent.readMetadata(metadata);
+    metrics.eventSkipped(metadata.getValueType());
+    container.updatePositionOnSkipIfUpToDate(eventPosition);
+    exportedPosition = eventPosition;
+
+    actor.submit(this::readNextEvent);
+  }
+
+  private void exportEvent(final LoggedEvent event) {
+    final ActorFuture<Boolean> wrapRetryFuture =
+        recordWrapStrategy.runWithRetry(
+            () -> {
+              recordExporter.wrap(event);
+              return true;
+            },
+            this::isClosed);
+
+    actor.runOnCompletion(
+        wrapRetryFuture,
+        (b, t) -> {
+          assert t == null : "Throwable must be null";
+
+          final ActorFuture<Boolean> retryFuture =
+              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
+
+          actor.runOnCompletion(
+              retryFuture,
+              (bool, throwable) -> {
+                if (throwable != null) {
+                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, container.getId(), throwable);
+                  isOpened = false;
+                  onFailure.run();
+                } else {
+                  exportedPosition = recordExporter.getTypedEvent().getPosition();
+                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
+                  inExportingPhase = false;
+                  actor.submit(this::readNextEvent);
+                }
+              });
+        });
+  }
+
+  private boolean isClosed() {
+    return actor.isClosed();
+  }
+}
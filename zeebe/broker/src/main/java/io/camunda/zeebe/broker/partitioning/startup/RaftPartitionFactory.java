@@ -12,6 +12,7 @@ import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.partition.RaftStorageConfig;
 import io.atomix.raft.storage.log.DelayedFlusher;
+import io.atomix.raft.storage.log.GroupCommitFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.raft.ZeebeEntryValidator;
@@ -83,6 +84,11 @@ public final class RaftPartitionFactory {
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
     storageConfig.setPreallocateSegmentFiles(
         brokerCfg.getExperimental().getRaft().isPreallocateSegmentFiles());
+    if (brokerCfg.getExperimental().getRaft().isGroupCommitEnabled()) {
+      storageConfig.setGroupCommit(
+          brokerCfg.getExperimental().getRaft().getGroupCommitMaxDelay(),
+          brokerCfg.getExperimental().getRaft().getGroupCommitMaxBatchSize());
+    }
 
     partitionConfig.setStorageConfig(storageConfig);
     partitionConfig.setEntryValidator(new ZeebeEntryValidator());
@@ -99,6 +105,10 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getSnapshotRequestTimeout());
     partitionConfig.setSnapshotChunkSize(
         (int) brokerCfg.getExperimental().getRaft().getSnapshotChunkSize().toBytes());
+    partitionConfig.setMaxInFlightSnapshotChunks(
+        brokerCfg.getExperimental().getRaft().getMaxInFlightSnapshotChunks());
+    partitionConfig.setCompressSnapshotChunks(
+        brokerCfg.getExperimental().getRaft().isCompressSnapshotChunks());
     partitionConfig.setConfigurationChangeTimeout(
         brokerCfg.getExperimental().getRaft().getConfigurationChangeTimeout());
     partitionConfig.setMaxQuorumResponseTimeout(
@@ -119,6 +129,12 @@ public final class RaftPartitionFactory {
       return createFlusherFactory(new FlushConfig(false, Duration.ZERO));
     }
 
+    // group commit flushes off the Raft thread, merging the flushes of consecutive appends; appends
+    // are still only acknowledged once they are flushed
+    if (config.enabled() && experimental.getRaft().isGroupCommitEnabled()) {
+      return threadFactory -> new GroupCommitFlusher();
+    }
+
     return createFlusherFactory(config);
   }
 
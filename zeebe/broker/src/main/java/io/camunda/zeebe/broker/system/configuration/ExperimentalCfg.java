@@ -23,6 +23,7 @@ public class ExperimentalCfg implements ConfigurationEntry {
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
   public static final boolean DEFAULT_VERSION_CHECK_ENABLED = true;
+  public static final boolean DEFAULT_LOG_STREAM_READ_AHEAD = false;
 
   /**
    * Allows to enable/disable the version check, that prevents us on migrating to alpha versions,
@@ -33,6 +34,14 @@ public class ExperimentalCfg implements ConfigurationEntry {
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
+
+  /**
+   * Allows the reader of the stream processor, i.e. the replay, to read the log in windows of
+   * several blocks, reading the next window ahead on a separate actor. Other readers, e.g. those of
+   * the exporters, always read the log block by block.
+   */
+  private boolean logStreamReadAhead = DEFAULT_LOG_STREAM_READ_AHEAD;
+
   private RocksdbCfg rocksdb = new RocksdbCfg();
   private ExperimentalRaftCfg raft = new ExperimentalRaftCfg();
   private PartitioningCfg partitioning = new PartitioningCfg();
@@ -95,6 +104,14 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.disableExplicitRaftFlush = disableExplicitRaftFlush;
   }
 
+  public boolean isLogStreamReadAhead() {
+    return logStreamReadAhead;
+  }
+
+  public void setLogStreamReadAhead(final boolean logStreamReadAhead) {
+    this.logStreamReadAhead = logStreamReadAhead;
+  }
+
   public RocksdbCfg getRocksdb() {
     return rocksdb;
   }
@@ -160,6 +177,8 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + maxAppendBatchSize
         + ", disableExplicitRaftFlush="
         + disableExplicitRaftFlush
+        + ", logStreamReadAhead="
+        + logStreamReadAhead
         + ", rocksdb="
         + rocksdb
         + ", partitioning="
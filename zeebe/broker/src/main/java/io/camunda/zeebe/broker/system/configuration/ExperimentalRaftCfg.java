@@ -24,15 +24,25 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final int DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final int DEFAULT_MAX_IN_FLIGHT_SNAPSHOT_CHUNKS = 1;
+  private static final boolean DEFAULT_COMPRESS_SNAPSHOT_CHUNKS = false;
+  private static final boolean DEFAULT_GROUP_COMMIT_ENABLED = false;
+  private static final Duration DEFAULT_GROUP_COMMIT_MAX_DELAY = Duration.ofMillis(1);
+  private static final int DEFAULT_GROUP_COMMIT_MAX_BATCH_SIZE = 64;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
   private DataSize snapshotChunkSize = DEFAULT_SNAPSHOT_CHUNK_SIZE;
+  private int maxInFlightSnapshotChunks = DEFAULT_MAX_IN_FLIGHT_SNAPSHOT_CHUNKS;
+  private boolean compressSnapshotChunks = DEFAULT_COMPRESS_SNAPSHOT_CHUNKS;
   private Duration configurationChangeTimeout = DEFAULT_CONFIGURATION_CHANGE_TIMEOUT;
   private Duration maxQuorumResponseTimeout = DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT;
   private int minStepDownFailureCount = DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT;
   private int preferSnapshotReplicationThreshold = DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD;
 
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean groupCommitEnabled = DEFAULT_GROUP_COMMIT_ENABLED;
+  private Duration groupCommitMaxDelay = DEFAULT_GROUP_COMMIT_MAX_DELAY;
+  private int groupCommitMaxBatchSize = DEFAULT_GROUP_COMMIT_MAX_BATCH_SIZE;
 
   public Duration getRequestTimeout() {
     return requestTimeout;
@@ -58,6 +68,22 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
     this.snapshotChunkSize = snapshotChunkSize;
   }
 
+  public int getMaxInFlightSnapshotChunks() {
+    return maxInFlightSnapshotChunks;
+  }
+
+  public void setMaxInFlightSnapshotChunks(final int maxInFlightSnapshotChunks) {
+    this.maxInFlightSnapshotChunks = maxInFlightSnapshotChunks;
+  }
+
+  public boolean isCompressSnapshotChunks() {
+    return compressSnapshotChunks;
+  }
+
+  public void setCompressSnapshotChunks(final boolean compressSnapshotChunks) {
+    this.compressSnapshotChunks = compressSnapshotChunks;
+  }
+
   public Duration getConfigurationChangeTimeout() {
     return configurationChangeTimeout;
   }
@@ -97,4 +123,28 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   public void setPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
+
+  public boolean isGroupCommitEnabled() {
+    return groupCommitEnabled;
+  }
+
+  public void setGroupCommitEnabled(final boolean groupCommitEnabled) {
+    this.groupCommitEnabled = groupCommitEnabled;
+  }
+
+  public Duration getGroupCommitMaxDelay() {
+    return groupCommitMaxDelay;
+  }
+
+  public void setGroupCommitMaxDelay(final Duration groupCommitMaxDelay) {
+    this.groupCommitMaxDelay = groupCommitMaxDelay;
+  }
+
+  public int getGroupCommitMaxBatchSize() {
+    return groupCommitMaxBatchSize;
+  }
+
+  public void setGroupCommitMaxBatchSize(final int groupCommitMaxBatchSize) {
+    this.groupCommitMaxBatchSize = groupCommitMaxBatchSize;
+  }
 }
@@ -16,6 +16,7 @@ import java.util.Set;
  */
 public final class ExportingCfg implements ConfigurationEntry {
   private Set<Long> skipRecords;
+  private boolean independentReaders = false;
 
   public Set<Long> getSkipRecords() {
     return skipRecords != null ? skipRecords : Set.of();
@@ -25,9 +26,22 @@ public final class ExportingCfg implements ConfigurationEntry {
     this.skipRecords = skipRecords;
   }
 
+  public boolean isIndependentReaders() {
+    return independentReaders;
+  }
+
+  /**
+   * When enabled, every exporter reads the log on an actor of its own, such that a slow exporter
+   * does not hold back the other exporters. Only the lowest exporter position still holds back the
+   * log compaction.
+   */
+  public void setIndependentReaders(final boolean independentReaders) {
+    this.independentReaders = independentReaders;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(skipRecords);
+    return Objects.hash(skipRecords, independentReaders);
   }
 
   @Override
@@ -39,11 +53,17 @@ public final class ExportingCfg implements ConfigurationEntry {
       return false;
     }
     final ExportingCfg that = (ExportingCfg) o;
-    return Objects.equals(skipRecords, that.skipRecords);
+    return independentReaders == that.independentReaders
+        && Objects.equals(skipRecords, that.skipRecords);
   }
 
   @Override
   public String toString() {
-    return "ExporterCfg{" + "skipRecords='" + skipRecords + '}';
+    return "ExporterCfg{"
+        + "skipRecords='"
+        + skipRecords
+        + ", independentReaders="
+        + independentReaders
+        + '}';
   }
 }
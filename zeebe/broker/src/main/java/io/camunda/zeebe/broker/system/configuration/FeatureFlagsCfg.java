@@ -39,6 +39,7 @@ public final class FeatureFlagsCfg {
       DEFAULT_SETTINGS.enableStraightThroughProcessingLoopDetector();
   private boolean enablePartitionScaling = DEFAULT_SETTINGS.enablePartitionScaling();
   private boolean enableIdentitySetup = DEFAULT_SETTINGS.enableIdentitySetup();
+  private boolean enableActorProfiling = DEFAULT_SETTINGS.enableActorProfiling();
 
   public boolean isEnableYieldingDueDateChecker() {
     return enableYieldingDueDateChecker;
@@ -97,6 +98,14 @@ public final class FeatureFlagsCfg {
     this.enableIdentitySetup = enableIdentitySetup;
   }
 
+  public boolean isEnableActorProfiling() {
+    return enableActorProfiling;
+  }
+
+  public void setEnableActorProfiling(final boolean enableActorProfiling) {
+    this.enableActorProfiling = enableActorProfiling;
+  }
+
   public FeatureFlags toFeatureFlags() {
     return new FeatureFlags(
         enableYieldingDueDateChecker,
@@ -105,7 +114,8 @@ public final class FeatureFlagsCfg {
         enableTimerDueDateCheckerAsync,
         enableStraightThroughProcessingLoopDetector,
         enablePartitionScaling,
-        enableIdentitySetup
+        enableIdentitySetup,
+        enableActorProfiling
         /*, enableFoo*/ );
   }
 
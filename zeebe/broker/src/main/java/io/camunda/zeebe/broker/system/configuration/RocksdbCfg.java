@@ -9,9 +9,11 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import java.util.HashSet;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import java.util.regex.Pattern;
 import org.springframework.util.unit.DataSize;
 
@@ -28,6 +30,11 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private boolean enableDirectValueBuffers =
+      RocksDbConfiguration.DEFAULT_DIRECT_VALUE_BUFFERS_ENABLED;
+  private Set<String> cachedColumnFamilies = new HashSet<>();
+  private DataSize columnFamilyCacheSize =
+      DataSize.ofBytes(RocksDbConfiguration.DEFAULT_COLUMN_FAMILY_CACHE_SIZE);
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -121,6 +128,30 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public boolean isEnableDirectValueBuffers() {
+    return enableDirectValueBuffers;
+  }
+
+  public void setEnableDirectValueBuffers(final boolean enableDirectValueBuffers) {
+    this.enableDirectValueBuffers = enableDirectValueBuffers;
+  }
+
+  public Set<String> getCachedColumnFamilies() {
+    return cachedColumnFamilies;
+  }
+
+  public void setCachedColumnFamilies(final Set<String> cachedColumnFamilies) {
+    this.cachedColumnFamilies = cachedColumnFamilies;
+  }
+
+  public DataSize getColumnFamilyCacheSize() {
+    return columnFamilyCacheSize;
+  }
+
+  public void setColumnFamilyCacheSize(final DataSize columnFamilyCacheSize) {
+    this.columnFamilyCacheSize = columnFamilyCacheSize;
+  }
+
   public AccessMetricsConfiguration.Kind getAccessMetrics() {
     return accessMetrics;
   }
@@ -139,7 +170,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setDirectValueBuffersEnabled(enableDirectValueBuffers)
+        .setCachedColumnFamilies(Set.copyOf(cachedColumnFamilies))
+        .setColumnFamilyCacheSize(columnFamilyCacheSize.toBytes());
   }
 
   @Override
@@ -165,6 +199,12 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", enableDirectValueBuffers="
+        + enableDirectValueBuffers
+        + ", cachedColumnFamilies="
+        + cachedColumnFamilies
+        + ", columnFamilyCacheSize="
+        + columnFamilyCacheSize
         + '}';
   }
 
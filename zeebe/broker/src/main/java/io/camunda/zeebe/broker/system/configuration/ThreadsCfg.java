@@ -10,6 +10,10 @@ package io.camunda.zeebe.broker.system.configuration;
 public final class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private int cpuThreadNodeCount = 1;
+  private boolean lifoSlotEnabled = false;
+  private boolean virtualIoThreadsEnabled = false;
+  private boolean hierarchicalTimerWheelEnabled = false;
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -27,6 +31,38 @@ public final class ThreadsCfg implements ConfigurationEntry {
     ioThreadCount = ioThreads;
   }
 
+  public int getCpuThreadNodeCount() {
+    return cpuThreadNodeCount;
+  }
+
+  public void setCpuThreadNodeCount(final int cpuThreadNodeCount) {
+    this.cpuThreadNodeCount = cpuThreadNodeCount;
+  }
+
+  public boolean isLifoSlotEnabled() {
+    return lifoSlotEnabled;
+  }
+
+  public void setLifoSlotEnabled(final boolean lifoSlotEnabled) {
+    this.lifoSlotEnabled = lifoSlotEnabled;
+  }
+
+  public boolean isVirtualIoThreadsEnabled() {
+    return virtualIoThreadsEnabled;
+  }
+
+  public void setVirtualIoThreadsEnabled(final boolean virtualIoThreadsEnabled) {
+    this.virtualIoThreadsEnabled = virtualIoThreadsEnabled;
+  }
+
+  public boolean isHierarchicalTimerWheelEnabled() {
+    return hierarchicalTimerWheelEnabled;
+  }
+
+  public void setHierarchicalTimerWheelEnabled(final boolean hierarchicalTimerWheelEnabled) {
+    this.hierarchicalTimerWheelEnabled = hierarchicalTimerWheelEnabled;
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -34,6 +70,14 @@ public final class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", cpuThreadNodeCount="
+        + cpuThreadNodeCount
+        + ", lifoSlotEnabled="
+        + lifoSlotEnabled
+        + ", virtualIoThreadsEnabled="
+        + virtualIoThreadsEnabled
+        + ", hierarchicalTimerWheelEnabled="
+        + hierarchicalTimerWheelEnabled
         + '}';
   }
 }
@@ -33,6 +33,7 @@ public final class LimitCfg implements ConfigurationEntry {
   private final GradientCfg gradient = new GradientCfg();
   private final Gradient2Cfg gradient2 = new Gradient2Cfg();
   private final LegacyVegasCfg legacyVegas = new LegacyVegasCfg();
+  private final LoadCfg load = new LoadCfg();
 
   public boolean isEnabled() {
     return enabled;
@@ -87,6 +88,10 @@ public final class LimitCfg implements ConfigurationEntry {
     return legacyVegas;
   }
 
+  public LoadCfg getLoad() {
+    return load;
+  }
+
   /**
    * @return null if disabled, (windowed) limit otherwise.
    */
@@ -103,11 +108,8 @@ public final class LimitCfg implements ConfigurationEntry {
           case VEGAS -> getVegasLimit(getVegas());
           case LEGACY_VEGAS -> getLegacyVegasLimit(getLegacyVegas());
         };
-    if (useWindowed) {
-      return WindowedLimit.newBuilder().build(baseLimit);
-    } else {
-      return baseLimit;
-    }
+    final var limit = useWindowed ? WindowedLimit.newBuilder().build(baseLimit) : baseLimit;
+    return load.buildLimit(limit);
   }
 
   private static VegasLimit getLegacyVegasLimit(final LegacyVegasCfg legacyVegas) {
@@ -160,7 +162,16 @@ public final class LimitCfg implements ConfigurationEntry {
   @Override
   public int hashCode() {
     return Objects.hash(
-        enabled, useWindowed, algorithm, aimd, fixed, vegas, gradient, gradient2, legacyVegas);
+        enabled,
+        useWindowed,
+        algorithm,
+        aimd,
+        fixed,
+        vegas,
+        gradient,
+        gradient2,
+        legacyVegas,
+        load);
   }
 
   @Override
@@ -179,7 +190,8 @@ public final class LimitCfg implements ConfigurationEntry {
         && Objects.equals(vegas, limitCfg.vegas)
         && Objects.equals(gradient, limitCfg.gradient)
         && Objects.equals(gradient2, limitCfg.gradient2)
-        && Objects.equals(legacyVegas, limitCfg.legacyVegas);
+        && Objects.equals(legacyVegas, limitCfg.legacyVegas)
+        && Objects.equals(load, limitCfg.load);
   }
 
   @Override
@@ -204,6 +216,8 @@ public final class LimitCfg implements ConfigurationEntry {
         + gradient2
         + ", legacyVegas="
         + legacyVegas
+        + ", load="
+        + load
         + '}';
   }
 
@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration.backpressure;
+
+import static io.camunda.zeebe.broker.system.configuration.ConfigurationUtil.checkPositive;
+
+import com.netflix.concurrency.limits.Limit;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.CompositeLimit;
+import java.util.Objects;
+
+/**
+ * Configures how the request limit reacts to the load of the partition's state and to the lag of
+ * its exporters. See {@link CompositeLimit} for details.
+ */
+public class LoadCfg {
+  private boolean enabled = false;
+  private int minLimit = 1;
+  private long pendingCompactionBytesSoftLimit = 2L * 1024 * 1024 * 1024;
+  private long pendingCompactionBytesHardLimit = 16L * 1024 * 1024 * 1024;
+  private long exporterLagSoftLimit = 100_000;
+  private long exporterLagHardLimit = 1_000_000;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getMinLimit() {
+    return minLimit;
+  }
+
+  public void setMinLimit(final int minLimit) {
+    checkPositive(minLimit, "minLimit");
+    this.minLimit = minLimit;
+  }
+
+  public long getPendingCompactionBytesSoftLimit() {
+    return pendingCompactionBytesSoftLimit;
+  }
+
+  public void setPendingCompactionBytesSoftLimit(final long pendingCompactionBytesSoftLimit) {
+    this.pendingCompactionBytesSoftLimit = pendingCompactionBytesSoftLimit;
+  }
+
+  public long getPendingCompactionBytesHardLimit() {
+    return pendingCompactionBytesHardLimit;
+  }
+
+  public void setPendingCompactionBytesHardLimit(final long pendingCompactionBytesHardLimit) {
+    this.pendingCompactionBytesHardLimit = pendingCompactionBytesHardLimit;
+  }
+
+  public long getExporterLagSoftLimit() {
+    return exporterLagSoftLimit;
+  }
+
+  public void setExporterLagSoftLimit(final long exporterLagSoftLimit) {
+    this.exporterLagSoftLimit = exporterLagSoftLimit;
+  }
+
+  public long getExporterLagHardLimit() {
+    return exporterLagHardLimit;
+  }
+
+  public void setExporterLagHardLimit(final long exporterLagHardLimit) {
+    this.exporterLagHardLimit = exporterLagHardLimit;
+  }
+
+  /**
+   * @return the given limit decorated to react to the partition load if enabled, or the given limit
+   *     as is otherwise
+   */
+  public Limit buildLimit(final Limit limit) {
+    if (!enabled) {
+      return limit;
+    }
+
+    return CompositeLimit.newBuilder()
+        .minLimit(minLimit)
+        .pendingCompactionBytes(pendingCompactionBytesSoftLimit, pendingCompactionBytesHardLimit)
+        .exporterLag(exporterLagSoftLimit, exporterLagHardLimit)
+        .build(limit);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+        enabled,
+        minLimit,
+        pendingCompactionBytesSoftLimit,
+        pendingCompactionBytesHardLimit,
+        exporterLagSoftLimit,
+        exporterLagHardLimit);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof final LoadCfg that)) {
+      return false;
+    }
+    return enabled == that.enabled
+        && minLimit == that.minLimit
+        && pendingCompactionBytesSoftLimit == that.pendingCompactionBytesSoftLimit
+        && pendingCompactionBytesHardLimit == that.pendingCompactionBytesHardLimit
+        && exporterLagSoftLimit == that.exporterLagSoftLimit
+        && exporterLagHardLimit == that.exporterLagHardLimit;
+  }
+
+  @Override
+  public String toString() {
+    return "LoadCfg{"
+        + "enabled="
+        + enabled
+        + ", minLimit="
+        + minLimit
+        + ", pendingCompactionBytesSoftLimit="
+        + pendingCompactionBytesSoftLimit
+        + ", pendingCompactionBytesHardLimit="
+        + pendingCompactionBytesHardLimit
+        + ", exporterLagSoftLimit="
+        + exporterLagSoftLimit
+        + ", exporterLagHardLimit="
+        + exporterLagHardLimit
+        + '}';
+  }
+}
@@ -15,6 +15,8 @@ public final class CachesCfg implements ConfigurationEntry {
   private int formCacheCapacity = EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
   private int resourceCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
+  private int variableScopeCacheCapacity =
+      EngineConfiguration.DEFAULT_VARIABLE_SCOPE_CACHE_CAPACITY;
 
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
@@ -48,6 +50,14 @@ public final class CachesCfg implements ConfigurationEntry {
     this.resourceCacheCapacity = resourceCacheCapacity;
   }
 
+  public int getVariableScopeCacheCapacity() {
+    return variableScopeCacheCapacity;
+  }
+
+  public void setVariableScopeCacheCapacity(final int variableScopeCacheCapacity) {
+    this.variableScopeCacheCapacity = variableScopeCacheCapacity;
+  }
+
   @Override
   public String toString() {
     return "CachesCfg{"
@@ -59,6 +69,8 @@ public final class CachesCfg implements ConfigurationEntry {
         + processCacheCapacity
         + ", resourceCacheCapacity="
         + resourceCacheCapacity
+        + ", variableScopeCacheCapacity="
+        + variableScopeCacheCapacity
         + '}';
   }
 }
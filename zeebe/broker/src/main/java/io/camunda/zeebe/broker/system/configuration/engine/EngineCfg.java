@@ -17,6 +17,8 @@ public final class EngineCfg implements ConfigurationEntry {
   private CachesCfg caches = new CachesCfg();
   private JobsCfg jobs = new JobsCfg();
   private ValidatorsCfg validators = new ValidatorsCfg();
+  private boolean lazyRecordDecodingEnabled =
+      EngineConfiguration.DEFAULT_LAZY_RECORD_DECODING_ENABLED;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -58,6 +60,14 @@ public final class EngineCfg implements ConfigurationEntry {
     this.validators = validators;
   }
 
+  public boolean isLazyRecordDecodingEnabled() {
+    return lazyRecordDecodingEnabled;
+  }
+
+  public void setLazyRecordDecodingEnabled(final boolean lazyRecordDecodingEnabled) {
+    this.lazyRecordDecodingEnabled = lazyRecordDecodingEnabled;
+  }
+
   @Override
   public String toString() {
     return "EngineCfg{"
@@ -69,6 +79,8 @@ public final class EngineCfg implements ConfigurationEntry {
         + jobs
         + ", validators="
         + validators
+        + ", lazyRecordDecodingEnabled="
+        + lazyRecordDecodingEnabled
         + '}';
   }
 
@@ -80,8 +92,11 @@ public final class EngineCfg implements ConfigurationEntry {
         .setFormCacheCapacity(caches.getFormCacheCapacity())
         .setResourceCacheCapacity(caches.getResourceCacheCapacity())
         .setProcessCacheCapacity(caches.getProcessCacheCapacity())
+        .setVariableScopeCacheCapacity(caches.getVariableScopeCacheCapacity())
         .setJobsTimeoutCheckerPollingInterval(jobs.getTimeoutCheckerPollingInterval())
         .setJobsTimeoutCheckerBatchLimit(jobs.getTimeoutCheckerBatchLimit())
-        .setValidatorsResultsOutputMaxSize(validators.getResultsOutputMaxSize());
+        .setJobsActivatableIndexEnabled(jobs.isActivatableIndexEnabled())
+        .setValidatorsResultsOutputMaxSize(validators.getResultsOutputMaxSize())
+        .setLazyRecordDecodingEnabled(lazyRecordDecodingEnabled);
   }
 }
@@ -16,6 +16,8 @@ public class JobsCfg implements ConfigurationEntry {
       EngineConfiguration.DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int timeoutCheckerBatchLimit =
       EngineConfiguration.DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
+  private boolean activatableIndexEnabled =
+      EngineConfiguration.DEFAULT_JOBS_ACTIVATABLE_INDEX_ENABLED;
 
   public Duration getTimeoutCheckerPollingInterval() {
     return timeoutCheckerPollingInterval;
@@ -33,6 +35,14 @@ public class JobsCfg implements ConfigurationEntry {
     this.timeoutCheckerBatchLimit = timeoutCheckerBatchLimit;
   }
 
+  public boolean isActivatableIndexEnabled() {
+    return activatableIndexEnabled;
+  }
+
+  public void setActivatableIndexEnabled(final boolean activatableIndexEnabled) {
+    this.activatableIndexEnabled = activatableIndexEnabled;
+  }
+
   @Override
   public String toString() {
     return "JobsCfg{"
@@ -40,6 +50,8 @@ public class JobsCfg implements ConfigurationEntry {
         + timeoutCheckerPollingInterval
         + ", timeoutCheckerBatchLimit="
         + timeoutCheckerBatchLimit
+        + ", activatableIndexEnabled="
+        + activatableIndexEnabled
         + '}';
   }
 }
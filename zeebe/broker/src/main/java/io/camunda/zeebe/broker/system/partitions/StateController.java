@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.system.partitions;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.snapshots.TransientSnapshot;
+import java.util.function.Consumer;
 
 public interface StateController extends AutoCloseable {
   /**
@@ -35,4 +36,12 @@ public interface StateController extends AutoCloseable {
    * @return future
    */
   ActorFuture<Void> closeDb();
+
+  /**
+   * Sets a listener which is called with the opened database every time its metrics are exported,
+   * on the same thread which exports them. Replaces any previously set listener.
+   *
+   * @param listener the listener to call, or null to remove the current listener
+   */
+  void setDbMetricsListener(Consumer<ZeebeDb> listener);
 }
@@ -27,6 +27,7 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.function.Consumer;
 import java.util.function.ToLongFunction;
 import org.agrona.CloseHelper;
 import org.slf4j.Logger;
@@ -47,6 +48,7 @@ public class StateControllerImpl implements StateController {
 
   private ZeebeDb db;
   private ScheduledTimer metricsExportTimer;
+  private volatile Consumer<ZeebeDb> dbMetricsListener;
 
   public StateControllerImpl(
       final ZeebeDbFactory zeebeDbFactory,
@@ -87,6 +89,11 @@ public class StateControllerImpl implements StateController {
     return future;
   }
 
+  @Override
+  public void setDbMetricsListener(final Consumer<ZeebeDb> listener) {
+    dbMetricsListener = listener;
+  }
+
   private void scheduleDbMetricsExport() {
     metricsExportTimer =
         concurrencyControl.schedule(DB_METRICS_EXPORT_INTERVAL, this::exportDbMetrics);
@@ -95,6 +102,11 @@ public class StateControllerImpl implements StateController {
   private void exportDbMetrics() {
     if (isDbOpened()) {
       db.exportMetrics();
+
+      final var listener = dbMetricsListener;
+      if (listener != null) {
+        listener.accept(db);
+      }
     }
 
     scheduleDbMetricsExport();
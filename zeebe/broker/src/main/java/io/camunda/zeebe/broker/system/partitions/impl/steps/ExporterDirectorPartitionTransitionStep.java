@@ -111,6 +111,9 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             context.getBrokerCfg() != null
                 ? context.getBrokerCfg().getExporting().getSkipRecords()
                 : Set.of());
+    final boolean independentReaders =
+        context.getBrokerCfg() != null
+            && context.getBrokerCfg().getExporting().isIndependentReaders();
     final ExporterMode exporterMode =
         targetRole == Role.LEADER ? ExporterMode.ACTIVE : ExporterMode.PASSIVE;
     final ExporterDirectorContext exporterCtx =
@@ -124,6 +127,7 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             .descriptors(exporterDescriptors)
             .exporterMode(exporterMode)
             .positionsToSkipFilter(exporterFilter)
+            .independentReaders(independentReaders)
             .meterRegistry(context.getPartitionTransitionMeterRegistry());
 
     final ExporterDirector director =
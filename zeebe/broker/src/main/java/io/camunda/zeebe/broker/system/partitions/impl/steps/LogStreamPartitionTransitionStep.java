@@ -69,21 +69,28 @@ public final class LogStreamPartitionTransitionStep implements PartitionTransiti
 
   private LogStream buildLogStream(final PartitionTransitionContext context) {
     final var flowControlCfg = context.getBrokerCfg().getFlowControl();
-    return logStreamBuilderSupplier
-        .get()
-        .withLogStorage(context.getLogStorage())
-        .withLogName("logStream-" + context.getRaftPartition().name())
-        .withPartitionId(context.getPartitionId())
-        .withMaxFragmentSize(context.getMaxFragmentSize())
-        .withClock(context.getStreamClock())
-        .withRequestLimit(
-            flowControlCfg.getRequest() != null
-                ? flowControlCfg.getRequest().buildLimit()
-                : context.getBrokerCfg().getBackpressure().buildLimit())
-        .withWriteRateLimit(
-            flowControlCfg.getWrite() != null ? flowControlCfg.getWrite().buildLimit() : null)
-        .withMeterRegistry(context.getPartitionTransitionMeterRegistry())
-        .build();
+    final var builder =
+        logStreamBuilderSupplier
+            .get()
+            .withLogStorage(context.getLogStorage())
+            .withLogName("logStream-" + context.getRaftPartition().name())
+            .withPartitionId(context.getPartitionId())
+            .withMaxFragmentSize(context.getMaxFragmentSize())
+            .withClock(context.getStreamClock())
+            .withRequestLimit(
+                flowControlCfg.getRequest() != null
+                    ? flowControlCfg.getRequest().buildLimit()
+                    : context.getBrokerCfg().getBackpressure().buildLimit())
+            .withWriteRateLimit(
+                flowControlCfg.getWrite() != null ? flowControlCfg.getWrite().buildLimit() : null)
+            .withMeterRegistry(context.getPartitionTransitionMeterRegistry());
+
+    // the readers read the log ahead only if enabled, since it copies the log into new windows
+    if (context.getBrokerCfg().getExperimental().isLogStreamReadAhead()) {
+      builder.withActorSchedulingService(context.getActorSchedulingService());
+    }
+
+    return builder.build();
   }
 
   private boolean shouldInstallOnTransition(final Role newRole, final Role currentRole) {
@@ -18,6 +18,10 @@ public final class ZeebeDbPartitionTransitionStep implements PartitionTransition
 
   private static final String RECOVERY_FAILED_ERROR_MSG =
       "Unexpected error occurred while recovering snapshot controller during leader partition install for partition %d";
+  private static final String PENDING_COMPACTION_BYTES =
+      "rocksdb.estimate-pending-compaction-bytes";
+  private static final String IS_WRITE_STOPPED = "rocksdb.is-write-stopped";
+  private static final String ACTUAL_DELAYED_WRITE_RATE = "rocksdb.actual-delayed-write-rate";
 
   @Override
   public ActorFuture<Void> prepareTransition(
@@ -27,6 +31,7 @@ public final class ZeebeDbPartitionTransitionStep implements PartitionTransition
     if (context.getZeebeDb() != null
         && (currentRole == Role.LEADER || targetRole == Role.INACTIVE)) {
       try {
+        context.getStateController().setDbMetricsListener(null);
         context.getStateController().closeDb();
         context.setZeebeDb(null);
       } catch (final Exception e) {
@@ -77,8 +82,31 @@ public final class ZeebeDbPartitionTransitionStep implements PartitionTransition
                     String.format(RECOVERY_FAILED_ERROR_MSG, context.getPartitionId()), error));
           } else {
             context.setZeebeDb(zeebeDb);
+            context.getStateController().setDbMetricsListener(db -> updateFlowControl(context, db));
             transitionFuture.complete(null);
           }
         });
   }
+
+  private static void updateFlowControl(
+      final PartitionTransitionContext context, final ZeebeDb<?> zeebeDb) {
+    final var logStream = context.getLogStream();
+    if (logStream == null) {
+      return;
+    }
+
+    final long pendingCompactionBytes = getLongProperty(zeebeDb, PENDING_COMPACTION_BYTES);
+    final boolean writeStalled =
+        getLongProperty(zeebeDb, IS_WRITE_STOPPED) != 0
+            || getLongProperty(zeebeDb, ACTUAL_DELAYED_WRITE_RATE) != 0;
+    logStream.getFlowControl().onStateLoad(pendingCompactionBytes, writeStalled);
+  }
+
+  private static long getLongProperty(final ZeebeDb<?> zeebeDb, final String propertyName) {
+    try {
+      return zeebeDb.getProperty(propertyName).map(Long::parseLong).orElse(0L);
+    } catch (final NumberFormatException e) {
+      return 0L;
+    }
+  }
 }
@@ -155,6 +155,8 @@ public final class ErrorResponseWriter implements BufferWriter {
                   "Failed to write client request to partition '%d', because the request limit is exhausted.",
                   partitionId));
       case INVALID_ARGUMENT -> raiseInternalError("due to invalid entry.", partitionId);
+      case APPEND_FAILED ->
+          raiseInternalError("because the entries could not be appended.", partitionId);
     };
   }
 
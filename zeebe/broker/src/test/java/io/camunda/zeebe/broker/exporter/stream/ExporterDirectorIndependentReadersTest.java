@@ -0,0 +1,189 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.awaitility.Awaitility;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ExporterDirectorIndependentReadersTest {
+
+  private static final String EXPORTER_ID_1 = "exporter-1";
+  private static final String EXPORTER_ID_2 = "exporter-2";
+
+  @Rule public final ExporterRule rule = ExporterRule.activeExporter().withIndependentReaders();
+
+  private final List<ControlledTestExporter> exporters = new ArrayList<>();
+  private final List<ExporterDescriptor> exporterDescriptors = new ArrayList<>();
+
+  @Before
+  public void init() {
+    createExporter(EXPORTER_ID_1);
+    createExporter(EXPORTER_ID_2);
+  }
+
+  @Test
+  public void shouldExportToAllExporters() {
+    // given
+    exporters.forEach(exporter -> exporter.shouldAutoUpdatePosition(true));
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+
+    // then
+    for (final var exporter : exporters) {
+      Awaitility.await("exporter has exported all records")
+          .untilAsserted(
+              () ->
+                  assertThat(exporter.getExportedRecords())
+                      .extracting(Record::getPosition)
+                      .containsExactly(eventPosition1, eventPosition2));
+    }
+    Awaitility.await("director has the positions of all exporters")
+        .untilAsserted(
+            () ->
+                assertThat(rule.getDirector().getLowestPosition().join())
+                    .isEqualTo(eventPosition2));
+  }
+
+  @Test
+  public void shouldNotHoldBackOtherExportersWhenOneFails() {
+    // given
+    final var failing = new AtomicBoolean(true);
+    exporters.forEach(exporter -> exporter.shouldAutoUpdatePosition(true));
+    exporters
+        .get(0)
+        .onExport(
+            record -> {
+              if (failing.get()) {
+                throw new RuntimeException("Export failed (expected)");
+              }
+            });
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+
+    // then
+    Awaitility.await("healthy exporter has exported all records")
+        .untilAsserted(
+            () ->
+                assertThat(exporters.get(1).getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(eventPosition1, eventPosition2));
+    assertThat(exporters.get(0).getExportedRecords()).isEmpty();
+    Awaitility.await("failing exporter holds back the lowest position")
+        .untilAsserted(
+            () -> {
+              final var state = rule.getExportersState();
+              assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(eventPosition2);
+              assertThat(state.getPosition(EXPORTER_ID_1)).isLessThan(eventPosition1);
+              assertThat(rule.getDirector().getLowestPosition().join()).isLessThan(eventPosition1);
+            });
+
+    // when
+    failing.set(false);
+
+    // then
+    Awaitility.await("failing exporter has caught up")
+        .untilAsserted(
+            () -> {
+              rule.getClock().addTime(Duration.ofSeconds(1));
+              assertThat(exporters.get(0).getExportedRecords())
+                  .extracting(Record::getPosition)
+                  .containsExactly(eventPosition1, eventPosition2);
+            });
+  }
+
+  @Test
+  public void shouldPauseAndResumeAllExporters() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+    rule.getDirector().pauseExporting().join();
+
+    // when
+    final long eventPosition = writeEvent();
+
+    // then
+    Awaitility.await("no exporter exports while paused")
+        .during(Duration.ofMillis(500))
+        .until(() -> exporters.stream().allMatch(e -> e.getExportedRecords().isEmpty()));
+
+    // when
+    rule.getDirector().resumeExporting().join();
+
+    // then
+    for (final var exporter : exporters) {
+      Awaitility.await("exporter has exported the record after resuming")
+          .untilAsserted(
+              () ->
+                  assertThat(exporter.getExportedRecords())
+                      .extracting(Record::getPosition)
+                      .containsExactly(eventPosition));
+    }
+  }
+
+  @Test
+  public void shouldRemoveStateOfDisabledExporter() {
+    // given
+    exporters.forEach(exporter -> exporter.shouldAutoUpdatePosition(true));
+    rule.startExporterDirector(exporterDescriptors);
+    final long eventPosition = writeEvent();
+    Awaitility.await("exporters have updated their positions")
+        .untilAsserted(
+            () ->
+                assertThat(rule.getDirector().getLowestPosition().join()).isEqualTo(eventPosition));
+
+    // when
+    rule.getDirector().disableExporter(EXPORTER_ID_1).join();
+
+    // then
+    verify(exporters.get(0), timeout(5_000)).close();
+    Awaitility.await("state of disabled exporter is removed")
+        .untilAsserted(
+            () ->
+                assertThat(rule.getExportersState().getPosition(EXPORTER_ID_1))
+                    .isEqualTo(ExportersState.VALUE_NOT_FOUND));
+    assertThat(rule.getExportersState().getPosition(EXPORTER_ID_2)).isEqualTo(eventPosition);
+  }
+
+  private void createExporter(final String exporterId) {
+    final ControlledTestExporter exporter = spy(new ControlledTestExporter());
+
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor(exporterId, exporter.getClass(), Map.of()));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+
+    exporters.add(exporter);
+    exporterDescriptors.add(descriptor);
+  }
+
+  private long writeEvent() {
+    return rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+  }
+}
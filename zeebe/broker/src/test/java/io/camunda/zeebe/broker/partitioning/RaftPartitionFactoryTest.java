@@ -13,6 +13,8 @@ import io.atomix.cluster.MemberId;
 import io.atomix.primitive.partition.PartitionId;
 import io.atomix.primitive.partition.PartitionMetadata;
 import io.atomix.raft.partition.RaftPartition;
+import io.atomix.raft.storage.log.GroupCommitFlusher;
+import io.atomix.raft.storage.log.RaftLogFlusher.DirectFlusher;
 import io.camunda.zeebe.broker.partitioning.startup.RaftPartitionFactory;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -100,6 +102,32 @@ public final class RaftPartitionFactoryTest {
         .isEqualTo(chunkSize.toBytes());
   }
 
+  @Test
+  void shouldSetMaxInFlightSnapshotChunks() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setMaxInFlightSnapshotChunks(4);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getMaxInFlightSnapshotChunks()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldSetCompressSnapshotChunks() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setCompressSnapshotChunks(true);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().isCompressSnapshotChunks()).isTrue();
+  }
+
   @Test
   void shouldSetRaftConfigurationChangeTimeout() {
     // given
@@ -226,6 +254,40 @@ public final class RaftPartitionFactoryTest {
         .isEqualTo(value);
   }
 
+  @Test
+  void shouldEnableGroupCommit() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setGroupCommitEnabled(true);
+    brokerCfg.getExperimental().getRaft().setGroupCommitMaxDelay(Duration.ofMillis(5));
+    brokerCfg.getExperimental().getRaft().setGroupCommitMaxBatchSize(32);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    final var storageConfig = partition.getPartitionConfig().getStorageConfig();
+    assertThat(storageConfig.getGroupCommitMaxDelay()).isEqualTo(Duration.ofMillis(5));
+    assertThat(storageConfig.getGroupCommitMaxBatchSize()).isEqualTo(32);
+    assertThat(storageConfig.flusherFactory().createFlusher(null))
+        .isInstanceOf(GroupCommitFlusher.class);
+  }
+
+  @Test
+  void shouldNotEnableGroupCommitByDefault() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    final var storageConfig = partition.getPartitionConfig().getStorageConfig();
+    assertThat(storageConfig.getGroupCommitMaxDelay()).isNull();
+    assertThat(storageConfig.flusherFactory().createFlusher(null))
+        .isInstanceOf(DirectFlusher.class);
+  }
+
   private RaftPartition buildRaftPartition(final BrokerCfg brokerCfg) {
     return new RaftPartitionFactory(brokerCfg)
         .createRaftPartition(
@@ -182,6 +182,27 @@ final class ExperimentalCfgTest {
     assertThat(raftCfg.isPreallocateSegmentFiles()).isTrue();
   }
 
+  @Test
+  void shouldNotReadLogStreamAheadByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+
+    // then
+    assertThat(cfg.getExperimental().isLogStreamReadAhead()).isFalse();
+  }
+
+  @Test
+  void shouldSetLogStreamReadAheadFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.logStreamReadAhead", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+
+    // then
+    assertThat(cfg.getExperimental().isLogStreamReadAhead()).isTrue();
+  }
+
   @Test
   void shouldHaveDefaultVersionCheckRestriction() {
     // given
@@ -73,6 +73,39 @@ final class FeatureFlagsCfgTest {
     assertThat(featureFlagsCfg.isEnableActorMetrics()).isFalse();
   }
 
+  @Test
+  void shouldDisableActorProfilingByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableActorProfiling()).isFalse();
+  }
+
+  @Test
+  void shouldSetEnableActorProfilingFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableActorProfiling()).isTrue();
+  }
+
+  @Test
+  void shouldSetEnableActorProfilingFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.features.enableActorProfiling", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableActorProfiling()).isFalse();
+  }
+
   @Test
   void shouldDisableMessageTTLCheckerAsyncByDefault() {
     // when
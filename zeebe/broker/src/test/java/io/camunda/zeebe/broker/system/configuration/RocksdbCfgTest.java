@@ -285,4 +285,65 @@ public final class RocksdbCfgTest {
     // then
     assertThat(rocksdb.isDisableWal()).isTrue();
   }
+
+  @Test
+  public void shouldSetEnableDirectValueBuffersViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableDirectValueBuffers()).isTrue();
+  }
+
+  @Test
+  public void shouldSetEnableDirectValueBuffersViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.enableDirectValueBuffers", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableDirectValueBuffers()).isTrue();
+  }
+
+  @Test
+  public void shouldSetCachedColumnFamiliesViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getCachedColumnFamilies())
+        .containsExactlyInAnyOrder("ELEMENT_INSTANCE_KEY", "JOBS");
+    assertThat(rocksdb.getColumnFamilyCacheSize()).isEqualTo(DataSize.ofMegabytes(16));
+  }
+
+  @Test
+  public void shouldSetCachedColumnFamiliesViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.cachedColumnFamilies", "VARIABLES,JOBS");
+    environment.put("zeebe.broker.experimental.rocksdb.columnFamilyCacheSize", "8MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getCachedColumnFamilies()).containsExactlyInAnyOrder("VARIABLES", "JOBS");
+    assertThat(rocksdb.getColumnFamilyCacheSize()).isEqualTo(DataSize.ofMegabytes(8));
+  }
+
+  @Test
+  public void shouldNotCacheColumnFamiliesByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksDbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.getCachedColumnFamilies()).isEmpty();
+  }
 }
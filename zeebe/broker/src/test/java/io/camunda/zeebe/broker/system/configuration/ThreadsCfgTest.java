@@ -115,4 +115,100 @@ final class ThreadsCfgTest {
     // then
     assertThat(cpuThreadCount).isEqualTo(6);
   }
+
+  @Test
+  void shouldNotSplitCpuThreadsIntoNodesByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final int cpuThreadNodeCount = cfg.getCpuThreadNodeCount();
+
+    // then
+    assertThat(cpuThreadNodeCount).isOne();
+  }
+
+  @Test
+  void shouldSetCpuThreadNodeCountFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // when
+    final int cpuThreadNodeCount = cfg.getCpuThreadNodeCount();
+
+    // then
+    assertThat(cpuThreadNodeCount).isEqualTo(3);
+  }
+
+  @Test
+  void shouldDisableLifoSlotByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final boolean lifoSlotEnabled = cfg.isLifoSlotEnabled();
+
+    // then
+    assertThat(lifoSlotEnabled).isFalse();
+  }
+
+  @Test
+  void shouldEnableLifoSlotFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // when
+    final boolean lifoSlotEnabled = cfg.isLifoSlotEnabled();
+
+    // then
+    assertThat(lifoSlotEnabled).isTrue();
+  }
+
+  @Test
+  void shouldUsePlatformIoThreadsByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final boolean virtualIoThreadsEnabled = cfg.isVirtualIoThreadsEnabled();
+
+    // then
+    assertThat(virtualIoThreadsEnabled).isFalse();
+  }
+
+  @Test
+  void shouldEnableVirtualIoThreadsFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // when
+    final boolean virtualIoThreadsEnabled = cfg.isVirtualIoThreadsEnabled();
+
+    // then
+    assertThat(virtualIoThreadsEnabled).isTrue();
+  }
+
+  @Test
+  void shouldUseSingleLevelTimerWheelByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final boolean hierarchicalTimerWheelEnabled = cfg.isHierarchicalTimerWheelEnabled();
+
+    // then
+    assertThat(hierarchicalTimerWheelEnabled).isFalse();
+  }
+
+  @Test
+  void shouldEnableHierarchicalTimerWheelFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // when
+    final boolean hierarchicalTimerWheelEnabled = cfg.isHierarchicalTimerWheelEnabled();
+
+    // then
+    assertThat(hierarchicalTimerWheelEnabled).isTrue();
+  }
 }
@@ -36,6 +36,7 @@ import io.camunda.zeebe.util.health.HealthMonitor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
 import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
 import net.jqwik.api.Combinators;
@@ -466,6 +467,9 @@ public class RandomizedPartitionTransitionTest {
       return CompletableActorFuture.completed(null);
     }
 
+    @Override
+    public void setDbMetricsListener(final Consumer<ZeebeDb> listener) {}
+
     @Override
     public void close() throws Exception {
       throw new IllegalStateException("Not implemented");
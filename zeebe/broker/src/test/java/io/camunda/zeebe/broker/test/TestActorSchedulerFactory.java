@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.test;
 
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
+import io.camunda.zeebe.scheduler.ActorProfiler;
 import io.camunda.zeebe.scheduler.ActorScheduler;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
@@ -29,6 +30,10 @@ public final class TestActorSchedulerFactory {
             .setCpuBoundActorThreadCount(threads.getCpuThreadCount())
             .setIoBoundActorThreadCount(threads.getIoThreadCount())
             .setMeterRegistry(features.isEnableActorMetrics() ? new SimpleMeterRegistry() : null)
+            .setActorProfiler(
+                features.isEnableActorProfiling()
+                    ? new ActorProfiler(new SimpleMeterRegistry())
+                    : null)
             .setActorClock(clock)
             .build();
     scheduler.start();
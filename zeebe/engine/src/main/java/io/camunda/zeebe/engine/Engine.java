@@ -51,6 +51,10 @@ public class Engine implements RecordProcessor {
 
   private static final EnumSet<ValueType> SUPPORTED_VALUETYPES =
       EnumSet.range(ValueType.JOB, ValueType.SCALE);
+  // the job and BPMN processors mostly write follow-up events which copy the command's value; only
+  // used if lazy record decoding is enabled in the engine configuration
+  private static final EnumSet<ValueType> LAZILY_DECODED_VALUETYPES =
+      EnumSet.of(ValueType.JOB, ValueType.PROCESS_INSTANCE);
 
   private EventApplier eventApplier;
   private RecordProcessorMap recordProcessorMap;
@@ -102,6 +106,11 @@ public class Engine implements RecordProcessor {
     return SUPPORTED_VALUETYPES.contains(valueType);
   }
 
+  @Override
+  public boolean decodesLazily(final ValueType valueType) {
+    return config.isLazyRecordDecodingEnabled() && LAZILY_DECODED_VALUETYPES.contains(valueType);
+  }
+
   @Override
   public void replay(final TypedRecord event) {
     eventApplier.applyState(
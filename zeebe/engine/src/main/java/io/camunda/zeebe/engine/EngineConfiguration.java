@@ -23,10 +23,13 @@ public final class EngineConfiguration {
   public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_FORM_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_PROCESS_CACHE_CAPACITY = 1000;
+  public static final int DEFAULT_VARIABLE_SCOPE_CACHE_CAPACITY = 0;
   public static final Duration DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL = Duration.ofSeconds(1);
   public static final int DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
+  public static final boolean DEFAULT_JOBS_ACTIVATABLE_INDEX_ENABLED = false;
   public static final int DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE = 12 * 1024;
   public static final boolean DEFAULT_ENABLE_AUTHORIZATION_CHECKS = false;
+  public static final boolean DEFAULT_LAZY_RECORD_DECODING_ENABLED = false;
 
   private int messagesTtlCheckerBatchLimit = DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT;
   private Duration messagesTtlCheckerInterval = DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL;
@@ -34,14 +37,18 @@ public final class EngineConfiguration {
   private int formCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int resourceCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
+  private int variableScopeCacheCapacity = DEFAULT_VARIABLE_SCOPE_CACHE_CAPACITY;
 
   private Duration jobsTimeoutCheckerPollingInterval = DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int jobsTimeoutCheckerBatchLimit = DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
+  private boolean jobsActivatableIndexEnabled = DEFAULT_JOBS_ACTIVATABLE_INDEX_ENABLED;
 
   private int validatorsResultsOutputMaxSize = DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE;
 
   private boolean enableAuthorization = DEFAULT_ENABLE_AUTHORIZATION_CHECKS;
 
+  private boolean lazyRecordDecodingEnabled = DEFAULT_LAZY_RECORD_DECODING_ENABLED;
+
   public int getMessagesTtlCheckerBatchLimit() {
     return messagesTtlCheckerBatchLimit;
   }
@@ -98,6 +105,15 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public int getVariableScopeCacheCapacity() {
+    return variableScopeCacheCapacity;
+  }
+
+  public EngineConfiguration setVariableScopeCacheCapacity(final int variableScopeCacheCapacity) {
+    this.variableScopeCacheCapacity = variableScopeCacheCapacity;
+    return this;
+  }
+
   public Duration getJobsTimeoutCheckerPollingInterval() {
     return jobsTimeoutCheckerPollingInterval;
   }
@@ -118,6 +134,16 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public boolean isJobsActivatableIndexEnabled() {
+    return jobsActivatableIndexEnabled;
+  }
+
+  public EngineConfiguration setJobsActivatableIndexEnabled(
+      final boolean jobsActivatableIndexEnabled) {
+    this.jobsActivatableIndexEnabled = jobsActivatableIndexEnabled;
+    return this;
+  }
+
   public int getValidatorsResultsOutputMaxSize() {
     return validatorsResultsOutputMaxSize;
   }
@@ -135,4 +161,13 @@ public final class EngineConfiguration {
     this.enableAuthorization = enableAuthorization;
     return this;
   }
+
+  public boolean isLazyRecordDecodingEnabled() {
+    return lazyRecordDecodingEnabled;
+  }
+
+  public EngineConfiguration setLazyRecordDecodingEnabled(final boolean lazyRecordDecodingEnabled) {
+    this.lazyRecordDecodingEnabled = lazyRecordDecodingEnabled;
+    return this;
+  }
 }
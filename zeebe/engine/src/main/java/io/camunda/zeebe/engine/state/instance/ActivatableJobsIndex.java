@@ -0,0 +1,197 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.LongPredicate;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.LongArrayQueue;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * An in-memory index of the activatable jobs, by job type, in front of the activatable jobs column
+ * family. It lists the keys of the activatable jobs of a type in ascending order, like the column
+ * family does, but without iterating over RocksDB, which gets expensive if a type has many waiting
+ * jobs, or many jobs of a type were activated recently and left tombstones behind.
+ *
+ * <p>Most jobs are made activatable when they are created, i.e. in ascending order of their keys.
+ * Their keys are appended to a queue, and as jobs are mostly activated in the same order, they are
+ * removed from the head of this queue. Keys of jobs which become activatable again, e.g. after a
+ * failure or a time out, are kept in a sorted set instead. Removing a key from the middle of the
+ * queue only marks it as removed; such keys are skipped when iterating, and dropped once they reach
+ * the head, or when they make up most of the queue.
+ *
+ * <p>The index is derived from the column family, and must be {@link #invalidate() invalidated}
+ * whenever changes to the column family are discarded. Until it is {@link #rebuild() rebuilt},
+ * changes are not tracked. Not thread safe.
+ */
+final class ActivatableJobsIndex {
+  private static final long NO_KEY = -1;
+  private static final int MIN_COMPACTION_SIZE = 1024;
+
+  private final Map<DirectBuffer, ActivatableJobs> jobsByType = new HashMap<>();
+  private final Map<String, String> tenantIds = new HashMap<>();
+  private final UnsafeBuffer typeView = new UnsafeBuffer();
+  private boolean built;
+
+  boolean isBuilt() {
+    return built;
+  }
+
+  /** Clears the index and starts tracking changes again; the caller has to add all jobs anew. */
+  void rebuild() {
+    jobsByType.clear();
+    tenantIds.clear();
+    built = true;
+  }
+
+  /** Clears the index and stops tracking changes, until it is {@link #rebuild() rebuilt}. */
+  void invalidate() {
+    jobsByType.clear();
+    tenantIds.clear();
+    built = false;
+  }
+
+  void add(final DirectBuffer type, final long key, final String tenantId) {
+    if (!built) {
+      return;
+    }
+
+    typeView.wrap(type);
+    var jobs = jobsByType.get(typeView);
+    if (jobs == null) {
+      final var typeCopy = new UnsafeBuffer(new byte[type.capacity()]);
+      typeCopy.putBytes(0, type, 0, type.capacity());
+      jobs = new ActivatableJobs();
+      jobsByType.put(typeCopy, jobs);
+    }
+
+    jobs.add(key, tenantIds.computeIfAbsent(tenantId, id -> id));
+  }
+
+  void remove(final DirectBuffer type, final long key) {
+    if (!built) {
+      return;
+    }
+
+    typeView.wrap(type);
+    final var jobs = jobsByType.get(typeView);
+    if (jobs != null && jobs.remove(key) && jobs.isEmpty()) {
+      jobsByType.remove(typeView);
+    }
+  }
+
+  /**
+   * Visits the keys of the activatable jobs of the given type and tenants, in ascending order,
+   * until the visitor returns false. The visitor must not modify the index.
+   */
+  void forEach(final DirectBuffer type, final List<String> tenantIds, final LongPredicate visitor) {
+    typeView.wrap(type);
+    final var jobs = jobsByType.get(typeView);
+    if (jobs != null) {
+      jobs.forEach(tenantIds, visitor);
+    }
+  }
+
+  private static final class ActivatableJobs {
+    // the keys of the activatable jobs, with their tenant
+    private final Long2ObjectHashMap<String> tenantByKey = new Long2ObjectHashMap<>();
+    // keys in ascending order, which may contain keys which were removed in the meantime
+    private final LongArrayQueue appendedKeys = new LongArrayQueue(NO_KEY);
+    // keys which were added out of order
+    private final TreeSet<Long> insertedKeys = new TreeSet<>();
+    private long lastAppendedKey = NO_KEY;
+
+    private void add(final long key, final String tenantId) {
+      if (tenantByKey.put(key, tenantId) != null) {
+        return;
+      }
+
+      if (key > lastAppendedKey) {
+        appendedKeys.addLong(key);
+        lastAppendedKey = key;
+      } else {
+        insertedKeys.add(key);
+      }
+    }
+
+    private boolean remove(final long key) {
+      if (tenantByKey.remove(key) == null) {
+        return false;
+      }
+
+      insertedKeys.remove(key);
+      while (!appendedKeys.isEmpty() && !tenantByKey.containsKey(appendedKeys.peekLong())) {
+        appendedKeys.pollLong();
+      }
+
+      if (appendedKeys.size() > MIN_COMPACTION_SIZE
+          && appendedKeys.size() > 2 * tenantByKey.size()) {
+        compact();
+      }
+
+      return true;
+    }
+
+    private boolean isEmpty() {
+      return tenantByKey.isEmpty();
+    }
+
+    private void compact() {
+      final int size = appendedKeys.size();
+      for (int i = 0; i < size; i++) {
+        final long key = appendedKeys.pollLong();
+        if (tenantByKey.containsKey(key)) {
+          appendedKeys.addLong(key);
+        }
+      }
+    }
+
+    private void forEach(final List<String> tenantIds, final LongPredicate visitor) {
+      final var appended = appendedKeys.iterator();
+      final Iterator<Long> inserted = insertedKeys.iterator();
+      long nextAppended = nextAppendedKey(appended);
+      long nextInserted = inserted.hasNext() ? inserted.next() : NO_KEY;
+
+      while (nextAppended != NO_KEY || nextInserted != NO_KEY) {
+        final long key;
+        if (nextInserted == NO_KEY || (nextAppended != NO_KEY && nextAppended < nextInserted)) {
+          key = nextAppended;
+          nextAppended = nextAppendedKey(appended);
+        } else {
+          key = nextInserted;
+          nextInserted = inserted.hasNext() ? inserted.next() : NO_KEY;
+          // a key which was removed from the queue and then inserted again is in both
+          if (nextAppended == key) {
+            nextAppended = nextAppendedKey(appended);
+          }
+        }
+
+        if (tenantIds.contains(tenantByKey.get(key)) && !visitor.test(key)) {
+          return;
+        }
+      }
+    }
+
+    private long nextAppendedKey(final LongArrayQueue.LongIterator appended) {
+      while (appended.hasNext()) {
+        final long key = appended.nextValue();
+        if (tenantByKey.containsKey(key)) {
+          return key;
+        }
+      }
+
+      return NO_KEY;
+    }
+  }
+}
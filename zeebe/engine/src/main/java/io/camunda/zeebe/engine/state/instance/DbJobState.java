@@ -17,6 +17,7 @@ import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.Loggers;
 import io.camunda.zeebe.engine.processing.identity.AuthorizedTenants;
 import io.camunda.zeebe.engine.state.immutable.JobState;
@@ -72,8 +73,26 @@ public final class DbJobState implements JobState, MutableJobState {
       backoffColumnFamily;
   private long nextBackOffDueDate;
 
+  // type => activatable job keys, in front of the activatable column family; null if disabled
+  private final ActivatableJobsIndex activatableJobsIndex;
+
+  /** Creates the job state without the in-memory index of activatable jobs. */
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, false);
+  }
+
+  public DbJobState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final EngineConfiguration config) {
+    this(zeebeDb, transactionContext, config.isJobsActivatableIndexEnabled());
+  }
+
+  private DbJobState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final boolean activatableJobsIndexEnabled) {
 
     jobKey = new DbLong();
     fkJob = new DbForeignKey<>(jobKey, ZbColumnFamilies.JOBS);
@@ -107,6 +126,14 @@ public final class DbJobState implements JobState, MutableJobState {
     backoffColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.JOB_BACKOFF, transactionContext, backoffJobKey, DbNil.INSTANCE);
+
+    if (activatableJobsIndexEnabled) {
+      activatableJobsIndex = new ActivatableJobsIndex();
+      // the index reflects uncommitted changes, so it is out of date once these are discarded
+      transactionContext.addRollbackListener(activatableJobsIndex::invalidate);
+    } else {
+      activatableJobsIndex = null;
+    }
   }
 
   @Override
@@ -406,6 +433,15 @@ public final class DbJobState implements JobState, MutableJobState {
       final DirectBuffer type,
       final List<String> tenantIds,
       final BiFunction<Long, JobRecord, Boolean> callback) {
+    if (activatableJobsIndex != null) {
+      if (!activatableJobsIndex.isBuilt()) {
+        buildActivatableJobsIndex();
+      }
+
+      activatableJobsIndex.forEach(type, tenantIds, key -> visitJob(key, callback::apply));
+      return;
+    }
+
     jobTypeKey.wrapBuffer(type);
 
     activatableColumnFamily.whileEqualPrefix(
@@ -508,6 +544,10 @@ public final class DbJobState implements JobState, MutableJobState {
     // Need to upsert here because jobs can be marked as failed (and thus made activatable)
     // without activating them first
     activatableColumnFamily.upsert(tenantAwareTypeJobKey, DbNil.INSTANCE);
+
+    if (activatableJobsIndex != null) {
+      activatableJobsIndex.add(type, key, tenantId);
+    }
   }
 
   private void makeJobNotActivatable(final DirectBuffer type, final String tenantId) {
@@ -517,6 +557,25 @@ public final class DbJobState implements JobState, MutableJobState {
     jobTypeKey.wrapBuffer(type);
     tenantIdKey.wrapString(tenantId);
     activatableColumnFamily.deleteIfExists(tenantAwareTypeJobKey);
+
+    if (activatableJobsIndex != null) {
+      activatableJobsIndex.remove(type, jobKey.getValue());
+    }
+  }
+
+  private void buildActivatableJobsIndex() {
+    activatableJobsIndex.rebuild();
+    try {
+      activatableColumnFamily.forEach(
+          (key, nil) ->
+              activatableJobsIndex.add(
+                  key.wrappedKey().first().getBuffer(),
+                  key.wrappedKey().second().inner().getValue(),
+                  key.tenantKey().toString()));
+    } catch (final RuntimeException e) {
+      activatableJobsIndex.invalidate();
+      throw e;
+    }
   }
 
   private void addJobDeadline(final long job, final long deadline) {
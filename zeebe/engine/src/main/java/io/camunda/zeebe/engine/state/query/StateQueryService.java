@@ -86,7 +86,11 @@ public final class StateQueryService implements QueryService {
               },
               new TransientPendingSubscriptionState(),
               new TransientPendingSubscriptionState(),
-              new EngineConfiguration(),
+              // in-memory indexes and caches of the state would not see the changes of the
+              // stream processor, which uses its own state
+              new EngineConfiguration()
+                  .setJobsActivatableIndexEnabled(false)
+                  .setVariableScopeCacheCapacity(0),
               clock);
     }
   }
@@ -7,12 +7,15 @@
  */
 package io.camunda.zeebe.engine.state.variable;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
@@ -20,7 +23,9 @@ import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
@@ -56,8 +61,18 @@ public class DbVariableState implements MutableVariableState {
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
 
+  // (scope key) => (parent scope key, variables), or null if the cache is disabled
+  private final Cache<Long, VariableScope> scopeCache;
+
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, new EngineConfiguration());
+  }
+
+  public DbVariableState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final EngineConfiguration config) {
     childKey = new DbLong();
     childParentColumnFamily =
         zeebeDb.createColumnFamily(
@@ -75,6 +90,15 @@ public class DbVariableState implements MutableVariableState {
             transactionContext,
             scopeKeyVariableNameKey,
             new VariableInstance());
+
+    if (config.getVariableScopeCacheCapacity() > 0) {
+      scopeCache =
+          CacheBuilder.newBuilder().maximumSize(config.getVariableScopeCacheCapacity()).build();
+      // the cache may contain changes of the transaction which are discarded
+      transactionContext.addRollbackListener(scopeCache::invalidateAll);
+    } else {
+      scopeCache = null;
+    }
   }
 
   @Override
@@ -109,6 +133,7 @@ public class DbVariableState implements MutableVariableState {
     variableName.wrapBuffer(variableNameView);
 
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+    invalidateScope(scopeKey);
   }
 
   @Override
@@ -117,6 +142,7 @@ public class DbVariableState implements MutableVariableState {
     this.parentKey.set(parentKey);
 
     childParentColumnFamily.insert(this.childKey, this.parentKey);
+    invalidateScope(childKey);
   }
 
   @Override
@@ -128,6 +154,7 @@ public class DbVariableState implements MutableVariableState {
     childKey.wrapLong(scopeKey);
     // TODO: Could be deleteExisting except for tests
     childParentColumnFamily.deleteIfExists(childKey);
+    invalidateScope(scopeKey);
   }
 
   @Override
@@ -137,6 +164,7 @@ public class DbVariableState implements MutableVariableState {
         dbString -> true,
         (dbString, variable1) -> variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey),
         () -> false);
+    invalidateScope(scopeKey);
   }
 
   @Override
@@ -177,6 +205,23 @@ public class DbVariableState implements MutableVariableState {
   public DirectBuffer getVariable(
       final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
 
+    if (scopeCache != null) {
+      variableNameView.wrap(name, nameOffset, nameLength);
+      long currentScopeKey = scopeKey;
+      do {
+        final VariableScope scope = getScope(currentScopeKey);
+        final DirectBuffer value = scope.variables.get(variableNameView);
+
+        if (value != null) {
+          return value;
+        }
+
+        currentScopeKey = scope.parentKey;
+      } while (currentScopeKey >= 0);
+
+      return null;
+    }
+
     long currentScopeKey = scopeKey;
     do {
       final VariableInstance variable =
@@ -200,6 +245,28 @@ public class DbVariableState implements MutableVariableState {
 
     writer.reserveMapHeader();
 
+    if (scopeCache != null) {
+      long currentScopeKey = scopeKey;
+      do {
+        final VariableScope scope = getScope(currentScopeKey);
+        for (final var variable : scope.variables.entrySet()) {
+          // the names of cached scopes don't change, so they can be kept in the hash set as they
+          // are
+          if (collectedVariables.add(variable.getKey())) {
+            writer.writeString(variable.getKey());
+            writer.writeRaw(variable.getValue());
+          }
+        }
+
+        currentScopeKey = scope.parentKey;
+      } while (currentScopeKey >= 0);
+
+      writer.writeReservedMapHeader(0, collectedVariables.size());
+
+      resultView.wrap(documentResultBuffer, 0, writer.getOffset());
+      return resultView;
+    }
+
     visitVariables(
         scopeKey,
         name -> !collectedVariables.contains(name.getBuffer()),
@@ -232,6 +299,26 @@ public class DbVariableState implements MutableVariableState {
 
     writer.reserveMapHeader();
 
+    if (scopeCache != null) {
+      long currentScopeKey = scopeKey;
+      while (!variablesToCollect.isEmpty() && currentScopeKey >= 0) {
+        final VariableScope scope = getScope(currentScopeKey);
+        for (final var variable : scope.variables.entrySet()) {
+          if (variablesToCollect.remove(variable.getKey())) {
+            writer.writeString(variable.getKey());
+            writer.writeRaw(variable.getValue());
+          }
+        }
+
+        currentScopeKey = scope.parentKey;
+      }
+
+      writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
+
+      resultView.wrap(documentResultBuffer, 0, writer.getOffset());
+      return resultView;
+    }
+
     visitVariables(
         scopeKey,
         name -> variablesToCollect.contains(name.getBuffer()),
@@ -316,6 +403,36 @@ public class DbVariableState implements MutableVariableState {
     return variablesColumnFamily.get(scopeKeyVariableNameKey);
   }
 
+  /**
+   * Returns the variables and the parent of the given scope from the cache, or reads them with a
+   * single iteration over the scope's variables if the scope is not cached yet.
+   */
+  private VariableScope getScope(final long scopeKey) {
+    VariableScope scope = scopeCache.getIfPresent(scopeKey);
+    if (scope == null) {
+      final Map<DirectBuffer, DirectBuffer> variables = new LinkedHashMap<>();
+      visitVariablesLocal(
+          scopeKey,
+          name -> true,
+          (name, variable) ->
+              variables.put(
+                  BufferUtil.cloneBuffer(name.getBuffer()),
+                  BufferUtil.cloneBuffer(variable.getValue())),
+          () -> false);
+
+      scope = new VariableScope(getParentScopeKey(scopeKey), variables);
+      scopeCache.put(scopeKey, scope);
+    }
+
+    return scope;
+  }
+
+  private void invalidateScope(final long scopeKey) {
+    if (scopeCache != null) {
+      scopeCache.invalidate(scopeKey);
+    }
+  }
+
   /**
    * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
    * the scope hierarchy.
@@ -365,4 +482,7 @@ public class DbVariableState implements MutableVariableState {
         });
     return false;
   }
+
+  /** The variables of a scope, in the order of their names, and the key of its parent scope. */
+  private record VariableScope(long parentKey, Map<DirectBuffer, DirectBuffer> variables) {}
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class ActivatableJobsIndexTest {
+  private static final DirectBuffer TYPE = wrapString("type");
+  private static final String TENANT = "tenant";
+
+  private final ActivatableJobsIndex index = new ActivatableJobsIndex();
+
+  @BeforeEach
+  void setUp() {
+    index.rebuild();
+  }
+
+  @Test
+  void shouldListKeysInAscendingOrder() {
+    // given
+    index.add(TYPE, 1, TENANT);
+    index.add(TYPE, 5, TENANT);
+    index.add(TYPE, 3, TENANT);
+    index.add(wrapString("other"), 2, TENANT);
+
+    // when
+    final var keys = keys(TYPE, TENANT);
+
+    // then
+    assertThat(keys).containsExactly(1L, 3L, 5L);
+  }
+
+  @Test
+  void shouldListKeyOnceIfAddedAgainAfterRemoval() {
+    // given
+    index.add(TYPE, 1, TENANT);
+    index.add(TYPE, 2, TENANT);
+    index.add(TYPE, 3, TENANT);
+
+    // when
+    index.remove(TYPE, 2);
+    index.add(TYPE, 2, TENANT);
+    index.add(TYPE, 3, TENANT);
+
+    // then
+    assertThat(keys(TYPE, TENANT)).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  void shouldNotTrackChangesUntilRebuilt() {
+    // given
+    index.add(TYPE, 1, TENANT);
+
+    // when
+    index.invalidate();
+    index.add(TYPE, 2, TENANT);
+
+    // then
+    assertThat(index.isBuilt()).isFalse();
+    assertThat(keys(TYPE, TENANT)).isEmpty();
+  }
+
+  @Test
+  void shouldListKeysWhileJobsAreAddedAndRemoved() {
+    // given
+    final var random = new Random(42);
+    final var expected = new TreeMap<Long, String>();
+    final var tenants = List.of("a", "b", "c");
+    long nextKey = 0;
+
+    // when - mostly new jobs are added and the oldest jobs are activated, but some jobs are made
+    // activatable again or removed out of order
+    for (int step = 0; step < 100_000; step++) {
+      final int operation = random.nextInt(10);
+      if (operation < 5) {
+        final String tenant = tenants.get(random.nextInt(tenants.size()));
+        expected.put(nextKey, tenant);
+        index.add(TYPE, nextKey++, tenant);
+      } else if (operation < 8 && !expected.isEmpty()) {
+        index.remove(TYPE, expected.pollFirstEntry().getKey());
+      } else if (operation == 8 && nextKey > 0) {
+        final long key = random.nextLong(nextKey);
+        final String tenant = tenants.get((int) (key % tenants.size()));
+        expected.putIfAbsent(key, tenant);
+        index.add(TYPE, key, expected.get(key));
+      } else if (nextKey > 0) {
+        final long key = random.nextLong(nextKey);
+        expected.remove(key);
+        index.remove(TYPE, key);
+      }
+
+      // then
+      if (step % 1_000 == 0) {
+        assertThat(keys(TYPE, "a", "b", "c")).containsExactlyElementsOf(expected.keySet());
+        assertThat(keys(TYPE, "b"))
+            .containsExactlyElementsOf(
+                expected.entrySet().stream()
+                    .filter(entry -> entry.getValue().equals("b"))
+                    .map(Map.Entry::getKey)
+                    .toList());
+      }
+    }
+  }
+
+  private List<Long> keys(final DirectBuffer type, final String... tenantIds) {
+    final List<Long> keys = new ArrayList<>();
+    index.forEach(type, List.of(tenantIds), keys::add);
+    return keys;
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the activation of jobs from a large backlog of activatable jobs of a single type, with
+ * and without the in-memory index of activatable jobs. Each operation activates a batch of jobs,
+ * completes the batch which was activated by the previous operation, and creates as many new jobs,
+ * such that the backlog stays the same size, like it does when workers keep up with the load.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@State(Scope.Benchmark)
+public class JobActivationPerformanceTest {
+  private static final int BACKLOG_SIZE = 1_000_000;
+  private static final int BATCH_SIZE = 32;
+  private static final List<String> TENANT_IDS = List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+  @Param({"false", "true"})
+  private boolean activatableIndexEnabled;
+
+  private final JobRecord job =
+      new JobRecord()
+          .setType("task")
+          .setRetries(3)
+          .setDeadline(Long.MAX_VALUE)
+          .setTenantId(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+  private final long[] activatedKeys = new long[BATCH_SIZE];
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext context;
+  private DbJobState jobState;
+  private int activatedCount;
+  private long nextKey;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("job-activation-benchmark");
+    final var factory =
+        new ZeebeRocksDbFactory<ZbColumnFamilies>(
+            new RocksDbConfiguration(),
+            new ConsistencyChecksSettings(false, false),
+            new AccessMetricsConfiguration(Kind.NONE, 1),
+            SimpleMeterRegistry::new);
+    zeebeDb = factory.createDb(directory.toFile());
+    context = zeebeDb.createContext();
+    jobState =
+        new DbJobState(
+            zeebeDb,
+            context,
+            new EngineConfiguration().setJobsActivatableIndexEnabled(activatableIndexEnabled));
+
+    while (nextKey < BACKLOG_SIZE) {
+      context.runInTransaction(
+          () -> {
+            for (int i = 0; i < 10_000; i++) {
+              jobState.create(nextKey++, job);
+            }
+          });
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public int measureJobActivation() {
+    context.runInTransaction(this::activateBatch);
+    return activatedCount;
+  }
+
+  private void activateBatch() {
+    for (int i = 0; i < activatedCount; i++) {
+      jobState.complete(activatedKeys[i], job);
+      jobState.create(nextKey++, job);
+    }
+
+    activatedCount = 0;
+    jobState.forEachActivatableJobs(
+        job.getTypeBuffer(),
+        TENANT_IDS,
+        (key, record) -> {
+          activatedKeys[activatedCount++] = key;
+          return activatedCount < BATCH_SIZE;
+        });
+
+    for (int i = 0; i < activatedCount; i++) {
+      jobState.activate(activatedKeys[i], job);
+    }
+  }
+
+  @JMHTest("measureJobActivation")
+  void shouldActivateJobsFasterWithIndex(final JMHTestCase testCase) {
+    // given
+    final var scanResult =
+        testCase.withOptions(options -> options.param("activatableIndexEnabled", "false")).run();
+
+    // when
+    final var indexResult =
+        JMHTestCase.of(
+                JobActivationPerformanceTest.class,
+                "measureJobActivation",
+                options -> options.param("activatableIndexEnabled", "true"))
+            .run();
+
+    // then
+    indexResult.isAtLeast(scanResult, 0.2);
+  }
+}
@@ -10,7 +10,12 @@ package io.camunda.zeebe.engine.state.instance;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.immutable.JobState.DeadlineIndex;
 import io.camunda.zeebe.engine.state.immutable.JobState.State;
@@ -656,6 +661,144 @@ public final class JobStateTest {
     assertThat(jobKeys).isEmpty();
   }
 
+  @Test
+  public void shouldListJobsWhichBecameActivatableAgainInOrder() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    final JobRecord jobRecord = newJobRecord().setType(type);
+    jobState.create(1L, jobRecord);
+    jobState.create(2L, jobRecord);
+    jobState.create(3L, jobRecord);
+    assertThat(getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER))
+        .containsExactly(1L, 2L, 3L);
+
+    // when
+    jobState.activate(1L, jobRecord);
+    jobState.activate(2L, jobRecord);
+    jobState.create(4L, jobRecord);
+    jobState.yield(2L, jobRecord);
+    jobState.fail(1L, jobRecord.setRetryBackoff(0));
+
+    // then
+    assertThat(getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER))
+        .containsExactly(1L, 2L, 3L, 4L);
+  }
+
+  @Test
+  public void shouldListActivatableJobsOfGivenTenantsOnly() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(1L, newJobRecord("tenant-a"));
+    jobState.create(2L, newJobRecord("tenant-b"));
+    jobState.create(3L, newJobRecord("tenant-a"));
+
+    // when
+    final List<Long> tenantAKeys = getActivatableKeys(type, "tenant-a");
+    final List<Long> allKeys = getActivatableKeys(type, "tenant-a", "tenant-b");
+
+    // then
+    assertThat(tenantAKeys).containsExactly(1L, 3L);
+    assertThat(allKeys).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  public void shouldStopListingActivatableJobsWhenVisitorReturnsFalse() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(1L, newJobRecord());
+    jobState.create(2L, newJobRecord());
+    jobState.create(3L, newJobRecord());
+    final List<Long> visitedKeys = new ArrayList<>();
+
+    // when
+    jobState.forEachActivatableJobs(
+        type,
+        List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+        (key, record) -> visitedKeys.add(key) && visitedKeys.size() < 2);
+
+    // then
+    assertThat(visitedKeys).containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldNotListActivatableJobsOfRolledBackTransaction() throws Exception {
+    try (final var db = stateRule.createNewDb()) {
+      // given
+      final var transactionContext = db.createContext();
+      final var state = new DbJobState(db, transactionContext);
+      final DirectBuffer type = wrapString("test");
+      final List<Long> keysInTransaction = new ArrayList<>();
+      state.create(1L, newJobRecord());
+
+      // when
+      assertThatThrownBy(
+              () ->
+                  transactionContext.runInTransaction(
+                      () -> {
+                        state.create(2L, newJobRecord());
+                        state.activate(1L, newJobRecord());
+                        state.forEachActivatableJobs(
+                            type,
+                            List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+                            (key, record) -> keysInTransaction.add(key));
+                        throw new IllegalStateException("expected");
+                      }))
+          .hasMessage("expected");
+
+      // then
+      assertThat(keysInTransaction).containsExactly(2L);
+      final List<Long> activatableKeys = new ArrayList<>();
+      state.forEachActivatableJobs(
+          type,
+          List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+          (key, record) -> activatableKeys.add(key));
+      assertThat(activatableKeys).containsExactly(1L);
+    }
+  }
+
+  @Test
+  public void shouldListActivatableJobsWithIndex() throws Exception {
+    try (final var db = stateRule.createNewDb()) {
+      // given
+      final var state =
+          new DbJobState(
+              db,
+              db.createContext(),
+              new EngineConfiguration().setJobsActivatableIndexEnabled(true));
+      final DirectBuffer type = wrapString("test");
+      final JobRecord jobRecord = newJobRecord().setType(type);
+      state.create(1L, jobRecord);
+      state.create(2L, jobRecord);
+      state.activate(1L, jobRecord);
+      state.create(3L, jobRecord);
+      state.fail(1L, jobRecord.setRetryBackoff(0));
+
+      // when
+      final List<Long> activatableKeys = new ArrayList<>();
+      state.forEachActivatableJobs(
+          type,
+          List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+          (key, record) -> activatableKeys.add(key));
+
+      // then
+      assertThat(activatableKeys).containsExactly(1L, 2L, 3L);
+    }
+  }
+
+  @Test
+  public void shouldNotCreateIndexWithoutConfiguration() throws Exception {
+    try (final var db = stateRule.createNewDb()) {
+      // given
+      final var transactionContext = spy(db.createContext());
+
+      // when
+      new DbJobState(db, transactionContext);
+
+      // then
+      verify(transactionContext, never()).addRollbackListener(any());
+    }
+  }
+
   @Test
   public void shouldReturnNullIfJobDoesNotExist() {
     // given
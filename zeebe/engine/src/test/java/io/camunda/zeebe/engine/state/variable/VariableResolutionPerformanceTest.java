@@ -0,0 +1,170 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the resolution of variables in a process which is nested 10 levels deep, e.g. through
+ * call activities and sub-processes, with and without the cache of variable scopes. Each operation
+ * updates a variable of the innermost scope, like a completed job does, and then resolves the
+ * variables of that scope as a document and some of them by name, like a job activation and the
+ * evaluation of a few expressions do.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@State(Scope.Benchmark)
+public class VariableResolutionPerformanceTest {
+  private static final int SCOPE_DEPTH = 10;
+  private static final int VARIABLES_PER_SCOPE = 20;
+  private static final long LEAF_SCOPE_KEY = SCOPE_DEPTH;
+  private static final long PROCESS_DEFINITION_KEY = 1_000L;
+  private static final long UPDATED_VARIABLE_KEY = 2_000L;
+  private static final DirectBuffer UPDATED_VARIABLE = BufferUtil.wrapString("counter");
+  private static final DirectBuffer[] RESOLVED_VARIABLES = {
+    BufferUtil.wrapString("var-10-0"),
+    BufferUtil.wrapString("var-7-3"),
+    BufferUtil.wrapString("var-4-9"),
+    BufferUtil.wrapString("var-1-19"),
+  };
+
+  @Param({"0", "100"})
+  private int variableScopeCacheCapacity;
+
+  private final ExpandableArrayBuffer valueBuffer = new ExpandableArrayBuffer();
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext context;
+  private DbVariableState variableState;
+  private long nextKey = 100L;
+  private long counter;
+  private int resolvedLength;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("variable-resolution-benchmark");
+    final var factory =
+        new ZeebeRocksDbFactory<ZbColumnFamilies>(
+            new RocksDbConfiguration(),
+            new ConsistencyChecksSettings(false, false),
+            new AccessMetricsConfiguration(Kind.NONE, 1),
+            SimpleMeterRegistry::new);
+    zeebeDb = factory.createDb(directory.toFile());
+    context = zeebeDb.createContext();
+    variableState =
+        new DbVariableState(
+            zeebeDb,
+            context,
+            new EngineConfiguration().setVariableScopeCacheCapacity(variableScopeCacheCapacity));
+
+    context.runInTransaction(
+        () -> {
+          for (long scopeKey = 1; scopeKey <= SCOPE_DEPTH; scopeKey++) {
+            variableState.createScope(scopeKey, scopeKey == 1 ? -1 : scopeKey - 1);
+            for (int i = 0; i < VARIABLES_PER_SCOPE; i++) {
+              variableState.setVariableLocal(
+                  nextKey++,
+                  scopeKey,
+                  PROCESS_DEFINITION_KEY,
+                  BufferUtil.wrapString("var-" + scopeKey + "-" + i),
+                  value(scopeKey * VARIABLES_PER_SCOPE + i));
+            }
+          }
+        });
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public int measureVariableResolution() {
+    context.runInTransaction(this::resolveVariables);
+    return resolvedLength;
+  }
+
+  private void resolveVariables() {
+    variableState.setVariableLocal(
+        UPDATED_VARIABLE_KEY,
+        LEAF_SCOPE_KEY,
+        PROCESS_DEFINITION_KEY,
+        UPDATED_VARIABLE,
+        value(counter++));
+
+    resolvedLength = variableState.getVariablesAsDocument(LEAF_SCOPE_KEY).capacity();
+    for (final var name : RESOLVED_VARIABLES) {
+      resolvedLength += variableState.getVariable(LEAF_SCOPE_KEY, name).capacity();
+    }
+  }
+
+  private DirectBuffer value(final long value) {
+    writer.wrap(valueBuffer, 0);
+    writer.writeInteger(value);
+    return new UnsafeBuffer(valueBuffer, 0, writer.getOffset());
+  }
+
+  @JMHTest("measureVariableResolution")
+  void shouldResolveVariablesFasterWithScopeCache(final JMHTestCase testCase) {
+    // given
+    final var uncachedResult =
+        testCase.withOptions(options -> options.param("variableScopeCacheCapacity", "0")).run();
+
+    // when
+    final var cachedResult =
+        JMHTestCase.of(
+                VariableResolutionPerformanceTest.class,
+                "measureVariableResolution",
+                options -> options.param("variableScopeCacheCapacity", "100"))
+            .run();
+
+    // then
+    cachedResult.isAtLeast(uncachedResult, 0.2);
+  }
+}
@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.immutable.VariableState;
 import io.camunda.zeebe.engine.state.immutable.VariableState.Variable;
 import io.camunda.zeebe.engine.state.instance.ElementInstance;
@@ -38,7 +39,12 @@ import org.junit.Test;
 
 public final class VariableStateTest {
 
-  @ClassRule public static final ProcessingStateRule ZEEBE_STATE_RULE = new ProcessingStateRule();
+  // the scope cache is disabled by default; enabling it covers both reading from the state and
+  // reading from the cache
+  @ClassRule
+  public static final ProcessingStateRule ZEEBE_STATE_RULE =
+      new ProcessingStateRule(new EngineConfiguration().setVariableScopeCacheCapacity(100));
+
   private static final long PROCESS_KEY = 123;
   private static final AtomicLong PARENT_KEY = new AtomicLong(0);
   private static final AtomicLong CHILD_KEY = new AtomicLong(1);
@@ -365,6 +371,42 @@ public final class VariableStateTest {
     assertThat(variableFromChildScope).isNull();
   }
 
+  @Test
+  public void shouldGetUpdatedVariableOfParentScope() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    variableState.getVariable(child, wrapString("a"));
+
+    // when
+    setVariableLocal(parent, wrapString("a"), asMsgPack("2"));
+    setVariableLocal(parent, wrapString("b"), asMsgPack("3"));
+
+    // then
+    assertEquality(variableState.getVariable(child, wrapString("a")), "2");
+    assertEquality(variableState.getVariablesAsDocument(child), "{'a': 2, 'b': 3}");
+  }
+
+  @Test
+  public void shouldNotGetRemovedVariablesOfParentScope() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("2"));
+    variableState.getVariablesAsDocument(child);
+
+    // when
+    variableState.removeAllVariables(parent);
+
+    // then
+    assertThat(variableState.getVariable(child, wrapString("a"))).isNull();
+    assertEquality(
+        variableState.getVariablesAsDocument(child, List.of(wrapString("a"), wrapString("b"))),
+        "{'b': 2}");
+  }
+
   @Test
   public void shouldNotGetVariableInstanceLocal() {
     // given
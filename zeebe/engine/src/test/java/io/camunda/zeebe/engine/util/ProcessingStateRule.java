@@ -24,6 +24,7 @@ public final class ProcessingStateRule extends ExternalResource {
 
   private final TemporaryFolder tempFolder = new TemporaryFolder();
   private final int partition;
+  private final EngineConfiguration config;
   private ZeebeDb<ZbColumnFamilies> db;
   private MutableProcessingState processingState;
 
@@ -32,7 +33,16 @@ public final class ProcessingStateRule extends ExternalResource {
   }
 
   public ProcessingStateRule(final int partition) {
+    this(partition, new EngineConfiguration());
+  }
+
+  public ProcessingStateRule(final EngineConfiguration config) {
+    this(Protocol.DEPLOYMENT_PARTITION, config);
+  }
+
+  public ProcessingStateRule(final int partition, final EngineConfiguration config) {
     this.partition = partition;
+    this.config = config;
   }
 
   @Override
@@ -50,7 +60,7 @@ public final class ProcessingStateRule extends ExternalResource {
             keyGenerator,
             new TransientPendingSubscriptionState(),
             new TransientPendingSubscriptionState(),
-            new EngineConfiguration(),
+            config,
             InstantSource.system());
   }
 
@@ -36,6 +36,7 @@ import io.camunda.exporter.schema.SchemaManager;
 import io.camunda.exporter.schema.SearchEngineClient;
 import io.camunda.exporter.store.BatchRequest;
 import io.camunda.exporter.store.ExporterBatchWriter;
+import io.camunda.exporter.store.ExporterBatchWriter.DocumentKey;
 import io.camunda.exporter.tasks.BackgroundTaskManager;
 import io.camunda.exporter.tasks.BackgroundTaskManagerFactory;
 import io.camunda.webapps.schema.descriptors.AbstractIndexDescriptor;
@@ -52,9 +53,14 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.util.SemanticVersion;
 import io.camunda.zeebe.util.VisibleForTesting;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.agrona.CloseHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -75,6 +81,8 @@ public class CamundaExporter implements Exporter {
   private boolean zeebeIndicesExist = false;
   private SearchEngineClient searchEngineClient;
   private int partitionId;
+  // only used if more than one bulk request may be in flight, ordered from oldest to newest
+  private final Deque<InFlightBulk> inFlightBulks = new ArrayDeque<>();
 
   public CamundaExporter() {
     // the metadata will be initialized on open
@@ -146,6 +154,7 @@ public class CamundaExporter implements Exporter {
 
     if (writer != null) {
       try {
+        awaitInFlightBulks();
         flush();
         updateLastExportedPosition(lastPosition);
       } catch (final Exception e) {
@@ -190,6 +199,10 @@ public class CamundaExporter implements Exporter {
       return;
     }
 
+    if (isPipelined()) {
+      acknowledgeCompletedBulks();
+    }
+
     if (writer.getBatchSize() == 0) {
       metrics.startFlushLatencyMeasurement();
     }
@@ -200,6 +213,12 @@ public class CamundaExporter implements Exporter {
     lastPosition = record.getPosition();
 
     if (shouldFlush()) {
+      if (isPipelined()) {
+        // the position is updated once this and all earlier bulk requests have completed
+        flushPipelined();
+        return;
+      }
+
       try (final var ignored = metrics.measureFlushDuration()) {
         flush();
         metrics.stopFlushLatencyMeasurement();
@@ -287,6 +306,10 @@ public class CamundaExporter implements Exporter {
     return writer.getBatchSize() >= configuration.getBulk().getSize();
   }
 
+  private boolean isPipelined() {
+    return configuration.getBulk().getMaxInFlight() > 1;
+  }
+
   private ExporterBatchWriter createBatchWriter() {
     final var builder = ExporterBatchWriter.Builder.begin();
     provider.getExportHandlers().forEach(builder::withHandler);
@@ -301,8 +324,12 @@ public class CamundaExporter implements Exporter {
 
   private void flushAndReschedule() {
     try {
-      flush();
-      updateLastExportedPosition(lastPosition);
+      if (isPipelined()) {
+        flushPipelined();
+      } else {
+        flush();
+        updateLastExportedPosition(lastPosition);
+      }
     } catch (final Exception e) {
       LOG.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -362,11 +389,145 @@ public class CamundaExporter implements Exporter {
     }
   }
 
+  /**
+   * Sends the cached entities in a new bulk request, without waiting for its response. If the
+   * maximum number of bulk requests is already in flight, it first waits for the oldest one.
+   *
+   * <p>Entities which write to a document that is part of a bulk request in flight, i.e. with the
+   * same id in the same index, stay cached until that request has completed, so that two versions
+   * of the same document are never written concurrently, and a newer version can never be
+   * overwritten by an older one. The position which is acknowledged with the new bulk request is
+   * therefore the one before the first record which updated an entity that is still cached.
+   */
+  private void flushPipelined() {
+    acknowledgeCompletedBulks();
+    if (inFlightBulks.size() >= configuration.getBulk().getMaxInFlight()) {
+      inFlightBulks.getFirst().await();
+      acknowledgeCompletedBulks();
+    }
+
+    final Set<DocumentKey> documentsInFlight = new HashSet<>();
+    inFlightBulks.forEach(bulk -> documentsInFlight.addAll(bulk.documents));
+    final int cachedEntities = writer.getBatchSize();
+    final BatchRequest batchRequest = clientAdapter.createBatchRequest();
+    final Set<DocumentKey> flushedDocuments;
+    try {
+      flushedDocuments = writer.flushInto(batchRequest, documentsInFlight);
+    } catch (final PersistenceException ex) {
+      metrics.recordFailedFlush();
+      throw new ExporterException(ex.getMessage(), ex);
+    }
+
+    if (flushedDocuments.isEmpty() && !inFlightBulks.isEmpty() && shouldFlush()) {
+      // every cached entity is still in flight; wait for them instead of growing the bulk further
+      awaitInFlightBulks();
+      flushPipelined();
+      return;
+    }
+
+    final long firstCachedPosition = writer.getFirstCachedPosition();
+    final long position = firstCachedPosition == -1 ? lastPosition : firstCachedPosition - 1;
+    if (!flushedDocuments.isEmpty()) {
+      metrics.recordBulkSize(cachedEntities - writer.getBatchSize());
+      final var bulk = new InFlightBulk(batchRequest, flushedDocuments, position);
+      bulk.send();
+      inFlightBulks.addLast(bulk);
+    } else if (!inFlightBulks.isEmpty()) {
+      // nothing new to write, but the position must not be acknowledged before the earlier bulks
+      inFlightBulks.getLast().position = Math.max(inFlightBulks.getLast().position, position);
+    } else {
+      updateLastExportedPosition(position);
+    }
+
+    metrics.stopFlushLatencyMeasurement();
+    if (writer.getBatchSize() > 0) {
+      metrics.startFlushLatencyMeasurement();
+    }
+  }
+
+  /**
+   * Acknowledges the position of the bulk requests which have completed, in the order in which they
+   * were sent. If the oldest of them has failed, it is sent again, and an exception is thrown such
+   * that the failure is handled as if the flush was synchronous; none of the later bulk requests is
+   * acknowledged before it has completed successfully.
+   */
+  private void acknowledgeCompletedBulks() {
+    long acknowledgedPosition = -1;
+    try {
+      while (!inFlightBulks.isEmpty() && inFlightBulks.getFirst().response.isDone()) {
+        final var bulk = inFlightBulks.getFirst();
+        final var failure = bulk.getFailure();
+        if (failure != null) {
+          metrics.recordFailedFlush();
+          bulk.send();
+          throw new ExporterException(failure.getMessage(), failure);
+        }
+
+        inFlightBulks.removeFirst();
+        acknowledgedPosition = bulk.position;
+      }
+    } finally {
+      if (acknowledgedPosition != -1) {
+        updateLastExportedPosition(acknowledgedPosition);
+      }
+    }
+  }
+
+  private void awaitInFlightBulks() {
+    inFlightBulks.forEach(InFlightBulk::await);
+    acknowledgeCompletedBulks();
+  }
+
   private void updateLastExportedPosition(final long lastPosition) {
     final var serialized = metadata.serialize();
     controller.updateLastExportedRecordPosition(lastPosition, serialized);
   }
 
+  private final class InFlightBulk {
+    private final BatchRequest request;
+    // the documents written by this bulk, which must not be written again until it has completed
+    private final Set<DocumentKey> documents;
+    // the position which can be acknowledged once this and all earlier bulks have completed
+    private long position;
+    private CompletableFuture<Void> response;
+
+    private InFlightBulk(
+        final BatchRequest request, final Set<DocumentKey> documents, final long position) {
+      this.request = request;
+      this.documents = documents;
+      this.position = position;
+    }
+
+    private void send() {
+      final var flushDuration = metrics.measureFlushDuration();
+      response = request.executeAsync();
+      response.whenComplete((ok, error) -> flushDuration.close());
+    }
+
+    private void await() {
+      response.handle((ok, error) -> null).join();
+    }
+
+    /**
+     * Returns why this bulk has failed, if it did. Must only be called on the exporter's actor once
+     * the response was received, such that failed updates are checked and the custom error handlers
+     * are invoked on the actor, and not on the thread of the client.
+     */
+    private Throwable getFailure() {
+      final Throwable failure = response.handle((ok, error) -> error).join();
+      if (failure != null) {
+        return failure instanceof CompletionException ? failure.getCause() : failure;
+      }
+
+      try {
+        request.validateAsyncResponse(provider.getCustomErrorHandlers());
+        return null;
+      } catch (final PersistenceException ex) {
+        return ex;
+      }
+    }
+  }
+
   private record CamundaExporterRecordFilter() implements RecordFilter {
     private static final Set<ValueType> VALUE_TYPES_2_EXPORT =
         Set.of(
@@ -7,6 +7,7 @@
  */
 package io.camunda.exporter.adapters;
 
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch.core.BulkRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -26,6 +27,7 @@ import java.io.IOException;
 
 class ElasticsearchAdapter implements ClientAdapter {
   private final ElasticsearchClient client;
+  private final ElasticsearchAsyncClient asyncClient;
   private final ElasticsearchEngineClient searchEngineClient;
   private final ElasticsearchExporterEntityCacheProvider entityCacheLoader;
   private final ObjectMapper objectMapper;
@@ -33,6 +35,8 @@ class ElasticsearchAdapter implements ClientAdapter {
   ElasticsearchAdapter(final ConnectConfiguration configuration) {
     final var connector = new ElasticsearchConnector(configuration);
     client = connector.createClient();
+    // shares the transport of the client, only used to send bulk requests without blocking
+    asyncClient = new ElasticsearchAsyncClient(client._transport(), client._transportOptions());
     objectMapper = connector.objectMapper();
     searchEngineClient = new ElasticsearchEngineClient(client, objectMapper);
     entityCacheLoader = new ElasticsearchExporterEntityCacheProvider(client);
@@ -50,7 +54,7 @@ class ElasticsearchAdapter implements ClientAdapter {
 
   @Override
   public BatchRequest createBatchRequest() {
-    return new ElasticsearchBatchRequest(client, new BulkRequest.Builder());
+    return new ElasticsearchBatchRequest(client, asyncClient, new BulkRequest.Builder());
   }
 
   @Override
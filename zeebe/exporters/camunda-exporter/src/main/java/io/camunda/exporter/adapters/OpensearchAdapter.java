@@ -21,11 +21,13 @@ import io.camunda.exporter.store.OpensearchBatchRequest;
 import io.camunda.search.connect.configuration.ConnectConfiguration;
 import io.camunda.search.connect.os.OpensearchConnector;
 import java.io.IOException;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch.core.BulkRequest;
 
 class OpensearchAdapter implements ClientAdapter {
   private final OpenSearchClient client;
+  private final OpenSearchAsyncClient asyncClient;
   private final OpensearchEngineClient searchEngineClient;
   private final OpensearchExporterEntityCacheProvider entityCacheLoader;
   private final ObjectMapper objectMapper;
@@ -33,6 +35,8 @@ class OpensearchAdapter implements ClientAdapter {
   OpensearchAdapter(final ConnectConfiguration configuration) {
     final var connector = new OpensearchConnector(configuration);
     client = connector.createClient();
+    // shares the transport of the client, only used to send bulk requests without blocking
+    asyncClient = new OpenSearchAsyncClient(client._transport(), client._transportOptions());
     objectMapper = connector.objectMapper();
     searchEngineClient = new OpensearchEngineClient(client, objectMapper);
     entityCacheLoader = new OpensearchExporterEntityCacheProvider(client);
@@ -50,7 +54,7 @@ class OpensearchAdapter implements ClientAdapter {
 
   @Override
   public BatchRequest createBatchRequest() {
-    return new OpensearchBatchRequest(client, new BulkRequest.Builder());
+    return new OpensearchBatchRequest(client, asyncClient, new BulkRequest.Builder());
   }
 
   @Override
@@ -92,6 +92,12 @@ public final class ConfigValidator {
               waitPeriodBeforeArchiving, PATTERN_DATE_INTERVAL_FORMAT));
     }
 
+    final int maxInFlightBulks = configuration.getBulk().getMaxInFlight();
+    if (maxInFlightBulks < 1) {
+      throw new ExporterException(
+          "CamundaExporter bulk.maxInFlight must be >= 1. Current value: " + maxInFlightBulks);
+    }
+
     final int rolloverBatchSize = configuration.getArchiver().getRolloverBatchSize();
     if (rolloverBatchSize < 1) {
       throw new ExporterException(
@@ -267,6 +267,8 @@ public class ExporterConfiguration {
     private int delay = 5;
     // bulk size before flush
     private int size = 1_000;
+    // bulk requests which may be sent before the first of them completed; 1 flushes synchronously
+    private int maxInFlight = 1;
 
     public int getDelay() {
       return delay;
@@ -284,9 +286,24 @@ public class ExporterConfiguration {
       this.size = size;
     }
 
+    public int getMaxInFlight() {
+      return maxInFlight;
+    }
+
+    public void setMaxInFlight(final int maxInFlight) {
+      this.maxInFlight = maxInFlight;
+    }
+
     @Override
     public String toString() {
-      return "BulkConfiguration{" + "delay=" + delay + ", size=" + size + '}';
+      return "BulkConfiguration{"
+          + "delay="
+          + delay
+          + ", size="
+          + size
+          + ", maxInFlight="
+          + maxInFlight
+          + '}';
     }
   }
 
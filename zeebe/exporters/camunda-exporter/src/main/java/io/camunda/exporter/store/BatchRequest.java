@@ -11,6 +11,7 @@ import io.camunda.exporter.errorhandling.Error;
 import io.camunda.exporter.exceptions.PersistenceException;
 import io.camunda.webapps.schema.entities.ExporterEntity;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 
 /** A {@link BatchRequest} contains updates to one or more {@link ExporterEntity} */
@@ -55,5 +56,30 @@ public interface BatchRequest {
     execute(null);
   }
 
+  /**
+   * Sends all updates in this batch without blocking the caller. Unlike {@link
+   * #execute(BiConsumer)}, this may be called again after the returned future was completed, which
+   * sends the same updates again, e.g. to retry a failed batch.
+   *
+   * <p>The returned future is completed on a thread of the client once the response was received,
+   * without checking it for failed updates; the caller must do so afterwards with {@link
+   * #validateAsyncResponse(BiConsumer)} on its own thread.
+   *
+   * @return a future which is completed once the response was received, or completed exceptionally
+   *     with a {@link PersistenceException} if the request could not be sent
+   */
+  CompletableFuture<Void> executeAsync();
+
+  /**
+   * Checks the response to the last completed {@link #executeAsync()} call for updates which could
+   * not be applied, on the caller's thread.
+   *
+   * @param customErrorHandlers possible custom error handlers to be used if certain indices threw
+   *     persistence errors, see {@link #execute(BiConsumer)}
+   * @throws PersistenceException if any update could not be applied
+   */
+  void validateAsyncResponse(final BiConsumer<String, Error> customErrorHandlers)
+      throws PersistenceException;
+
   void executeWithRefresh() throws PersistenceException;
 }
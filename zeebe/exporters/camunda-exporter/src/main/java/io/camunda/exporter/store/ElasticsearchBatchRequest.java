@@ -7,6 +7,7 @@
  */
 package io.camunda.exporter.store;
 
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch._types.Refresh;
@@ -20,6 +21,8 @@ import io.camunda.webapps.schema.entities.ExporterEntity;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -31,11 +34,19 @@ public class ElasticsearchBatchRequest implements BatchRequest {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ElasticsearchBatchRequest.class);
   private final ElasticsearchClient esClient;
+  private final ElasticsearchAsyncClient esAsyncClient;
   private final BulkRequest.Builder bulkRequestBuilder;
+  // built once on the first asynchronous execution, so that it can be sent again on retries
+  private BulkRequest bulkRequest;
+  // the response to the last asynchronous execution, validated by the caller of executeAsync
+  private volatile BulkResponse asyncResponse;
 
   public ElasticsearchBatchRequest(
-      final ElasticsearchClient esClient, final Builder bulkRequestBuilder) {
+      final ElasticsearchClient esClient,
+      final ElasticsearchAsyncClient esAsyncClient,
+      final Builder bulkRequestBuilder) {
     this.esClient = esClient;
+    this.esAsyncClient = esAsyncClient;
     this.bulkRequestBuilder = bulkRequestBuilder;
   }
 
@@ -155,6 +166,39 @@ public class ElasticsearchBatchRequest implements BatchRequest {
     execute(customErrorHandlers, false);
   }
 
+  @Override
+  public CompletableFuture<Void> executeAsync() {
+    if (bulkRequest == null) {
+      bulkRequest = bulkRequestBuilder.build();
+    }
+    asyncResponse = null;
+    if (bulkRequest.operations().isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    return esAsyncClient.bulk(bulkRequest).handle(this::onAsyncResponse);
+  }
+
+  private Void onAsyncResponse(final BulkResponse response, final Throwable error) {
+    if (error != null) {
+      final var cause = error instanceof CompletionException ? error.getCause() : error;
+      throw new PersistenceException(
+          "Error when processing bulk request against Elasticsearch: " + cause.getMessage(), cause);
+    }
+
+    asyncResponse = response;
+    return null;
+  }
+
+  @Override
+  public void validateAsyncResponse(final BiConsumer<String, Error> customErrorHandlers)
+      throws PersistenceException {
+    final var response = asyncResponse;
+    if (response != null) {
+      validateNoErrors(response.items(), customErrorHandlers);
+    }
+  }
+
   @Override
   public void executeWithRefresh() throws PersistenceException {
     execute(null, true);
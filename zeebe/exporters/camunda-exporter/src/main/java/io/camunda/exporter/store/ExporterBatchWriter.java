@@ -17,6 +17,7 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -53,7 +54,7 @@ public class ExporterBatchWriter {
             cacheKey,
             (k) -> {
               final ExporterEntity entity = handler.createNewEntity(id);
-              return new EntityAndHandlers(entity, new LinkedHashSet<>());
+              return new EntityAndHandlers(entity, new LinkedHashSet<>(), record.getPosition());
             });
 
     final var entity = entityAndHandlers.entity;
@@ -82,6 +83,60 @@ public class ExporterBatchWriter {
     reset();
   }
 
+  /**
+   * Adds the cached entities to the given batch request, without executing it, and removes them
+   * from the cache. Entities which would write to any of the documents in {@code documentsToKeep}
+   * are neither added nor removed; they stay cached until a later flush, and are still updated by
+   * the records which are added until then.
+   *
+   * @param batchRequest the batch request to add the entities to
+   * @param documentsToKeep the documents which must not be written yet
+   * @return the documents which are written by the entities added to the batch request
+   */
+  public Set<DocumentKey> flushInto(
+      final BatchRequest batchRequest, final Set<DocumentKey> documentsToKeep)
+      throws PersistenceException {
+    final List<EntityIdAndEntityType> flushedKeys = new ArrayList<>();
+    final Set<DocumentKey> flushedDocuments = new HashSet<>();
+    for (final var cached : cachedEntities.entrySet()) {
+      final var entityAndHandler = cached.getValue();
+      final var documents = documentsOf(cached.getKey().entityId(), entityAndHandler);
+      if (!Collections.disjoint(documents, documentsToKeep)) {
+        continue;
+      }
+
+      for (final var handler : entityAndHandler.handlers()) {
+        handler.flush(entityAndHandler.entity(), batchRequest);
+      }
+      flushedKeys.add(cached.getKey());
+      flushedDocuments.addAll(documents);
+    }
+
+    // only remove the entities once all of them were added, so that none is lost on failure
+    flushedKeys.forEach(cachedEntities::remove);
+    return flushedDocuments;
+  }
+
+  private Set<DocumentKey> documentsOf(
+      final String entityId, final EntityAndHandlers entityAndHandlers) {
+    final Set<DocumentKey> documents = new HashSet<>();
+    for (final var handler : entityAndHandlers.handlers()) {
+      documents.add(new DocumentKey(handler.getIndexName(), entityId));
+    }
+    return documents;
+  }
+
+  /**
+   * @return the position of the first record which updated one of the cached entities, or -1 if no
+   *     entity is cached
+   */
+  public long getFirstCachedPosition() {
+    return cachedEntities.values().stream()
+        .mapToLong(EntityAndHandlers::firstPosition)
+        .min()
+        .orElse(-1);
+  }
+
   public void reset() {
     cachedEntities.clear();
   }
@@ -118,7 +173,11 @@ public class ExporterBatchWriter {
     }
   }
 
+  /** Identifies a document by the index it is written to and its id. */
+  public record DocumentKey(String indexName, String id) {}
+
   private record EntityIdAndEntityType(String entityId, Class<?> entityType) {}
 
-  private record EntityAndHandlers(ExporterEntity entity, Set<ExportHandler> handlers) {}
+  private record EntityAndHandlers(
+      ExporterEntity entity, Set<ExportHandler> handlers, long firstPosition) {}
 }
@@ -13,8 +13,11 @@ import io.camunda.webapps.schema.entities.ExporterEntity;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._types.OpenSearchException;
 import org.opensearch.client.opensearch._types.Refresh;
@@ -31,10 +34,19 @@ public class OpensearchBatchRequest implements BatchRequest {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(OpensearchBatchRequest.class);
   private final OpenSearchClient osClient;
+  private final OpenSearchAsyncClient osAsyncClient;
   private final BulkRequest.Builder bulkRequestBuilder;
+  // built once on the first asynchronous execution, so that it can be sent again on retries
+  private BulkRequest bulkRequest;
+  // the response to the last asynchronous execution, validated by the caller of executeAsync
+  private volatile BulkResponse asyncResponse;
 
-  public OpensearchBatchRequest(final OpenSearchClient osClient, final Builder bulkRequestBuilder) {
+  public OpensearchBatchRequest(
+      final OpenSearchClient osClient,
+      final OpenSearchAsyncClient osAsyncClient,
+      final Builder bulkRequestBuilder) {
     this.osClient = osClient;
+    this.osAsyncClient = osAsyncClient;
     this.bulkRequestBuilder = bulkRequestBuilder;
   }
 
@@ -151,6 +163,45 @@ public class OpensearchBatchRequest implements BatchRequest {
     execute(customErrorHandlers, false);
   }
 
+  @Override
+  public CompletableFuture<Void> executeAsync() {
+    if (bulkRequest == null) {
+      bulkRequest = bulkRequestBuilder.build();
+    }
+    asyncResponse = null;
+    if (bulkRequest.operations().isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    try {
+      return osAsyncClient.bulk(bulkRequest).handle(this::onAsyncResponse);
+    } catch (final IOException | OpenSearchException ex) {
+      return CompletableFuture.failedFuture(
+          new PersistenceException(
+              "Error when processing bulk request against OpenSearch: " + ex.getMessage(), ex));
+    }
+  }
+
+  private Void onAsyncResponse(final BulkResponse response, final Throwable error) {
+    if (error != null) {
+      final var cause = error instanceof CompletionException ? error.getCause() : error;
+      throw new PersistenceException(
+          "Error when processing bulk request against OpenSearch: " + cause.getMessage(), cause);
+    }
+
+    asyncResponse = response;
+    return null;
+  }
+
+  @Override
+  public void validateAsyncResponse(final BiConsumer<String, Error> customErrorHandlers)
+      throws PersistenceException {
+    final var response = asyncResponse;
+    if (response != null) {
+      validateNoErrors(response.items(), customErrorHandlers);
+    }
+  }
+
   @Override
   public void executeWithRefresh() throws PersistenceException {
     execute(null, true);
@@ -8,9 +8,13 @@
 package io.camunda.exporter;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -20,14 +24,24 @@ import io.camunda.exporter.cache.ExporterEntityCacheProvider;
 import io.camunda.exporter.cache.form.CachedFormEntity;
 import io.camunda.exporter.cache.process.CachedProcessEntity;
 import io.camunda.exporter.config.ExporterConfiguration;
+import io.camunda.exporter.exceptions.PersistenceException;
 import io.camunda.exporter.schema.SearchEngineClient;
 import io.camunda.exporter.store.BatchRequest;
 import io.camunda.exporter.utils.TestObjectMapper;
 import io.camunda.webapps.schema.entities.tasklist.TaskEntity.TaskImplementation;
+import io.camunda.zeebe.exporter.api.ExporterException;
 import io.camunda.zeebe.exporter.test.ExporterTestConfiguration;
 import io.camunda.zeebe.exporter.test.ExporterTestContext;
 import io.camunda.zeebe.exporter.test.ExporterTestController;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.UserIntent;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.AutoClose;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,7 +61,7 @@ final class CamundaExporterTest {
       new ExporterTestContext()
           .setConfiguration(new ExporterTestConfiguration<>("test", configuration));
   private final ExporterTestController testController = new ExporterTestController();
-  private ClientAdapter stubbedClientAdapterInUse;
+  private StubClientAdapter stubbedClientAdapterInUse;
 
   @SuppressWarnings("FieldCanBeLocal")
   @AutoClose
@@ -88,6 +102,9 @@ final class CamundaExporterTest {
         mock(
             SearchEngineClient.class,
             Mockito.withSettings().defaultAnswer(Answers.RETURNS_SMART_NULLS));
+    private final List<BatchRequest> batchRequests = new ArrayList<>();
+    // the responses of all asynchronously executed batch requests, in the order they were sent
+    private final List<CompletableFuture<Void>> bulkResponses = new ArrayList<>();
 
     @Override
     public ObjectMapper objectMapper() {
@@ -101,8 +118,19 @@ final class CamundaExporterTest {
 
     @Override
     public BatchRequest createBatchRequest() {
-      return mock(
-          BatchRequest.class, Mockito.withSettings().defaultAnswer(Answers.RETURNS_SMART_NULLS));
+      final var batchRequest =
+          mock(
+              BatchRequest.class,
+              Mockito.withSettings().defaultAnswer(Answers.RETURNS_SMART_NULLS));
+      when(batchRequest.executeAsync())
+          .thenAnswer(
+              ignored -> {
+                final var response = new CompletableFuture<Void>();
+                bulkResponses.add(response);
+                return response;
+              });
+      batchRequests.add(batchRequest);
+      return batchRequest;
     }
 
     @Override
@@ -169,4 +197,143 @@ final class CamundaExporterTest {
       assertThat(actual.getFirstUserTaskKey(TaskImplementation.ZEEBE_USER_TASK)).isEqualTo(10);
     }
   }
+
+  @Nested
+  final class PipelinedFlushTest {
+    private final ProtocolFactory factory = new ProtocolFactory();
+
+    @BeforeEach
+    void beforeEach() {
+      configuration.getIndex().setShouldWaitForImporters(false);
+      configuration.getBulk().setSize(1);
+      configuration.getBulk().setMaxInFlight(3);
+      exporter = new CamundaExporter(resourceProvider);
+      exporter.configure(testContext);
+      exporter.open(testController);
+    }
+
+    @AfterEach
+    void completeBulks() {
+      // the exporter waits for the bulk requests in flight when it is closed
+      stubbedClientAdapterInUse.bulkResponses.forEach(response -> response.complete(null));
+    }
+
+    @Test
+    void shouldNotWaitForBulkResponseBeforeExportingNextRecord() {
+      // when
+      exporter.export(userCreatedRecord());
+      exporter.export(userCreatedRecord());
+
+      // then
+      assertThat(stubbedClientAdapterInUse.bulkResponses).hasSize(2);
+      assertThat(testController.getPosition()).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldUpdatePositionOnlyOnceAllEarlierBulksCompleted() {
+      // given
+      final var first = userCreatedRecord();
+      final var second = userCreatedRecord();
+      exporter.export(first);
+      exporter.export(second);
+      final var responses = stubbedClientAdapterInUse.bulkResponses;
+
+      // when
+      responses.get(1).complete(null);
+      exporter.export(userCreatedRecord());
+
+      // then
+      assertThat(testController.getPosition()).isEqualTo(-1);
+
+      // when
+      responses.get(0).complete(null);
+      exporter.export(userCreatedRecord());
+
+      // then
+      assertThat(testController.getPosition()).isEqualTo(second.getPosition());
+    }
+
+    @Test
+    void shouldSendFailedBulkAgain() {
+      // given
+      final var record = userCreatedRecord();
+      exporter.export(record);
+      stubbedClientAdapterInUse.bulkResponses.getFirst().completeExceptionally(new IOException());
+
+      // when - then
+      assertThatThrownBy(() -> exporter.export(userCreatedRecord()))
+          .isInstanceOf(ExporterException.class);
+      verify(stubbedClientAdapterInUse.batchRequests.getFirst(), times(2)).executeAsync();
+
+      // when
+      stubbedClientAdapterInUse.bulkResponses.getLast().complete(null);
+      testController.runScheduledTasks(Duration.ofSeconds(configuration.getBulk().getDelay()));
+
+      // then
+      assertThat(testController.getPosition()).isEqualTo(record.getPosition());
+    }
+
+    @Test
+    void shouldSendBulkAgainIfResponseHasFailedItems() {
+      // given
+      final var record = userCreatedRecord();
+      exporter.export(record);
+      final var batchRequest = stubbedClientAdapterInUse.batchRequests.getFirst();
+      doThrow(new PersistenceException("expected"))
+          .doNothing()
+          .when(batchRequest)
+          .validateAsyncResponse(any());
+      stubbedClientAdapterInUse.bulkResponses.getFirst().complete(null);
+
+      // when - then
+      assertThatThrownBy(() -> exporter.export(userCreatedRecord()))
+          .isInstanceOf(ExporterException.class);
+      verify(batchRequest, times(2)).executeAsync();
+      assertThat(testController.getPosition()).isEqualTo(-1);
+
+      // when
+      stubbedClientAdapterInUse.bulkResponses.getLast().complete(null);
+      testController.runScheduledTasks(Duration.ofSeconds(configuration.getBulk().getDelay()));
+
+      // then
+      assertThat(testController.getPosition()).isEqualTo(record.getPosition());
+    }
+
+    @Test
+    void shouldNotUpdatePositionBeyondFailedBulk() {
+      // given
+      final var first = userCreatedRecord();
+      final var second = userCreatedRecord();
+      exporter.export(first);
+      exporter.export(second);
+      final var responses = stubbedClientAdapterInUse.bulkResponses;
+
+      // when - the later bulk succeeds, but the earlier one fails
+      responses.get(1).complete(null);
+      responses.get(0).completeExceptionally(new IOException());
+      final var third = userCreatedRecord();
+
+      // then
+      assertThatThrownBy(() -> exporter.export(third)).isInstanceOf(ExporterException.class);
+      assertThat(testController.getPosition()).isEqualTo(-1);
+
+      // when - the record is exported again while the failed bulk is still being sent again
+      exporter.export(third);
+
+      // then
+      assertThat(testController.getPosition()).isEqualTo(-1);
+
+      // when - the failed bulk was sent again successfully
+      responses.get(2).complete(null);
+      exporter.export(userCreatedRecord());
+
+      // then - the later bulk was acknowledged along with it, but not the one still in flight
+      assertThat(testController.getPosition()).isEqualTo(second.getPosition());
+    }
+
+    private Record<?> userCreatedRecord() {
+      return factory.generateRecord(
+          ValueType.USER, r -> r.withBrokerVersion("8.8.0"), UserIntent.CREATED);
+    }
+  }
 }
@@ -117,6 +117,17 @@ public class ConfigValidatorTest {
             "CamundaExporter archiver.rolloverBatchSize must be >= 1. Current value: 0");
   }
 
+  @Test
+  void shouldForbidMaxInFlightBulksToBeLessThanOne() {
+    // given
+    config.getBulk().setMaxInFlight(0);
+
+    // when - then
+    assertThatCode(() -> ConfigValidator.validate(config))
+        .isInstanceOf(ExporterException.class)
+        .hasMessageContaining("CamundaExporter bulk.maxInFlight must be >= 1. Current value: 0");
+  }
+
   @Test
   void shouldForbidDelayBetweenRunsToBeLessThanOne() {
     // given
@@ -11,9 +11,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch._types.ErrorCause;
@@ -29,8 +31,10 @@ import io.camunda.exporter.entities.TestExporterEntity;
 import io.camunda.exporter.errorhandling.Error;
 import io.camunda.exporter.exceptions.PersistenceException;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.BeforeEach;
@@ -46,13 +50,17 @@ class ElasticsearchBatchRequestTest {
   private static final String INDEX_WITH_HANDLER = "indexWithHandler";
   private ElasticsearchBatchRequest batchRequest;
   private ElasticsearchClient elasticsearchClient;
+  private ElasticsearchAsyncClient elasticsearchAsyncClient;
   private Builder requestBuilder;
 
   @BeforeEach
   void setUp() throws IOException {
     elasticsearchClient = mock(ElasticsearchClient.class);
+    elasticsearchAsyncClient = mock(ElasticsearchAsyncClient.class);
     requestBuilder = new Builder();
-    batchRequest = new ElasticsearchBatchRequest(elasticsearchClient, requestBuilder);
+    batchRequest =
+        new ElasticsearchBatchRequest(
+            elasticsearchClient, elasticsearchAsyncClient, requestBuilder);
     final BulkResponse bulkResponse = mock(BulkResponse.class);
     when(elasticsearchClient.bulk(any(BulkRequest.class))).thenReturn(bulkResponse);
   }
@@ -379,4 +387,50 @@ class ElasticsearchBatchRequestTest {
     verify(errorHandler)
         .accept(INDEX_WITH_HANDLER, new Error(message, item.error().type(), notFound));
   }
+
+  @Test
+  void shouldExecuteAsyncWithoutBlockingClient() throws IOException {
+    // given
+    final TestExporterEntity entity = new TestExporterEntity().setId(ID);
+    final BulkResponse bulkResponse = mock(BulkResponse.class);
+    final var response = new CompletableFuture<BulkResponse>();
+    when(elasticsearchAsyncClient.bulk(any(BulkRequest.class))).thenReturn(response);
+    batchRequest.add(INDEX, entity);
+
+    // when
+    final var result = batchRequest.executeAsync();
+
+    // then
+    assertThat(result).isNotDone();
+    response.complete(bulkResponse);
+    assertThat(result).isCompleted();
+    verify(elasticsearchClient, times(0)).bulk(any(BulkRequest.class));
+  }
+
+  @Test
+  void shouldSendSameBulkRequestAgainAfterAsyncFailure() {
+    // given
+    final TestExporterEntity entity = new TestExporterEntity().setId(ID);
+    final BulkResponse bulkResponse = mock(BulkResponse.class);
+    when(elasticsearchAsyncClient.bulk(any(BulkRequest.class)))
+        .thenReturn(CompletableFuture.failedFuture(new IOException("expected")))
+        .thenReturn(CompletableFuture.completedFuture(bulkResponse));
+    batchRequest.add(INDEX, entity);
+
+    // when
+    final var failed = batchRequest.executeAsync();
+    final var retried = batchRequest.executeAsync();
+
+    // then
+    assertThat(failed)
+        .failsWithin(Duration.ZERO)
+        .withThrowableThat()
+        .havingCause()
+        .isInstanceOf(PersistenceException.class);
+    assertThat(retried).isCompleted();
+    final ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+    verify(elasticsearchAsyncClient, times(2)).bulk(captor.capture());
+    assertThat(captor.getAllValues().get(1)).isSameAs(captor.getAllValues().get(0));
+    assertThat(captor.getValue().operations()).hasSize(1);
+  }
 }
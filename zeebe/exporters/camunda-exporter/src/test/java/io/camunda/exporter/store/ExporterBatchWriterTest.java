@@ -22,13 +22,16 @@ import static org.mockito.Mockito.when;
 import io.camunda.exporter.entities.TestExporterEntity;
 import io.camunda.exporter.exceptions.PersistenceException;
 import io.camunda.exporter.handlers.ExportHandler;
+import io.camunda.exporter.store.ExporterBatchWriter.DocumentKey;
 import io.camunda.protocol.TestRecord;
 import io.camunda.protocol.TestValue;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 class ExporterBatchWriterTest {
+  private static final String INDEX = "test-index";
   private ExporterBatchWriter batchWriter;
   private ExportHandler<TestExporterEntity, TestValue> handler;
 
@@ -37,6 +40,7 @@ class ExporterBatchWriterTest {
     handler = mock(ExportHandler.class);
     when(handler.getHandledValueType()).thenReturn(NULL_VAL);
     when(handler.getEntityType()).thenReturn(TestExporterEntity.class);
+    when(handler.getIndexName()).thenReturn(INDEX);
     batchWriter = ExporterBatchWriter.Builder.begin().withHandler(handler).build();
   }
 
@@ -134,4 +138,53 @@ class ExporterBatchWriterTest {
     verify(batchRequest).execute(any());
     assertThat(batchWriter.getBatchSize()).isEqualTo(0);
   }
+
+  @Test
+  void shouldKeepEntitiesWhichAreNotToBeFlushedCached() throws PersistenceException {
+    // given
+    final TestRecord first = new TestRecord(1, NULL_VAL);
+    final TestRecord second = new TestRecord(2, NULL_VAL);
+    final TestExporterEntity firstEntity = new TestExporterEntity().setId("1");
+    final TestExporterEntity secondEntity = new TestExporterEntity().setId("2");
+    when(handler.handlesRecord(any())).thenReturn(true);
+    when(handler.generateIds(eq(first))).thenReturn(List.of("1"));
+    when(handler.generateIds(eq(second))).thenReturn(List.of("2"));
+    when(handler.createNewEntity(eq("1"))).thenReturn(firstEntity);
+    when(handler.createNewEntity(eq("2"))).thenReturn(secondEntity);
+    batchWriter.addRecord(first);
+    batchWriter.addRecord(second);
+
+    // when
+    final BatchRequest batchRequest = mock(BatchRequest.class);
+    final var flushed = batchWriter.flushInto(batchRequest, Set.of(new DocumentKey(INDEX, "1")));
+
+    // then
+    assertThat(flushed).containsExactly(new DocumentKey(INDEX, "2"));
+    verify(handler).flush(secondEntity, batchRequest);
+    verify(handler, never()).flush(eq(firstEntity), any());
+    verify(batchRequest, never()).execute(any());
+    assertThat(batchWriter.getBatchSize()).isEqualTo(1);
+    assertThat(batchWriter.getFirstCachedPosition()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldFlushEntityWithSameIdInAnotherIndex() throws PersistenceException {
+    // given
+    final TestRecord record = new TestRecord(1, NULL_VAL);
+    final TestExporterEntity entity = new TestExporterEntity().setId("1");
+    when(handler.handlesRecord(any())).thenReturn(true);
+    when(handler.generateIds(eq(record))).thenReturn(List.of("1"));
+    when(handler.createNewEntity(eq("1"))).thenReturn(entity);
+    batchWriter.addRecord(record);
+
+    // when
+    final BatchRequest batchRequest = mock(BatchRequest.class);
+    final var flushed =
+        batchWriter.flushInto(batchRequest, Set.of(new DocumentKey("other-index", "1")));
+
+    // then
+    assertThat(flushed).containsExactly(new DocumentKey(INDEX, "1"));
+    verify(handler).flush(entity, batchRequest);
+    assertThat(batchWriter.getBatchSize()).isEqualTo(0);
+  }
 }
@@ -18,8 +18,10 @@ import io.camunda.exporter.entities.TestExporterEntity;
 import io.camunda.exporter.errorhandling.Error;
 import io.camunda.exporter.exceptions.PersistenceException;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._types.ErrorCause;
 import org.opensearch.client.opensearch._types.OpenSearchException;
@@ -46,13 +49,15 @@ class OpensearchBatchRequestTest {
   private static final String INDEX_WITH_HANDLER = "indexWithHandler";
   private OpensearchBatchRequest batchRequest;
   private OpenSearchClient osClient;
+  private OpenSearchAsyncClient osAsyncClient;
   private Builder requestBuilder;
 
   @BeforeEach
   void setUp() throws IOException {
     osClient = mock(OpenSearchClient.class);
+    osAsyncClient = mock(OpenSearchAsyncClient.class);
     requestBuilder = new Builder();
-    batchRequest = new OpensearchBatchRequest(osClient, requestBuilder);
+    batchRequest = new OpensearchBatchRequest(osClient, osAsyncClient, requestBuilder);
     final BulkResponse bulkResponse = mock(BulkResponse.class);
     when(osClient.bulk(any(BulkRequest.class))).thenReturn(bulkResponse);
   }
@@ -379,4 +384,45 @@ class OpensearchBatchRequestTest {
     verify(errorHandler)
         .accept(INDEX_WITH_HANDLER, new Error(message, item.error().type(), notFound));
   }
+
+  @Test
+  void shouldReportResponseItemErrorOnlyWhenValidatingAsyncResponse() throws IOException {
+    // given
+    final TestExporterEntity entity = new TestExporterEntity().setId(ID);
+    final BulkResponseItem item = mock(BulkResponseItem.class);
+    when(item.error()).thenReturn(new ErrorCause.Builder().type("error").reason("error").build());
+    final BulkResponse bulkResponse = mock(BulkResponse.class);
+    when(bulkResponse.items()).thenReturn(List.of(item));
+    when(osAsyncClient.bulk(any(BulkRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(bulkResponse));
+    batchRequest.add(INDEX, entity);
+
+    // when
+    final var result = batchRequest.executeAsync();
+
+    // then
+    assertThat(result).isCompleted();
+    assertThatThrownBy(() -> batchRequest.validateAsyncResponse(null))
+        .isInstanceOf(PersistenceException.class);
+    verify(osAsyncClient).bulk(any(BulkRequest.class));
+  }
+
+  @Test
+  void shouldCompleteAsyncExecutionExceptionallyIfTheRequestFails() throws IOException {
+    // given
+    final TestExporterEntity entity = new TestExporterEntity().setId(ID);
+    when(osAsyncClient.bulk(any(BulkRequest.class)))
+        .thenReturn(CompletableFuture.failedFuture(new IOException("expected")));
+    batchRequest.add(INDEX, entity);
+
+    // when
+    final var result = batchRequest.executeAsync();
+
+    // then
+    assertThat(result)
+        .failsWithin(Duration.ZERO)
+        .withThrowableThat()
+        .havingCause()
+        .isInstanceOf(PersistenceException.class);
+  }
 }
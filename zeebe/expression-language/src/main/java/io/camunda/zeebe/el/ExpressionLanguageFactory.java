@@ -7,7 +7,9 @@
  */
 package io.camunda.zeebe.el;
 
+import io.camunda.zeebe.el.impl.FeelExpressionCache;
 import io.camunda.zeebe.el.impl.FeelExpressionLanguage;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.camunda.feel.FeelEngineClock;
 
 /** The entry point to create the default {@link ExpressionLanguage}. */
@@ -19,4 +21,12 @@ public class ExpressionLanguageFactory {
   public static ExpressionLanguage createExpressionLanguage(final FeelEngineClock feelEngineClock) {
     return new FeelExpressionLanguage(feelEngineClock);
   }
+
+  /**
+   * Registers the metrics which are shared by all {@link ExpressionLanguage} instances, like the
+   * ones of the cache of parsed expressions, with the given registry.
+   */
+  public static void registerMetrics(final MeterRegistry meterRegistry) {
+    FeelExpressionCache.registerMetrics(meterRegistry);
+  }
 }
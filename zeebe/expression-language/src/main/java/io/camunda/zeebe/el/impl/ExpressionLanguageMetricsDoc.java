@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
+import io.micrometer.core.instrument.Meter.Type;
+
+@SuppressWarnings("NullableProblems")
+public enum ExpressionLanguageMetricsDoc implements ExtendedMeterDocumentation {
+  /** Number of parsed expressions which were found in the expression cache */
+  EXPRESSION_CACHE_HITS {
+    @Override
+    public String getName() {
+      return "zeebe.expression.cache.hits";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of parsed expressions which were found in the expression cache";
+    }
+  },
+
+  /** Number of expressions which were parsed because they were not found in the cache */
+  EXPRESSION_CACHE_MISSES {
+    @Override
+    public String getName() {
+      return "zeebe.expression.cache.misses";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of expressions which were parsed because they were not found in the cache";
+    }
+  },
+
+  /** Number of parsed expressions in the expression cache */
+  EXPRESSION_CACHE_SIZE {
+    @Override
+    public String getName() {
+      return "zeebe.expression.cache.size";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of parsed expressions in the expression cache";
+    }
+  }
+}
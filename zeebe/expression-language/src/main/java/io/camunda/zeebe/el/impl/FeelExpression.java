@@ -17,9 +17,11 @@ import org.camunda.feel.syntaxtree.Ref;
 public final class FeelExpression implements Expression {
 
   private final ParsedExpression expression;
+  private final Optional<VariablePath> variablePath;
 
   public FeelExpression(final ParsedExpression expression) {
     this.expression = expression;
+    variablePath = VariablePath.of(expression.expression());
   }
 
   @Override
@@ -63,6 +65,14 @@ public final class FeelExpression implements Expression {
     return expression;
   }
 
+  /**
+   * @return the variable path if the expression is a plain reference to a variable, like {@code x}
+   *     or {@code x.y.z}, otherwise empty
+   */
+  Optional<VariablePath> getVariablePath() {
+    return variablePath;
+  }
+
   @Override
   public String toString() {
     return "FeelExpression{" + "expression=" + expression + '}';
@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static io.camunda.zeebe.el.impl.ExpressionLanguageMetricsDoc.EXPRESSION_CACHE_HITS;
+import static io.camunda.zeebe.el.impl.ExpressionLanguageMetricsDoc.EXPRESSION_CACHE_MISSES;
+import static io.camunda.zeebe.el.impl.ExpressionLanguageMetricsDoc.EXPRESSION_CACHE_SIZE;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.camunda.zeebe.el.Expression;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of parsed FEEL expressions, keyed by the expression's text. Parsing doesn't
+ * depend on the engine which evaluates the expression later, so the cache is shared by all
+ * expression languages. The same expression of many processes, versions and tenants is parsed only
+ * once, and all of them refer to the same parsed expression.
+ */
+public final class FeelExpressionCache {
+
+  static final int CAPACITY = 10_000;
+
+  private static final Cache<String, Expression> CACHE =
+      Caffeine.newBuilder().maximumSize(CAPACITY).recordStats().build();
+
+  private FeelExpressionCache() {}
+
+  static Expression get(final String expression, final Function<String, Expression> parser) {
+    return CACHE.get(expression, parser);
+  }
+
+  /**
+   * Registers the hit and miss counts and the size of the cache with the given registry. As the
+   * cache is shared, this should only be done once per registry, and not for every partition.
+   */
+  public static void registerMetrics(final MeterRegistry registry) {
+    FunctionCounter.builder(
+            EXPRESSION_CACHE_HITS.getName(), CACHE, cache -> cache.stats().hitCount())
+        .description(EXPRESSION_CACHE_HITS.getDescription())
+        .register(registry);
+    FunctionCounter.builder(
+            EXPRESSION_CACHE_MISSES.getName(), CACHE, cache -> cache.stats().missCount())
+        .description(EXPRESSION_CACHE_MISSES.getDescription())
+        .register(registry);
+    Gauge.builder(EXPRESSION_CACHE_SIZE.getName(), CACHE, Cache::estimatedSize)
+        .description(EXPRESSION_CACHE_SIZE.getDescription())
+        .register(registry);
+  }
+}
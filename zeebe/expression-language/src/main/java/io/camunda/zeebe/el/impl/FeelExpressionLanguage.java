@@ -17,9 +17,14 @@ import io.camunda.zeebe.el.ExpressionLanguage;
 import io.camunda.zeebe.feel.impl.FeelFunctionProvider;
 import io.camunda.zeebe.feel.impl.FeelToMessagePackTransformer;
 import io.camunda.zeebe.feel.impl.MessagePackValueMapper;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.camunda.feel.FeelEngine;
 import org.camunda.feel.FeelEngine.Failure;
 import org.camunda.feel.FeelEngineClock;
@@ -40,6 +45,9 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
   private final FeelToMessagePackTransformer messagePackTransformer =
       new FeelToMessagePackTransformer();
+  private final MessagePackValueMapper valueMapper = new MessagePackValueMapper();
+  private final MsgPackReader variableReader = new MsgPackReader();
+  private final DirectBuffer variableView = new UnsafeBuffer();
 
   private final FeelEngine feelEngine;
 
@@ -60,7 +68,7 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
     if (expressionMatcher.matches()) {
       final var unpackedExpression = expressionMatcher.group(1);
-      return parseFeelExpression(unpackedExpression);
+      return FeelExpressionCache.get(unpackedExpression, this::parseFeelExpression);
     } else {
       return new StaticExpression(expression);
     }
@@ -107,6 +115,15 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       final EvaluationContext context,
       final FeelExpression feelExpression) {
 
+    final var variablePath = feelExpression.getVariablePath();
+    if (variablePath.isPresent()) {
+      final var value = readVariablePath(variablePath.get(), context);
+      if (value != null) {
+        return new FeelEvaluationResult(
+            expression, value, List.of(), messagePackTransformer::toMessagePack);
+      }
+    }
+
     final var parsedExpression = feelExpression.getParsedExpression();
     final var feelContext = new FeelVariableContext(context);
 
@@ -131,6 +148,58 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
     }
   }
 
+  /**
+   * Reads the value of the given path from the variable, like the FEEL engine would do when
+   * evaluating the path, but without parsing the whole variable.
+   *
+   * @return the value, or null if the variable or a context entry of the path doesn't exist, in
+   *     which case the expression is evaluated by the FEEL engine to report why
+   */
+  private Val readVariablePath(final VariablePath path, final EvaluationContext context) {
+    final var variable = context.getVariable(path.variableName());
+    if (variable == null || variable.capacity() == 0) {
+      return null;
+    }
+
+    int valueOffset = 0;
+    int valueLength = variable.capacity();
+    for (final var key : path.keys()) {
+      variableReader.wrap(variable, valueOffset, valueLength);
+      final var mapToken = variableReader.readToken();
+      if (mapToken.getType() != MsgPackType.MAP) {
+        // the FEEL engine handles paths on other values, e.g. on lists
+        return null;
+      }
+
+      final int entries = mapToken.getSize();
+      int entryOffset = -1;
+      int entryLength = 0;
+      for (int i = 0; i < entries; i++) {
+        final var keyToken = variableReader.readToken();
+        final boolean matches =
+            keyToken.getType() == MsgPackType.STRING
+                && BufferUtil.equals(keyToken.getValueBuffer(), key);
+
+        final int offset = variableReader.getOffset();
+        variableReader.skipValue();
+        // like a context, the last entry wins if the key is not unique
+        if (matches) {
+          entryOffset = valueOffset + offset;
+          entryLength = variableReader.getOffset() - offset;
+        }
+      }
+
+      if (entryOffset < 0) {
+        return null;
+      }
+      valueOffset = entryOffset;
+      valueLength = entryLength;
+    }
+
+    variableView.wrap(variable, valueOffset, valueLength);
+    return valueMapper.toVal(variableView, null).get();
+  }
+
   private List<EvaluationWarning> extractEvaluationWarning(
       final org.camunda.feel.api.EvaluationResult evaluationResult) {
     final var warnings = new ArrayList<EvaluationWarning>();
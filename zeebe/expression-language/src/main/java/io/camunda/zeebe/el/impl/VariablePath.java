@@ -0,0 +1,51 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static scala.jdk.javaapi.CollectionConverters.asJava;
+
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.agrona.DirectBuffer;
+import org.camunda.feel.syntaxtree.Exp;
+import org.camunda.feel.syntaxtree.PathExpression;
+import org.camunda.feel.syntaxtree.Ref;
+
+/**
+ * A plain reference to a variable, or to a nested context entry of a variable, like {@code x} or
+ * {@code x.y.z}. Its value can be read from the MessagePack encoded variable directly, without
+ * evaluating the expression by the FEEL engine.
+ *
+ * @param variableName the name of the variable
+ * @param keys the keys of the nested context entries, in the order of the path
+ */
+record VariablePath(String variableName, List<DirectBuffer> keys) {
+
+  /**
+   * @return the path the given expression refers to, or empty if it is not a plain reference
+   */
+  static Optional<VariablePath> of(final Exp expression) {
+    if (expression instanceof final Ref ref) {
+      final var names = asJava(ref.names());
+      final var keys = names.stream().skip(1).map(BufferUtil::wrapString).toList();
+      return Optional.of(new VariablePath(names.getFirst(), keys));
+    }
+    if (expression instanceof final PathExpression path) {
+      return of(path.path())
+          .map(
+              parent -> {
+                final var keys = new ArrayList<>(parent.keys());
+                keys.add(BufferUtil.wrapString(path.key()));
+                return new VariablePath(parent.variableName(), List.copyOf(keys));
+              });
+    }
+    return Optional.empty();
+  }
+}
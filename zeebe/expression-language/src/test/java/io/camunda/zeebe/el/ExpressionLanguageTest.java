@@ -8,12 +8,14 @@
 package io.camunda.zeebe.el;
 
 import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsArray;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 
 import io.camunda.zeebe.el.impl.StaticExpression;
 import io.camunda.zeebe.el.util.TestFeelEngineClock;
 import java.util.Map;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.Test;
 
 public class ExpressionLanguageTest {
@@ -184,6 +186,125 @@ public class ExpressionLanguageTest {
     assertThat(evaluationResult.getFailureMessage()).isNull();
   }
 
+  @Test
+  public void shouldReuseParsedExpression() {
+    // given
+    final var otherExpressionLanguage =
+        ExpressionLanguageFactory.createExpressionLanguage(new TestFeelEngineClock());
+
+    // when
+    final var expression = expressionLanguage.parseExpression("=x.y + 1");
+    final var otherExpression = otherExpressionLanguage.parseExpression("=x.y + 1");
+
+    // then
+    assertThat(otherExpression).isSameAs(expression);
+  }
+
+  @Test
+  public void shouldEvaluateVariablePathLikeExpression() {
+    // given
+    final var context =
+        Map.of("x", asMsgPack("{'y': {'a': 1, 'b': 2.0, 'c': [1, 'two'], 'd': {'e': null}}}"));
+    final var expressions =
+        Map.of(
+            "=x", "=if true then x else null",
+            "=x.y", "=if true then x.y else null",
+            "=x.y.a", "=if true then x.y.a else null",
+            "=x.y.b", "=if true then x.y.b else null",
+            "=x.y.c", "=if true then x.y.c else null",
+            "=x.y.d.e", "=if true then x.y.d.e else null");
+
+    expressions.forEach(
+        (path, expression) -> {
+          // when
+          final var pathResult =
+              expressionLanguage.evaluateExpression(
+                  expressionLanguage.parseExpression(path), context::get);
+          final var pathResultBuffer = bufferAsArray(pathResult.toBuffer());
+          final var expressionResult =
+              expressionLanguage.evaluateExpression(
+                  expressionLanguage.parseExpression(expression), context::get);
+
+          // then
+          assertThat(pathResult.getType()).describedAs(path).isEqualTo(expressionResult.getType());
+          assertThat(pathResult.getNumber())
+              .describedAs(path)
+              .isEqualTo(expressionResult.getNumber());
+          assertThat(pathResult.getList()).describedAs(path).isEqualTo(expressionResult.getList());
+          assertThat(pathResultBuffer)
+              .describedAs(path)
+              .isEqualTo(bufferAsArray(expressionResult.toBuffer()));
+          assertThat(pathResult.getWarnings()).describedAs(path).isEmpty();
+        });
+  }
+
+  @Test
+  public void shouldEvaluateVariablePathWithMissingContextEntry() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=x.y.z");
+
+    // when
+    final var evaluationResult =
+        expressionLanguage.evaluateExpression(
+            expression, Map.of("x", asMsgPack("{'y': {'a': 1}}"))::get);
+
+    // then
+    assertThat(evaluationResult.isFailure()).isFalse();
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.NULL);
+    assertThat(evaluationResult.getWarnings()).isNotEmpty();
+  }
+
+  @Test
+  public void shouldEvaluateVariablePathOnList() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=x.y");
+
+    // when
+    final var evaluationResult =
+        expressionLanguage.evaluateExpression(
+            expression, Map.of("x", asMsgPack("[{'y': 1}, {'y': 2}]"))::get);
+
+    // then
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.ARRAY);
+    assertThat(bufferAsArray(evaluationResult.toBuffer()))
+        .isEqualTo(bufferAsArray(asMsgPack("[1, 2]")));
+  }
+
+  @Test
+  public void shouldEvaluateEntriesOfNestedContexts() {
+    // given
+    final var expression =
+        expressionLanguage.parseExpression("=x.y.a + x.y.b[2].c + count(get entries(x.y))");
+
+    // when
+    final var evaluationResult =
+        expressionLanguage.evaluateExpression(
+            expression,
+            Map.of("x", asMsgPack("{'y': {'a': 1, 'b': [{'c': 2}, {'c': 3}], 'd': 'e'}}"))::get);
+
+    // then
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.NUMBER);
+    assertThat(evaluationResult.getNumber()).isEqualTo(7L);
+    assertThat(evaluationResult.getWarnings()).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnNestedContextAfterVariableIsOverwritten() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=if true then x.y else null");
+    final var variable = new UnsafeBuffer(asMsgPack("{'y': {'a': 1, 'b': 'c'}}"));
+
+    // when
+    final var evaluationResult =
+        expressionLanguage.evaluateExpression(expression, Map.of("x", variable)::get);
+    variable.setMemory(0, variable.capacity(), (byte) 0);
+
+    // then
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.OBJECT);
+    assertThat(bufferAsArray(evaluationResult.toBuffer()))
+        .isEqualTo(bufferAsArray(asMsgPack("{'a': 1, 'b': 'c'}")));
+  }
+
   @Test
   public void shouldReturnEvaluationWarnings() {
     final var expression = expressionLanguage.parseExpression("= x < 3");
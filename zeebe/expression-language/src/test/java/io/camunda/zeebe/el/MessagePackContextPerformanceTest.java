@@ -0,0 +1,89 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+
+import io.camunda.zeebe.el.util.TestFeelEngineClock;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the evaluation of an expression which accesses a single entry of a variable that is a
+ * document with many entries, like a payload received from a connector. The expression is not a
+ * plain path, so it is evaluated by the FEEL engine, which reads the document as a context.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@State(Scope.Benchmark)
+public class MessagePackContextPerformanceTest {
+
+  @Param({"10", "100", "1000"})
+  private int entries;
+
+  private final ExpressionLanguage expressionLanguage =
+      ExpressionLanguageFactory.createExpressionLanguage(new TestFeelEngineClock());
+  private Expression expression;
+  private EvaluationContext context;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Map<String, Object> document = new LinkedHashMap<>();
+    for (int i = 0; i < entries; i++) {
+      document.put("entry" + i, "value of entry " + i);
+    }
+    final DirectBuffer variable = asMsgPack(document);
+
+    expression = expressionLanguage.parseExpression("=upper case(document.entry5)");
+    context = name -> "document".equals(name) ? variable : null;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public EvaluationResult measureEvaluation() {
+    return expressionLanguage.evaluateExpression(expression, context);
+  }
+
+  @JMHTest("measureEvaluation")
+  void shouldNotDegradeWithEntriesWhichAreNotAccessed(final JMHTestCase testCase) {
+    // given - the options are accumulated, so the second run needs a test case of its own
+    final var smallDocumentResult =
+        testCase.withOptions(options -> options.param("entries", "10")).run();
+
+    // when
+    final var largeDocumentResult =
+        JMHTestCase.of(
+                MessagePackContextPerformanceTest.class,
+                "measureEvaluation",
+                options -> options.param("entries", "100"))
+            .run();
+
+    // then - the entries are still skipped over once, but not decoded
+    largeDocumentResult.isAtLeast(smallDocumentResult, 0.75);
+  }
+}
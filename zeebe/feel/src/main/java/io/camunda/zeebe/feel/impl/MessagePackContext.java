@@ -10,7 +10,9 @@ package io.camunda.zeebe.feel.impl;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
 
-import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import java.util.ArrayList;
+import java.util.Arrays;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.camunda.feel.context.CustomContext;
@@ -19,17 +21,23 @@ import scala.Option;
 import scala.Tuple2;
 import scala.collection.Iterable;
 import scala.collection.immutable.Map;
+import scala.jdk.javaapi.CollectionConverters;
 
+/**
+ * A FEEL context of a MessagePack encoded map. Its entries are not decoded upfront: the keys are
+ * indexed by a hash of their encoded bytes on the first lookup, and only the values which are
+ * looked up are read. Nested maps refer to the buffer of the context which contains them, instead
+ * of copying it.
+ */
 public class MessagePackContext extends CustomContext {
 
   public final DirectBuffer messagePackMap;
   private final VariableProvider variableProvider;
 
-  public MessagePackContext(final MsgPackReader reader, final int bufferOffset, final int size) {
-    final var valueSpans = readValueSpans(reader, bufferOffset, size);
-    messagePackMap =
-        cloneBuffer(reader.getBuffer(), bufferOffset, reader.getOffset() - bufferOffset);
-    variableProvider = new MessagePackMapVariableProvider(messagePackMap, valueSpans);
+  MessagePackContext(
+      final DirectBuffer messagePackMap, final int size, final MessagePackValueMapper valueMapper) {
+    this.messagePackMap = messagePackMap;
+    variableProvider = new MessagePackMapVariableProvider(messagePackMap, size, valueMapper);
   }
 
   @Override
@@ -37,62 +45,169 @@ public class MessagePackContext extends CustomContext {
     return variableProvider;
   }
 
-  private Map<String, Span> readValueSpans(
-      final MsgPackReader reader, final int bufferOffset, final int size) {
-    final var spans = Map.<String, Span>newBuilder();
-    spans.sizeHint(size);
-
-    for (int i = 0; i < size; i++) {
-      final var keyToken = reader.readToken();
-      final var keyBuffer = keyToken.getValueBuffer();
-      final var key = bufferAsString(keyBuffer);
-
-      final var valueOffset = reader.getOffset();
-      reader.skipValue();
-      final var valueLength = reader.getOffset() - valueOffset;
-      spans.addOne(new Tuple2<>(key, new Span(valueOffset - bufferOffset, valueLength)));
-    }
-    return spans.result();
-  }
+  private static final class MessagePackMapVariableProvider implements VariableProvider {
+    // every entry is stored as the offsets and lengths of its key and of its value
+    private static final int KEY_OFFSET = 0;
+    private static final int KEY_LENGTH = 1;
+    private static final int VALUE_OFFSET = 2;
+    private static final int VALUE_LENGTH = 3;
+    private static final int ENTRY_LENGTH = 4;
 
-  record Span(int offset, int length) {}
+    private final DirectBuffer messagePackMap;
+    private final int size;
+    private final MessagePackValueMapper valueMapper;
 
-  private static final class MessagePackMapVariableProvider implements VariableProvider {
-    private final DirectBuffer entries;
-    private final DirectBuffer resultView = new UnsafeBuffer();
-    private final Map<String, Span> valueSpans;
+    private int[] entries;
+    private int[] entriesByKey;
 
     private MessagePackMapVariableProvider(
-        final DirectBuffer entries, final Map<String, Span> valueSpans) {
-      this.entries = entries;
-      this.valueSpans = valueSpans;
+        final DirectBuffer messagePackMap,
+        final int size,
+        final MessagePackValueMapper valueMapper) {
+      this.messagePackMap = messagePackMap;
+      this.size = size;
+      this.valueMapper = valueMapper;
     }
 
     @Override
     public Option<Object> getVariable(final String name) {
-      return valueSpans
-          .get(name)
-          .map(
-              span -> {
-                resultView.wrap(entries, span.offset(), span.length());
-                return resultView;
-              });
+      final int entry = findEntry(valueMapper.encodeName(name));
+      if (entry < 0) {
+        return Option.empty();
+      }
+
+      return Option.apply(
+          valueMapper.readEntry(
+              messagePackMap, entries[entry + VALUE_OFFSET], entries[entry + VALUE_LENGTH]));
     }
 
     @Override
     public Iterable<String> keys() {
-      return valueSpans.keySet();
+      final var keys = new ArrayList<String>(size);
+      for (final int entry : indexedEntries()) {
+        keys.add(
+            bufferAsString(
+                new UnsafeBuffer(
+                    messagePackMap, entries[entry + KEY_OFFSET], entries[entry + KEY_LENGTH])));
+      }
+      return CollectionConverters.asScala(keys);
     }
 
     @Override
     public Map<String, Object> getVariables() {
       final var clonedMap = Map.<String, Object>newBuilder();
-      valueSpans.foreach(
-          entry ->
-              clonedMap.addOne(
-                  new Tuple2<>(
-                      entry._1(), cloneBuffer(entries, entry._2().offset(), entry._2().length()))));
+      for (final int entry : indexedEntries()) {
+        final var key =
+            bufferAsString(
+                new UnsafeBuffer(
+                    messagePackMap, entries[entry + KEY_OFFSET], entries[entry + KEY_LENGTH]));
+        final var value =
+            cloneBuffer(
+                messagePackMap, entries[entry + VALUE_OFFSET], entries[entry + VALUE_LENGTH]);
+        clonedMap.addOne(new Tuple2<>(key, value));
+      }
       return clonedMap.result();
     }
+
+    private int findEntry(final DirectBuffer key) {
+      if (entriesByKey == null) {
+        index();
+      }
+
+      final int keyLength = key.capacity();
+      final int mask = entriesByKey.length - 1;
+      for (int slot = hash(key, 0, keyLength) & mask;
+          entriesByKey[slot] != 0;
+          slot = (slot + 1) & mask) {
+        final int entry = entriesByKey[slot] - 1;
+        if (keyEquals(entry, key, 0, keyLength)) {
+          return entry;
+        }
+      }
+
+      return -1;
+    }
+
+    /**
+     * @return the entries which can be found by their key, in the order of the map
+     */
+    private int[] indexedEntries() {
+      if (entriesByKey == null) {
+        index();
+      }
+
+      final int[] indexed = Arrays.stream(entriesByKey).filter(slot -> slot != 0).toArray();
+      for (int i = 0; i < indexed.length; i++) {
+        indexed[i] -= 1;
+      }
+      Arrays.sort(indexed);
+      return indexed;
+    }
+
+    private void index() {
+      final var reader = valueMapper.reader();
+      reader.wrap(messagePackMap, 0, messagePackMap.capacity());
+      reader.readMapHeader();
+
+      entries = new int[size * ENTRY_LENGTH];
+      // keep the table at most half full, so that lookups of unknown keys end quickly
+      final int capacity = Integer.highestOneBit(Math.max(size, 1)) << 2;
+      entriesByKey = new int[capacity];
+      final int mask = capacity - 1;
+
+      for (int i = 0; i < size; i++) {
+        final var keyToken = reader.readToken();
+        final int valueOffset = reader.getOffset();
+        reader.skipValue();
+
+        if (keyToken.getType() != MsgPackType.STRING) {
+          // FEEL can only refer to entries with a string key
+          continue;
+        }
+
+        final int entry = i * ENTRY_LENGTH;
+        final int keyLength = keyToken.getValueBuffer().capacity();
+        final int keyOffset = valueOffset - keyLength;
+        entries[entry + KEY_OFFSET] = keyOffset;
+        entries[entry + KEY_LENGTH] = keyLength;
+        entries[entry + VALUE_OFFSET] = valueOffset;
+        entries[entry + VALUE_LENGTH] = reader.getOffset() - valueOffset;
+
+        int slot = hash(messagePackMap, keyOffset, keyLength) & mask;
+        while (entriesByKey[slot] != 0
+            && !keyEquals(entriesByKey[slot] - 1, messagePackMap, keyOffset, keyLength)) {
+          slot = (slot + 1) & mask;
+        }
+        // like in a map, the last entry wins if a key is not unique
+        entriesByKey[slot] = entry + 1;
+      }
+    }
+
+    private boolean keyEquals(
+        final int entry, final DirectBuffer key, final int keyOffset, final int keyLength) {
+      if (entries[entry + KEY_LENGTH] != keyLength) {
+        return false;
+      }
+
+      final int offset = entries[entry + KEY_OFFSET];
+      for (int i = 0; i < keyLength; i++) {
+        if (messagePackMap.getByte(offset + i) != key.getByte(keyOffset + i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static int hash(final DirectBuffer bytes, final int offset, final int length) {
+      int hash = length;
+      for (int i = 0; i < length; i++) {
+        hash = 31 * hash + bytes.getByte(offset + i);
+      }
+
+      // keys often differ only in their last characters, e.g. item1, item2, etc., which results in
+      // consecutive hashes that would cluster in the table without scrambling them
+      hash *= 0x9E3779B9;
+      return hash ^ (hash >>> 16);
+    }
   }
 }
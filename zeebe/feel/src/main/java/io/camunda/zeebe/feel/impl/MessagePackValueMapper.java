@@ -9,12 +9,16 @@ package io.camunda.zeebe.feel.impl;
 
 import static io.camunda.zeebe.feel.impl.Loggers.LOGGER;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
 
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import io.camunda.zeebe.msgpack.spec.MsgPackToken;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.camunda.feel.impl.JavaValueMapper;
 import org.camunda.feel.syntaxtree.Val;
 import org.camunda.feel.syntaxtree.ValBoolean;
@@ -27,16 +31,47 @@ import scala.Function1;
 import scala.Option;
 import scala.jdk.javaapi.CollectionConverters;
 
+/**
+ * Maps MessagePack encoded values to FEEL values. Maps are not decoded, but wrapped into a {@link
+ * MessagePackContext} which reads its entries on demand.
+ *
+ * <p>The contexts share the reader and the buffers of the mapper which created them, so the mapper
+ * and its values must only be used by one thread, i.e. the one evaluating the expressions.
+ */
 public final class MessagePackValueMapper extends JavaValueMapper {
   private final MsgPackReader msgPackReader = new MsgPackReader();
+  private final MutableDirectBuffer nameBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer nameView = new UnsafeBuffer();
+
+  /**
+   * Reads the value of a context entry. Unlike a variable, the buffer of the context outlives the
+   * value, so nested contexts can refer to it instead of copying their entries.
+   */
+  Val readEntry(final DirectBuffer buffer, final int offset, final int length) {
+    msgPackReader.wrap(buffer, offset, length);
+    return readNext(false);
+  }
+
+  MsgPackReader reader() {
+    return msgPackReader;
+  }
 
-  private Val readNext() {
+  /**
+   * @return the UTF-8 encoded name, in a buffer which is reused by the next call
+   */
+  DirectBuffer encodeName(final String name) {
+    final int length = nameBuffer.putStringWithoutLengthUtf8(0, name);
+    nameView.wrap(nameBuffer, 0, length);
+    return nameView;
+  }
+
+  private Val readNext(final boolean copyContexts) {
     final var offset = msgPackReader.getOffset();
     final var token = msgPackReader.readToken();
-    return read(token, offset);
+    return read(token, offset, copyContexts);
   }
 
-  private Val read(final MsgPackToken token, final int offset) {
+  private Val read(final MsgPackToken token, final int offset, final boolean copyContexts) {
     return switch (token.getType()) {
       case NIL -> ValNull$.MODULE$;
       case INTEGER ->
@@ -48,11 +83,21 @@ public final class MessagePackValueMapper extends JavaValueMapper {
         final var size = token.getSize();
         final var items = new ArrayList<Val>(size);
         for (int i = 0; i < size; i++) {
-          items.add(readNext());
+          items.add(readNext(copyContexts));
         }
         yield new ValList(CollectionConverters.asScala(items).toList());
       }
-      case MAP -> new ValContext(new MessagePackContext(msgPackReader, offset, token.getSize()));
+      case MAP -> {
+        final var size = token.getSize();
+        msgPackReader.skipValues(2L * size);
+        final var buffer = msgPackReader.getBuffer();
+        final var length = msgPackReader.getOffset() - offset;
+        final DirectBuffer messagePackMap =
+            copyContexts
+                ? cloneBuffer(buffer, offset, length)
+                : new UnsafeBuffer(buffer, offset, length);
+        yield new ValContext(new MessagePackContext(messagePackMap, size, this));
+      }
       case STRING -> new ValString(bufferAsString(token.getValueBuffer()));
       default -> {
         LOGGER.warn(
@@ -72,8 +117,12 @@ public final class MessagePackValueMapper extends JavaValueMapper {
   @Override
   public Option<Val> toVal(final Object x, final Function1<Object, Val> innerValueMapper) {
     if (x instanceof final DirectBuffer buffer) {
+      // the buffer of a variable may be reused when reading the next one, so contexts copy it
       msgPackReader.wrap(buffer, 0, buffer.capacity());
-      return Option.apply(readNext());
+      return Option.apply(readNext(true));
+    } else if (x instanceof final Val value) {
+      // the entries of a context are already read by the context itself
+      return Option.apply(value);
     } else {
       return Option.empty();
     }
@@ -21,6 +21,7 @@ import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.nio.file.Path;
 import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
 
 public interface Journal extends AutoCloseable {
 
@@ -124,6 +125,18 @@ public interface Journal extends AutoCloseable {
    */
   void flush() throws FlushException;
 
+  /**
+   * Requests a flush of all records written so far, without blocking the caller. The returned
+   * future is completed once these records are safely flushed to the persistent storage, or
+   * completed exceptionally if flushing failed.
+   *
+   * <p>Depending on the implementation, concurrent requests may be merged and covered by a single
+   * flush, trading latency for throughput.
+   *
+   * @return a future completed once all records written before this call are flushed
+   */
+  CompletableFuture<Void> flushAsync();
+
   /**
    * Opens a new {@link JournalReader}
    *
@@ -0,0 +1,172 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
+import io.camunda.zeebe.util.CloseableSilently;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Merges concurrent flush requests into a single flush, i.e. group commit. A request is delayed by
+ * at most {@link Config#maxDelay()}; if {@link Config#maxBatchSize()} requests are pending before
+ * that, they are flushed immediately. A single flush then covers every pending request, and their
+ * futures are completed once it is done.
+ *
+ * <p>The flush itself is executed on a dedicated thread, so callers are never blocked. This is safe
+ * since the journal supports flushing concurrently with appends.
+ */
+final class GroupCommitFlushScheduler implements CloseableSilently {
+  private static final Logger LOGGER = LoggerFactory.getLogger(GroupCommitFlushScheduler.class);
+
+  private final FlushAction flushAction;
+  private final Config config;
+  private final JournalMetrics metrics;
+  private final ScheduledExecutorService executor;
+
+  private final Object pendingMonitor = new Object();
+  private List<PendingFlush> pending = new ArrayList<>();
+  private Future<?> scheduledFlush;
+  private boolean closed;
+
+  GroupCommitFlushScheduler(
+      final FlushAction flushAction, final Config config, final JournalMetrics metrics) {
+    this.flushAction = Objects.requireNonNull(flushAction, "must specify a flush action");
+    this.config = Objects.requireNonNull(config, "must specify a group commit config");
+    this.metrics = Objects.requireNonNull(metrics, "must specify journal metrics");
+
+    executor =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("journal-group-commit-%d")
+                .setDaemon(true)
+                .build());
+  }
+
+  /**
+   * Requests a flush. The returned future is completed once a flush which started after this call
+   * has finished, or completed exceptionally if that flush failed.
+   *
+   * @return a future completed when everything written before this call is flushed
+   */
+  CompletableFuture<Void> flush() {
+    final var request = new PendingFlush(new CompletableFuture<>(), System.nanoTime());
+
+    synchronized (pendingMonitor) {
+      if (closed) {
+        return CompletableFuture.failedFuture(
+            new IllegalStateException("Cannot flush, as the group commit flusher is closed"));
+      }
+
+      pending.add(request);
+      if (pending.size() >= config.maxBatchSize()) {
+        if (scheduledFlush != null) {
+          scheduledFlush.cancel(false);
+        }
+
+        scheduledFlush = executor.submit(this::flushPending);
+      } else if (scheduledFlush == null) {
+        scheduledFlush =
+            executor.schedule(
+                this::flushPending, config.maxDelay().toNanos(), TimeUnit.NANOSECONDS);
+      }
+    }
+
+    return request.future();
+  }
+
+  /** Flushes all pending requests, and stops accepting new ones. */
+  @Override
+  public void close() {
+    synchronized (pendingMonitor) {
+      if (closed) {
+        return;
+      }
+
+      closed = true;
+      if (scheduledFlush != null) {
+        scheduledFlush.cancel(false);
+        scheduledFlush = null;
+      }
+    }
+
+    try {
+      executor.submit(this::flushPending).get();
+    } catch (final RejectedExecutionException | ExecutionException e) {
+      LOGGER.warn("Failed to flush pending requests on close", e);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void flushPending() {
+    final List<PendingFlush> batch;
+    synchronized (pendingMonitor) {
+      batch = pending;
+      pending = new ArrayList<>();
+      scheduledFlush = null;
+    }
+
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    final long flushStart = System.nanoTime();
+    for (final var request : batch) {
+      metrics.observeFlushWaitTime(flushStart - request.requestedAt());
+    }
+    metrics.observeFlushBatchSize(batch.size());
+
+    try {
+      flushAction.flush();
+    } catch (final Exception e) {
+      LOGGER.warn("Failed to flush journal for {} pending request(s)", batch.size(), e);
+      batch.forEach(request -> request.future().completeExceptionally(e));
+      return;
+    }
+
+    batch.forEach(request -> request.future().complete(null));
+  }
+
+  /**
+   * Configures the group commit.
+   *
+   * @param maxDelay the maximum time a flush request is delayed to be merged with later requests
+   * @param maxBatchSize the number of pending requests after which they are flushed immediately
+   */
+  record Config(Duration maxDelay, int maxBatchSize) {
+    Config {
+      Objects.requireNonNull(maxDelay, "must specify a max delay");
+      checkArgument(!maxDelay.isNegative(), "maxDelay must not be negative");
+      checkArgument(maxBatchSize > 0, "maxBatchSize must be positive");
+    }
+  }
+
+  @FunctionalInterface
+  interface FlushAction {
+    void flush() throws FlushException;
+  }
+
+  private record PendingFlush(CompletableFuture<Void> future, long requestedAt) {}
+}
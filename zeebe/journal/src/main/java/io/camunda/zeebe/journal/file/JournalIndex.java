@@ -29,7 +29,18 @@ interface JournalIndex {
    * @param record the record that should be indexed
    * @param position the position of the given index
    */
-  void index(JournalRecord record, int position);
+  default void index(final JournalRecord record, final int position) {
+    index(record.index(), record.asqn(), position);
+  }
+
+  /**
+   * Indexes the record with the given index and asqn at the given position with in a segment
+   *
+   * @param index the index of the record
+   * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+   * @param position the position of the given index
+   */
+  void index(long index, long asqn, int position);
 
   /**
    * Looks up the position of the given index.
@@ -89,4 +100,25 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  /**
+   * Visits all indexed entries with an index between the given bounds (both inclusive), in
+   * ascending order of their index.
+   *
+   * @param fromIndex the lower bound of the entries to visit
+   * @param toIndex the upper bound of the entries to visit
+   * @param visitor the visitor called for every entry
+   */
+  void forEach(long fromIndex, long toIndex, IndexEntryVisitor visitor);
+
+  @FunctionalInterface
+  interface IndexEntryVisitor {
+
+    /**
+     * @param index the index of the entry
+     * @param asqn the asqn of the entry, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+     * @param position the position of the entry with in its segment
+     */
+    void visit(long index, long asqn, int position);
+  }
 }
@@ -20,9 +20,11 @@ import static io.camunda.zeebe.journal.file.JournalMetricsDoc.*;
 import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 final class JournalMetrics {
@@ -37,6 +39,8 @@ final class JournalMetrics {
   private final Counter appendRate;
   private final Counter appendDataRate;
   private final Timer seekLatency;
+  private final DistributionSummary flushBatchSize;
+  private final Timer flushWaitTime;
   private final MeterRegistry registry;
 
   JournalMetrics(final MeterRegistry registry) {
@@ -67,6 +71,8 @@ final class JournalMetrics {
             .description(APPEND_DATA_RATE.getDescription())
             .register(registry);
     seekLatency = makeTimer(SEEK_LATENCY);
+    flushBatchSize = MicrometerUtil.buildSummary(FLUSH_BATCH_SIZE).register(registry);
+    flushWaitTime = makeTimer(FLUSH_WAIT_TIME);
   }
 
   void observeSegmentCreation(final Runnable segmentCreation) {
@@ -118,6 +124,14 @@ final class JournalMetrics {
     return MicrometerUtil.timer(seekLatency, Timer.start(registry));
   }
 
+  void observeFlushBatchSize(final int batchSize) {
+    flushBatchSize.record(batchSize);
+  }
+
+  void observeFlushWaitTime(final long waitTimeNanos) {
+    flushWaitTime.record(waitTimeNanos, TimeUnit.NANOSECONDS);
+  }
+
   private Timer makeTimer(final JournalMetricsDoc meter) {
     return Timer.builder(meter.getName())
         .description(meter.getDescription())
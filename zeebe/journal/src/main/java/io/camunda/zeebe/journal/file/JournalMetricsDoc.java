@@ -303,6 +303,57 @@ public enum JournalMetricsDoc implements ExtendedMeterDocumentation {
       return buckets;
     }
 
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+  /** Distribution of the number of flush requests covered by a single group commit flush */
+  FLUSH_BATCH_SIZE {
+    private static final double[] BUCKETS = {1, 2, 4, 8, 16, 32, 64, 128, 256};
+
+    @Override
+    public String getName() {
+      return "atomix.journal.flush.batch.size";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Distribution of the number of flush requests covered by a single group commit flush";
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return BUCKETS;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+  /** Distribution of time flush requests wait to be merged before the group commit flush starts */
+  FLUSH_WAIT_TIME {
+    @Override
+    public String getName() {
+      return "atomix.journal.flush.wait.time";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Distribution of time flush requests wait to be merged before the group commit flush starts";
+    }
+
     @Override
     public KeyName[] getKeyNames() {
       return new KeyName[] {PartitionKeyNames.PARTITION};
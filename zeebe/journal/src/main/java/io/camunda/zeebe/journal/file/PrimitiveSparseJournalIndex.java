@@ -0,0 +1,313 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A sparse {@link JournalIndex} which stores its entries in sorted primitive arrays instead of skip
+ * lists, avoiding boxing and per-entry node allocation. Floor lookups are done via binary search.
+ *
+ * <p>Since the journal mostly indexes entries in ascending order, indexing is usually an append to
+ * the end of the arrays. Entries indexed out of order (e.g. by readers seeking into a segment which
+ * was not yet indexed) are inserted at their sorted position.
+ *
+ * <p>Lookups use optimistic reads, and fall back to a read lock only if a concurrent modification
+ * happened while reading. All modifications are guarded by the write lock.
+ *
+ * <p>As the ASQN of entries is monotonically increasing with their index (ignoring entries with
+ * {@link SegmentedJournal#ASQN_IGNORE}), the entries with an ASQN are kept in a second pair of
+ * arrays sorted by index, which is then also sorted by ASQN.
+ */
+final class PrimitiveSparseJournalIndex implements JournalIndex {
+
+  private static final int INITIAL_CAPACITY = 64;
+  private static final int NOT_FOUND = -1;
+
+  private final int density;
+  private final StampedLock lock = new StampedLock();
+
+  private long[] indexes = new long[INITIAL_CAPACITY];
+  private int[] positions = new int[INITIAL_CAPACITY];
+  private int size;
+
+  private long[] asqnIndexes = new long[INITIAL_CAPACITY];
+  private long[] asqns = new long[INITIAL_CAPACITY];
+  private int asqnSize;
+
+  PrimitiveSparseJournalIndex(final int density) {
+    this.density = density;
+  }
+
+  @Override
+  public void index(final long index, final long asqn, final int position) {
+    if (index % density != 0) {
+      return;
+    }
+
+    final var stamp = lock.writeLock();
+    try {
+      indexPosition(index, position);
+      if (asqn != SegmentedJournal.ASQN_IGNORE) {
+        indexAsqn(index, asqn);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public IndexInfo lookup(final long index) {
+    final var optimisticStamp = lock.tryOptimisticRead();
+    IndexInfo result = unsafeLookup(index);
+    if (lock.validate(optimisticStamp)) {
+      return result;
+    }
+
+    final var stamp = lock.readLock();
+    try {
+      result = unsafeLookup(index);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+
+    return result;
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn) {
+    return lookupAsqn(asqn, Long.MAX_VALUE);
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn, final long indexUpperBound) {
+    final var optimisticStamp = lock.tryOptimisticRead();
+    Long result = unsafeLookupAsqn(asqn, indexUpperBound);
+    if (lock.validate(optimisticStamp)) {
+      return result;
+    }
+
+    final var stamp = lock.readLock();
+    try {
+      result = unsafeLookupAsqn(asqn, indexUpperBound);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+
+    return result;
+  }
+
+  @Override
+  public void deleteAfter(final long indexExclusive) {
+    final var stamp = lock.writeLock();
+    try {
+      size = floor(indexes, size, indexExclusive) + 1;
+      asqnSize = floor(asqnIndexes, asqnSize, indexExclusive) + 1;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void deleteUntil(final long indexExclusive) {
+    final var stamp = lock.writeLock();
+    try {
+      final int firstRetained = ceiling(indexes, size, indexExclusive);
+      size = removeHead(indexes, positions, size, firstRetained);
+
+      // keep the ASQN entry at or before the given index, so that lookups for an ASQN in between
+      // two indexed entries still resolve to the closest lower entry, same as the sparse index
+      final int floorAsqn = floor(asqnIndexes, asqnSize, indexExclusive);
+      if (floorAsqn > 0) {
+        System.arraycopy(asqnIndexes, floorAsqn, asqnIndexes, 0, asqnSize - floorAsqn);
+        System.arraycopy(asqns, floorAsqn, asqns, 0, asqnSize - floorAsqn);
+        asqnSize -= floorAsqn;
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void clear() {
+    final var stamp = lock.writeLock();
+    try {
+      indexes = new long[INITIAL_CAPACITY];
+      positions = new int[INITIAL_CAPACITY];
+      size = 0;
+      asqnIndexes = new long[INITIAL_CAPACITY];
+      asqns = new long[INITIAL_CAPACITY];
+      asqnSize = 0;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public boolean hasIndexed(final long index) {
+    final var indexInfo = lookup(index);
+    if (indexInfo == null) {
+      return false;
+    } else {
+      return indexInfo.index() > index - density;
+    }
+  }
+
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final IndexEntryVisitor visitor) {
+    final var stamp = lock.readLock();
+    try {
+      int asqnSlot = ceiling(asqnIndexes, asqnSize, fromIndex);
+      for (int slot = ceiling(indexes, size, fromIndex);
+          slot < size && indexes[slot] <= toIndex;
+          slot++) {
+        final long index = indexes[slot];
+        while (asqnSlot < asqnSize && asqnIndexes[asqnSlot] < index) {
+          asqnSlot++;
+        }
+
+        final long asqn =
+            asqnSlot < asqnSize && asqnIndexes[asqnSlot] == index
+                ? asqns[asqnSlot]
+                : SegmentedJournal.ASQN_IGNORE;
+        visitor.visit(index, asqn, positions[slot]);
+      }
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  private IndexInfo unsafeLookup(final long index) {
+    // read the fields only once, as they may be replaced concurrently during an optimistic read
+    final long[] currentIndexes = indexes;
+    final int[] currentPositions = positions;
+    final int currentSize =
+        Math.min(size, Math.min(currentIndexes.length, currentPositions.length));
+
+    final int slot = floor(currentIndexes, currentSize, index);
+    return slot == NOT_FOUND ? null : new IndexInfo(currentIndexes[slot], currentPositions[slot]);
+  }
+
+  private Long unsafeLookupAsqn(final long asqn, final long indexUpperBound) {
+    // read the fields only once, as they may be replaced concurrently during an optimistic read
+    final long[] currentIndexes = asqnIndexes;
+    final long[] currentAsqns = asqns;
+    final int currentSize =
+        Math.min(asqnSize, Math.min(currentIndexes.length, currentAsqns.length));
+
+    final int slot = floor(currentAsqns, currentSize, asqn);
+    if (slot == NOT_FOUND) {
+      return null;
+    }
+
+    if (currentIndexes[slot] <= indexUpperBound) {
+      return currentIndexes[slot];
+    }
+
+    final int boundedSlot = floor(currentIndexes, currentSize, indexUpperBound);
+    return boundedSlot == NOT_FOUND ? null : currentIndexes[boundedSlot];
+  }
+
+  private void indexPosition(final long index, final int position) {
+    final int slot = insertionSlot(indexes, size, index);
+    if (slot < size && indexes[slot] == index) {
+      positions[slot] = position;
+      return;
+    }
+
+    if (size == indexes.length) {
+      indexes = Arrays.copyOf(indexes, newCapacity(size));
+      positions = Arrays.copyOf(positions, indexes.length);
+    }
+
+    if (slot < size) {
+      System.arraycopy(indexes, slot, indexes, slot + 1, size - slot);
+      System.arraycopy(positions, slot, positions, slot + 1, size - slot);
+    }
+
+    indexes[slot] = index;
+    positions[slot] = position;
+    size++;
+  }
+
+  private void indexAsqn(final long index, final long asqn) {
+    final int slot = insertionSlot(asqnIndexes, asqnSize, index);
+    if (slot < asqnSize && asqnIndexes[slot] == index) {
+      asqns[slot] = asqn;
+      return;
+    }
+
+    if (asqnSize == asqnIndexes.length) {
+      asqnIndexes = Arrays.copyOf(asqnIndexes, newCapacity(asqnSize));
+      asqns = Arrays.copyOf(asqns, asqnIndexes.length);
+    }
+
+    if (slot < asqnSize) {
+      System.arraycopy(asqnIndexes, slot, asqnIndexes, slot + 1, asqnSize - slot);
+      System.arraycopy(asqns, slot, asqns, slot + 1, asqnSize - slot);
+    }
+
+    asqnIndexes[slot] = index;
+    asqns[slot] = asqn;
+    asqnSize++;
+  }
+
+  private static int removeHead(
+      final long[] keys, final int[] values, final int size, final int firstRetained) {
+    if (firstRetained <= 0) {
+      return size;
+    }
+
+    final int retained = size - firstRetained;
+    System.arraycopy(keys, firstRetained, keys, 0, retained);
+    System.arraycopy(values, firstRetained, values, 0, retained);
+    return retained;
+  }
+
+  private static int newCapacity(final int currentCapacity) {
+    return currentCapacity + (currentCapacity >> 1);
+  }
+
+  /**
+   * Returns the slot at which the given key is stored, or where it should be inserted to keep the
+   * keys sorted. Optimized for the common case where the key is greater than all existing keys.
+   */
+  private static int insertionSlot(final long[] keys, final int size, final long key) {
+    if (size == 0 || keys[size - 1] < key) {
+      return size;
+    }
+
+    final int slot = Arrays.binarySearch(keys, 0, size, key);
+    return slot >= 0 ? slot : -(slot + 1);
+  }
+
+  /** Returns the slot of the greatest key less than or equal to the given key, or -1 if none. */
+  private static int floor(final long[] keys, final int size, final long key) {
+    if (size == 0) {
+      return NOT_FOUND;
+    }
+
+    if (keys[size - 1] <= key) {
+      return size - 1;
+    }
+
+    final int slot = Arrays.binarySearch(keys, 0, size, key);
+    return slot >= 0 ? slot : -(slot + 1) - 1;
+  }
+
+  /** Returns the slot of the least key greater than or equal to the given key, or size if none. */
+  private static int ceiling(final long[] keys, final int size, final long key) {
+    if (size == 0) {
+      return 0;
+    }
+
+    final int slot = Arrays.binarySearch(keys, 0, size, key);
+    return slot >= 0 ? slot : -(slot + 1);
+  }
+}
@@ -29,7 +29,11 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import org.agrona.IoUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,6 +61,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private volatile boolean open = true;
   // This need to be volatile because both the writer and the readers access it concurrently
   private volatile boolean markedForDeletion = false;
+  private CompletableFuture<Void> pendingIndexFileWrite = CompletableFuture.completedFuture(null);
 
   Segment(
       final SegmentFile file,
@@ -230,6 +235,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
   @Override
   public void close() {
     open = false;
+    awaitIndexFileWrite();
     readers.forEach(SegmentReader::close);
     IoUtil.unmap(buffer);
   }
@@ -237,12 +243,33 @@ final class Segment implements AutoCloseable, FlushableSegment {
   /** Deletes the segment. */
   void delete() {
     open = false;
+    deleteIndexFile();
     markForDeletion();
     if (readers.isEmpty()) {
       safeDelete();
     }
   }
 
+  /**
+   * Deletes the segment like {@link #delete()}, but keeps its file on disk if no readers refer to
+   * it anymore, such that it can be recycled as a new segment. The file is still marked for
+   * deletion, so if it is not recycled, it's deleted on the next start up.
+   *
+   * @return the path of the file marked for deletion, or null if readers still refer to the
+   *     segment, in which case the file is deleted once the last reader is closed
+   */
+  Path deleteForReuse() {
+    open = false;
+    deleteIndexFile();
+    markForDeletion();
+    if (!readers.isEmpty()) {
+      return null;
+    }
+
+    IoUtil.unmap(buffer);
+    return file.getFileMarkedForDeletion();
+  }
+
   private void safeDelete() {
     if (!readers.isEmpty()) {
       throw new JournalException(
@@ -287,7 +314,79 @@ final class Segment implements AutoCloseable, FlushableSegment {
     descriptorSerializer.writeTo(descriptor, buffer);
   }
 
+  /**
+   * Persists the journal index entries of this segment into its index file, such that they can be
+   * loaded on start up via {@link #loadIndexFile()}. Must only be called once the segment is sealed
+   * and its descriptor was updated via {@link #updateDescriptor()}.
+   *
+   * <p>The entries are encoded right away, but the file is written by the given executor, as this
+   * is called when rolling over to the next segment, which should not wait for file I/O.
+   *
+   * <p>Failing to write the index file is not critical, as the segment will then simply be indexed
+   * on demand after a restart.
+   */
+  void writeIndexFile(final Executor executor) {
+    if (descriptor.lastPosition() == 0) {
+      // without a last position, the index file could never be matched to the segment on load
+      return;
+    }
+
+    final var indexFile = file.indexFile();
+    final var content = SegmentIndexFile.encode(descriptor, lastAsqn(), index);
+    try {
+      pendingIndexFileWrite =
+          CompletableFuture.runAsync(
+              () -> {
+                try {
+                  SegmentIndexFile.write(indexFile, content);
+                } catch (final IOException e) {
+                  LOG.warn(
+                      "Failed to write index file {} of segment {}, it will be indexed on demand after restart",
+                      indexFile,
+                      this,
+                      e);
+                  deleteIndexFileNow();
+                }
+              },
+              executor);
+    } catch (final RejectedExecutionException e) {
+      LOG.debug(
+          "Skipped writing index file {} of segment {}, as the journal is closed", indexFile, this);
+    }
+  }
+
+  /**
+   * Loads the journal index entries of this segment from its index file, if it exists and matches
+   * the current descriptor.
+   *
+   * @return true if the index entries were loaded, false otherwise
+   */
+  boolean loadIndexFile() {
+    return SegmentIndexFile.load(file.indexFile(), descriptor, index);
+  }
+
+  private void deleteIndexFile() {
+    // the file must not be written after it was deleted, e.g. when the segment is truncated
+    awaitIndexFileWrite();
+    deleteIndexFileNow();
+  }
+
+  private void deleteIndexFileNow() {
+    try {
+      Files.deleteIfExists(file.indexFile());
+    } catch (final IOException e) {
+      // a stale index file is detected on load since it won't match the descriptor anymore
+      LOG.debug("Could not delete index file of segment {}", this, e);
+    }
+  }
+
+  private void awaitIndexFileWrite() {
+    // failures are already handled by the write itself
+    pendingIndexFileWrite.join();
+  }
+
   void resetLastEntryInDescriptor() {
+    deleteIndexFile();
     descriptor = descriptor.reset();
     descriptorSerializer.writeTo(descriptor, buffer);
     // flush immediately to prevent inconsistencies between descriptor and actual last written entry
@@ -33,6 +33,7 @@ public final class SegmentFile {
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
   private static final String DELETE_EXTENSION = "deleted";
+  private static final String INDEX_EXTENSION = "idx";
   private static final char DELETE_EXTENSION_SEPARATOR = '_';
   private final File file;
   private Path fileMarkedForDeletion;
@@ -125,6 +126,16 @@ public final class SegmentFile {
     return file.getName();
   }
 
+  /**
+   * Returns the path of the index file belonging to this segment file. The index file has the same
+   * name as the segment file, but with a different extension.
+   *
+   * @return the path of the segment's index file
+   */
+  Path indexFile() {
+    return Path.of(file.getParent(), getIndexFileName(file.getName()));
+  }
+
   Path getFileMarkedForDeletion() {
     if (fileMarkedForDeletion == null) {
       final String renamedFileName =
@@ -146,4 +157,25 @@ public final class SegmentFile {
     final var deleteExtensionIndex = fileName.lastIndexOf(DELETE_EXTENSION_SEPARATOR);
     return isSegmentFile(journalName, fileName.substring(0, deleteExtensionIndex));
   }
+
+  static boolean isSegmentIndexFile(final String journalName, final String fileName) {
+    checkNotNull(journalName, "journalName cannot be null");
+    checkNotNull(fileName, "fileName cannot be null");
+
+    return fileName.startsWith(journalName)
+        && fileName.endsWith(EXTENSION_SEPARATOR + INDEX_EXTENSION);
+  }
+
+  /** Returns the name of the segment file to which the given index file belongs. */
+  static String getSegmentFileName(final String indexFileName) {
+    checkNotNull(indexFileName, "indexFileName cannot be null");
+
+    return indexFileName.substring(0, indexFileName.lastIndexOf(EXTENSION_SEPARATOR) + 1)
+        + EXTENSION;
+  }
+
+  private static String getIndexFileName(final String segmentFileName) {
+    return segmentFileName.substring(0, segmentFileName.lastIndexOf(EXTENSION_SEPARATOR) + 1)
+        + INDEX_EXTENSION;
+  }
 }
@@ -0,0 +1,245 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import org.agrona.ExpandableArrayBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A sidecar file which persists the journal index entries of a sealed segment, such that they can
+ * be loaded on start up instead of being rebuilt by scanning the segment.
+ *
+ * <p>The file is only an optimization: if it is missing, corrupted, or does not match the segment's
+ * {@link SegmentDescriptor}, it is ignored and the segment is indexed on demand as before. It is
+ * written to a temporary file which is flushed and then atomically moved in place, such that a
+ * crash never leaves a partially written index file behind; it is additionally validated via a
+ * trailing checksum when loaded. A temporary file left behind by a crash is named like an index
+ * file whose segment does not exist, so it is deleted as an orphan on start up.
+ *
+ * <p>The layout is as follows, using little endian encoding:
+ *
+ * <ul>
+ *   <li>{@code version} (32-bit signed integer)
+ *   <li>{@code id} (64-bit signed integer) - the segment ID from the descriptor
+ *   <li>{@code index} (64-bit signed integer) - the first index of the segment
+ *   <li>{@code lastIndex} (64-bit signed integer) - the last index from the descriptor
+ *   <li>{@code lastPosition} (32-bit signed integer) - the last position from the descriptor
+ *   <li>{@code lastAsqn} (64-bit signed integer) - the last asqn written in the segment
+ *   <li>{@code entryCount} (32-bit signed integer) - the number of index entries which follow
+ *   <li>{@code entries} - each entry is its index (64-bit), asqn (64-bit) and position (32-bit)
+ *   <li>{@code checksum} (64-bit signed integer) - CRC32C of all the preceding bytes
+ * </ul>
+ */
+final class SegmentIndexFile {
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexFile.class);
+
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final int VERSION = 1;
+
+  private static final int VERSION_OFFSET = 0;
+  private static final int ID_OFFSET = VERSION_OFFSET + Integer.BYTES;
+  private static final int INDEX_OFFSET = ID_OFFSET + Long.BYTES;
+  private static final int LAST_INDEX_OFFSET = INDEX_OFFSET + Long.BYTES;
+  private static final int LAST_POSITION_OFFSET = LAST_INDEX_OFFSET + Long.BYTES;
+  private static final int LAST_ASQN_OFFSET = LAST_POSITION_OFFSET + Integer.BYTES;
+  private static final int ENTRY_COUNT_OFFSET = LAST_ASQN_OFFSET + Long.BYTES;
+  private static final int HEADER_LENGTH = ENTRY_COUNT_OFFSET + Integer.BYTES;
+  private static final int ENTRY_LENGTH = Long.BYTES + Long.BYTES + Integer.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+  private static final String TEMPORARY_FILE_INFIX = ".tmp";
+
+  private SegmentIndexFile() {}
+
+  /**
+   * Writes the index entries of the given sealed segment to the given file, replacing it if it
+   * already exists.
+   *
+   * @param file the index file to write
+   * @param descriptor the up-to-date descriptor of the sealed segment
+   * @param lastAsqn the last asqn written in the segment
+   * @param journalIndex the index from which to read the segment's entries
+   * @throws IOException if the file could not be written
+   */
+  static void write(
+      final Path file,
+      final SegmentDescriptor descriptor,
+      final long lastAsqn,
+      final JournalIndex journalIndex)
+      throws IOException {
+    write(file, encode(descriptor, lastAsqn, journalIndex));
+  }
+
+  /**
+   * Encodes the index entries of the given sealed segment, such that they can be written later via
+   * {@link #write(Path, ByteBuffer)}, e.g. by another thread.
+   *
+   * @param descriptor the up-to-date descriptor of the sealed segment
+   * @param lastAsqn the last asqn written in the segment
+   * @param journalIndex the index from which to read the segment's entries
+   * @return the content of the index file
+   */
+  static ByteBuffer encode(
+      final SegmentDescriptor descriptor, final long lastAsqn, final JournalIndex journalIndex) {
+    final var buffer = new ExpandableArrayBuffer(HEADER_LENGTH + CHECKSUM_LENGTH);
+    buffer.putInt(VERSION_OFFSET, VERSION, ENDIANNESS);
+    buffer.putLong(ID_OFFSET, descriptor.id(), ENDIANNESS);
+    buffer.putLong(INDEX_OFFSET, descriptor.index(), ENDIANNESS);
+    buffer.putLong(LAST_INDEX_OFFSET, descriptor.lastIndex(), ENDIANNESS);
+    buffer.putInt(LAST_POSITION_OFFSET, descriptor.lastPosition(), ENDIANNESS);
+    buffer.putLong(LAST_ASQN_OFFSET, lastAsqn, ENDIANNESS);
+
+    final int[] entryCount = {0};
+    journalIndex.forEach(
+        descriptor.index(),
+        descriptor.lastIndex(),
+        (index, asqn, position) -> {
+          final int offset = HEADER_LENGTH + entryCount[0] * ENTRY_LENGTH;
+          buffer.putLong(offset, index, ENDIANNESS);
+          buffer.putLong(offset + Long.BYTES, asqn, ENDIANNESS);
+          buffer.putInt(offset + 2 * Long.BYTES, position, ENDIANNESS);
+          entryCount[0]++;
+        });
+    buffer.putInt(ENTRY_COUNT_OFFSET, entryCount[0], ENDIANNESS);
+
+    final int checksumOffset = HEADER_LENGTH + entryCount[0] * ENTRY_LENGTH;
+    buffer.putLong(checksumOffset, checksum(buffer.byteArray(), checksumOffset), ENDIANNESS);
+
+    return ByteBuffer.wrap(buffer.byteArray(), 0, checksumOffset + CHECKSUM_LENGTH);
+  }
+
+  /**
+   * Writes the given encoded index file, replacing it atomically if it already exists.
+   *
+   * @param file the index file to write
+   * @param content the content of the file, as returned by {@link #encode(SegmentDescriptor, long,
+   *     JournalIndex)}
+   * @throws IOException if the file could not be written
+   */
+  static void write(final Path file, final ByteBuffer content) throws IOException {
+    final var temporaryFile = temporaryFile(file);
+    try {
+      try (final var channel =
+          FileChannel.open(
+              temporaryFile,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.WRITE,
+              StandardOpenOption.TRUNCATE_EXISTING)) {
+        while (content.hasRemaining()) {
+          channel.write(content);
+        }
+        channel.force(true);
+      }
+
+      FileUtil.moveDurably(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      try {
+        Files.deleteIfExists(temporaryFile);
+      } catch (final IOException deleteError) {
+        e.addSuppressed(deleteError);
+      }
+      throw e;
+    }
+  }
+
+  /** Returns e.g. {@code journal-1.tmp.idx} for {@code journal-1.idx}. */
+  private static Path temporaryFile(final Path file) {
+    final var fileName = file.getFileName().toString();
+    final var extensionIndex = fileName.lastIndexOf('.');
+    return file.resolveSibling(
+        fileName.substring(0, extensionIndex)
+            + TEMPORARY_FILE_INFIX
+            + fileName.substring(extensionIndex));
+  }
+
+  /**
+   * Loads the entries of the given index file into the journal index, if the file is valid and
+   * matches the given descriptor. Nothing is indexed if the file is missing, corrupted, or out of
+   * date.
+   *
+   * @param file the index file to read
+   * @param descriptor the descriptor of the segment to which the file belongs
+   * @param journalIndex the index into which to load the entries
+   * @return true if the entries were loaded, false otherwise
+   */
+  static boolean load(
+      final Path file, final SegmentDescriptor descriptor, final JournalIndex journalIndex) {
+    final ByteBuffer buffer;
+    try {
+      buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ENDIANNESS);
+    } catch (final NoSuchFileException e) {
+      LOG.trace("No index file {} found for segment {}", file, descriptor.id());
+      return false;
+    } catch (final IOException e) {
+      LOG.debug("Failed to read index file {}, segment will be indexed on demand", file, e);
+      return false;
+    }
+
+    if (!isValid(buffer, descriptor)) {
+      LOG.debug(
+          "Index file {} is corrupted or does not match segment {}, segment will be indexed on demand",
+          file,
+          descriptor);
+      return false;
+    }
+
+    final int entryCount = buffer.getInt(ENTRY_COUNT_OFFSET);
+    for (int i = 0; i < entryCount; i++) {
+      final int offset = HEADER_LENGTH + i * ENTRY_LENGTH;
+      journalIndex.index(
+          buffer.getLong(offset),
+          buffer.getLong(offset + Long.BYTES),
+          buffer.getInt(offset + 2 * Long.BYTES));
+    }
+
+    LOG.trace("Loaded {} index entries of segment {} from {}", entryCount, descriptor.id(), file);
+    return true;
+  }
+
+  private static boolean isValid(final ByteBuffer buffer, final SegmentDescriptor descriptor) {
+    final int length = buffer.capacity();
+    if (length < HEADER_LENGTH + CHECKSUM_LENGTH || buffer.getInt(VERSION_OFFSET) != VERSION) {
+      return false;
+    }
+
+    final int entryCount = buffer.getInt(ENTRY_COUNT_OFFSET);
+    final long expectedLength = HEADER_LENGTH + (long) entryCount * ENTRY_LENGTH + CHECKSUM_LENGTH;
+    if (entryCount < 0 || expectedLength != length) {
+      return false;
+    }
+
+    final int checksumOffset = length - CHECKSUM_LENGTH;
+    if (buffer.getLong(checksumOffset) != checksum(buffer.array(), checksumOffset)) {
+      return false;
+    }
+
+    // a mismatch with the descriptor means the segment was modified (e.g. truncated) since
+    return descriptor.lastPosition() > 0
+        && buffer.getLong(ID_OFFSET) == descriptor.id()
+        && buffer.getLong(INDEX_OFFSET) == descriptor.index()
+        && buffer.getLong(LAST_INDEX_OFFSET) == descriptor.lastIndex()
+        && buffer.getInt(LAST_POSITION_OFFSET) == descriptor.lastPosition();
+  }
+
+  private static long checksum(final byte[] bytes, final int length) {
+    final var crc = new CRC32C();
+    crc.update(bytes, 0, length);
+    return crc.getValue();
+  }
+}
@@ -11,6 +11,7 @@ import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
@@ -119,6 +120,67 @@ final class SegmentLoader {
         journalIndex);
   }
 
+  /**
+   * Reuses the file of a deleted segment as a new, uninitialized segment. The file is expected to
+   * be already allocated, so no disk space is allocated here. Its descriptor and first entry are
+   * invalidated before it is renamed, such that it is never mistaken for the segment it was before.
+   * The writer invalidates the entry following the last written one, so the old entries after it
+   * are not read; if that invalidation is lost, e.g. on a crash, the old entry is still recognized
+   * when the segment is loaded, since its index is lower than the expected one.
+   *
+   * @param recycledFile the file of the deleted segment
+   * @param segmentFile the path of the new segment file
+   * @param descriptor the descriptor of the new segment
+   * @param journalIndex the journal index
+   * @return the recycled segment
+   * @throws JournalException if the file cannot be recycled, in which case it may be left behind
+   */
+  UninitializedSegment recycleSegment(
+      final Path recycledFile,
+      final Path segmentFile,
+      final SegmentDescriptor descriptor,
+      final JournalIndex journalIndex) {
+    final var maxSegmentSize = descriptor.maxSegmentSize();
+    final MappedByteBuffer mappedSegment;
+
+    try (final var channel =
+        FileChannel.open(recycledFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      if (channel.size() != maxSegmentSize) {
+        throw new JournalException(
+            String.format(
+                "Expected recycled segment file %s to have size %d, but it has size %d",
+                recycledFile, maxSegmentSize, channel.size()));
+      }
+
+      mappedSegment = mapSegment(channel, maxSegmentSize);
+    } catch (final IOException e) {
+      throw new JournalException(
+          String.format("Failed to recycle segment file %s", recycledFile), e);
+    }
+
+    try {
+      final var invalidatedLength =
+          SegmentDescriptorSerializer.currentEncodingLength() + FrameUtil.getLength();
+      for (int i = 0; i < invalidatedLength; i++) {
+        mappedSegment.put(i, (byte) 0);
+      }
+      mappedSegment.force(0, invalidatedLength);
+
+      FileUtil.moveDurably(recycledFile, segmentFile);
+    } catch (final IOException | UncheckedIOException e) {
+      IoUtil.unmap(mappedSegment);
+      throw new JournalException(
+          String.format("Failed to recycle segment file %s as %s", recycledFile, segmentFile), e);
+    }
+
+    return new UninitializedSegment(
+        new SegmentFile(segmentFile.toFile()),
+        descriptor.id(),
+        maxSegmentSize,
+        mappedSegment,
+        journalIndex);
+  }
+
   Segment loadExistingSegment(
       final Path segmentFile, final long lastWrittenAsqn, final JournalIndex journalIndex) {
     final var descriptorSerializer = SegmentDescriptorSerializer.currentSerializer();
@@ -0,0 +1,179 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import io.camunda.zeebe.journal.JournalException;
+import io.camunda.zeebe.util.CloseableSilently;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.agrona.IoUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Prepares the next segments of the journal in the background, such that rolling over to a new
+ * segment does not have to wait for the file to be created and allocated.
+ *
+ * <p>Up to {@code segmentCount} segments are kept ready. If recycling is enabled, the files of
+ * segments deleted via {@link #release(Segment)} are reused for the next segments, instead of being
+ * unlinked and having new files allocated in their place. At most {@code segmentCount} files are
+ * kept for recycling; any additional ones are deleted as usual.
+ *
+ * <p>Except for the background preparation itself, this class is not thread-safe, and is expected
+ * to be accessed by the same thread which manages the segments.
+ */
+final class SegmentPreallocator implements CloseableSilently {
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentPreallocator.class);
+  private static final long INITIAL_INDEX = 1;
+
+  private final Deque<PreparedSegment> preparedSegments = new ArrayDeque<>();
+  private final Queue<Path> recyclableFiles = new ConcurrentLinkedQueue<>();
+
+  private final String name;
+  private final File directory;
+  private final int maxSegmentSize;
+  private final SegmentLoader segmentLoader;
+  private final JournalIndex journalIndex;
+  private final int segmentCount;
+  private final boolean recycleSegments;
+
+  private long nextSegmentId;
+
+  SegmentPreallocator(
+      final String name,
+      final File directory,
+      final int maxSegmentSize,
+      final SegmentLoader segmentLoader,
+      final JournalIndex journalIndex,
+      final int segmentCount,
+      final boolean recycleSegments) {
+    checkArgument(segmentCount > 0, "segmentCount must be positive");
+
+    this.name = name;
+    this.directory = directory;
+    this.maxSegmentSize = maxSegmentSize;
+    this.segmentLoader = segmentLoader;
+    this.journalIndex = journalIndex;
+    this.segmentCount = segmentCount;
+    this.recycleSegments = recycleSegments;
+  }
+
+  /**
+   * Starts preparing segments in the background until {@code segmentCount} segments are ready or
+   * being prepared. Segment IDs are assigned in increasing order, starting at the given ID at the
+   * earliest, such that they never collide with the IDs of existing segments.
+   *
+   * @param minSegmentId the lowest ID which can be assigned to the next prepared segment
+   */
+  void fill(final long minSegmentId) {
+    nextSegmentId = Math.max(nextSegmentId, minSegmentId);
+    while (preparedSegments.size() < segmentCount) {
+      final var segmentId = nextSegmentId++;
+      final var future = CompletableFuture.supplyAsync(() -> prepareSegment(segmentId));
+      preparedSegments.addLast(new PreparedSegment(segmentId, future));
+    }
+  }
+
+  /**
+   * Returns the oldest prepared segment, which may still be in preparation, or null if none was
+   * prepared yet.
+   */
+  PreparedSegment poll() {
+    return preparedSegments.pollFirst();
+  }
+
+  /**
+   * Deletes the given segment. If recycling is enabled and fewer than {@code segmentCount} files
+   * are waiting to be recycled, the segment's file is kept to be reused for the next prepared
+   * segment; otherwise, it is deleted as usual.
+   *
+   * @param segment the segment to delete
+   */
+  void release(final Segment segment) {
+    if (!recycleSegments || recyclableFiles.size() >= segmentCount) {
+      segment.delete();
+      return;
+    }
+
+    final var recyclableFile = segment.deleteForReuse();
+    if (recyclableFile != null) {
+      recyclableFiles.offer(recyclableFile);
+    }
+  }
+
+  @Override
+  public void close() {
+    for (final var preparedSegment : preparedSegments) {
+      try {
+        IoUtil.unmap(preparedSegment.future().join().buffer());
+      } catch (final Exception e) {
+        LOG.warn(
+            "Next segment preparation failed during close, ignoring and proceeding to close", e);
+      }
+    }
+    preparedSegments.clear();
+
+    Path recyclableFile;
+    while ((recyclableFile = recyclableFiles.poll()) != null) {
+      deleteRecyclableFile(recyclableFile);
+    }
+  }
+
+  private UninitializedSegment prepareSegment(final long segmentId) {
+    final var descriptor =
+        SegmentDescriptor.builder()
+            .withId(segmentId)
+            .withIndex(INITIAL_INDEX)
+            .withMaxSegmentSize(maxSegmentSize)
+            .build();
+    final var segmentFile = SegmentFile.createSegmentFile(name, directory, segmentId).toPath();
+
+    Path recyclableFile;
+    while ((recyclableFile = recyclableFiles.poll()) != null) {
+      try {
+        return segmentLoader.recycleSegment(recyclableFile, segmentFile, descriptor, journalIndex);
+      } catch (final JournalException e) {
+        LOG.warn(
+            "Failed to recycle segment file {}, deleting it and creating a new segment instead",
+            recyclableFile,
+            e);
+        deleteRecyclableFile(recyclableFile);
+      }
+    }
+
+    return segmentLoader.createUninitializedSegment(segmentFile, descriptor, journalIndex);
+  }
+
+  private void deleteRecyclableFile(final Path recyclableFile) {
+    try {
+      Files.deleteIfExists(recyclableFile);
+    } catch (final IOException e) {
+      LOG.warn(
+          "Could not delete file {} which is marked for deletion. This can result in unnecessary disk usage.",
+          recyclableFile,
+          e);
+    }
+  }
+
+  /**
+   * A segment which is prepared in the background.
+   *
+   * @param segmentId the ID of the segment, which is also used for its file name
+   * @param future completed with the segment once it is ready
+   */
+  record PreparedSegment(long segmentId, CompletableFuture<UninitializedSegment> future) {}
+}
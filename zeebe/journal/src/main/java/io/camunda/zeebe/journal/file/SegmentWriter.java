@@ -365,11 +365,40 @@ final class SegmentWriter {
         throw e;
       }
       resetPartiallyWrittenEntry(e, position);
+    } catch (final InvalidIndex e) {
+      if (detectCorruption || !isStaleEntry(position, nextIndex)) {
+        throw e;
+      }
+      resetStaleEntry(e, position);
     } finally {
       buffer.reset();
     }
   }
 
+  /**
+   * Returns true if the entry at the given position, whose checksum is valid, has a lower index
+   * than expected. Such an entry is left over from the segment whose file was recycled for this
+   * one, as the files of compacted segments only contain lower indexes than any new segment, and is
+   * only visible if the invalidation of the entry after the last written one was lost, e.g. on a
+   * crash before it was flushed.
+   */
+  private boolean isStaleEntry(final int position, final long expectedIndex) {
+    final int metadataOffset = position + FrameUtil.getLength();
+    final int dataOffset =
+        metadataOffset + serializer.getMetadataLength(writeBuffer, metadataOffset);
+    return serializer.readData(writeBuffer, dataOffset).index() < expectedIndex;
+  }
+
+  private void resetStaleEntry(final InvalidIndex e, final int position) {
+    LOG.debug(
+        "{} Found an entry left over from a recycled segment file at position {}. Considering it as the end of the segment and resetting the position.",
+        e.getMessage(),
+        position);
+    FrameUtil.markAsIgnored(buffer, position);
+    buffer.position(position);
+    buffer.mark();
+  }
+
   private void resetPartiallyWrittenEntry(final CorruptedJournalException e, final int position) {
     LOG.debug(
         "{} Found a corrupted or partially written entry at position {}. Considering it as a partially written entry and resetting the position.",
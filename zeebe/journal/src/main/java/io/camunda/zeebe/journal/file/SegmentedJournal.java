@@ -33,6 +33,7 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.StampedLock;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -49,12 +50,22 @@ public final class SegmentedJournal implements Journal {
   private final SegmentedJournalWriter writer;
   private final StampedLock rwlock = new StampedLock();
   private final SegmentsManager segments;
+  private final GroupCommitFlushScheduler groupCommitFlushScheduler;
 
   SegmentedJournal(
       final JournalIndex journalIndex,
       final SegmentsManager segments,
       final JournalMetrics journalMetrics,
       final SegmentsFlusher segmentsFlusher) {
+    this(journalIndex, segments, journalMetrics, segmentsFlusher, null);
+  }
+
+  SegmentedJournal(
+      final JournalIndex journalIndex,
+      final SegmentsManager segments,
+      final JournalMetrics journalMetrics,
+      final SegmentsFlusher segmentsFlusher,
+      final GroupCommitFlushScheduler.Config groupCommitConfig) {
     this.journalMetrics = Objects.requireNonNull(journalMetrics, "must specify journal metrics");
     this.journalIndex = Objects.requireNonNull(journalIndex, "must specify a journal index");
     this.segments = Objects.requireNonNull(segments, "must specify a journal segments manager");
@@ -62,6 +73,10 @@ public final class SegmentedJournal implements Journal {
 
     this.segments.open();
     writer = new SegmentedJournalWriter(segments, segmentsFlusher, journalMetrics);
+    groupCommitFlushScheduler =
+        groupCommitConfig == null
+            ? null
+            : new GroupCommitFlushScheduler(this::flush, groupCommitConfig, journalMetrics);
   }
 
   /**
@@ -178,6 +193,20 @@ public final class SegmentedJournal implements Journal {
     }
   }
 
+  @Override
+  public CompletableFuture<Void> flushAsync() {
+    if (groupCommitFlushScheduler != null) {
+      return groupCommitFlushScheduler.flush();
+    }
+
+    try {
+      flush();
+      return CompletableFuture.completedFuture(null);
+    } catch (final FlushException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
   @Override
   public JournalReader openReader() {
     final var stamped = acquireReadlock();
@@ -212,6 +241,10 @@ public final class SegmentedJournal implements Journal {
 
   @Override
   public void close() {
+    if (groupCommitFlushScheduler != null) {
+      groupCommitFlushScheduler.close();
+    }
+
     try {
       flush();
     } catch (final FlushException e) {
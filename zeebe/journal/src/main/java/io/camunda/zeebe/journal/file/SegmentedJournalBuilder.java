@@ -22,6 +22,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import io.camunda.zeebe.journal.JournalMetaStore;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
+import java.time.Duration;
 
 /** Raft log builder. */
 @SuppressWarnings("UnusedReturnValue")
@@ -33,6 +34,10 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_PRIMITIVE_JOURNAL_INDEX = false;
+  private static final boolean DEFAULT_SEGMENT_INDEX_FILES = false;
+  private static final int DEFAULT_PREALLOCATED_SEGMENT_COUNT = 1;
+  private static final boolean DEFAULT_RECYCLE_SEGMENTS = false;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -44,7 +49,12 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean primitiveJournalIndex = DEFAULT_PRIMITIVE_JOURNAL_INDEX;
+  private boolean segmentIndexFiles = DEFAULT_SEGMENT_INDEX_FILES;
+  private int preallocatedSegmentCount = DEFAULT_PREALLOCATED_SEGMENT_COUNT;
+  private boolean recycleSegments = DEFAULT_RECYCLE_SEGMENTS;
   private int partitionId = DEFAULT_PARTITION_ID;
+  private GroupCommitFlushScheduler.Config groupCommitConfig;
 
   private JournalMetaStore journalMetaStore;
   private final MeterRegistry meterRegistry;
@@ -131,6 +141,56 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets whether the journal index should be backed by sorted primitive arrays instead of
+   * concurrent skip lists. The primitive index avoids boxing and per-entry node allocation, which
+   * reduces heap usage and GC pressure for journals with many indexed entries.
+   *
+   * <p>By default, the skip list based index is used.
+   *
+   * @param primitiveJournalIndex true to use the primitive array based index, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+    this.primitiveJournalIndex = primitiveJournalIndex;
+    return this;
+  }
+
+  /**
+   * Sets whether the journal index entries of a segment are persisted in an index file next to the
+   * segment once it is sealed. On start up, these files are loaded to rebuild the journal index,
+   * instead of re-indexing the segments by scanning them on demand. Index files which are missing,
+   * corrupted, or do not match their segment are ignored.
+   *
+   * <p>By default, no index files are written.
+   *
+   * @param segmentIndexFiles true to write and load segment index files, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withSegmentIndexFiles(final boolean segmentIndexFiles) {
+    this.segmentIndexFiles = segmentIndexFiles;
+    return this;
+  }
+
+  /**
+   * Enables group commit for {@link SegmentedJournal#flushAsync()}. Concurrent flush requests are
+   * then merged, such that a single flush covers all of them. A request is delayed by at most
+   * {@code maxDelay}, unless {@code maxBatchSize} requests are pending before that, in which case
+   * they are flushed immediately. Larger values trade latency for throughput.
+   *
+   * <p>By default, group commit is disabled, and every request results in its own flush.
+   *
+   * @param maxDelay the maximum time a flush request is delayed to be merged with later requests
+   * @param maxBatchSize the number of pending requests after which they are flushed immediately
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if {@code maxDelay} is negative or {@code maxBatchSize} is not
+   *     positive
+   */
+  public SegmentedJournalBuilder withGroupCommit(final Duration maxDelay, final int maxBatchSize) {
+    groupCommitConfig = new GroupCommitFlushScheduler.Config(maxDelay, maxBatchSize);
+    return this;
+  }
+
   /**
    * Sets whether segment files are pre-allocated at creation. If true, segment files are
    * pre-allocated to the maximum segment size (see {@link #withMaxSegmentSize(int)}}) at creation
@@ -145,6 +205,39 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets how many segments are prepared ahead of time in the background, such that rolling over to
+   * a new segment does not have to wait for its file to be created and allocated. Each prepared
+   * segment occupies the maximum segment size on disk.
+   *
+   * <p>By default, a single segment is prepared ahead of time.
+   *
+   * @param preallocatedSegmentCount the number of segments to prepare ahead of time
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if {@code preallocatedSegmentCount} is not positive
+   */
+  public SegmentedJournalBuilder withPreallocatedSegmentCount(final int preallocatedSegmentCount) {
+    checkArgument(preallocatedSegmentCount > 0, "preallocatedSegmentCount must be positive");
+    this.preallocatedSegmentCount = preallocatedSegmentCount;
+    return this;
+  }
+
+  /**
+   * Sets whether the files of compacted segments are reused for the next prepared segments, instead
+   * of being deleted. This avoids allocating disk space for new segment files, at the cost of
+   * keeping up to the number of preallocated segments (see {@link
+   * #withPreallocatedSegmentCount(int)}) worth of compacted files on disk.
+   *
+   * <p>By default, compacted segment files are deleted.
+   *
+   * @param recycleSegments true to recycle compacted segment files, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withSegmentRecycling(final boolean recycleSegments) {
+    this.recycleSegments = recycleSegments;
+    return this;
+  }
+
   /**
    * The ID of the partition on which this journal resides. This is used primarily for
    * observability, e.g. in {@link JournalMetrics}.
@@ -167,7 +260,10 @@ public class SegmentedJournalBuilder {
   }
 
   public SegmentedJournal build() {
-    final var journalIndex = new SparseJournalIndex(journalIndexDensity);
+    final JournalIndex journalIndex =
+        primitiveJournalIndex
+            ? new PrimitiveSparseJournalIndex(journalIndexDensity)
+            : new SparseJournalIndex(journalIndexDensity);
     final var journalMetrics = new JournalMetrics(meterRegistry);
     final var segmentAllocator =
         preallocateSegmentFiles ? SegmentAllocator.fill() : SegmentAllocator.noop();
@@ -180,9 +276,13 @@ public class SegmentedJournalBuilder {
             name,
             segmentLoader,
             journalMetrics,
-            journalMetaStore);
+            journalMetaStore,
+            segmentIndexFiles,
+            preallocatedSegmentCount,
+            recycleSegments);
     final var segmentsFlusher = new SegmentsFlusher(journalMetaStore);
 
-    return new SegmentedJournal(journalIndex, segmentsManager, journalMetrics, segmentsFlusher);
+    return new SegmentedJournal(
+        journalIndex, segmentsManager, journalMetrics, segmentsFlusher, groupCommitConfig);
   }
 }
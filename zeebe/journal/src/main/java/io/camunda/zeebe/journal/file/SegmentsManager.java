@@ -9,6 +9,7 @@ package io.camunda.zeebe.journal.file;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalMetaStore;
@@ -29,9 +30,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.SortedMap;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,7 +48,6 @@ final class SegmentsManager implements AutoCloseable {
   private static final Logger THROTTLED_LOG = new ThrottledLogger(LOG, Duration.ofSeconds(5));
 
   private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
-  private CompletableFuture<UninitializedSegment> nextSegment = null;
 
   private final JournalMetrics journalMetrics;
   private final JournalIndex journalIndex;
@@ -55,6 +56,10 @@ final class SegmentsManager implements AutoCloseable {
   private final SegmentLoader segmentLoader;
   private final String name;
   private final JournalMetaStore metaStore;
+  private final boolean segmentIndexFiles;
+  private final SegmentPreallocator preallocator;
+  // writes the index files of sealed segments, such that rolling over does not wait for file I/O
+  private final ExecutorService indexFileWriter;
 
   private volatile Segment currentSegment;
 
@@ -65,7 +70,32 @@ final class SegmentsManager implements AutoCloseable {
       final String name,
       final SegmentLoader segmentLoader,
       final JournalMetrics journalMetrics,
-      final JournalMetaStore metaStore) {
+      final JournalMetaStore metaStore,
+      final boolean segmentIndexFiles) {
+    this(
+        journalIndex,
+        maxSegmentSize,
+        directory,
+        name,
+        segmentLoader,
+        journalMetrics,
+        metaStore,
+        segmentIndexFiles,
+        1,
+        false);
+  }
+
+  SegmentsManager(
+      final JournalIndex journalIndex,
+      final int maxSegmentSize,
+      final File directory,
+      final String name,
+      final SegmentLoader segmentLoader,
+      final JournalMetrics journalMetrics,
+      final JournalMetaStore metaStore,
+      final boolean segmentIndexFiles,
+      final int preallocatedSegmentCount,
+      final boolean recycleSegments) {
     this.name = checkNotNull(name, "name cannot be null");
     this.journalIndex = journalIndex;
     this.maxSegmentSize = maxSegmentSize;
@@ -73,6 +103,24 @@ final class SegmentsManager implements AutoCloseable {
     this.segmentLoader = segmentLoader;
     this.journalMetrics = journalMetrics;
     this.metaStore = metaStore;
+    this.segmentIndexFiles = segmentIndexFiles;
+    preallocator =
+        new SegmentPreallocator(
+            name,
+            directory,
+            maxSegmentSize,
+            segmentLoader,
+            journalIndex,
+            preallocatedSegmentCount,
+            recycleSegments);
+    indexFileWriter =
+        segmentIndexFiles
+            ? Executors.newSingleThreadExecutor(
+                new ThreadFactoryBuilder()
+                    .setNameFormat("journal-index-file-%d")
+                    .setDaemon(true)
+                    .build())
+            : null;
   }
 
   @Override
@@ -85,14 +133,10 @@ final class SegmentsManager implements AutoCloseable {
               segment.close();
             });
 
-    if (nextSegment != null) {
-      try {
-        nextSegment.join();
-      } catch (final Exception e) {
-        LOG.warn(
-            "Next segment preparation failed during close, ignoring and proceeding to close", e);
-      }
-      nextSegment = null;
+    preallocator.close();
+    if (indexFileWriter != null) {
+      // closing the segments waited for their index files to be written already
+      indexFileWriter.shutdown();
     }
 
     currentSegment = null;
@@ -119,31 +163,39 @@ final class SegmentsManager implements AutoCloseable {
    * @throws IllegalStateException if the segment manager is not open
    */
   Segment getNextSegment() {
+    if (segmentIndexFiles) {
+      // the current segment is sealed from here on, so its index entries will not change anymore;
+      // the file itself is written in the background, to not delay the rollover
+      currentSegment.writeIndexFile(indexFileWriter);
+    }
 
     final Segment lastSegment = getLastSegment();
     final var lastWrittenAsqn = lastSegment != null ? lastSegment.lastAsqn() : INITIAL_ASQN;
     final var nextSegmentIndex = currentSegment.lastIndex() + 1;
-    final SegmentDescriptor descriptor =
-        SegmentDescriptor.builder()
-            .withId(lastSegment != null ? lastSegment.descriptor().id() + 1 : 1)
-            .withIndex(nextSegmentIndex)
-            .withMaxSegmentSize(maxSegmentSize)
-            .build();
+    final var nextSegment = preallocator.poll();
     if (nextSegment != null) {
       try {
         currentSegment =
-            nextSegment.join().initializeForUse(nextSegmentIndex, lastWrittenAsqn, journalMetrics);
+            nextSegment
+                .future()
+                .join()
+                .initializeForUse(nextSegmentIndex, lastWrittenAsqn, journalMetrics);
       } catch (final CompletionException e) {
         LOG.error("Failed to acquire next segment, retrying synchronously now.", e);
-        nextSegment = null;
-        currentSegment = createSegment(descriptor, lastWrittenAsqn);
+        // reuse the ID of the failed segment, as the IDs after it may already be taken by other
+        // prepared segments
+        currentSegment =
+            createSegment(
+                nextSegmentDescriptor(nextSegment.segmentId(), nextSegmentIndex), lastWrittenAsqn);
       }
     } else {
-      currentSegment = createSegment(descriptor, lastWrittenAsqn);
+      final var nextSegmentId = lastSegment != null ? lastSegment.descriptor().id() + 1 : 1;
+      currentSegment =
+          createSegment(nextSegmentDescriptor(nextSegmentId, nextSegmentIndex), lastWrittenAsqn);
     }
-    prepareNextSegment();
+    preallocator.fill(currentSegment.id() + 1);
 
-    segments.put(descriptor.index(), currentSegment);
+    segments.put(currentSegment.index(), currentSegment);
     journalMetrics.incSegmentCount();
     return currentSegment;
   }
@@ -197,7 +249,7 @@ final class SegmentsManager implements AutoCloseable {
         compactSegments.size());
     for (final Segment segment : compactSegments.values()) {
       LOG.trace("{} - Deleting segment: {}", name, segment);
-      segment.delete();
+      preallocator.release(segment);
       journalMetrics.decSegmentCount();
     }
 
@@ -314,16 +366,10 @@ final class SegmentsManager implements AutoCloseable {
     // node was stopped. It is safe to delete it now since there are no readers opened for these
     // segments.
     deleteDeferredFiles();
-  }
 
-  private void prepareNextSegment() {
-    final var descriptor =
-        SegmentDescriptor.builder()
-            .withId(currentSegment.id() + 1)
-            .withIndex(INITIAL_INDEX)
-            .withMaxSegmentSize(maxSegmentSize)
-            .build();
-    nextSegment = CompletableFuture.supplyAsync(() -> createUninitializedSegment(descriptor));
+    // Index files of segments which were deleted concurrently, or when handling corruption, are
+    // not useful anymore
+    deleteOrphanedIndexFiles();
   }
 
   SortedMap<Long, Segment> getTailSegments(final long index) {
@@ -335,9 +381,12 @@ final class SegmentsManager implements AutoCloseable {
     return Collections.unmodifiableSortedMap(segments.tailMap(segment.index(), true)); // inclusive
   }
 
-  private UninitializedSegment createUninitializedSegment(final SegmentDescriptor descriptor) {
-    final var segmentFile = SegmentFile.createSegmentFile(name, directory, descriptor.id());
-    return segmentLoader.createUninitializedSegment(segmentFile.toPath(), descriptor, journalIndex);
+  private SegmentDescriptor nextSegmentDescriptor(final long id, final long index) {
+    return SegmentDescriptor.builder()
+        .withId(id)
+        .withIndex(index)
+        .withMaxSegmentSize(maxSegmentSize)
+        .build();
   }
 
   private Segment createSegment(final SegmentDescriptor descriptor, final long lastWrittenAsqn) {
@@ -384,6 +433,11 @@ final class SegmentsManager implements AutoCloseable {
                   .formatted(lastFlushedIndex, segment.lastIndex()));
         }
 
+        // the last segment is the active one, and is indexed by the writer when it's loaded
+        if (segmentIndexFiles && !isLastSegment) {
+          segment.loadIndexFile();
+        }
+
         segments.add(segment);
         previousSegment = segment;
       } catch (final CorruptedJournalException e) {
@@ -484,6 +538,24 @@ final class SegmentsManager implements AutoCloseable {
     }
   }
 
+  private void deleteOrphanedIndexFiles() {
+    try (final DirectoryStream<Path> orphanedIndexFiles =
+        Files.newDirectoryStream(directory.toPath(), this::isOrphanedIndexFile)) {
+      orphanedIndexFiles.forEach(this::deleteDeferredFile);
+    } catch (final IOException e) {
+      LOG.warn(
+          "Could not delete orphaned segment index files in {}. This can result in unnecessary disk usage.",
+          directory.toPath(),
+          e);
+    }
+  }
+
+  private boolean isOrphanedIndexFile(final Path path) {
+    final var fileName = path.getFileName().toString();
+    return SegmentFile.isSegmentIndexFile(name, fileName)
+        && !Files.exists(path.resolveSibling(SegmentFile.getSegmentFileName(fileName)));
+  }
+
   private void deleteDeferredFile(final Path segmentFileToDelete) {
     try {
       Files.deleteIfExists(segmentFileToDelete);
@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
+import io.camunda.zeebe.journal.file.GroupCommitFlushScheduler.Config;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class GroupCommitFlushSchedulerTest {
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  private final AtomicInteger flushCount = new AtomicInteger();
+  private final JournalMetrics metrics = new JournalMetrics(new SimpleMeterRegistry());
+  private GroupCommitFlushScheduler flusher;
+
+  @AfterEach
+  void afterEach() {
+    if (flusher != null) {
+      flusher.close();
+    }
+  }
+
+  @Test
+  void shouldMergeRequestsIntoSingleFlush() {
+    // given
+    flusher =
+        new GroupCommitFlushScheduler(flushCount::incrementAndGet, new Config(TIMEOUT, 3), metrics);
+
+    // when
+    final var first = flusher.flush();
+    final var second = flusher.flush();
+    final var third = flusher.flush();
+
+    // then
+    assertThat(first).succeedsWithin(TIMEOUT);
+    assertThat(second).succeedsWithin(TIMEOUT);
+    assertThat(third).succeedsWithin(TIMEOUT);
+    assertThat(flushCount).hasValue(1);
+  }
+
+  @Test
+  void shouldFlushAfterMaxDelay() {
+    // given
+    flusher =
+        new GroupCommitFlushScheduler(
+            flushCount::incrementAndGet, new Config(Duration.ofMillis(10), 100), metrics);
+
+    // when
+    final var request = flusher.flush();
+
+    // then
+    assertThat(request).succeedsWithin(TIMEOUT);
+    assertThat(flushCount).hasValue(1);
+  }
+
+  @Test
+  void shouldFlushAgainForRequestsAfterFlush() {
+    // given
+    flusher =
+        new GroupCommitFlushScheduler(flushCount::incrementAndGet, new Config(TIMEOUT, 1), metrics);
+    assertThat(flusher.flush()).succeedsWithin(TIMEOUT);
+
+    // when
+    final var request = flusher.flush();
+
+    // then
+    assertThat(request).succeedsWithin(TIMEOUT);
+    assertThat(flushCount).hasValue(2);
+  }
+
+  @Test
+  void shouldFailAllRequestsOfFailedFlush() {
+    // given
+    final var error = new FlushException(new IOException("Cannot allocate memory"));
+    flusher =
+        new GroupCommitFlushScheduler(
+            () -> {
+              throw error;
+            },
+            new Config(TIMEOUT, 2),
+            metrics);
+
+    // when
+    final var first = flusher.flush();
+    final var second = flusher.flush();
+
+    // then
+    assertThat(first).failsWithin(TIMEOUT).withThrowableThat().withCause(error);
+    assertThat(second).failsWithin(TIMEOUT).withThrowableThat().withCause(error);
+  }
+
+  @Test
+  void shouldFlushPendingRequestsOnClose() {
+    // given
+    flusher =
+        new GroupCommitFlushScheduler(
+            flushCount::incrementAndGet, new Config(TIMEOUT, 100), metrics);
+    final var request = flusher.flush();
+
+    // when
+    flusher.close();
+
+    // then
+    assertThat(request).isCompleted();
+    assertThat(flushCount).hasValue(1);
+  }
+
+  @Test
+  void shouldRejectRequestsAfterClose() {
+    // given
+    flusher =
+        new GroupCommitFlushScheduler(flushCount::incrementAndGet, new Config(TIMEOUT, 1), metrics);
+    flusher.close();
+
+    // when
+    final var request = flusher.flush();
+
+    // then
+    assertThat(request)
+        .failsWithin(TIMEOUT)
+        .withThrowableThat()
+        .withCauseInstanceOf(IllegalStateException.class);
+    assertThat(flushCount).hasValue(0);
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.util.TestJournalRecord;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the skip list based {@link SparseJournalIndex} with the {@link
+ * PrimitiveSparseJournalIndex}. Each benchmark is run for both implementations, and the test
+ * asserts that the primitive index performs at least as well as the skip list based one.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class JournalIndexPerformanceTest {
+  private static final int DENSITY = 100;
+  private static final int INDEXED_ENTRIES = 100_000;
+  private static final int TRUNCATED_ENTRIES = 10 * DENSITY;
+
+  @Param({"SPARSE", "PRIMITIVE"})
+  public String indexType;
+
+  private JournalIndex index;
+  private JournalRecord[] records;
+  private long lastIndex;
+  private long nextIndex;
+
+  @Setup(Level.Iteration)
+  public void setup() {
+    index =
+        "PRIMITIVE".equals(indexType)
+            ? new PrimitiveSparseJournalIndex(DENSITY)
+            : new SparseJournalIndex(DENSITY);
+    lastIndex = (long) INDEXED_ENTRIES * DENSITY;
+    records = new JournalRecord[INDEXED_ENTRIES + 1];
+
+    for (int i = 1; i <= INDEXED_ENTRIES; i++) {
+      final long recordIndex = (long) i * DENSITY;
+      records[i] = new TestJournalRecord(recordIndex, recordIndex, 0, null, null);
+      index.index(records[i], i * 64);
+    }
+
+    nextIndex = DENSITY;
+  }
+
+  @Benchmark
+  public IndexInfo measureLookup() {
+    return index.lookup(ThreadLocalRandom.current().nextLong(1, lastIndex));
+  }
+
+  @Benchmark
+  public Long measureLookupAsqn() {
+    return index.lookupAsqn(ThreadLocalRandom.current().nextLong(1, lastIndex));
+  }
+
+  @Benchmark
+  public void measureIndex() {
+    // re-index the same range over and over to keep the size of the index stable
+    index.index(records[(int) (nextIndex / DENSITY)], 0);
+    nextIndex = nextIndex >= lastIndex ? DENSITY : nextIndex + DENSITY;
+  }
+
+  @Benchmark
+  public void measureDeleteAfter() {
+    final long truncateIndex = lastIndex - TRUNCATED_ENTRIES;
+    index.deleteAfter(truncateIndex);
+
+    // restore the truncated entries so every invocation truncates the same amount
+    for (long i = truncateIndex + DENSITY; i <= lastIndex; i += DENSITY) {
+      index.index(records[(int) (i / DENSITY)], 0);
+    }
+  }
+
+  @JMHTest("measureLookup")
+  void shouldLookupAtLeastAsFastAsSkipList(final JMHTestCase testCase) {
+    assertPrimitiveIndexAtLeastAsFast(testCase, "measureLookup");
+  }
+
+  @JMHTest("measureLookupAsqn")
+  void shouldLookupAsqnAtLeastAsFastAsSkipList(final JMHTestCase testCase) {
+    assertPrimitiveIndexAtLeastAsFast(testCase, "measureLookupAsqn");
+  }
+
+  @JMHTest("measureIndex")
+  void shouldIndexAtLeastAsFastAsSkipList(final JMHTestCase testCase) {
+    assertPrimitiveIndexAtLeastAsFast(testCase, "measureIndex");
+  }
+
+  @JMHTest("measureDeleteAfter")
+  void shouldDeleteAfterAtLeastAsFastAsSkipList(final JMHTestCase testCase) {
+    assertPrimitiveIndexAtLeastAsFast(testCase, "measureDeleteAfter");
+  }
+
+  private void assertPrimitiveIndexAtLeastAsFast(
+      final JMHTestCase testCase, final String benchmark) {
+    // given - the options are accumulated, so the second run needs a test case of its own
+    final var skipListResult =
+        testCase.withOptions(options -> options.param("indexType", "SPARSE")).run();
+
+    // when
+    final var primitiveResult =
+        JMHTestCase.of(
+                JournalIndexPerformanceTest.class,
+                benchmark,
+                options -> options.param("indexType", "PRIMITIVE"))
+            .run();
+
+    // then
+    primitiveResult.isAtLeast(skipListResult, 0.1);
+  }
+}
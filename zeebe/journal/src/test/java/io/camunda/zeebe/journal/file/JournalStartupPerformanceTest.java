@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalMetaStore.InMemory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures how long it takes to open a journal and seek to an ASQN in the middle of it, which is
+ * what happens when a partition is recovered on start up or fail over.
+ *
+ * <p>The size of the journal is configured via the {@code JOURNAL_STARTUP_PERFORMANCE_TEST_SIZE_GB}
+ * environment variable, and defaults to 1GB. Larger journals, e.g. 10 or 100GB, require the
+ * equivalent free disk space.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class JournalStartupPerformanceTest {
+  private static final Logger LOG = LoggerFactory.getLogger(JournalStartupPerformanceTest.class);
+  private static final long ONE_GB = 1024L * 1024 * 1024;
+  private static final double SIZE_GB =
+      Double.parseDouble(
+          System.getenv().getOrDefault("JOURNAL_STARTUP_PERFORMANCE_TEST_SIZE_GB", "1"));
+  private static final int MAX_SEGMENT_SIZE = 128 * 1024 * 1024;
+  private static final int ENTRY_SIZE = 4 * 1024;
+
+  @Param({"false", "true"})
+  public boolean segmentIndexFiles;
+
+  private Path directory;
+  private InMemory metaStore;
+  private long middleAsqn;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("journal-startup");
+    metaStore = new InMemory();
+
+    final var entryCount = Math.round(SIZE_GB * ONE_GB) / ENTRY_SIZE;
+    final var entry = new DirectBufferWriter().wrap(new UnsafeBuffer(new byte[ENTRY_SIZE]));
+    LOG.info("Creating a journal of approximately {}GB; please hold the line...", SIZE_GB);
+
+    // index files are always written, the parameter only controls whether they're used on open
+    try (final var journal = openJournal(true)) {
+      for (long asqn = 1; asqn <= entryCount; asqn++) {
+        journal.append(asqn, entry);
+      }
+    }
+
+    middleAsqn = entryCount / 2;
+    LOG.info("Created a journal with {} entries", entryCount);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public long measureOpenAndSeek() {
+    try (final var journal = openJournal(segmentIndexFiles);
+        final var reader = journal.openReader()) {
+      return reader.seekToAsqn(middleAsqn);
+    }
+  }
+
+  @JMHTest("measureOpenAndSeek")
+  void shouldOpenFasterWithIndexFiles(final JMHTestCase testCase) {
+    // given - the options are accumulated, so the second run needs a test case of its own
+    final var withoutIndexFiles =
+        testCase.withOptions(options -> options.param("segmentIndexFiles", "false")).run();
+
+    // when
+    final var withIndexFiles =
+        JMHTestCase.of(
+                JournalStartupPerformanceTest.class,
+                "measureOpenAndSeek",
+                options -> options.param("segmentIndexFiles", "true"))
+            .run();
+
+    // then
+    withIndexFiles.isAtLeast(withoutIndexFiles, 0.1);
+  }
+
+  private SegmentedJournal openJournal(final boolean withIndexFiles) {
+    return SegmentedJournal.builder(new SimpleMeterRegistry())
+        .withDirectory(directory.toFile())
+        .withMaxSegmentSize(MAX_SEGMENT_SIZE)
+        .withMetaStore(metaStore)
+        .withSegmentIndexFiles(withIndexFiles)
+        .build();
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static io.camunda.zeebe.journal.file.SparseJournalIndexTest.asJournalRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/** Runs the sparse journal index tests against the primitive array based implementation. */
+final class PrimitiveSparseJournalIndexTest extends SparseJournalIndexTest {
+
+  @Override
+  JournalIndex createIndex(final int density) {
+    return new PrimitiveSparseJournalIndex(density);
+  }
+
+  @Test
+  void shouldIndexOutOfOrder() {
+    // given
+    final JournalIndex index = createIndex(5);
+    index.index(asJournalRecord(15, 150), 30);
+
+    // when
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(10, 100), 20);
+
+    // then
+    assertThat(index.lookup(7)).isEqualTo(new IndexInfo(5, 10));
+    assertThat(index.lookup(12)).isEqualTo(new IndexInfo(10, 20));
+    assertThat(index.lookup(20)).isEqualTo(new IndexInfo(15, 30));
+    assertThat(index.lookupAsqn(120)).isEqualTo(10);
+    assertThat(index.lookupAsqn(160)).isEqualTo(15);
+  }
+
+  @Test
+  void shouldGrowBeyondInitialCapacity() {
+    // given
+    final JournalIndex index = createIndex(1);
+
+    // when
+    for (int i = 1; i <= 1_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    assertThat(index.lookup(1)).isEqualTo(new IndexInfo(1, 2));
+    assertThat(index.lookup(500)).isEqualTo(new IndexInfo(500, 1_000));
+    assertThat(index.lookup(2_000)).isEqualTo(new IndexInfo(1_000, 2_000));
+    assertThat(index.lookupAsqn(5_005)).isEqualTo(500);
+  }
+
+  @Test
+  void shouldIndexAgainAfterTruncation() {
+    // given
+    final JournalIndex index = createIndex(5);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(10, 100), 20);
+    index.deleteAfter(7);
+
+    // when
+    index.index(asJournalRecord(10, 80), 40);
+
+    // then
+    assertThat(index.lookup(10)).isEqualTo(new IndexInfo(10, 40));
+    assertThat(index.lookupAsqn(100)).isEqualTo(10);
+    assertThat(index.lookupAsqn(70)).isEqualTo(5);
+  }
+}
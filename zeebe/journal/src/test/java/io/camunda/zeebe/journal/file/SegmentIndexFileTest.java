@@ -0,0 +1,132 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class SegmentIndexFileTest {
+  private final JournalIndex sourceIndex = new SparseJournalIndex(1);
+  private final SegmentDescriptor descriptor =
+      SegmentDescriptor.builder()
+          .withId(2)
+          .withIndex(10)
+          .withMaxSegmentSize(1024)
+          .build()
+          .withUpdatedIndices(12, 300);
+
+  private @TempDir Path directory;
+  private Path indexFile;
+
+  @BeforeEach
+  void beforeEach() throws IOException {
+    indexFile = directory.resolve("journal-2.idx");
+
+    // entries before and after the segment must not be persisted
+    sourceIndex.index(9, 90, 500);
+    sourceIndex.index(10, 100, 100);
+    sourceIndex.index(11, SegmentedJournal.ASQN_IGNORE, 200);
+    sourceIndex.index(12, 120, 300);
+    sourceIndex.index(13, 130, 100);
+    SegmentIndexFile.write(indexFile, descriptor, 120, sourceIndex);
+  }
+
+  @Test
+  void shouldLoadWrittenEntries() {
+    // given
+    final var loadedIndex = new SparseJournalIndex(1);
+
+    // when
+    final var loaded = SegmentIndexFile.load(indexFile, descriptor, loadedIndex);
+
+    // then
+    assertThat(loaded).isTrue();
+    assertThat(loadedIndex.lookup(9)).isNull();
+    assertThat(loadedIndex.lookup(10)).isEqualTo(new IndexInfo(10, 100));
+    assertThat(loadedIndex.lookup(11)).isEqualTo(new IndexInfo(11, 200));
+    assertThat(loadedIndex.lookup(13)).isEqualTo(new IndexInfo(12, 300));
+    assertThat(loadedIndex.lookupAsqn(110)).isEqualTo(10L);
+    assertThat(loadedIndex.lookupAsqn(130)).isEqualTo(12L);
+  }
+
+  @Test
+  void shouldNotLeaveTemporaryFileBehind() throws IOException {
+    // when
+    SegmentIndexFile.write(indexFile, descriptor, 120, sourceIndex);
+
+    // then
+    try (final var files = Files.list(directory)) {
+      assertThat(files).containsExactly(indexFile);
+    }
+  }
+
+  @Test
+  void shouldNotLoadMissingFile() throws IOException {
+    // given
+    final var loadedIndex = new SparseJournalIndex(1);
+    Files.delete(indexFile);
+
+    // when
+    final var loaded = SegmentIndexFile.load(indexFile, descriptor, loadedIndex);
+
+    // then
+    assertThat(loaded).isFalse();
+    assertThat(loadedIndex.lookup(12)).isNull();
+  }
+
+  @Test
+  void shouldNotLoadCorruptedFile() throws IOException {
+    // given
+    final var loadedIndex = new SparseJournalIndex(1);
+    final var content = Files.readAllBytes(indexFile);
+    content[content.length / 2] ^= 0xFF;
+    Files.write(indexFile, content);
+
+    // when
+    final var loaded = SegmentIndexFile.load(indexFile, descriptor, loadedIndex);
+
+    // then
+    assertThat(loaded).isFalse();
+    assertThat(loadedIndex.lookup(12)).isNull();
+  }
+
+  @Test
+  void shouldNotLoadPartiallyWrittenFile() throws IOException {
+    // given
+    final var loadedIndex = new SparseJournalIndex(1);
+    final var content = Files.readAllBytes(indexFile);
+    Files.write(indexFile, Arrays.copyOf(content, content.length - 10));
+
+    // when
+    final var loaded = SegmentIndexFile.load(indexFile, descriptor, loadedIndex);
+
+    // then
+    assertThat(loaded).isFalse();
+  }
+
+  @Test
+  void shouldNotLoadFileOfModifiedSegment() {
+    // given - the segment was truncated and rewritten up to a different last entry
+    final var loadedIndex = new SparseJournalIndex(1);
+    final var modifiedDescriptor = descriptor.withUpdatedIndices(11, 200);
+
+    // when
+    final var loaded = SegmentIndexFile.load(indexFile, modifiedDescriptor, loadedIndex);
+
+    // then
+    assertThat(loaded).isFalse();
+    assertThat(loadedIndex.lookup(12)).isNull();
+  }
+}
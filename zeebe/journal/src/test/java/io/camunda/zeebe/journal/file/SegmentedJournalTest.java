@@ -903,6 +903,42 @@ class SegmentedJournalTest {
     assertThat(journalFactory.metaStore().loadLastFlushedIndex()).isEqualTo(lastWrittenIndex);
   }
 
+  @Test
+  void shouldFlushAsynchronously() {
+    // given
+    journal = openJournal(2);
+    final var lastWrittenIndex = journal.append(1, journalFactory.entry()).index();
+
+    // when
+    final var flushed = journal.flushAsync();
+
+    // then
+    assertThat(flushed).succeedsWithin(Duration.ofSeconds(5));
+    assertThat(journalFactory.metaStore().loadLastFlushedIndex()).isEqualTo(lastWrittenIndex);
+  }
+
+  @Test
+  void shouldMergeAsyncFlushesWithGroupCommit() {
+    // given
+    journalFactory = new TestJournalFactory("test", 2);
+    journal =
+        journalFactory.journal(
+            journalFactory.segmentsManager(directory),
+            new GroupCommitFlushScheduler.Config(Duration.ofMinutes(1), 2));
+    closeables.add(journal);
+    journal.append(1, journalFactory.entry());
+    final var lastWrittenIndex = journal.append(2, journalFactory.entry()).index();
+
+    // when
+    final var first = journal.flushAsync();
+    final var second = journal.flushAsync();
+
+    // then
+    assertThat(first).succeedsWithin(Duration.ofSeconds(5));
+    assertThat(second).succeedsWithin(Duration.ofSeconds(5));
+    assertThat(journalFactory.metaStore().loadLastFlushedIndex()).isEqualTo(lastWrittenIndex);
+  }
+
   @Test
   void shouldFailWithOODForAsyncSegmentCreation() {
     // given
@@ -13,10 +13,17 @@ import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.record.SBESerializer;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Objects;
@@ -293,6 +300,243 @@ class SegmentsManagerTest {
     }
   }
 
+  @Test
+  void shouldLoadIndexOfSealedSegmentsFromIndexFiles() {
+    // given - segments with 3 entries each, the first two sealed
+    final var writingFactory = new TestJournalFactory(3);
+    try (final var journal = openJournalWithIndexFiles(writingFactory)) {
+      for (int asqn = 1; asqn <= 7; asqn++) {
+        journal.append(asqn, writingFactory.entry());
+      }
+    }
+
+    // when
+    final var reopenedFactory = new TestJournalFactory(3);
+    segments =
+        reopenedFactory.segmentsManager(
+            directory, reopenedFactory.segmentLoader(), reopenedFactory.metaStore(), true);
+    segments.open();
+
+    // then - all entries of the sealed segments are indexed without having been read
+    final var index = reopenedFactory.journalIndex();
+    assertThat(index.lookup(1)).extracting(IndexInfo::index).isEqualTo(1L);
+    assertThat(index.lookup(2)).extracting(IndexInfo::index).isEqualTo(2L);
+    assertThat(index.lookup(5)).extracting(IndexInfo::index).isEqualTo(5L);
+    assertThat(index.lookupAsqn(2)).isEqualTo(2L);
+    assertThat(index.lookupAsqn(4)).isEqualTo(4L);
+  }
+
+  @Test
+  void shouldDeleteIndexFilesOfTruncatedSegments() {
+    // given
+    final var writingFactory = new TestJournalFactory(3);
+    try (final var journal = openJournalWithIndexFiles(writingFactory)) {
+      for (int asqn = 1; asqn <= 7; asqn++) {
+        journal.append(asqn, writingFactory.entry());
+      }
+
+      // when
+      journal.deleteAfter(2);
+    }
+
+    // then
+    assertThat(directory.resolve("data"))
+        .isDirectoryNotContaining(
+            path -> SegmentFile.isSegmentIndexFile(JOURNAL_NAME, path.getFileName().toString()));
+  }
+
+  @Test
+  void shouldRollOverIfIndexFileCannotBeWritten() throws IOException {
+    // given - a non-empty directory in place of the index file of the first segment
+    final var writingFactory = new TestJournalFactory(3);
+    final var blockedIndexFile = directory.resolve("data").resolve(JOURNAL_NAME + "-1.idx");
+    Files.createDirectories(blockedIndexFile);
+    Files.createFile(blockedIndexFile.resolve("blocked"));
+
+    try (final var journal = openJournalWithIndexFiles(writingFactory)) {
+      // when
+      for (int asqn = 1; asqn <= 7; asqn++) {
+        journal.append(asqn, writingFactory.entry());
+      }
+
+      // then - the segments are only indexed on demand after a restart
+      assertThat(journal.getLastIndex()).isEqualTo(7);
+      assertThat(blockedIndexFile).isDirectory();
+    }
+  }
+
+  @Test
+  void shouldDeleteOrphanedIndexFilesOnLoad() throws IOException {
+    // given
+    final var dataDirectory = directory.resolve("data");
+    segments = journalFactory.segmentsManager(directory);
+    segments.open();
+    final var orphanedIndexFile = dataDirectory.resolve(JOURNAL_NAME + "-10.idx");
+    Files.createFile(orphanedIndexFile);
+    segments.close();
+
+    // when
+    segments = journalFactory.segmentsManager(directory);
+    segments.open();
+
+    // then
+    assertThat(orphanedIndexFile).doesNotExist();
+  }
+
+  @Test
+  void shouldDeleteTemporaryIndexFilesOnLoad() throws IOException {
+    // given - a crash while writing the index file of the first segment
+    final var dataDirectory = directory.resolve("data");
+    segments = journalFactory.segmentsManager(directory);
+    segments.open();
+    final var temporaryIndexFile = dataDirectory.resolve(JOURNAL_NAME + "-1.tmp.idx");
+    Files.createFile(temporaryIndexFile);
+    segments.close();
+
+    // when
+    segments = journalFactory.segmentsManager(directory);
+    segments.open();
+
+    // then
+    assertThat(temporaryIndexFile).doesNotExist();
+  }
+
+  @Test
+  void shouldPreallocateConfiguredNumberOfSegments() {
+    // given
+    final var writingFactory = new TestJournalFactory(2);
+    try (final var journal =
+        writingFactory.journal(writingFactory.segmentsManager(directory, 3, false))) {
+
+      // when - rolling over once
+      for (int asqn = 1; asqn <= 3; asqn++) {
+        journal.append(asqn, writingFactory.entry());
+      }
+    }
+
+    // then - the two used segments, plus the three prepared ones
+    assertThat(directory.resolve("data").toFile().listFiles(this::isSegmentFile)).hasSize(5);
+  }
+
+  @Test
+  void shouldRecycleCompactedSegmentFiles() throws IOException {
+    // given - two segments with 2 entries each, with the third one already prepared
+    final var dataDirectory = directory.resolve("data");
+    final var writingFactory = new TestJournalFactory(2);
+    try (final var journal =
+        writingFactory.journal(writingFactory.segmentsManager(directory, 1, true))) {
+      for (int asqn = 1; asqn <= 4; asqn++) {
+        journal.append(asqn, writingFactory.entry());
+      }
+      final var compactedFileKey = fileKey(dataDirectory.resolve(JOURNAL_NAME + "-1.log"));
+
+      // when - compacting the first segment, and rolling over into the prepared third segment
+      journal.deleteUntil(3);
+      for (int asqn = 5; asqn <= 7; asqn++) {
+        journal.append(asqn, writingFactory.entry());
+      }
+
+      // then - the fourth segment was prepared from the compacted file
+      assertThat(fileKey(dataDirectory.resolve(JOURNAL_NAME + "-4.log")))
+          .isEqualTo(compactedFileKey);
+    }
+  }
+
+  @Test
+  void shouldReadEntriesWrittenToRecycledSegmentAfterRestart() {
+    // given - entries written to a recycled segment, which still contains old entries after them
+    final var writingFactory = new TestJournalFactory(2);
+    try (final var journal =
+        writingFactory.journal(writingFactory.segmentsManager(directory, 1, true))) {
+      for (int asqn = 1; asqn <= 4; asqn++) {
+        journal.append(asqn, writingFactory.entry());
+      }
+      journal.deleteUntil(3);
+      for (int asqn = 5; asqn <= 7; asqn++) {
+        journal.append(asqn, writingFactory.entry());
+      }
+    }
+
+    // when
+    final var reopenedFactory = new TestJournalFactory(2);
+    try (final var journal =
+            reopenedFactory.journal(reopenedFactory.segmentsManager(directory, 1, true));
+        final var reader = journal.openReader()) {
+
+      // then
+      assertThat(journal.getFirstIndex()).isEqualTo(3);
+      assertThat(journal.getLastIndex()).isEqualTo(7);
+      for (long asqn = 3; asqn <= 7; asqn++) {
+        assertThat(reader.hasNext()).isTrue();
+        assertThat(reader.next().asqn()).isEqualTo(asqn);
+      }
+      assertThat(reader.hasNext()).isFalse();
+    }
+  }
+
+  @Test
+  void shouldIgnoreStaleEntriesOfRecycledSegmentAfterRestart() throws IOException {
+    // given - entries written to a recycled segment, whose next entry invalidation was lost
+    final var writingFactory = new TestJournalFactory(2);
+    final JournalRecord lastRecord;
+    try (final var journal =
+        writingFactory.journal(writingFactory.segmentsManager(directory, 1, true))) {
+      for (int asqn = 1; asqn <= 4; asqn++) {
+        journal.append(asqn, writingFactory.entry());
+      }
+      journal.deleteUntil(3);
+      for (int asqn = 5; asqn <= 6; asqn++) {
+        journal.append(asqn, writingFactory.entry());
+      }
+      lastRecord = journal.append(7, writingFactory.entry());
+    }
+    final int nextEntryPosition =
+        SegmentDescriptorSerializer.currentEncodingLength()
+            + FrameUtil.getLength()
+            + new SBESerializer().getMetadataLength()
+            + lastRecord.serializedRecord().capacity();
+    try (final var file =
+        FileChannel.open(
+            directory.resolve("data").resolve(JOURNAL_NAME + "-4.log"),
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE)) {
+      final var version = ByteBuffer.allocate(1);
+      file.read(version, nextEntryPosition);
+      assertThat(version.get(0)).isZero();
+      file.write(ByteBuffer.wrap(new byte[] {1}), nextEntryPosition);
+    }
+
+    // when
+    final var reopenedFactory = new TestJournalFactory(2);
+    try (final var journal =
+            reopenedFactory.journal(reopenedFactory.segmentsManager(directory, 1, true));
+        final var reader = journal.openReader()) {
+
+      // then
+      assertThat(journal.getFirstIndex()).isEqualTo(3);
+      assertThat(journal.getLastIndex()).isEqualTo(7);
+      for (long asqn = 3; asqn <= 7; asqn++) {
+        assertThat(reader.hasNext()).isTrue();
+        assertThat(reader.next().asqn()).isEqualTo(asqn);
+      }
+      assertThat(reader.hasNext()).isFalse();
+      assertThat(journal.append(8, reopenedFactory.entry()).index()).isEqualTo(8);
+    }
+  }
+
+  private boolean isSegmentFile(final File file) {
+    return SegmentFile.isSegmentFile(JOURNAL_NAME, file);
+  }
+
+  private Object fileKey(final Path file) throws IOException {
+    return Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+  }
+
+  private SegmentedJournal openJournalWithIndexFiles(final TestJournalFactory factory) {
+    return factory.journal(
+        factory.segmentsManager(directory, factory.segmentLoader(), factory.metaStore(), true));
+  }
+
   private SegmentedJournal openJournal() {
     return journalFactory.journal(journalFactory.segmentsManager(directory));
   }
@@ -109,6 +109,14 @@ final class TestJournalFactory {
 
   SegmentsManager segmentsManager(
       final Path directory, final SegmentLoader loader, final JournalMetaStore metaStore) {
+    return segmentsManager(directory, loader, metaStore, false);
+  }
+
+  SegmentsManager segmentsManager(
+      final Path directory,
+      final SegmentLoader loader,
+      final JournalMetaStore metaStore,
+      final boolean segmentIndexFiles) {
     return new SegmentsManager(
         index,
         maxSegmentSize(),
@@ -116,12 +124,33 @@ final class TestJournalFactory {
         "journal",
         loader,
         metrics,
-        metaStore);
+        metaStore,
+        segmentIndexFiles);
+  }
+
+  SegmentsManager segmentsManager(
+      final Path directory, final int preallocatedSegmentCount, final boolean recycleSegments) {
+    return new SegmentsManager(
+        index,
+        maxSegmentSize(),
+        directory.resolve("data").toFile(),
+        "journal",
+        segmentLoader(),
+        metrics,
+        metaStore,
+        false,
+        preallocatedSegmentCount,
+        recycleSegments);
   }
 
   SegmentedJournal journal(final SegmentsManager segments) {
+    return journal(segments, null);
+  }
+
+  SegmentedJournal journal(
+      final SegmentsManager segments, final GroupCommitFlushScheduler.Config groupCommitConfig) {
     final var segmentsFlusher = new SegmentsFlusher(metaStore);
-    return new SegmentedJournal(index, segments, metrics, segmentsFlusher);
+    return new SegmentedJournal(index, segments, metrics, segmentsFlusher, groupCommitConfig);
   }
 
   DirectBuffer entryData() {
@@ -132,6 +161,10 @@ final class TestJournalFactory {
     return metrics;
   }
 
+  JournalIndex journalIndex() {
+    return index;
+  }
+
   private int getSerializedSize(final DirectBuffer data) {
     final var record = new RecordData(1, 1, data);
     final var serializer = new SBESerializer();
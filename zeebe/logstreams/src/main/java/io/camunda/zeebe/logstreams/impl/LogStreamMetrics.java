@@ -8,6 +8,7 @@
 package io.camunda.zeebe.logstreams.impl;
 
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.COMMIT_LATENCY;
+import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.EXPORTER_LAG;
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.EXPORTING_RATE;
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.FLOW_CONTROL_OUTCOME;
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.INFLIGHT_APPENDS;
@@ -17,6 +18,9 @@ import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.LAST_WRITTEN_
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.PARTITION_LOAD;
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.RECORD_APPENDED;
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.REQUEST_LIMIT;
+import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.REQUEST_LIMIT_LOAD_FACTOR;
+import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.STATE_PENDING_COMPACTION_BYTES;
+import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.STATE_WRITE_STALLED;
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.TOTAL_APPEND_TRY_COUNT;
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.TOTAL_DEFERRED_APPEND_COUNT;
 import static io.camunda.zeebe.logstreams.impl.LogStreamMetricsDoc.TOTAL_DROPPED_REQUESTS;
@@ -62,6 +66,10 @@ public final class LogStreamMetrics {
   private final AtomicLong writeRateMaxLimit = new AtomicLong();
   private final AtomicLong writeRateLimit = new AtomicLong();
   private final AtomicLong partitionLoad = new AtomicLong();
+  private final AtomicLong statePendingCompactionBytes = new AtomicLong();
+  private final AtomicLong stateWriteStalled = new AtomicLong();
+  private final AtomicLong exporterLag = new AtomicLong();
+  private final AtomicLong requestLimitLoadFactor = new AtomicLong(Double.doubleToLongBits(1.0));
   private final Map3D<RecordType, ValueType, Intent, Counter> recordAppended = Map3D.simple();
   private final Table<FlowControlContext, FlowControlOutcome, Counter> flowControlOutcome =
       Table.ofEnum(FlowControlContext.class, FlowControlOutcome.class, Counter[]::new);
@@ -97,6 +105,16 @@ public final class LogStreamMetrics {
     Gauge.builder(PARTITION_LOAD.getName(), partitionLoad, LogStreamMetrics::longToDouble)
         .description(PARTITION_LOAD.getDescription())
         .register(registry);
+
+    registerGauge(STATE_PENDING_COMPACTION_BYTES, statePendingCompactionBytes);
+    registerGauge(STATE_WRITE_STALLED, stateWriteStalled);
+    registerGauge(EXPORTER_LAG, exporterLag);
+    Gauge.builder(
+            REQUEST_LIMIT_LOAD_FACTOR.getName(),
+            requestLimitLoadFactor,
+            LogStreamMetrics::longToDouble)
+        .description(REQUEST_LIMIT_LOAD_FACTOR.getDescription())
+        .register(registry);
   }
 
   public void increaseInflightAppends() {
@@ -201,6 +219,22 @@ public final class LogStreamMetrics {
     writeRateLimit.set(Double.doubleToLongBits(value));
   }
 
+  public void setStatePendingCompactionBytes(final long bytes) {
+    statePendingCompactionBytes.set(bytes);
+  }
+
+  public void setStateWriteStalled(final boolean stalled) {
+    stateWriteStalled.set(stalled ? 1 : 0);
+  }
+
+  public void setExporterLag(final long lag) {
+    exporterLag.set(lag);
+  }
+
+  public void setRequestLimitLoadFactor(final double factor) {
+    requestLimitLoadFactor.set(Double.doubleToLongBits(factor));
+  }
+
   private Counter registerRecordAppendedCounter(
       final RecordType recordType, final ValueType valueType, final Intent intent) {
     return Counter.builder(RECORD_APPENDED.getName())
@@ -438,6 +438,92 @@ public enum LogStreamMetricsDoc implements ExtendedMeterDocumentation {
       return Type.GAUGE;
     }
 
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+  STATE_PENDING_COMPACTION_BYTES {
+    @Override
+    public String getDescription() {
+      return "The estimated number of bytes the state compaction needs to rewrite, as used by flow control";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.flow.control.state.pending.compaction.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+  STATE_WRITE_STALLED {
+    @Override
+    public String getDescription() {
+      return "Whether writes to the state are currently stopped or delayed (1) or not (0), as used by flow control";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.flow.control.state.write.stalled";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+  EXPORTER_LAG {
+    @Override
+    public String getDescription() {
+      return "The number of positions between the last written and the last exported record";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.flow.control.exporter.lag";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+  REQUEST_LIMIT_LOAD_FACTOR {
+    @Override
+    public String getDescription() {
+      return """
+        The factor, between 0 and 1, by which the request limit is currently reduced due to the \
+        state load or the exporter lag""";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.flow.control.request.limit.load.factor";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
     @Override
     public KeyName[] getAdditionalKeyNames() {
       return PartitionKeyNames.values();
@@ -0,0 +1,231 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import com.google.common.base.Preconditions;
+import com.netflix.concurrency.limits.Limit;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Decorates a request {@link Limit}, shrinking it as soon as the partition shows signs of overload
+ * which the round trip times observed by the delegate only reveal late, if at all:
+ *
+ * <ul>
+ *   <li>the state's estimated pending compaction bytes, which grow when compaction cannot keep up
+ *       and eventually lead to write stalls;
+ *   <li>whether writes to the state are currently stalled or delayed;
+ *   <li>the lag of the exporters behind the last written position.
+ * </ul>
+ *
+ * Each input is mapped to a load factor between 0 and 1: below its soft threshold the factor is 1,
+ * above its hard threshold it is 0, and in between it decreases linearly. A write stall maps to 0.
+ * The limit is the delegate's limit scaled by the lowest factor, but never less than {@code
+ * minLimit}.
+ */
+public final class CompositeLimit implements Limit {
+  private final Limit delegate;
+  private final int minLimit;
+  private final Threshold pendingCompactionBytesThreshold;
+  private final Threshold exporterLagThreshold;
+  private final List<Consumer<Integer>> listeners = new CopyOnWriteArrayList<>();
+
+  private volatile long pendingCompactionBytes;
+  private volatile boolean writeStalled;
+  private volatile long exporterLag;
+  // the exporter lag which the current limit was computed with
+  private volatile long appliedExporterLag;
+  private volatile double loadFactor = 1.0;
+  private volatile int limit;
+
+  private CompositeLimit(
+      final Limit delegate,
+      final int minLimit,
+      final Threshold pendingCompactionBytesThreshold,
+      final Threshold exporterLagThreshold) {
+    this.delegate = delegate;
+    this.minLimit = minLimit;
+    this.pendingCompactionBytesThreshold = pendingCompactionBytesThreshold;
+    this.exporterLagThreshold = exporterLagThreshold;
+    limit = delegate.getLimit();
+
+    delegate.notifyOnChange(ignored -> updateLimit());
+  }
+
+  @Override
+  public int getLimit() {
+    return limit;
+  }
+
+  @Override
+  public void notifyOnChange(final Consumer<Integer> consumer) {
+    listeners.add(consumer);
+  }
+
+  @Override
+  public void onSample(
+      final long startTime, final long rtt, final int inflight, final boolean didDrop) {
+    delegate.onSample(startTime, rtt, inflight, didDrop);
+  }
+
+  /**
+   * Updates the load of the state storage.
+   *
+   * @param pendingCompactionBytes the estimated number of bytes which compaction needs to rewrite
+   * @param writeStalled true if writes to the state are currently stopped or delayed
+   */
+  public void onStateLoad(final long pendingCompactionBytes, final boolean writeStalled) {
+    this.pendingCompactionBytes = pendingCompactionBytes;
+    this.writeStalled = writeStalled;
+    updateLimit();
+  }
+
+  /**
+   * Updates the lag of the exporters, e.g. when the exporters reported a new position, and
+   * recomputes the limit if the lag changed since it was last computed.
+   *
+   * @param exporterLag the difference between the last written and the last exported position
+   */
+  public void onExporterLag(final long exporterLag) {
+    this.exporterLag = exporterLag;
+    if (appliedExporterLag != exporterLag) {
+      updateLimit();
+    }
+  }
+
+  /**
+   * Updates the lag of the exporters after a write. As writes are far more frequent than exported
+   * positions, the limit is only recomputed right away if the lag crossed its soft or hard
+   * threshold; otherwise it is recomputed with the next exported position.
+   *
+   * @param exporterLag the difference between the last written and the last exported position
+   * @return true if the limit was recomputed
+   */
+  public boolean onWrittenExporterLag(final long exporterLag) {
+    final long previousLag = this.exporterLag;
+    this.exporterLag = exporterLag;
+    if (exporterLagThreshold.isCrossed(previousLag, exporterLag)) {
+      updateLimit();
+      return true;
+    }
+
+    return false;
+  }
+
+  /** Returns the factor, between 0 and 1, by which the delegate's limit is currently scaled. */
+  public double getLoadFactor() {
+    return loadFactor;
+  }
+
+  public Limit getDelegate() {
+    return delegate;
+  }
+
+  private synchronized void updateLimit() {
+    final long currentExporterLag = exporterLag;
+    final double newLoadFactor =
+        writeStalled
+            ? 0
+            : Math.min(
+                pendingCompactionBytesThreshold.loadFactor(pendingCompactionBytes),
+                exporterLagThreshold.loadFactor(currentExporterLag));
+    final int newLimit = Math.max(minLimit, (int) (delegate.getLimit() * newLoadFactor));
+
+    appliedExporterLag = currentExporterLag;
+    loadFactor = newLoadFactor;
+    if (newLimit != limit) {
+      limit = newLimit;
+      listeners.forEach(listener -> listener.accept(newLimit));
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "CompositeLimit [limit=" + limit + ", delegate=" + delegate + "]";
+  }
+
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  /**
+   * A range of values over which the load factor decreases linearly from 1 to 0. A threshold with a
+   * non-positive hard limit is disabled, i.e. always yields a factor of 1.
+   */
+  record Threshold(long soft, long hard) {
+    private static final Threshold DISABLED = new Threshold(0, 0);
+
+    Threshold {
+      Preconditions.checkArgument(
+          hard <= 0 || soft < hard,
+          "Expected soft threshold %s to be lower than hard threshold %s",
+          soft,
+          hard);
+    }
+
+    double loadFactor(final long value) {
+      if (hard <= 0 || value <= soft) {
+        return 1.0;
+      }
+
+      if (value >= hard) {
+        return 0.0;
+      }
+
+      return 1.0 - (double) (value - soft) / (hard - soft);
+    }
+
+    /**
+     * Returns true if the given values lie on different sides of the soft or the hard threshold,
+     * i.e. if the load factor went from or to 1 or 0. A disabled threshold is never crossed.
+     */
+    boolean isCrossed(final long previous, final long current) {
+      if (hard <= 0) {
+        return false;
+      }
+
+      return (previous <= soft) != (current <= soft) || (previous >= hard) != (current >= hard);
+    }
+  }
+
+  public static final class Builder {
+    private int minLimit = 1;
+    private Threshold pendingCompactionBytes = Threshold.DISABLED;
+    private Threshold exporterLag = Threshold.DISABLED;
+
+    public Builder minLimit(final int minLimit) {
+      Preconditions.checkArgument(minLimit > 0, "Min limit must be positive");
+      this.minLimit = minLimit;
+      return this;
+    }
+
+    /**
+     * The limit starts shrinking once the pending compaction bytes exceed the soft threshold, and
+     * reaches the min limit at the hard threshold.
+     */
+    public Builder pendingCompactionBytes(final long soft, final long hard) {
+      pendingCompactionBytes = new Threshold(soft, hard);
+      return this;
+    }
+
+    /**
+     * The limit starts shrinking once the exporter lag exceeds the soft threshold, and reaches the
+     * min limit at the hard threshold.
+     */
+    public Builder exporterLag(final long soft, final long hard) {
+      exporterLag = new Threshold(soft, hard);
+      return this;
+    }
+
+    public CompositeLimit build(final Limit delegate) {
+      Preconditions.checkNotNull(delegate, "Delegate limit must not be null");
+      return new CompositeLimit(delegate, minLimit, pendingCompactionBytes, exporterLag);
+    }
+  }
+}
@@ -39,16 +39,18 @@ import java.util.TreeMap;
  * Access patterns:
  *
  * <ol>
- *   <li>Calls to {@link #tryAcquire(WriteContext, List)} from the sequencer, serialized through the
- *       sequencers write lock.
- *   <li>Calls to {@link #onAppend(InFlightEntry, long)} from the sequencer, serialized through the
- *       sequencers write lock.
+ *   <li>Calls to {@link #tryAcquire(WriteContext, List)} from the sequencer, concurrently from any
+ *       writer.
+ *   <li>Calls to {@link #onAppend(InFlightEntry, long)} and {@link #onAppendFailed(InFlightEntry,
+ *       long)} from the sequencer, serialized in position order by the sequencer.
  *   <li>Calls to {@link #onWrite(long, long)} from the log storage, serialized through the single
  *       raft thread.
  *   <li>Calls to {@link #onCommit(long, long)} from the log storage, serialized through the single
  *       raft thread.
  *   <li>Calls to {@link #onProcessed(long)} from the stream processor, serialized through the
  *       stream processor actor.
+ *   <li>Calls to {@link #onStateLoad(long, boolean)} from the partition, serialized through the
+ *       partition actor.
  * </ol>
  *
  * The order in which these methods are called is weakly constrained:
@@ -63,12 +65,15 @@ import java.util.TreeMap;
  * The weak ordering forces us to program quite defensively and carefully choose where and how we
  * modify internal state.
  *
- * <p>The {@link #inFlight} map is only modified in the {@link #onAppend(InFlightEntry, long)}
- * method. All other methods only read from it.
+ * <p>The {@link #inFlight} map is only modified in the {@link #onAppend(InFlightEntry, long)} and
+ * {@link #onAppendFailed(InFlightEntry, long)} methods. All other methods only read from it.
  *
  * <p>A volatile field {@link #lastProcessedPosition} is only modified in {@link #onProcessed(long)}
  * and used in {@link #onAppend(InFlightEntry, long)} to clean up old entries.
  *
+ * <p>If the request limit is a {@link CompositeLimit}, the state load and the exporter lag are
+ * forwarded to it, such that it can shrink the limit before the partition is overloaded.
+ *
  * <p>The RateMeasurement#observe method only returns true when a new observation value is
  * available. This way we prevent updating the metrics too often with repeated values. We use the
  * RateMeasurements to update the cluster load and the exporting rate metrics.
@@ -78,7 +83,7 @@ public final class FlowControl implements AppendListener {
 
   private final LogStreamMetrics metrics;
   private RateLimit writeRateLimit;
-  private Limit requestLimit;
+  private volatile Limit requestLimit;
   private Limiter<Intent> processingLimiter;
   private RateLimiter writeRateLimiter;
   private final RateMeasurement exportingRate =
@@ -162,6 +167,20 @@ public final class FlowControl implements AppendListener {
     inFlight.put(highestPosition, entry);
   }
 
+  /**
+   * Releases an entry whose batch failed to be appended, such that it does not hold on to the
+   * request limit, and is not mistaken for the entry of a later batch which reuses its positions.
+   */
+  public void onAppendFailed(final InFlightEntry entry, final long highestPosition) {
+    if (inFlight.remove(highestPosition, entry)) {
+      metrics.decreaseInflightAppends();
+      if (entry.requestListener != null) {
+        metrics.decreaseInflightRequests();
+      }
+    }
+    entry.cleanup();
+  }
+
   @Override
   public void onWrite(final long index, final long highestPosition) {
     lastWrittenPosition = highestPosition;
@@ -171,6 +190,7 @@ public final class FlowControl implements AppendListener {
     if (inFlightEntry != null) {
       inFlightEntry.onWrite();
     }
+    updateWrittenExporterLag();
     if (writeRate.observe(highestPosition) && writeRateLimit != null && writeRateLimit.enabled()) {
       metrics.setPartitionLoad(
           Math.min((float) (writeRate.rate() / writeRateLimiter.getRate() * 100L), 100));
@@ -204,6 +224,53 @@ public final class FlowControl implements AppendListener {
       metrics.setExportingRate(exportingRate.rate());
     }
     updateWriteRateThrottle();
+    updateExporterLag();
+  }
+
+  /**
+   * Updates the load of the state storage, which is taken into account by the request limit if it
+   * is a {@link CompositeLimit}.
+   *
+   * @param pendingCompactionBytes the estimated number of bytes which compaction needs to rewrite
+   * @param writeStalled true if writes to the state are currently stopped or delayed
+   */
+  public void onStateLoad(final long pendingCompactionBytes, final boolean writeStalled) {
+    metrics.setStatePendingCompactionBytes(pendingCompactionBytes);
+    metrics.setStateWriteStalled(writeStalled);
+    if (requestLimit instanceof final CompositeLimit compositeLimit) {
+      compositeLimit.onStateLoad(pendingCompactionBytes, writeStalled);
+      metrics.setRequestLimitLoadFactor(compositeLimit.getLoadFactor());
+    }
+  }
+
+  private void updateExporterLag() {
+    if (lastWrittenPosition == -1 || lastExportedPosition <= 0) {
+      return;
+    }
+
+    final long exporterLag = Math.max(0, lastWrittenPosition - lastExportedPosition);
+    metrics.setExporterLag(exporterLag);
+    if (requestLimit instanceof final CompositeLimit compositeLimit) {
+      compositeLimit.onExporterLag(exporterLag);
+      metrics.setRequestLimitLoadFactor(compositeLimit.getLoadFactor());
+    }
+  }
+
+  /**
+   * Like {@link #updateExporterLag()}, but called on every write, so the request limit is only
+   * recomputed if the lag crossed one of its thresholds.
+   */
+  private void updateWrittenExporterLag() {
+    if (lastWrittenPosition == -1 || lastExportedPosition <= 0) {
+      return;
+    }
+
+    final long exporterLag = Math.max(0, lastWrittenPosition - lastExportedPosition);
+    metrics.setExporterLag(exporterLag);
+    if (requestLimit instanceof final CompositeLimit compositeLimit
+        && compositeLimit.onWrittenExporterLag(exporterLag)) {
+      metrics.setRequestLimitLoadFactor(compositeLimit.getLoadFactor());
+    }
   }
 
   private void updateWriteRateThrottle() {
@@ -219,6 +286,7 @@ public final class FlowControl implements AppendListener {
 
   public void setRequestLimit(final Limit requestLimit) {
     this.requestLimit = requestLimit;
+    metrics.setRequestLimitLoadFactor(1.0);
     processingLimiter =
         requestLimit != null
             ? new CommandRateLimiterBuilder().limit(requestLimit).build(metrics)
@@ -26,6 +26,7 @@ public final class LimitSerializer {
     OBJECT_MAPPER.addMixIn(StabilizingAIMDLimit.class, AIMDLimitMixIn.class);
     OBJECT_MAPPER.addMixIn(WindowedLimit.class, WindowedLimitMixIn.class);
     OBJECT_MAPPER.addMixIn(VegasLimit.class, VegasLimitMixIn.class);
+    OBJECT_MAPPER.addMixIn(CompositeLimit.class, CompositeLimitMixIn.class);
     OBJECT_MAPPER.registerModule(new JavaTimeModule());
   }
 
@@ -55,6 +56,18 @@ public final class LimitSerializer {
   @JsonAutoDetect(fieldVisibility = Visibility.ANY)
   private static final class VegasLimitMixIn {}
 
+  /** Mixin to support serialization of {@link CompositeLimit} instances. */
+  @JsonIncludeProperties({
+    "delegate",
+    "limit",
+    "minLimit",
+    "pendingCompactionBytesThreshold",
+    "exporterLagThreshold",
+    "loadFactor"
+  })
+  @JsonAutoDetect(fieldVisibility = Visibility.ANY)
+  private static final class CompositeLimitMixIn {}
+
   /** Mixin to support serialization of {@link StabilizingAIMDLimit} instances. */
   @JsonIncludeProperties({"limit", "minLimit", "maxLimit", "backoffRatio", "expectedRTT"})
   @JsonAutoDetect(fieldVisibility = Visibility.ANY)
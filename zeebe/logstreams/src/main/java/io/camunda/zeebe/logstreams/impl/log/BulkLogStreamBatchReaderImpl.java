@@ -0,0 +1,160 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.impl.log.LogStreamBatchReaderImpl.LogStreamBatchImpl;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchReader;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.IntArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Reads the events of a {@link LogStreamReader} in bulk via {@link LogStreamReader#nextEvents()},
+ * and groups them into batches. A batch which lies within one bulk of events wraps these events as
+ * they are; only a batch which spans several bulks is copied into a buffer of its own.
+ *
+ * <p>This pays off only if the reader reads ahead, as a bulk is then a whole window of events, see
+ * {@link LogStreamReader#isReadingAhead()}. Otherwise, prefer the {@link LogStreamBatchReaderImpl}.
+ */
+public final class BulkLogStreamBatchReaderImpl implements LogStreamBatchReader {
+
+  private static final Consumer<LoggedEvent> NOOP = event -> {};
+
+  private final LogStreamBatchImpl batch = new LogStreamBatchImpl();
+
+  private final MutableDirectBuffer eventBuffer = new ExpandableArrayBuffer();
+  private final IntArrayList bufferOffsets = new IntArrayList();
+
+  private final DirectBuffer events = new UnsafeBuffer();
+  private final LoggedEventImpl event = new LoggedEventImpl();
+  private int eventOffset;
+
+  private boolean isBatchCopied;
+  private int copiedLength;
+
+  private final LogStreamReader logStreamReader;
+
+  public BulkLogStreamBatchReaderImpl(final LogStreamReader logStreamReader) {
+    this.logStreamReader = logStreamReader;
+  }
+
+  @Override
+  public boolean seekToNextBatch(final long position) {
+    resetEvents();
+
+    if (position < 0) {
+      logStreamReader.seekToFirstEvent();
+      return true;
+
+    } else {
+      final var found = logStreamReader.seek(position);
+      if (found) {
+        // seeks to the next batch by reading the current batch
+        final var batch = next();
+        batch.forEachRemaining(NOOP);
+      }
+      return found;
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    return hasBufferedEvents() || logStreamReader.hasNext();
+  }
+
+  @Override
+  public Batch next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    if (!hasBufferedEvents()) {
+      readNextEvents();
+    }
+
+    bufferOffsets.clear();
+    isBatchCopied = false;
+    copiedLength = 0;
+    long sourceEventPosition;
+
+    do {
+      event.wrap(events, eventOffset);
+      sourceEventPosition = event.getSourceEventPosition();
+
+      if (isBatchCopied) {
+        event.write(eventBuffer, copiedLength);
+        bufferOffsets.addInt(copiedLength);
+        copiedLength += event.getLength();
+      } else {
+        bufferOffsets.addInt(eventOffset);
+      }
+
+      eventOffset += event.getLength();
+
+    } while (sourceEventPosition > 0 && isNextInBatch(sourceEventPosition));
+
+    batch.wrap(isBatchCopied ? eventBuffer : events, bufferOffsets);
+    return batch;
+  }
+
+  @Override
+  public void close() {
+    logStreamReader.close();
+    bufferOffsets.clear();
+    resetEvents();
+  }
+
+  private boolean isNextInBatch(final long sourceEventPosition) {
+    if (!hasBufferedEvents()) {
+      if (!logStreamReader.hasNext()
+          || sourceEventPosition != logStreamReader.peekNext().getSourceEventPosition()) {
+        return false;
+      }
+
+      // the batch continues in the next events, which replace the ones the batch refers to
+      if (!isBatchCopied) {
+        copyBatch();
+      }
+      readNextEvents();
+    }
+
+    event.wrap(events, eventOffset);
+    return sourceEventPosition == event.getSourceEventPosition();
+  }
+
+  private boolean hasBufferedEvents() {
+    return eventOffset < events.capacity();
+  }
+
+  private void readNextEvents() {
+    events.wrap(logStreamReader.nextEvents());
+    eventOffset = 0;
+  }
+
+  private void copyBatch() {
+    final int batchOffset = bufferOffsets.getInt(0);
+    copiedLength = eventOffset - batchOffset;
+    eventBuffer.putBytes(0, events, batchOffset, copiedLength);
+    for (int i = 0; i < bufferOffsets.size(); i++) {
+      bufferOffsets.setInt(i, bufferOffsets.getInt(i) - batchOffset);
+    }
+
+    isBatchCopied = true;
+  }
+
+  private void resetEvents() {
+    events.wrap(0, 0);
+    eventOffset = 0;
+  }
+}
@@ -97,7 +97,7 @@ public class LogStreamBatchReaderImpl implements LogStreamBatchReader {
 
     private int currentIndex = 0;
 
-    private void wrap(final DirectBuffer buffer, final IntArrayList offsets) {
+    void wrap(final DirectBuffer buffer, final IntArrayList offsets) {
       this.buffer = buffer;
       this.offsets = offsets;
 
@@ -12,6 +12,7 @@ import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamBuilder;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.InstantSource;
 import java.util.Objects;
@@ -26,6 +27,7 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
   private Limit requestLimit;
   private RateLimit writeRateLimit;
   private MeterRegistry meterRegistry;
+  private ActorSchedulingService actorSchedulingService;
 
   @Override
   public LogStreamBuilder withMaxFragmentSize(final int maxFragmentSize) {
@@ -75,6 +77,13 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public LogStreamBuilder withActorSchedulingService(
+      final ActorSchedulingService actorSchedulingService) {
+    this.actorSchedulingService = actorSchedulingService;
+    return this;
+  }
+
   @Override
   public LogStream build() {
     validate();
@@ -87,7 +96,8 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
         clock,
         requestLimit,
         writeRateLimit,
-        meterRegistry);
+        meterRegistry,
+        actorSchedulingService);
   }
 
   private void validate() {
@@ -18,6 +18,10 @@ import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.camunda.zeebe.logstreams.storage.LogStorage.CommitListener;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorSchedulingService;
+import io.camunda.zeebe.scheduler.SchedulingHints;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.InstantSource;
 import java.util.Collection;
@@ -27,6 +31,7 @@ import org.slf4j.Logger;
 public final class LogStreamImpl implements LogStream, CommitListener {
 
   private static final Logger LOG = Loggers.LOGSTREAMS_LOGGER;
+  private static final int READ_AHEAD_WINDOW_SIZE = 1024 * 1024;
 
   private final Collection<LogStreamReader> readers = new CopyOnWriteArrayList<>();
   private final Collection<LogRecordAwaiter> recordAwaiters = new CopyOnWriteArrayList<>();
@@ -36,6 +41,7 @@ public final class LogStreamImpl implements LogStream, CommitListener {
   private final LogStorage logStorage;
   private final FlowControl flowControl;
   private final Sequencer sequencer;
+  private final Actor readAheadActor;
   private volatile boolean closed;
 
   LogStreamImpl(
@@ -46,7 +52,8 @@ public final class LogStreamImpl implements LogStream, CommitListener {
       final InstantSource clock,
       final Limit requestLimit,
       final RateLimit writeRateLimit,
-      final MeterRegistry meterRegistry) {
+      final MeterRegistry meterRegistry,
+      final ActorSchedulingService actorSchedulingService) {
     this.logName = logName;
 
     this.partitionId = partitionId;
@@ -62,6 +69,14 @@ public final class LogStreamImpl implements LogStream, CommitListener {
             new SequencerMetrics(meterRegistry),
             flowControl);
     logStorage.addCommitListener(this);
+
+    if (actorSchedulingService != null) {
+      readAheadActor =
+          Actor.newActor().name(Actor.buildActorName("LogStreamReadAhead", partitionId)).build();
+      actorSchedulingService.submitActor(readAheadActor, SchedulingHints.ioBound());
+    } else {
+      readAheadActor = null;
+    }
   }
 
   @Override
@@ -70,6 +85,9 @@ public final class LogStreamImpl implements LogStream, CommitListener {
     LOG.debug("Closing {} with {} readers", logName, readers.size());
     readers.forEach(LogStreamReader::close);
     logStorage.removeCommitListener(this);
+    if (readAheadActor != null) {
+      readAheadActor.closeAsync();
+    }
   }
 
   @Override
@@ -85,7 +103,19 @@ public final class LogStreamImpl implements LogStream, CommitListener {
   @Override
   public LogStreamReader newLogStreamReader() {
     ensureOpen();
-    return createLogStreamReader();
+    return createLogStreamReader(logStorage.newReader());
+  }
+
+  @Override
+  public LogStreamReader newReadAheadLogStreamReader() {
+    ensureOpen();
+    if (readAheadActor == null) {
+      return createLogStreamReader(logStorage.newReader());
+    }
+
+    return createLogStreamReader(
+        new ReadAheadLogStorageReader(
+            logStorage.newReader(), readAheadActor, READ_AHEAD_WINDOW_SIZE));
   }
 
   @Override
@@ -128,8 +158,8 @@ public final class LogStreamImpl implements LogStream, CommitListener {
     }
   }
 
-  private LogStreamReader createLogStreamReader() {
-    final var newReader = new LogStreamReaderImpl(logStorage.newReader());
+  private LogStreamReader createLogStreamReader(final LogStorageReader storageReader) {
+    final var newReader = new LogStreamReaderImpl(storageReader);
     readers.add(newReader);
     return newReader;
   }
@@ -25,6 +25,7 @@ import org.agrona.concurrent.UnsafeBuffer;
 @NotThreadSafe
 final class LogStreamReaderImpl implements LogStreamReader {
   private final LogStorageReader reader;
+  private final DirectBuffer nextEvents = new UnsafeBuffer();
 
   private LoggedEventImpl currentEvent;
   private DirectBuffer currentEventBuffer;
@@ -150,6 +151,28 @@ final class LogStreamReaderImpl implements LogStreamReader {
     return nextEvent;
   }
 
+  @Override
+  public DirectBuffer nextEvents() {
+    if (!hasNext()) {
+      nextEvents.wrap(0, 0);
+      return nextEvents;
+    }
+
+    nextEvents.wrap(nextEventBuffer, nextEventOffset, nextEventBuffer.capacity() - nextEventOffset);
+
+    // moves past the remaining events of the block, such that the current event is the last one
+    while (hasBufferedEvents()) {
+      next();
+    }
+
+    return nextEvents;
+  }
+
+  @Override
+  public boolean isReadingAhead() {
+    return reader instanceof ReadAheadLogStorageReader;
+  }
+
   @Override
   public void close() {
     reset();
@@ -0,0 +1,185 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import net.jcip.annotations.ThreadSafe;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A {@link LogStorageReader} which reads the blocks of the underlying reader in windows: it copies
+ * consecutive blocks into one contiguous buffer for as long as they fit into {@code windowSize}
+ * bytes, and returns each window as a single block. A block which does not fit anymore starts the
+ * next window, and a single block larger than {@code windowSize} makes a window of its own. As
+ * blocks contain a contiguous series of events without padding, so does a window, which lets the
+ * {@link LogStreamReaderImpl} iterate over all of its events without going back to the storage.
+ *
+ * <p>Whenever the consumer moves on to a new window, the following window is read ahead on the
+ * given executor, e.g. a separate IO bound actor, such that the consumer usually finds it ready. If
+ * it isn't ready yet, or there was nothing to read ahead, the consumer reads the window itself. The
+ * underlying reader is only ever accessed while holding this reader's monitor, and a read ahead
+ * window is discarded if the consumer seeks in the meantime.
+ *
+ * <p>The windows are read into a small pool of buffers of {@code windowSize} bytes, which are
+ * reused in turn, such that a reader holds at most {@code WINDOW_COUNT * windowSize} bytes, apart
+ * from windows of single larger blocks. A returned window remains valid while the consumer reads
+ * the following one, such that an event of the previous window can still be accessed after the
+ * reader moved on, but not any longer than that, and not after a seek.
+ */
+@ThreadSafe
+final class ReadAheadLogStorageReader implements LogStorageReader {
+  // the previous window, the current window and the window which is read ahead
+  private static final int WINDOW_COUNT = 3;
+
+  private final LogStorageReader reader;
+  private final Executor readAheadExecutor;
+  private final int windowSize;
+  private final MutableDirectBuffer[] windowBuffers = new MutableDirectBuffer[WINDOW_COUNT];
+  private final UnsafeBuffer[] windows = new UnsafeBuffer[WINDOW_COUNT];
+
+  // all guarded by this
+  // a block which was read from the underlying reader, but did not fit into the previous window
+  private DirectBuffer carriedBlock;
+  private DirectBuffer nextWindow;
+  private DirectBuffer readAheadWindow;
+  private boolean isReadAheadScheduled;
+  private long seekCount;
+  private int windowIndex;
+  private boolean isClosed;
+
+  ReadAheadLogStorageReader(
+      final LogStorageReader reader, final Executor readAheadExecutor, final int windowSize) {
+    this.reader = reader;
+    this.readAheadExecutor = readAheadExecutor;
+    this.windowSize = windowSize;
+
+    // the buffers are allocated on first use, such that readers which read only a little stay small
+    for (int i = 0; i < WINDOW_COUNT; i++) {
+      windows[i] = new UnsafeBuffer();
+    }
+  }
+
+  @Override
+  public synchronized void seek(final long position) {
+    // a read ahead which is still scheduled will be skipped, so allow to schedule a new one
+    seekCount++;
+    isReadAheadScheduled = false;
+    carriedBlock = null;
+    nextWindow = null;
+    readAheadWindow = null;
+    reader.seek(position);
+  }
+
+  @Override
+  public synchronized void close() {
+    isClosed = true;
+    carriedBlock = null;
+    nextWindow = null;
+    readAheadWindow = null;
+    reader.close();
+  }
+
+  @Override
+  public synchronized boolean hasNext() {
+    if (nextWindow == null) {
+      nextWindow = readAheadWindow != null ? readAheadWindow : readWindow();
+      readAheadWindow = null;
+    }
+
+    return nextWindow != null;
+  }
+
+  @Override
+  public synchronized DirectBuffer next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    final var window = nextWindow;
+    nextWindow = null;
+    scheduleReadAhead();
+
+    return window;
+  }
+
+  private void scheduleReadAhead() {
+    if (isReadAheadScheduled || isClosed) {
+      return;
+    }
+
+    isReadAheadScheduled = true;
+    final var expectedSeekCount = seekCount;
+    readAheadExecutor.execute(() -> readAhead(expectedSeekCount));
+  }
+
+  private synchronized void readAhead(final long expectedSeekCount) {
+    isReadAheadScheduled = false;
+
+    // the consumer may have seeked since this was scheduled, in which case the window would not
+    // follow the consumer's current one anymore; if the consumer already read the next window
+    // itself, reading ahead would reuse the buffer of its previous window too early
+    if (isClosed
+        || seekCount != expectedSeekCount
+        || nextWindow != null
+        || readAheadWindow != null) {
+      return;
+    }
+
+    readAheadWindow = readWindow();
+  }
+
+  private DirectBuffer readWindow() {
+    if (carriedBlock == null && !reader.hasNext()) {
+      return null;
+    }
+
+    var block = carriedBlock != null ? carriedBlock : reader.next();
+    carriedBlock = null;
+    final var windowBuffer = windowBuffer(windowIndex, block.capacity());
+    final var window = windows[windowIndex];
+    windowIndex = (windowIndex + 1) % WINDOW_COUNT;
+
+    int length = 0;
+    while (true) {
+      windowBuffer.putBytes(length, block, 0, block.capacity());
+      length += block.capacity();
+      if (!reader.hasNext()) {
+        break;
+      }
+
+      block = reader.next();
+      if (length + block.capacity() > windowBuffer.capacity()) {
+        carriedBlock = block;
+        break;
+      }
+    }
+
+    window.wrap(windowBuffer, 0, length);
+    return window;
+  }
+
+  /**
+   * Returns the buffer of the window with the given index, which holds {@code windowSize} bytes,
+   * unless the window's first block is larger than that. The buffer of such a block is only used
+   * once, and replaced by a buffer of {@code windowSize} bytes the next time.
+   */
+  private MutableDirectBuffer windowBuffer(final int index, final int firstBlockLength) {
+    final int capacity = Math.max(windowSize, firstBlockLength);
+    var windowBuffer = windowBuffers[index];
+    if (windowBuffer == null || windowBuffer.capacity() != capacity) {
+      windowBuffer = new UnsafeBuffer(new byte[capacity]);
+      windowBuffers[index] = windowBuffer;
+    }
+
+    return windowBuffer;
+  }
+}
@@ -24,7 +24,9 @@ import java.io.Closeable;
 import java.time.InstantSource;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,14 +34,46 @@ import org.slf4j.LoggerFactory;
  * The sequencer takes concurrent {@link #tryWrite(WriteContext, List, long) tryWrite} calls and
  * serializes them, assigning positions to all entries. Writes that are accepted are written
  * directly to the {@link LogStorage}.
+ *
+ * <p>Writers do not take a lock. Each writer claims the positions of its batch by advancing {@link
+ * #nextPosition} with a compare-and-set, and then publishes the batch into a ring buffer, in the
+ * slot of its first position. Published batches are appended to the log storage strictly in
+ * position order by whichever writer currently holds the {@link #draining} flag, which keeps
+ * appending for as long as the next batch in order is published. A writer only returns once its own
+ * batch was appended, so callers observe the same semantics as if all writes were serialized
+ * through a lock: {@link FlowControl#onAppend(InFlightEntry, long)} and {@link LogStorage#append}
+ * are only ever called by one thread at a time, in position order.
+ *
+ * <p>The ring buffer bounds how many positions may be claimed but not yet appended. A batch with
+ * more entries than the ring buffer's capacity can only be claimed once all previous batches were
+ * appended.
+ *
+ * <p>If a batch fails to be appended, the batches claimed after it cannot be appended either, as
+ * that would leave a gap in the positions. They are failed as well, and their positions are claimed
+ * again by the next writes, so the log stays gap-free like when writes were serialized through a
+ * lock. The writers of all these batches get {@link WriteFailure#APPEND_FAILED}, and their
+ * in-flight entries are released from the flow control.
+ *
+ * <p>Writers are actor threads, so they never park. A writer spins and yields until its batch was
+ * appended or failed, like it would wait for a lock. The wait is short, as a writer only waits for
+ * batches which are already claimed, and appending them only hands them over to the Raft thread.
  */
 final class Sequencer implements LogStreamWriter, Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(Sequencer.class);
+  private static final int PENDING_BATCHES_CAPACITY = 1 << 12;
+  private static final int PENDING_BATCHES_MASK = PENDING_BATCHES_CAPACITY - 1;
+  private static final int MAX_SPINS = 100;
+  // marks the next position while a failed append is handled, so that no positions are claimed
+  private static final long CLAIMS_BLOCKED = Long.MIN_VALUE;
   private final int maxFragmentSize;
 
-  private volatile long position;
+  private final AtomicLong nextPosition;
+  // the next position to be appended; all lower positions were appended already
+  private volatile long appendedPosition;
   private volatile boolean isClosed = false;
-  private final ReentrantLock lock = new ReentrantLock();
+  private final AtomicBoolean draining = new AtomicBoolean();
+  private final AtomicReferenceArray<PendingBatch> pendingBatches =
+      new AtomicReferenceArray<>(PENDING_BATCHES_CAPACITY);
   private final LogStorage logStorage;
   private final InstantSource clock;
   private final SequencerMetrics sequencerMetrics;
@@ -55,7 +89,8 @@ final class Sequencer implements LogStreamWriter, Closeable {
     LOG.trace("Starting new sequencer at position {}", initialPosition);
     this.logStorage = logStorage;
     this.clock = Objects.requireNonNull(clock);
-    position = initialPosition;
+    nextPosition = new AtomicLong(initialPosition);
+    appendedPosition = initialPosition;
     this.maxFragmentSize = maxFragmentSize;
     this.sequencerMetrics =
         Objects.requireNonNull(sequencerMetrics, "must specify sequencer metrics");
@@ -107,19 +142,14 @@ final class Sequencer implements LogStreamWriter, Closeable {
     final int batchSize = appendEntries.size();
     final int batchLength = calculateBatchLength(appendEntries);
 
-    lock.lock();
     try {
-      final var currentPosition = position;
-      final var highestPosition = currentPosition + batchSize - 1;
-      final var sequencedBatch =
-          new SequencedBatch(
-              clock.millis(), currentPosition, sourcePosition, appendEntries, batchLength);
-      flowControl.onAppend(inFlightEntry, highestPosition);
-      logStorage.append(currentPosition, highestPosition, sequencedBatch, flowControl);
-      position = currentPosition + batchSize;
-      return Either.right(highestPosition);
+      final long firstPosition = claimPositions(batchSize);
+      final var pendingBatch =
+          new PendingBatch(
+              firstPosition, sourcePosition, appendEntries, batchLength, inFlightEntry);
+      pendingBatches.setRelease(slot(firstPosition), pendingBatch);
+      return awaitAppended(pendingBatch);
     } finally {
-      lock.unlock();
       sequencerMetrics.observeBatchLengthBytes(batchLength);
       sequencerMetrics.observeBatchSize(batchSize);
     }
@@ -138,4 +168,207 @@ final class Sequencer implements LogStreamWriter, Closeable {
   private static boolean isEntryValid(final LogAppendEntry entry) {
     return entry.recordValue() != null && entry.recordMetadata() != null;
   }
+
+  /**
+   * Claims the next {@code batchSize} positions, waiting if the ring buffer cannot hold any more
+   * positions until enough pending batches were appended.
+   *
+   * @return the first claimed position
+   */
+  private long claimPositions(final int batchSize) {
+    var idleCount = 0;
+    while (true) {
+      final long firstPosition = nextPosition.get();
+      if (firstPosition == CLAIMS_BLOCKED) {
+        idleCount = idle(idleCount);
+        continue;
+      }
+
+      final long pendingPositions = firstPosition + batchSize - appendedPosition;
+      if (pendingPositions <= PENDING_BATCHES_CAPACITY || firstPosition == appendedPosition) {
+        if (nextPosition.compareAndSet(firstPosition, firstPosition + batchSize)) {
+          return firstPosition;
+        }
+      } else if (!tryAppendPendingBatches()) {
+        idleCount = idle(idleCount);
+      }
+    }
+  }
+
+  /**
+   * Waits until the given batch was appended or failed, appending pending batches in order on
+   * behalf of other writers whenever no other writer is doing so already.
+   *
+   * @return the highest position of the batch if it was appended, the failure otherwise
+   */
+  private Either<WriteFailure, Long> awaitAppended(final PendingBatch batch) {
+    var idleCount = 0;
+    while (!batch.isDone()) {
+      if (!tryAppendPendingBatches()) {
+        idleCount = idle(idleCount);
+      }
+    }
+
+    if (batch.state == PendingBatch.APPENDED) {
+      return Either.right(batch.highestPosition);
+    }
+
+    final var failure = batch.appendFailure;
+    if (failure == null) {
+      LOG.debug(
+          "Failed to append batch at position {}, as a batch before it failed to be appended",
+          batch.firstPosition);
+    } else {
+      LOG.warn("Failed to append batch at position {}", batch.firstPosition, failure);
+    }
+    return Either.left(WriteFailure.APPEND_FAILED);
+  }
+
+  /**
+   * Appends all published batches which directly follow the last appended one, unless another
+   * writer is already doing so. Stops at the first batch which fails to be appended.
+   *
+   * @return true if at least one batch was appended or failed, false otherwise
+   */
+  private boolean tryAppendPendingBatches() {
+    if (!draining.compareAndSet(false, true)) {
+      return false;
+    }
+
+    var appended = false;
+    try {
+      var position = appendedPosition;
+      var batch = pendingBatches.getAcquire(slot(position));
+      while (batch != null && batch.firstPosition == position) {
+        pendingBatches.setRelease(slot(position), null);
+        appended = true;
+
+        final var failure = append(batch);
+        if (failure != null) {
+          flowControl.onAppendFailed(batch.inFlightEntry, batch.highestPosition);
+          batch.appendFailure = failure;
+          batch.state = PendingBatch.FAILED;
+          failClaimedBatches(batch);
+          break;
+        }
+
+        position = batch.highestPosition + 1;
+        appendedPosition = position;
+        batch.state = PendingBatch.APPENDED;
+        batch = pendingBatches.getAcquire(slot(position));
+      }
+    } finally {
+      draining.set(false);
+    }
+
+    return appended;
+  }
+
+  /**
+   * @return the failure if the batch could not be appended, null otherwise
+   */
+  private Throwable append(final PendingBatch batch) {
+    try {
+      final var sequencedBatch =
+          new SequencedBatch(
+              clock.millis(),
+              batch.firstPosition,
+              batch.sourcePosition,
+              batch.entries,
+              batch.length);
+      flowControl.onAppend(batch.inFlightEntry, batch.highestPosition);
+      logStorage.append(batch.firstPosition, batch.highestPosition, sequencedBatch, flowControl);
+      return null;
+    } catch (final Throwable e) {
+      return e;
+    }
+  }
+
+  /**
+   * Fails every batch whose positions were claimed after the given failed batch, and hands their
+   * positions back, such that the next write claims the first position of the failed batch again.
+   * Must only be called while holding {@link #draining}.
+   */
+  private void failClaimedBatches(final PendingBatch failedBatch) {
+    // blocking further claims also tells us up to which position batches were claimed already
+    final long claimedPosition = nextPosition.getAndSet(CLAIMS_BLOCKED);
+
+    var position = failedBatch.highestPosition + 1;
+    while (position < claimedPosition) {
+      final var batch = awaitPublished(position);
+      pendingBatches.setRelease(slot(position), null);
+      batch.inFlightEntry.cleanup();
+      batch.state = PendingBatch.FAILED;
+      position = batch.highestPosition + 1;
+    }
+
+    nextPosition.set(failedBatch.firstPosition);
+  }
+
+  /**
+   * Waits for the batch starting at the given, already claimed position to be published, which
+   * writers do right after claiming.
+   */
+  private PendingBatch awaitPublished(final long position) {
+    var idleCount = 0;
+    var batch = pendingBatches.getAcquire(slot(position));
+    while (batch == null || batch.firstPosition != position) {
+      idleCount = idle(idleCount);
+      batch = pendingBatches.getAcquire(slot(position));
+    }
+
+    return batch;
+  }
+
+  private static int slot(final long position) {
+    return (int) (position & PENDING_BATCHES_MASK);
+  }
+
+  private static int idle(final int idleCount) {
+    if (idleCount < MAX_SPINS) {
+      Thread.onSpinWait();
+    } else {
+      Thread.yield();
+    }
+
+    return idleCount + 1;
+  }
+
+  /**
+   * A batch whose positions were claimed, waiting to be appended in order. Its state is only
+   * changed while holding {@link #draining}, and its writer only reads it.
+   */
+  private static final class PendingBatch {
+    private static final int PENDING = 0;
+    private static final int APPENDED = 1;
+    private static final int FAILED = 2;
+
+    private final long firstPosition;
+    private final long highestPosition;
+    private final long sourcePosition;
+    private final List<LogAppendEntry> entries;
+    private final int length;
+    private final InFlightEntry inFlightEntry;
+    private volatile int state = PENDING;
+    // only set for the batch whose append failed, before its state is set to FAILED
+    private Throwable appendFailure;
+
+    private PendingBatch(
+        final long firstPosition,
+        final long sourcePosition,
+        final List<LogAppendEntry> entries,
+        final int length,
+        final InFlightEntry inFlightEntry) {
+      this.firstPosition = firstPosition;
+      highestPosition = firstPosition + entries.size() - 1;
+      this.sourcePosition = sourcePosition;
+      this.entries = entries;
+      this.length = length;
+      this.inFlightEntry = inFlightEntry;
+    }
+
+    private boolean isDone() {
+      return state != PENDING;
+    }
+  }
 }
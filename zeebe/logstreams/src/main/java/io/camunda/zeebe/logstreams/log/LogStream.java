@@ -46,6 +46,16 @@ public interface LogStream extends AutoCloseable {
    */
   LogStreamReader newLogStreamReader();
 
+  /**
+   * Returns a new reader which reads the log ahead in windows of several blocks, if the log stream
+   * was built with {@link LogStreamBuilder#withActorSchedulingService}, and block by block like
+   * {@link #newLogStreamReader()} otherwise. As such a reader keeps a few windows in memory, it is
+   * meant for the reader which replays and processes the log, not for every reader.
+   *
+   * @return a newly created log stream reader
+   */
+  LogStreamReader newReadAheadLogStreamReader();
+
   /**
    * @return a future, when successfully completed it returns a newly created log stream record
    *     writer
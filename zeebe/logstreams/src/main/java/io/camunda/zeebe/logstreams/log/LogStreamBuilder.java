@@ -10,6 +10,7 @@ package io.camunda.zeebe.logstreams.log;
 import com.netflix.concurrency.limits.Limit;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.InstantSource;
 
@@ -65,6 +66,17 @@ public interface LogStreamBuilder {
    */
   LogStreamBuilder withMeterRegistry(final MeterRegistry meterRegistry);
 
+  /**
+   * Sets the scheduling service on which the log stream submits an IO bound actor to read ahead on.
+   * If set, the readers created by {@link LogStream#newReadAheadLogStreamReader()} read the log in
+   * windows of several blocks, and read the next window ahead on that actor while the current one
+   * is consumed. Otherwise, and for all other readers, the log is read block by block.
+   *
+   * @param actorSchedulingService the scheduling service to submit the read ahead actor to
+   * @return this builder
+   */
+  LogStreamBuilder withActorSchedulingService(ActorSchedulingService actorSchedulingService);
+
   /**
    * Returns a future which, when completed, contains a log stream that can be read from/written to.
    *
@@ -9,6 +9,7 @@ package io.camunda.zeebe.logstreams.log;
 
 import io.camunda.zeebe.util.CloseableSilently;
 import java.util.Iterator;
+import org.agrona.DirectBuffer;
 
 /**
  * Reads the log stream in an iterator-like pattern. Common usage:
@@ -71,4 +72,23 @@ public interface LogStreamReader extends Iterator<LoggedEvent>, CloseableSilentl
    * @throws java.util.NoSuchElementException if there is no next event on the log
    */
   LoggedEvent peekNext();
+
+  /**
+   * Reads the next events in bulk: returns all events which remain in the block the reader
+   * currently reads from, at least the next event, as one contiguous buffer, and moves the reader
+   * past them. If the reader reads ahead, a block is a whole window of events, see {@link
+   * LogStream#newReadAheadLogStreamReader()}.
+   *
+   * <p>The events can be read from the buffer one after another, each starting where the previous
+   * one ends. The returned buffer is only valid until the next call of this method.
+   *
+   * @return the next events, or an empty buffer if there is no next event
+   */
+  DirectBuffer nextEvents();
+
+  /**
+   * @return true if the reader reads the log ahead in windows of several blocks, such that {@link
+   *     #nextEvents()} returns many events at once
+   */
+  boolean isReadingAhead();
 }
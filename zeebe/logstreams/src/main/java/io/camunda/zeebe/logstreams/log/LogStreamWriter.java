@@ -76,6 +76,7 @@ public interface LogStreamWriter {
     CLOSED,
     WRITE_LIMIT_EXHAUSTED,
     REQUEST_LIMIT_EXHAUSTED,
-    INVALID_ARGUMENT
+    INVALID_ARGUMENT,
+    APPEND_FAILED
   }
 }
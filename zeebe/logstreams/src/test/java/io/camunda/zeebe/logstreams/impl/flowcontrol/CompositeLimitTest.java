@@ -0,0 +1,166 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.netflix.concurrency.limits.limit.FixedLimit;
+import com.netflix.concurrency.limits.limit.SettableLimit;
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+
+final class CompositeLimitTest {
+
+  private final CompositeLimit limit =
+      CompositeLimit.newBuilder()
+          .minLimit(5)
+          .pendingCompactionBytes(1_000, 2_000)
+          .exporterLag(100, 200)
+          .build(FixedLimit.of(100));
+
+  @Test
+  void shouldUseDelegateLimitWithoutLoad() {
+    // when
+    limit.onStateLoad(1_000, false);
+    limit.onExporterLag(100);
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(100);
+    assertThat(limit.getLoadFactor()).isEqualTo(1.0);
+  }
+
+  @Test
+  void shouldShrinkLimitWithPendingCompactionBytes() {
+    // when
+    limit.onStateLoad(1_250, false);
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(75);
+  }
+
+  @Test
+  void shouldShrinkLimitWithExporterLag() {
+    // when
+    limit.onExporterLag(150);
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(50);
+  }
+
+  @Test
+  void shouldRecomputeLimitOnWriteOnlyWhenExporterLagCrossesThreshold() {
+    // given
+    limit.onWrittenExporterLag(110);
+
+    // when
+    final var recomputed = limit.onWrittenExporterLag(150);
+
+    // then
+    assertThat(recomputed).isFalse();
+    assertThat(limit.getLimit()).isEqualTo(90);
+  }
+
+  @Test
+  void shouldRecomputeLimitOnWriteWhenExporterLagCrossesThreshold() {
+    // when
+    final var crossedSoft = limit.onWrittenExporterLag(150);
+    final var limitAboveSoft = limit.getLimit();
+    final var crossedHard = limit.onWrittenExporterLag(250);
+
+    // then
+    assertThat(crossedSoft).isTrue();
+    assertThat(limitAboveSoft).isEqualTo(50);
+    assertThat(crossedHard).isTrue();
+    assertThat(limit.getLimit()).isEqualTo(5);
+  }
+
+  @Test
+  void shouldRecomputeLimitWithExporterLagOfPreviousWrites() {
+    // given
+    limit.onWrittenExporterLag(110);
+    limit.onWrittenExporterLag(150);
+
+    // when
+    limit.onExporterLag(150);
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(50);
+  }
+
+  @Test
+  void shouldShrinkLimitByHighestLoad() {
+    // when
+    limit.onStateLoad(1_250, false);
+    limit.onExporterLag(150);
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(50);
+  }
+
+  @Test
+  void shouldNotShrinkLimitBelowMinLimit() {
+    // when
+    limit.onStateLoad(10_000, false);
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(5);
+    assertThat(limit.getLoadFactor()).isEqualTo(0.0);
+  }
+
+  @Test
+  void shouldShrinkLimitToMinLimitOnWriteStall() {
+    // when
+    limit.onStateLoad(0, true);
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(5);
+  }
+
+  @Test
+  void shouldRestoreLimitOnceLoadDecreases() {
+    // given
+    limit.onStateLoad(0, true);
+
+    // when
+    limit.onStateLoad(0, false);
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldNotifyListenersOfChangedLimit() {
+    // given
+    final var delegate = new SettableLimit(100);
+    final var compositeLimit = CompositeLimit.newBuilder().exporterLag(100, 200).build(delegate);
+    final var notifiedLimits = new ArrayList<Integer>();
+    compositeLimit.notifyOnChange(notifiedLimits::add);
+
+    // when
+    compositeLimit.onExporterLag(150);
+    delegate.setLimit(50);
+
+    // then
+    assertThat(notifiedLimits).containsExactly(50, 25);
+  }
+
+  @Test
+  void shouldForwardLoadFromFlowControl() {
+    // given
+    final var metrics = new LogStreamMetrics(new SimpleMeterRegistry());
+    final var flowControl = new FlowControl(metrics, limit, RateLimit.disabled());
+
+    // when
+    flowControl.onStateLoad(0, true);
+
+    // then
+    assertThat(flowControl.getRequestLimit().getLimit()).isEqualTo(5);
+  }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.log.LogStreamBatchReader;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+
+public final class BulkLogStreamBatchReaderTest extends LogStreamBatchReaderTest {
+
+  @Override
+  protected LogStreamBatchReader newBatchReader(final LogStreamReader logStreamReader) {
+    return new BulkLogStreamBatchReaderImpl(logStreamReader);
+  }
+}
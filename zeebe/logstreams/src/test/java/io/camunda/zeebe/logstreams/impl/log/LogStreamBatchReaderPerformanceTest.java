@@ -0,0 +1,145 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchReader;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.util.ListLogStorage;
+import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.InstantSource;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many events per second the replay can read through the {@link
+ * LogStreamBatchReaderImpl}, either block by block, or in windows which are read ahead on a
+ * separate thread. The log consists of batches of follow-up events, as written by the processing.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@State(Scope.Benchmark)
+public class LogStreamBatchReaderPerformanceTest {
+  private static final int BATCH_COUNT = 10_000;
+  private static final int BATCH_SIZE = 10;
+  private static final int EVENT_COUNT = BATCH_COUNT * BATCH_SIZE;
+  private static final int READ_AHEAD_WINDOW_SIZE = 1024 * 1024;
+
+  @Param({"false", "true"})
+  private boolean readAhead;
+
+  private ListLogStorage logStorage;
+  private ExecutorService readAheadExecutor;
+  private LogStreamBatchReader batchReader;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    logStorage = new ListLogStorage();
+    writeBatches();
+
+    readAheadExecutor = Executors.newSingleThreadExecutor();
+    final var storageReader =
+        readAhead
+            ? new ReadAheadLogStorageReader(
+                logStorage.newReader(), readAheadExecutor, READ_AHEAD_WINDOW_SIZE)
+            : logStorage.newReader();
+    final var logStreamReader = new LogStreamReaderImpl(storageReader);
+    batchReader =
+        readAhead
+            ? new BulkLogStreamBatchReaderImpl(logStreamReader)
+            : new LogStreamBatchReaderImpl(logStreamReader);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    batchReader.close();
+    readAheadExecutor.shutdownNow();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(EVENT_COUNT)
+  public long measureReplayThroughput() {
+    long lastPosition = -1;
+
+    batchReader.seekToNextBatch(-1);
+    while (batchReader.hasNext()) {
+      final var batch = batchReader.next();
+      while (batch.hasNext()) {
+        lastPosition = batch.next().getPosition();
+      }
+    }
+
+    return lastPosition;
+  }
+
+  @JMHTest("measureReplayThroughput")
+  void shouldNotReadSlowerWhenReadingAhead(final JMHTestCase testCase) {
+    // given - the options are accumulated, so the second run needs a test case of its own
+    final var blockByBlockResult =
+        testCase.withOptions(options -> options.param("readAhead", "false")).run();
+
+    // when
+    final var readAheadResult =
+        JMHTestCase.of(
+                LogStreamBatchReaderPerformanceTest.class,
+                "measureReplayThroughput",
+                options -> options.param("readAhead", "true"))
+            .run();
+
+    // then
+    readAheadResult.isAtLeast(blockByBlockResult, 0.2);
+  }
+
+  private void writeBatches() {
+    final var flowControl = new FlowControl(new LogStreamMetrics(new SimpleMeterRegistry()));
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            4 * 1024 * 1024,
+            InstantSource.system(),
+            new SequencerMetrics(new SimpleMeterRegistry()),
+            flowControl);
+    final var batch =
+        IntStream.range(0, BATCH_SIZE).<LogAppendEntry>mapToObj(TestEntry::ofKey).toList();
+
+    long sourcePosition = -1;
+    for (int i = 0; i < BATCH_COUNT; i++) {
+      final long position =
+          sequencer.tryWrite(WriteContext.internal(), batch, sourcePosition).get();
+      flowControl.onProcessed(position);
+      sourcePosition = position;
+    }
+  }
+}
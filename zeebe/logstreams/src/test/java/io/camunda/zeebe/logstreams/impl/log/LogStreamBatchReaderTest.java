@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.logstreams.log.LogStreamBatchReader;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.logstreams.util.LogStreamReaderRule;
@@ -40,10 +41,14 @@ public class LogStreamBatchReaderTest {
   @Before
   public void setUp() {
     final var logStreamReader = readerRule.getLogStreamReader();
-    batchReader = new LogStreamBatchReaderImpl(logStreamReader);
+    batchReader = newBatchReader(logStreamReader);
     writer = logStreamRule.getLogStream().newBlockingLogStreamWriter();
   }
 
+  protected LogStreamBatchReader newBatchReader(final LogStreamReader logStreamReader) {
+    return new LogStreamBatchReaderImpl(logStreamReader);
+  }
+
   @Test
   public void shouldNotHaveNextIfEmpty() {
     assertThat(batchReader.hasNext()).isFalse();
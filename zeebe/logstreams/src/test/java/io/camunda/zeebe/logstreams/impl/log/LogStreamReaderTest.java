@@ -451,6 +451,40 @@ public final class LogStreamReaderTest {
     assertThatCode(() -> nextEvent.readMetadata(new RecordMetadata())).doesNotThrowAnyException();
   }
 
+  @Test
+  public void shouldReadNextEventsOfBlockInBulk() {
+    // given
+    final long firstBatchLastPosition = writeEvents(3);
+    final long secondBatchLastPosition = writeEvents(2);
+    reader.next();
+
+    // when
+    final var events = reader.nextEvents();
+
+    // then
+    final var event = new LoggedEventImpl();
+    event.wrap(events, 0);
+    assertThat(event.getPosition()).isEqualTo(firstBatchLastPosition - 1);
+    event.wrap(events, event.getLength());
+    assertThat(event.getPosition()).isEqualTo(firstBatchLastPosition);
+    assertThat(2 * event.getLength()).isEqualTo(events.capacity());
+    assertThat(reader.getPosition()).isEqualTo(firstBatchLastPosition);
+    assertThat(reader.next().getPosition()).isEqualTo(secondBatchLastPosition - 1);
+  }
+
+  @Test
+  public void shouldReadNoEventsInBulkAtEnd() {
+    // given
+    writeEvents(1);
+    reader.next();
+
+    // when
+    final var events = reader.nextEvents();
+
+    // then
+    assertThat(events.capacity()).isZero();
+  }
+
   private long writeEvents(final int eventCount) {
     final List<LogAppendEntry> entries =
         IntStream.rangeClosed(1, eventCount)
@@ -0,0 +1,196 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.logstreams.storage.LogStorage.AppendListener;
+import io.camunda.zeebe.logstreams.util.ListLogStorage;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class ReadAheadLogStorageReaderTest {
+  private static final int WINDOW_SIZE = 2 * Integer.BYTES;
+
+  private final ListLogStorage logStorage = new ListLogStorage();
+  private final Queue<Runnable> readAheadTasks = new ArrayDeque<>();
+  private final ReadAheadLogStorageReader reader =
+      new ReadAheadLogStorageReader(logStorage.newReader(), readAheadTasks::add, WINDOW_SIZE);
+
+  @AfterEach
+  void tearDown() {
+    reader.close();
+  }
+
+  @Test
+  void shouldReadConsecutiveBlocksAsOneWindow() {
+    // given
+    appendBlocks(1, 2, 3);
+
+    // when
+    final var firstWindow = reader.next();
+    final var secondWindow = reader.next();
+
+    // then
+    assertThat(blocksOf(firstWindow)).containsExactly(1, 2);
+    assertThat(blocksOf(secondWindow)).containsExactly(3);
+    assertThat(reader.hasNext()).isFalse();
+  }
+
+  @Test
+  void shouldReadBlockLargerThanWindowAsOneWindow() {
+    // given
+    logStorage.append(1, 1, ByteBuffer.allocate(4 * WINDOW_SIZE), new AppendListener() {});
+
+    // when
+    final var window = reader.next();
+
+    // then
+    assertThat(window.capacity()).isEqualTo(4 * WINDOW_SIZE);
+  }
+
+  @Test
+  void shouldStartNextWindowWithBlockWhichDoesNotFit() {
+    // given
+    logStorage.append(1, 1, ByteBuffer.allocate(WINDOW_SIZE / 2), new AppendListener() {});
+    logStorage.append(2, 2, ByteBuffer.allocate(WINDOW_SIZE - 1), new AppendListener() {});
+    appendBlocks(3);
+
+    // when
+    final var firstWindow = reader.next();
+    final var secondWindow = reader.next();
+
+    // then
+    assertThat(firstWindow.capacity()).isEqualTo(WINDOW_SIZE / 2);
+    assertThat(secondWindow.capacity()).isEqualTo(WINDOW_SIZE - 1);
+    assertThat(blocksOf(reader.next())).containsExactly(3);
+    assertThat(reader.hasNext()).isFalse();
+  }
+
+  @Test
+  void shouldNotKeepBufferOfBlockLargerThanWindow() {
+    // given
+    logStorage.append(1, 1, ByteBuffer.allocate(4 * WINDOW_SIZE), new AppendListener() {});
+    appendBlocks(2, 3, 4, 5, 6, 7);
+    reader.next();
+    reader.next();
+    reader.next();
+
+    // when
+    final var fourthWindow = reader.next();
+
+    // then - the fourth window reuses the buffer of the first one
+    assertThat(blocksOf(fourthWindow)).containsExactly(6, 7);
+    assertThat(fourthWindow.byteArray()).hasSize(WINDOW_SIZE);
+  }
+
+  @Test
+  void shouldReadNextWindowAhead() {
+    // given
+    appendBlocks(1, 2, 3);
+    reader.next();
+
+    // when
+    runReadAheadTasks();
+    appendBlocks(4);
+
+    // then - the window was read before the last block was appended
+    assertThat(blocksOf(reader.next())).containsExactly(3);
+    assertThat(blocksOf(reader.next())).containsExactly(4);
+  }
+
+  @Test
+  void shouldReadWindowItselfIfNothingWasReadAhead() {
+    // given
+    appendBlocks(1, 2);
+    reader.next();
+    runReadAheadTasks();
+
+    // when
+    appendBlocks(3);
+
+    // then
+    assertThat(reader.hasNext()).isTrue();
+    assertThat(blocksOf(reader.next())).containsExactly(3);
+  }
+
+  @Test
+  void shouldDiscardWindowReadAheadBeforeSeek() {
+    // given
+    appendBlocks(1, 2, 3, 4, 5);
+    reader.next();
+
+    // when
+    reader.seek(1);
+    runReadAheadTasks();
+
+    // then
+    assertThat(blocksOf(reader.next())).containsExactly(1, 2);
+  }
+
+  @Test
+  void shouldNotInvalidatePreviousWindows() {
+    // given
+    appendBlocks(1, 2, 3, 4);
+    final var firstWindow = reader.next();
+
+    // when
+    runReadAheadTasks();
+    reader.next();
+
+    // then
+    assertThat(blocksOf(firstWindow)).containsExactly(1, 2);
+  }
+
+  @Test
+  void shouldReuseWindowBuffers() {
+    // given
+    appendBlocks(1, 2, 3, 4, 5, 6, 7, 8);
+    final var firstWindow = reader.next();
+    final var firstWindowArray = firstWindow.byteArray();
+    runReadAheadTasks();
+    reader.next();
+    runReadAheadTasks();
+    reader.next();
+    runReadAheadTasks();
+
+    // when
+    final var fourthWindow = reader.next();
+
+    // then
+    assertThat(fourthWindow).isSameAs(firstWindow);
+    assertThat(fourthWindow.byteArray()).isSameAs(firstWindowArray);
+    assertThat(blocksOf(fourthWindow)).containsExactly(7, 8);
+  }
+
+  private void appendBlocks(final int... positions) {
+    for (final int position : positions) {
+      final var block = ByteBuffer.allocate(Integer.BYTES).putInt(0, position);
+      logStorage.append(position, position, block, new AppendListener() {});
+    }
+  }
+
+  private void runReadAheadTasks() {
+    while (!readAheadTasks.isEmpty()) {
+      readAheadTasks.poll().run();
+    }
+  }
+
+  private static int[] blocksOf(final DirectBuffer window) {
+    final var blocks = new int[window.capacity() / Integer.BYTES];
+    for (int i = 0; i < blocks.length; i++) {
+      blocks[i] = window.getInt(i * Integer.BYTES, ByteOrder.BIG_ENDIAN);
+    }
+    return blocks;
+  }
+}
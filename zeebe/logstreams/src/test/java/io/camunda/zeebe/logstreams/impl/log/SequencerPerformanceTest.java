@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput and the latency of concurrent writers appending through the {@link
+ * Sequencer} to a log storage which completes appends immediately. The number of concurrent writers
+ * is given by the JMH thread count, e.g. {@code -t 16}; the latency benchmark reports the tail
+ * latency percentiles of single writes.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@State(Scope.Benchmark)
+public class SequencerPerformanceTest {
+  private static final List<LogAppendEntry> BATCH = List.of(TestEntry.ofDefaults());
+
+  private Sequencer sequencer;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final var flowControl = new FlowControl(new LogStreamMetrics(new SimpleMeterRegistry()));
+    sequencer =
+        new Sequencer(
+            new ProcessingLogStorage(flowControl),
+            1,
+            4 * 1024 * 1024,
+            InstantSource.system(),
+            new SequencerMetrics(new SimpleMeterRegistry()),
+            flowControl);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public Either<WriteFailure, Long> measureWriteThroughput() {
+    return sequencer.tryWrite(WriteContext.internal(), BATCH);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Either<WriteFailure, Long> measureWriteLatency() {
+    return sequencer.tryWrite(WriteContext.internal(), BATCH);
+  }
+
+  @JMHTest("measureWriteThroughput")
+  void shouldSustainThroughputWithConcurrentWriters(final JMHTestCase testCase) {
+    // given
+    final var singleWriterResult = testCase.withOptions(options -> options.threads(1)).run();
+
+    // when
+    final var concurrentWritersResult = testCase.withOptions(options -> options.threads(16)).run();
+
+    // then
+    concurrentWritersResult.isAtLeast(singleWriterResult, 0.5);
+  }
+
+  /**
+   * Completes every append right away, and marks it as processed such that the flow control does
+   * not accumulate in-flight entries over the course of the benchmark.
+   */
+  private record ProcessingLogStorage(FlowControl flowControl) implements LogStorage {
+
+    @Override
+    public LogStorageReader newReader() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      listener.onWrite(highestPosition, highestPosition);
+      listener.onCommit(highestPosition, highestPosition);
+      flowControl.onProcessed(highestPosition);
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
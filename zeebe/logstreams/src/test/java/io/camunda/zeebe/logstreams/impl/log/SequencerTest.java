@@ -8,24 +8,35 @@
 package io.camunda.zeebe.logstreams.impl.log;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 
+import com.netflix.concurrency.limits.limit.FixedLimit;
 import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.camunda.zeebe.logstreams.storage.LogStorageReader;
 import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
 import io.camunda.zeebe.test.util.asserts.EitherAssert;
+import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.InstantSource;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
@@ -247,6 +258,236 @@ final class SequencerTest {
     Assertions.assertThat(testFailures).isEmpty();
   }
 
+  @Test
+  void writesBatchWithMoreEntriesThanPendingBatchesCapacity() {
+    // given
+    final var logStorage = new VerifyingLogStorage();
+    final var logStreamMetrics = new LogStreamMetrics(new SimpleMeterRegistry());
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            16,
+            InstantSource.system(),
+            new SequencerMetrics(new SimpleMeterRegistry()),
+            new FlowControl(logStreamMetrics));
+    final var entries = Collections.nCopies(10_000, TestEntry.ofDefaults());
+    sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+
+    // when
+    final var result = sequencer.tryWrite(WriteContext.internal(), entries);
+
+    // then
+    EitherAssert.assertThat(result).isRight().right().isEqualTo(10_001L);
+    EitherAssert.assertThat(sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()))
+        .isRight()
+        .right()
+        .isEqualTo(10_002L);
+  }
+
+  @Test
+  void reportsFailedAppendToWriter() {
+    // given
+    final var logStorage = Mockito.mock(LogStorage.class);
+    final var logStreamMetrics = new LogStreamMetrics(new SimpleMeterRegistry());
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            16,
+            InstantSource.system(),
+            new SequencerMetrics(new SimpleMeterRegistry()),
+            new FlowControl(logStreamMetrics));
+    final var failure = new IllegalStateException("expected");
+    Mockito.doThrow(failure)
+        .doNothing()
+        .when(logStorage)
+        .append(eq(1L), eq(1L), any(BufferWriter.class), any());
+
+    // when
+    final var result = sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+
+    // then -- the sequencer is not blocked by the failed append, and reuses its position
+    EitherAssert.assertThat(result).isLeft().left().isEqualTo(WriteFailure.APPEND_FAILED);
+    EitherAssert.assertThat(sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()))
+        .isRight()
+        .right()
+        .isEqualTo(1L);
+  }
+
+  @Test
+  void releasesRequestLimitOfFailedAppend() {
+    // given
+    final var logStorage = Mockito.mock(LogStorage.class);
+    final var logStreamMetrics = new LogStreamMetrics(new SimpleMeterRegistry());
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            16,
+            InstantSource.system(),
+            new SequencerMetrics(new SimpleMeterRegistry()),
+            new FlowControl(logStreamMetrics, FixedLimit.of(1), RateLimit.disabled()));
+    final var context = WriteContext.userCommand(ProcessInstanceCreationIntent.CREATE);
+    Mockito.doThrow(new IllegalStateException("expected"))
+        .doNothing()
+        .when(logStorage)
+        .append(anyLong(), anyLong(), any(BufferWriter.class), any());
+    final var failedWrite = sequencer.tryWrite(context, TestEntry.ofDefaults());
+
+    // when
+    final var result = sequencer.tryWrite(context, TestEntry.ofDefaults());
+
+    // then -- the failed write does not hold on to the only in-flight request
+    EitherAssert.assertThat(failedWrite).isLeft().left().isEqualTo(WriteFailure.APPEND_FAILED);
+    EitherAssert.assertThat(result).isRight().right().isEqualTo(1L);
+  }
+
+  @Test
+  void failsWriteQueuedBehindFailedAppend() throws InterruptedException {
+    // given
+    final var logStorage = Mockito.mock(LogStorage.class);
+    final var logStreamMetrics = new LogStreamMetrics(new SimpleMeterRegistry());
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            16,
+            InstantSource.system(),
+            new SequencerMetrics(new SimpleMeterRegistry()),
+            new FlowControl(logStreamMetrics));
+    final var failure = new IllegalStateException("expected");
+    final var appendStarted = new CountDownLatch(1);
+    final var failAppend = new CountDownLatch(1);
+    Mockito.doAnswer(
+            ignored -> {
+              appendStarted.countDown();
+              failAppend.await();
+              throw failure;
+            })
+        .doNothing()
+        .when(logStorage)
+        .append(anyLong(), anyLong(), any(BufferWriter.class), any());
+
+    final var failedWrite =
+        CompletableFuture.supplyAsync(
+            () -> sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()));
+    appendStarted.await();
+
+    // when -- the second writer claims the position after the stalled batch, and waits for it
+    final var queuedWrite =
+        CompletableFuture.supplyAsync(
+            () -> sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()));
+    Awaitility.await("queued write waits for the stalled batch")
+        .during(Duration.ofMillis(200))
+        .until(() -> !queuedWrite.isDone());
+    failAppend.countDown();
+
+    // then
+    Assertions.assertThat(queuedWrite)
+        .succeedsWithin(Duration.ofSeconds(10))
+        .isEqualTo(Either.left(WriteFailure.APPEND_FAILED));
+    Assertions.assertThat(failedWrite)
+        .succeedsWithin(Duration.ofSeconds(10))
+        .isEqualTo(Either.left(WriteFailure.APPEND_FAILED));
+    EitherAssert.assertThat(sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()))
+        .isRight()
+        .right()
+        .isEqualTo(1L);
+    Mockito.verify(logStorage, Mockito.times(2))
+        .append(eq(1L), eq(1L), any(BufferWriter.class), any());
+    Mockito.verify(logStorage, Mockito.never())
+        .append(eq(2L), anyLong(), any(BufferWriter.class), any());
+  }
+
+  @Test
+  void waitsForStalledAppendInsteadOfRejecting() throws InterruptedException {
+    // given
+    final var logStorage = Mockito.mock(LogStorage.class);
+    final var logStreamMetrics = new LogStreamMetrics(new SimpleMeterRegistry());
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            16,
+            InstantSource.system(),
+            new SequencerMetrics(new SimpleMeterRegistry()),
+            new FlowControl(logStreamMetrics));
+    final var appendStarted = new CountDownLatch(1);
+    final var finishAppend = new CountDownLatch(1);
+    Mockito.doAnswer(
+            ignored -> {
+              appendStarted.countDown();
+              finishAppend.await();
+              return null;
+            })
+        .doNothing()
+        .when(logStorage)
+        .append(anyLong(), anyLong(), any(BufferWriter.class), any());
+
+    final var stalledWrite =
+        CompletableFuture.supplyAsync(
+            () -> sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()));
+    appendStarted.await();
+    final var queuedWrite =
+        CompletableFuture.supplyAsync(
+            () -> sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()));
+    Awaitility.await("queued write waits for the stalled batch")
+        .during(Duration.ofMillis(200))
+        .until(() -> !queuedWrite.isDone());
+
+    // when
+    finishAppend.countDown();
+
+    // then
+    Assertions.assertThat(stalledWrite)
+        .succeedsWithin(Duration.ofSeconds(10))
+        .isEqualTo(Either.right(1L));
+    Assertions.assertThat(queuedWrite)
+        .succeedsWithin(Duration.ofSeconds(10))
+        .isEqualTo(Either.right(2L));
+  }
+
+  @Test
+  void doesNotRejectContendedWritesWithoutWriteLimit() throws InterruptedException {
+    // given -- a log storage whose appends sometimes stall, like on a GC pause or preemption
+    final var numberOfWriters = 8;
+    final var logStorage = new VerifyingLogStorage(5_000, Duration.ofMillis(5));
+    final var logStreamMetrics = new LogStreamMetrics(new SimpleMeterRegistry());
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            16,
+            InstantSource.system(),
+            new SequencerMetrics(new SimpleMeterRegistry()),
+            new FlowControl(logStreamMetrics));
+    final var entries = List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults());
+    final var rejections = new ConcurrentLinkedQueue<WriteFailure>();
+
+    // when
+    final var writers = new Thread[numberOfWriters];
+    for (int i = 0; i < numberOfWriters; i++) {
+      writers[i] =
+          new Thread(
+              () -> {
+                for (int write = 0; write < 20_000; write++) {
+                  sequencer.tryWrite(WriteContext.internal(), entries).ifLeft(rejections::add);
+                }
+              });
+    }
+    for (final var writer : writers) {
+      writer.start();
+    }
+    for (final var writer : writers) {
+      writer.join();
+    }
+
+    // then -- every write was appended in order, VerifyingLogStorage did not throw
+    Assertions.assertThat(rejections).isEmpty();
+    Assertions.assertThat(logStorage.position).isEqualTo(numberOfWriters * 20_000L * 2);
+  }
+
   private Thread newWriterThread(
       final Sequencer sequencer,
       final long initialPosition,
@@ -282,7 +523,20 @@ final class SequencerTest {
 
   private static final class VerifyingLogStorage implements LogStorage {
 
+    private final long stallEvery;
+    private final Duration stallDuration;
     private long position = -1;
+    private long appends;
+
+    private VerifyingLogStorage() {
+      this(0, Duration.ZERO);
+    }
+
+    /** Stalls every {@code stallEvery}th append for the given duration. */
+    private VerifyingLogStorage(final long stallEvery, final Duration stallDuration) {
+      this.stallEvery = stallEvery;
+      this.stallDuration = stallDuration;
+    }
 
     @Override
     public LogStorageReader newReader() {
@@ -299,6 +553,9 @@ final class SequencerTest {
         Assertions.assertThat(lowestPosition).isEqualTo(position + 1);
       }
       position = highestPosition;
+      if (stallEvery > 0 && ++appends % stallEvery == 0) {
+        LockSupport.parkNanos(stallDuration.toNanos());
+      }
       listener.onCommit(position, highestPosition);
     }
 
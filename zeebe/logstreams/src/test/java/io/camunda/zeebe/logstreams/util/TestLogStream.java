@@ -98,6 +98,11 @@ public class TestLogStream implements LogStream {
     return logStream.newLogStreamReader();
   }
 
+  @Override
+  public LogStreamReader newReadAheadLogStreamReader() {
+    return logStream.newReadAheadLogStreamReader();
+  }
+
   @Override
   public LogStreamWriter newLogStreamWriter() {
     return logStream.newLogStreamWriter();
@@ -12,6 +12,7 @@ import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamBuilder;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.InstantSource;
 
@@ -74,6 +75,13 @@ public final class TestLogStreamBuilder implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public TestLogStreamBuilder withActorSchedulingService(
+      final ActorSchedulingService actorSchedulingService) {
+    delegate.withActorSchedulingService(actorSchedulingService);
+    return this;
+  }
+
   @Override
   public TestLogStream build() {
     return new TestLogStream(delegate.build());
@@ -21,6 +21,6 @@ public final class DeltaEncodedLongArrayProperty extends BaseProperty<DeltaEncod
 
   public void setValues(final long[] values) {
     resolveValue().setValues(Objects.requireNonNull(values));
-    isSet = true;
+    set();
   }
 }
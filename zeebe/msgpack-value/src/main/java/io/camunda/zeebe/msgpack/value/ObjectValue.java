@@ -14,6 +14,7 @@ import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import org.agrona.DirectBuffer;
 
 public class ObjectValue extends BaseValue {
   private final List<BaseProperty<? extends BaseValue>> declaredProperties;
@@ -22,6 +23,11 @@ public class ObjectValue extends BaseValue {
 
   private final StringValue decodedKey = new StringValue();
 
+  // open addressing hash table of the declared properties by key, holding the property index + 1
+  private int[] declaredPropertiesByKey = new int[0];
+  private int indexedPropertiesCount = -1;
+  private boolean lazyDecoding;
+
   /**
    * Creates a new ObjectValue
    *
@@ -37,6 +43,26 @@ public class ObjectValue extends BaseValue {
     return this;
   }
 
+  /**
+   * Enables or disables lazy decoding of the declared properties. If enabled, reading this object
+   * only locates the values of its declared properties, and each value is decoded on first access.
+   * Values which are not accessed are written as they were read. This avoids decoding all values of
+   * wide objects of which only a few values are used, but the buffer which is read from must not
+   * change as long as the values are not decoded. Disabled by default.
+   */
+  public ObjectValue setLazyDecoding(final boolean lazyDecoding) {
+    this.lazyDecoding = lazyDecoding;
+    return this;
+  }
+
+  /**
+   * @return true if the declared properties are decoded lazily, see {@link
+   *     #setLazyDecoding(boolean)}
+   */
+  public boolean isLazyDecoding() {
+    return lazyDecoding;
+  }
+
   @Override
   public void reset() {
     for (int i = 0; i < declaredProperties.size(); ++i) {
@@ -96,28 +122,27 @@ public class ObjectValue extends BaseValue {
   @Override
   public void read(final MsgPackReader reader) {
     final int mapSize = reader.readMapHeader();
+    // properties are usually written in the order of their declaration
+    int expectedPropertyIndex = 0;
 
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
-      BaseProperty<? extends BaseValue> prop = null;
-
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
-
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
-        }
-      }
-
-      if (prop == null) {
+      final int propertyIndex = findDeclaredProperty(decodedKey, expectedPropertyIndex);
+      final BaseProperty<? extends BaseValue> prop;
+      if (propertyIndex >= 0) {
+        prop = declaredProperties.get(propertyIndex);
+        expectedPropertyIndex = propertyIndex + 1;
+      } else {
         prop = newUndeclaredProperty(decodedKey);
       }
 
       try {
-        prop.read(reader);
+        if (lazyDecoding && propertyIndex >= 0) {
+          prop.readLazily(reader);
+        } else {
+          prop.read(reader);
+        }
       } catch (final Exception e) {
         throw new RuntimeException(String.format("Could not read property '%s'", prop.getKey()), e);
       }
@@ -144,6 +169,66 @@ public class ObjectValue extends BaseValue {
     return length;
   }
 
+  private int findDeclaredProperty(final StringValue key, final int expectedIndex) {
+    if (expectedIndex < declaredProperties.size()
+        && declaredProperties.get(expectedIndex).getKey().equals(key)) {
+      return expectedIndex;
+    }
+
+    if (indexedPropertiesCount != declaredProperties.size()) {
+      indexDeclaredProperties();
+    }
+
+    final int mask = declaredPropertiesByKey.length - 1;
+    for (int slot = hash(key) & mask;
+        declaredPropertiesByKey[slot] != 0;
+        slot = (slot + 1) & mask) {
+      final int index = declaredPropertiesByKey[slot] - 1;
+      if (declaredProperties.get(index).getKey().equals(key)) {
+        return index;
+      }
+    }
+
+    return -1;
+  }
+
+  private void indexDeclaredProperties() {
+    final int size = declaredProperties.size();
+    // keep the table at most half full, so that lookups of unknown keys end quickly
+    final int capacity = Integer.highestOneBit(Math.max(size, 1)) << 2;
+    declaredPropertiesByKey = new int[capacity];
+
+    final int mask = capacity - 1;
+    for (int index = 0; index < size; index++) {
+      final StringValue key = declaredProperties.get(index).getKey();
+      int slot = hash(key) & mask;
+      while (declaredPropertiesByKey[slot] != 0) {
+        if (declaredProperties.get(declaredPropertiesByKey[slot] - 1).getKey().equals(key)) {
+          // the first declaration of a key wins, like it did when searching the list
+          break;
+        }
+        slot = (slot + 1) & mask;
+      }
+
+      if (declaredPropertiesByKey[slot] == 0) {
+        declaredPropertiesByKey[slot] = index + 1;
+      }
+    }
+
+    indexedPropertiesCount = size;
+  }
+
+  private static int hash(final StringValue key) {
+    final DirectBuffer bytes = key.getValue();
+    final int length = key.getLength();
+    int hash = length;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + bytes.getByte(i);
+    }
+
+    return hash ^ (hash >>> 16);
+  }
+
   private <T extends BaseProperty<?>> void writeJson(
       final StringBuilder builder, final List<T> properties) {
     for (int i = 0; i < properties.size(); i++) {
@@ -0,0 +1,144 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.msgpack;
+
+import static io.camunda.zeebe.msgpack.MsgPackUtil.encodeMsgPack;
+import static io.camunda.zeebe.test.util.BufferAssert.assertThatBuffer;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.msgpack.POJO.POJOEnum;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class ObjectMappingLazyDecodingTest {
+  private static final DirectBuffer STRING = wrapString("foo");
+  private static final DirectBuffer BINARY = wrapString("bar");
+  private static final DirectBuffer PACKED =
+      encodeMsgPack(
+          (w) -> {
+            w.writeMapHeader(1);
+            w.writeString(wrapString("baz"));
+            w.writeInteger(123L);
+          });
+
+  @Test
+  void shouldDecodeValuesOnAccess() {
+    // given
+    final DirectBuffer buffer = write(newPOJO());
+    final POJO pojo = new POJO();
+    pojo.setLazyDecoding(true);
+
+    // when
+    pojo.wrap(buffer);
+
+    // then
+    assertThat(pojo.getEnum()).isEqualTo(POJOEnum.BAR);
+    assertThat(pojo.getLong()).isEqualTo(456456L);
+    assertThat(pojo.getInt()).isEqualTo(123);
+    assertThatBuffer(pojo.getString()).hasBytes(STRING);
+    assertThatBuffer(pojo.getBinary()).hasBytes(BINARY);
+    assertThatBuffer(pojo.getPacked()).hasBytes(PACKED);
+    assertThat(pojo.nestedObject().getLong()).isEqualTo(24L);
+  }
+
+  @Test
+  void shouldWriteValuesWhichWereNotAccessedAsRead() {
+    // given
+    final DirectBuffer buffer = write(newPOJO());
+    final POJO pojo = new POJO();
+    pojo.setLazyDecoding(true);
+    pojo.wrap(buffer);
+
+    // when
+    pojo.getLong();
+    final DirectBuffer written = write(pojo);
+
+    // then
+    assertThatBuffer(written).hasBytes(buffer);
+  }
+
+  @Test
+  void shouldWriteChangedValues() {
+    // given
+    final POJO pojo = new POJO();
+    pojo.setLazyDecoding(true);
+    pojo.wrap(write(newPOJO()));
+
+    // when
+    pojo.setLong(1L);
+    pojo.setString(wrapString("changed"));
+    pojo.nestedObject().setLong(2L);
+
+    // then
+    final POJO written = new POJO();
+    written.wrap(write(pojo));
+    assertThat(written.getLong()).isEqualTo(1L);
+    assertThatBuffer(written.getString()).hasBytes(wrapString("changed"));
+    assertThat(written.nestedObject().getLong()).isEqualTo(2L);
+    assertThat(written.getInt()).isEqualTo(123);
+    assertThatBuffer(written.getBinary()).hasBytes(BINARY);
+  }
+
+  @Test
+  void shouldFailOnAccessOfInvalidValue() {
+    // given
+    final MinimalPOJO pojo = new MinimalPOJO();
+    pojo.setLazyDecoding(true);
+    final DirectBuffer buffer =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(1);
+              w.writeString(wrapString("longProp"));
+              w.writeString(wrapString("not a long"));
+            });
+
+    // when
+    pojo.wrap(buffer);
+
+    // then
+    assertThatThrownBy(pojo::getLongProp).isInstanceOf(MsgpackPropertyException.class);
+  }
+
+  @Test
+  void shouldNotKeepValuesOfPreviousRead() {
+    // given
+    final POJO pojo = new POJO();
+    pojo.setLazyDecoding(true);
+    pojo.wrap(write(newPOJO()));
+
+    // when
+    final POJO other = newPOJO();
+    other.setLong(789L);
+    pojo.wrap(write(other));
+
+    // then
+    assertThat(pojo.getLong()).isEqualTo(789L);
+  }
+
+  private static POJO newPOJO() {
+    final POJO pojo = new POJO();
+    pojo.setEnum(POJOEnum.BAR);
+    pojo.setLong(456456L);
+    pojo.setInt(123);
+    pojo.setString(STRING);
+    pojo.setBinary(BINARY);
+    pojo.setPacked(PACKED);
+    pojo.nestedObject().setLong(24L);
+    return pojo;
+  }
+
+  private static DirectBuffer write(final POJO pojo) {
+    final MutableDirectBuffer buffer = new UnsafeBuffer(new byte[pojo.getLength()]);
+    pojo.write(buffer, 0);
+    return buffer;
+  }
+}
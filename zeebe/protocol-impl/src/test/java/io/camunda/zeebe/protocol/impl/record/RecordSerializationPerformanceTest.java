@@ -0,0 +1,213 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.record;
+
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.impl.record.value.usertask.UserTaskRecord;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.BpmnEventType;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading, writing and re-writing some of the largest records, with and without lazy
+ * decoding of their properties. Reading accesses a couple of properties only, like most processors
+ * do; a round trip reads a record and writes it again unchanged, like the engine does when it
+ * appends follow-up events.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@State(Scope.Benchmark)
+public class RecordSerializationPerformanceTest {
+  private static final DirectBuffer VARIABLES =
+      new UnsafeBuffer(
+          MsgPackConverter.convertToMsgPack(
+              Map.of("orderId", "order-4711", "amount", 123.45, "items", List.of(1, 2, 3))));
+  private static final DirectBuffer CUSTOM_HEADERS =
+      new UnsafeBuffer(
+          MsgPackConverter.convertToMsgPack(Map.of("region", "eu-west", "priority", "high")));
+
+  @Param({"job", "processInstance", "userTask"})
+  private String record;
+
+  @Param({"false", "true"})
+  private boolean lazyDecoding;
+
+  private final MutableDirectBuffer writeBuffer = new ExpandableArrayBuffer();
+  private UnifiedRecordValue source;
+  private UnifiedRecordValue target;
+  private ToLongFunction<UnifiedRecordValue> accessor;
+  private DirectBuffer encoded;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Supplier<UnifiedRecordValue> factory;
+    switch (record) {
+      case "job" -> {
+        factory = JobRecord::new;
+        source = newJobRecord();
+        accessor = value -> ((JobRecord) value).getProcessInstanceKey();
+      }
+      case "processInstance" -> {
+        factory = ProcessInstanceRecord::new;
+        source = newProcessInstanceRecord();
+        accessor = value -> ((ProcessInstanceRecord) value).getProcessInstanceKey();
+      }
+      case "userTask" -> {
+        factory = UserTaskRecord::new;
+        source = newUserTaskRecord();
+        accessor = value -> ((UserTaskRecord) value).getProcessInstanceKey();
+      }
+      default -> throw new IllegalArgumentException("Unknown record " + record);
+    }
+
+    final var buffer = new UnsafeBuffer(new byte[source.getLength()]);
+    source.write(buffer, 0);
+    encoded = buffer;
+
+    target = factory.get();
+    target.setLazyDecoding(lazyDecoding);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public long measureRead() {
+    target.wrap(encoded);
+    return accessor.applyAsLong(target);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public MutableDirectBuffer measureWrite() {
+    source.write(writeBuffer, 0);
+    return writeBuffer;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public MutableDirectBuffer measureRoundTrip() {
+    target.wrap(encoded);
+    target.write(writeBuffer, 0);
+    return writeBuffer;
+  }
+
+  @JMHTest("measureRoundTrip")
+  void shouldRoundTripFasterWithLazyDecoding(final JMHTestCase testCase) {
+    // given
+    final var eagerResult =
+        testCase
+            .withOptions(
+                options -> options.param("record", "userTask").param("lazyDecoding", "false"))
+            .run();
+
+    // when
+    final var lazyResult =
+        JMHTestCase.of(
+                RecordSerializationPerformanceTest.class,
+                "measureRoundTrip",
+                options -> options.param("record", "userTask").param("lazyDecoding", "true"))
+            .run();
+
+    // then
+    lazyResult.isAtLeast(eagerResult, 0.2);
+  }
+
+  private static JobRecord newJobRecord() {
+    return new JobRecord()
+        .setType("payment-service")
+        .setWorker("payment-worker-1")
+        .setRetries(3)
+        .setRetryBackoff(1_000L)
+        .setRecurringTime(1_000L)
+        .setDeadline(1_700_000_000_000L)
+        .setTimeout(300_000L)
+        .setErrorMessage("")
+        .setCustomHeaders(CUSTOM_HEADERS)
+        .setVariables(VARIABLES)
+        .setBpmnProcessId("order-process")
+        .setProcessDefinitionVersion(12)
+        .setProcessDefinitionKey(2251799813685249L)
+        .setProcessInstanceKey(2251799813685251L)
+        .setElementId("charge-credit-card")
+        .setElementInstanceKey(2251799813685265L)
+        .setTenantId("tenant-a");
+  }
+
+  private static ProcessInstanceRecord newProcessInstanceRecord() {
+    return new ProcessInstanceRecord()
+        .setBpmnProcessId("order-process")
+        .setVersion(12)
+        .setProcessDefinitionKey(2251799813685249L)
+        .setProcessInstanceKey(2251799813685251L)
+        .setElementId("charge-credit-card")
+        .setFlowScopeKey(2251799813685251L)
+        .setBpmnElementType(BpmnElementType.SERVICE_TASK)
+        .setBpmnEventType(BpmnEventType.UNSPECIFIED)
+        .setParentProcessInstanceKey(2251799813685201L)
+        .setParentElementInstanceKey(2251799813685215L)
+        .setElementInstancePath(
+            List.of(List.of(2251799813685201L, 2251799813685215L), List.of(2251799813685251L)))
+        .setProcessDefinitionPath(List.of(2251799813685199L, 2251799813685249L))
+        .setCallingElementPath(List.of(3))
+        .setTenantId("tenant-a");
+  }
+
+  private static UserTaskRecord newUserTaskRecord() {
+    return new UserTaskRecord()
+        .setUserTaskKey(2251799813685280L)
+        .setAssignee("demo")
+        .setCandidateGroupsList(List.of("accounting", "sales", "management"))
+        .setCandidateUsersList(List.of("alice", "bob", "carol"))
+        .setDueDate("2026-10-17T12:00:00Z")
+        .setFollowUpDate("2026-10-16T12:00:00Z")
+        .setFormKey(2251799813685270L)
+        .setExternalFormReference("https://forms.example.com/review-order")
+        .setCustomHeaders(CUSTOM_HEADERS)
+        .setVariables(VARIABLES)
+        .setChangedAttributes(List.of("assignee", "candidateGroupsList"))
+        .setAction("assign")
+        .setPriority(50)
+        .setCreationTimestamp(1_700_000_000_000L)
+        .setBpmnProcessId("order-process")
+        .setProcessDefinitionVersion(12)
+        .setProcessDefinitionKey(2251799813685249L)
+        .setProcessInstanceKey(2251799813685251L)
+        .setElementId("review-order")
+        .setElementInstanceKey(2251799813685275L)
+        .setTenantId("tenant-a");
+  }
+}
@@ -34,6 +34,11 @@ public final class ActorJob {
     scheduledAt = System.nanoTime();
     this.task = task;
     schedulingState = TaskSchedulingState.QUEUED;
+
+    final var profile = task.getProfile();
+    if (profile != null) {
+      profile.countSubmittedJob();
+    }
   }
 
   @Async.Execute
@@ -56,18 +61,31 @@ public final class ActorJob {
   }
 
   private void observeSchedulingLatency(final ActorMetrics metrics) {
-    if (metrics.isEnabled()) {
-      final var now = System.nanoTime();
-      if (subscription instanceof final ActorFutureSubscription s
-          && s.getFuture() instanceof final CompletableActorFuture<?> f) {
-        final var subscriptionCompleted = f.getCompletedAt();
-        metrics.observeJobSchedulingLatency(now - subscriptionCompleted, SubscriptionType.FUTURE);
-      } else if (subscription instanceof final TimerSubscription s) {
-        final var timerExpired = s.getTimerExpiredAt();
-        metrics.observeJobSchedulingLatency(now - timerExpired, SubscriptionType.TIMER);
-      } else if (subscription == null && scheduledAt != -1) {
-        metrics.observeJobSchedulingLatency(now - scheduledAt, SubscriptionType.NONE);
-      }
+    final var profile = task.getProfile();
+    if (!metrics.isEnabled() && profile == null) {
+      return;
+    }
+
+    final var now = System.nanoTime();
+    long latency = -1;
+    SubscriptionType subscriptionType = null;
+    if (subscription instanceof final ActorFutureSubscription s
+        && s.getFuture() instanceof final CompletableActorFuture<?> f) {
+      latency = now - f.getCompletedAt();
+      subscriptionType = SubscriptionType.FUTURE;
+    } else if (subscription instanceof final TimerSubscription s) {
+      latency = now - s.getTimerExpiredAt();
+      subscriptionType = SubscriptionType.TIMER;
+    } else if (subscription == null && scheduledAt != -1) {
+      latency = now - scheduledAt;
+      subscriptionType = SubscriptionType.NONE;
+    }
+
+    if (metrics.isEnabled() && subscriptionType != null) {
+      metrics.observeJobSchedulingLatency(latency, subscriptionType);
+    }
+    if (profile != null) {
+      profile.onJobExecuted(latency);
     }
   }
 
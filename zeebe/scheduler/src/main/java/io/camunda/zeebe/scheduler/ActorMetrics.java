@@ -18,6 +18,10 @@ public interface ActorMetrics {
 
   void observeJobSchedulingLatency(final long waitTimeNs, final SubscriptionType subscriptionType);
 
+  void observeTaskQueueingLatency(final String threadGroup, final long waitTimeNs);
+
+  void observeVirtualThreadPinned(final String threadGroup, final long pinnedTimeNs);
+
   static ActorMetrics ofNullable(final MeterRegistry registry) {
     if (registry == null) {
       return disabled();
@@ -41,6 +45,12 @@ public interface ActorMetrics {
       @Override
       public void observeJobSchedulingLatency(
           final long waitTimeNs, final SubscriptionType subscriptionType) {}
+
+      @Override
+      public void observeTaskQueueingLatency(final String threadGroup, final long waitTimeNs) {}
+
+      @Override
+      public void observeVirtualThreadPinned(final String threadGroup, final long pinnedTimeNs) {}
     };
   }
 
@@ -76,6 +76,66 @@ public enum ActorMetricsDoc implements ExtendedMeterDocumentation {
       return TIMER_SLOS;
     }
   },
+  /** Time between submitting an actor task to a thread group and a thread starting to execute it */
+  QUEUEING_LATENCY {
+    private static final Duration[] TIMER_SLOS =
+        MicrometerUtil.exponentialBucketDuration(1, 4, 12, ChronoUnit.MICROS);
+
+    @Override
+    public String getName() {
+      return "zeebe.actor.task.queueing.latency";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time between submitting an actor task to a thread group and a thread starting to execute it";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {ActorMetricsKeyName.THREAD_GROUP};
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return TIMER_SLOS;
+    }
+  },
+  /** Time a virtual actor thread was pinned to its carrier thread while it blocked */
+  VIRTUAL_THREAD_PINNED {
+    private static final Duration[] TIMER_SLOS =
+        MicrometerUtil.exponentialBucketDuration(1, 4, 8, ChronoUnit.MILLIS);
+
+    @Override
+    public String getName() {
+      return "zeebe.actor.virtual.thread.pinned";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time a virtual actor thread was pinned to its carrier thread while it blocked";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {ActorMetricsKeyName.THREAD_GROUP};
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return TIMER_SLOS;
+    }
+  },
   /** Number of times a certain actor task was executed successfully */
   EXECUTION_COUNT {
     @Override
@@ -119,6 +179,132 @@ public enum ActorMetricsDoc implements ExtendedMeterDocumentation {
     public KeyName[] getKeyNames() {
       return new KeyName[] {ActorMetricsKeyName.ACTOR_NAME};
     }
+  },
+  /** CPU time spent executing a certain actor, sampled when actor profiling is enabled */
+  ACTOR_CPU_TIME {
+    @Override
+    public String getName() {
+      return "zeebe.actor.cpu.time";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "CPU time spent executing a certain actor, sampled when actor profiling is enabled";
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "seconds";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {ActorMetricsKeyName.ACTOR_NAME};
+    }
+  },
+  /** Number of jobs submitted to a certain actor, when actor profiling is enabled */
+  JOBS_SUBMITTED {
+    @Override
+    public String getName() {
+      return "zeebe.actor.jobs.submitted";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of jobs submitted to a certain actor, when actor profiling is enabled";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {ActorMetricsKeyName.ACTOR_NAME};
+    }
+  },
+  /**
+   * Number of jobs executed by a certain actor, when actor profiling is enabled. Jobs which are
+   * triggered by a subscription or which yield are counted every time they are executed.
+   */
+  JOBS_EXECUTED {
+    @Override
+    public String getName() {
+      return "zeebe.actor.jobs.executed";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of jobs executed by a certain actor, when actor profiling is enabled";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {ActorMetricsKeyName.ACTOR_NAME};
+    }
+  },
+  /** Time between scheduling and executing a job of a certain actor, sampled when profiling */
+  JOB_LATENCY {
+    private static final Duration[] TIMER_SLOS =
+        MicrometerUtil.exponentialBucketDuration(1, 4, 12, ChronoUnit.MICROS);
+
+    @Override
+    public String getName() {
+      return "zeebe.actor.job.latency";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time between scheduling and executing a job of a certain actor, sampled when actor profiling is enabled";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {ActorMetricsKeyName.ACTOR_NAME};
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return TIMER_SLOS;
+    }
+  },
+  /** Number of actors queued on a certain actor thread, when actor profiling is enabled */
+  THREAD_QUEUE_DEPTH {
+    @Override
+    public String getName() {
+      return "zeebe.actor.thread.queue.depth";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of actors queued on a certain actor thread, when actor profiling is enabled";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {ActorMetricsKeyName.THREAD_GROUP, ActorMetricsKeyName.THREAD};
+    }
   };
 
   public enum ActorMetricsKeyName implements KeyName {
@@ -135,6 +321,20 @@ public enum ActorMetricsDoc implements ExtendedMeterDocumentation {
       public String asString() {
         return "actorName";
       }
+    },
+    /** The name of the thread group, e.g. zb-actors or zb-fs-workers */
+    THREAD_GROUP {
+      @Override
+      public String asString() {
+        return "threadGroup";
+      }
+    },
+    /** The name of the actor thread, e.g. zb-actors-0 */
+    THREAD {
+      @Override
+      public String asString() {
+        return "thread";
+      }
     }
   }
 }
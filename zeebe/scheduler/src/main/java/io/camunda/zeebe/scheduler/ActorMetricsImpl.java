@@ -18,12 +18,15 @@ import io.micrometer.core.instrument.Timer;
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 final class ActorMetricsImpl implements ActorMetrics {
   private final Map<SubscriptionType, Timer> schedulingLatency =
       new EnumMap<>(SubscriptionType.class);
+  private final Map<String, Timer> queueingLatency = new ConcurrentHashMap<>();
+  private final Map<String, Timer> virtualThreadPinned = new ConcurrentHashMap<>();
   private final MeterRegistry registry;
 
   public ActorMetricsImpl(final MeterRegistry registry) {
@@ -41,6 +44,22 @@ final class ActorMetricsImpl implements ActorMetrics {
         .register(registry);
   }
 
+  private Timer createQueueingTimer(final String threadGroup) {
+    return Timer.builder(QUEUEING_LATENCY.getName())
+        .description(QUEUEING_LATENCY.getDescription())
+        .tag(ActorMetricsKeyName.THREAD_GROUP.asString(), threadGroup)
+        .serviceLevelObjectives(QUEUEING_LATENCY.getTimerSLOs())
+        .register(registry);
+  }
+
+  private Timer createVirtualThreadPinnedTimer(final String threadGroup) {
+    return Timer.builder(VIRTUAL_THREAD_PINNED.getName())
+        .description(VIRTUAL_THREAD_PINNED.getDescription())
+        .tag(ActorMetricsKeyName.THREAD_GROUP.asString(), threadGroup)
+        .serviceLevelObjectives(VIRTUAL_THREAD_PINNED.getTimerSLOs())
+        .register(registry);
+  }
+
   private Timer createExecutionTimer(final String actorName) {
     return Timer.builder(EXECUTION_LATENCY.getName())
         .description(EXECUTION_LATENCY.getDescription())
@@ -85,6 +104,20 @@ final class ActorMetricsImpl implements ActorMetrics {
     schedulingLatency.get(subscriptionType).record(waitTimeNs, TimeUnit.NANOSECONDS);
   }
 
+  @Override
+  public void observeTaskQueueingLatency(final String threadGroup, final long waitTimeNs) {
+    queueingLatency
+        .computeIfAbsent(threadGroup, this::createQueueingTimer)
+        .record(waitTimeNs, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void observeVirtualThreadPinned(final String threadGroup, final long pinnedTimeNs) {
+    virtualThreadPinned
+        .computeIfAbsent(threadGroup, this::createVirtualThreadPinnedTimer)
+        .record(pinnedTimeNs, TimeUnit.NANOSECONDS);
+  }
+
   record ActorMetricsScopedEnabled(
       MeterRegistry registry,
       Timer executionLatency,
@@ -0,0 +1,319 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static io.camunda.zeebe.scheduler.ActorMetricsDoc.ACTOR_CPU_TIME;
+import static io.camunda.zeebe.scheduler.ActorMetricsDoc.JOBS_EXECUTED;
+import static io.camunda.zeebe.scheduler.ActorMetricsDoc.JOBS_SUBMITTED;
+import static io.camunda.zeebe.scheduler.ActorMetricsDoc.JOB_LATENCY;
+import static io.camunda.zeebe.scheduler.ActorMetricsDoc.THREAD_QUEUE_DEPTH;
+
+import io.camunda.zeebe.scheduler.ActorMetricsDoc.ActorMetricsKeyName;
+import io.camunda.zeebe.util.CloseableSilently;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Profiles the actors of a scheduler: the CPU time each actor spends, how many jobs are submitted
+ * to and executed by it, how long its jobs wait until they are executed, and how many actors are
+ * queued on each actor thread.
+ *
+ * <p>To keep the overhead low, the CPU time and job latency are only measured for every {@link
+ * #getSamplingInterval() n-th} execution of an actor, and the measured CPU time is scaled up
+ * accordingly. The CPU time of an actor is additionally kept over a sliding {@link #getWindow()
+ * window}, such that the actors which currently use the most CPU time can be looked up. All values
+ * are approximations, which are meant for diagnostics only.
+ *
+ * <p>If a meter registry is given, all values are also exposed as metrics.
+ */
+public final class ActorProfiler {
+  public static final int DEFAULT_SAMPLING_INTERVAL = 10;
+  public static final Duration DEFAULT_WINDOW = Duration.ofMinutes(1);
+  private static final int WINDOW_BUCKETS = 6;
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+  private final Set<ActorProfile> profiles = ConcurrentHashMap.newKeySet();
+  private final List<ActorThreadGroup> threadGroups = new CopyOnWriteArrayList<>();
+  private final MeterRegistry registry;
+  private final int samplingInterval;
+  private final Duration window;
+  private final long bucketNanos;
+  private final LongSupplier nanoClock;
+  private final boolean cpuTimeSupported;
+
+  /**
+   * @param registry the registry to expose the profiled values in, or null if they should not be
+   *     exposed as metrics
+   */
+  public ActorProfiler(final MeterRegistry registry) {
+    this(registry, DEFAULT_SAMPLING_INTERVAL, DEFAULT_WINDOW, System::nanoTime);
+  }
+
+  ActorProfiler(
+      final MeterRegistry registry,
+      final int samplingInterval,
+      final Duration window,
+      final LongSupplier nanoClock) {
+    if (samplingInterval < 1) {
+      throw new IllegalArgumentException(
+          "Expected the sampling interval to be at least 1, but was " + samplingInterval);
+    }
+
+    this.registry = registry;
+    this.samplingInterval = samplingInterval;
+    this.window = window;
+    this.nanoClock = nanoClock;
+    bucketNanos = Math.max(1, window.toNanos() / WINDOW_BUCKETS);
+    cpuTimeSupported =
+        THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+  }
+
+  public int getSamplingInterval() {
+    return samplingInterval;
+  }
+
+  public Duration getWindow() {
+    return window;
+  }
+
+  /**
+   * Returns the actors which used the most CPU time within the last {@link #getWindow() window}, in
+   * descending order of CPU time.
+   *
+   * @param limit the maximum number of actors to return
+   */
+  public List<ActorCpuUsage> getTopActorsByCpuTime(final int limit) {
+    final var windowStart = currentBucket() - WINDOW_BUCKETS + 1;
+    return profiles.stream()
+        .map(profile -> profile.toCpuUsage(windowStart))
+        .sorted(Comparator.comparing(ActorCpuUsage::cpuTime).reversed())
+        .limit(limit)
+        .toList();
+  }
+
+  /** Returns the number of actors which are currently queued on each actor thread. */
+  public List<ThreadQueueDepth> getQueueDepths() {
+    final var depths = new ArrayList<ThreadQueueDepth>();
+    for (final var group : threadGroups) {
+      for (int threadId = 0; threadId < group.numOfThreads; threadId++) {
+        depths.add(
+            new ThreadQueueDepth(
+                group.getGroupName(),
+                group.threads[threadId].getName(),
+                group.getQueueDepth(threadId)));
+      }
+    }
+
+    return depths;
+  }
+
+  void register(final ActorThreadGroup group) {
+    threadGroups.add(group);
+    if (registry == null) {
+      return;
+    }
+
+    for (int threadId = 0; threadId < group.numOfThreads; threadId++) {
+      final int id = threadId;
+      Gauge.builder(THREAD_QUEUE_DEPTH.getName(), () -> group.getQueueDepth(id))
+          .description(THREAD_QUEUE_DEPTH.getDescription())
+          .tag(ActorMetricsKeyName.THREAD_GROUP.asString(), group.getGroupName())
+          .tag(ActorMetricsKeyName.THREAD.asString(), group.threads[threadId].getName())
+          .register(registry);
+    }
+  }
+
+  ActorProfile profile(final String actorName) {
+    final var profile = new ActorProfile(actorName);
+    profiles.add(profile);
+    return profile;
+  }
+
+  private long currentBucket() {
+    return nanoClock.getAsLong() / bucketNanos;
+  }
+
+  /**
+   * Returns the CPU time of the current thread, or -1 if it cannot be measured. The CPU time of a
+   * virtual thread is not measured, since it is not supported by every JVM and would include the
+   * time other virtual threads spent on the same carrier thread.
+   */
+  private long currentThreadCpuTime() {
+    if (!cpuTimeSupported || Thread.currentThread().isVirtual()) {
+      return -1;
+    }
+
+    try {
+      return THREAD_MX_BEAN.getCurrentThreadCpuTime();
+    } catch (final UnsupportedOperationException e) {
+      return -1;
+    }
+  }
+
+  /**
+   * The CPU time an actor used within the window, as well as the number of jobs which were
+   * submitted to and executed by it since it was submitted to the scheduler.
+   */
+  public record ActorCpuUsage(
+      String actorName, Duration cpuTime, long submittedJobs, long executedJobs) {}
+
+  /** The number of actors which are queued on an actor thread. */
+  public record ThreadQueueDepth(String threadGroup, String thread, int depth) {}
+
+  /**
+   * The profile of a single actor. The executions of an actor are sampled by the thread which
+   * executes it, but jobs can be submitted from any thread, and the profile may be read at any
+   * time.
+   */
+  final class ActorProfile implements CloseableSilently {
+    private final String actorName;
+    private final LongAdder cpuTime = new LongAdder();
+    private final LongAdder submittedJobs = new LongAdder();
+    private final LongAdder executedJobs = new LongAdder();
+    private final AtomicLongArray bucketCpuTimes = new AtomicLongArray(WINDOW_BUCKETS);
+    private final AtomicLongArray buckets = new AtomicLongArray(WINDOW_BUCKETS);
+    private final List<Meter> meters = new ArrayList<>();
+    private final Timer jobLatency;
+    // written by the thread which executes the actor; a thread which picks up the actor right after
+    // it was woken up may race with it, which only affects which executions are sampled
+    private int executions;
+    private boolean sampling;
+
+    private ActorProfile(final String actorName) {
+      this.actorName = actorName;
+      for (int i = 0; i < WINDOW_BUCKETS; i++) {
+        buckets.set(i, Long.MIN_VALUE);
+      }
+
+      if (registry == null) {
+        jobLatency = null;
+        return;
+      }
+
+      jobLatency =
+          Timer.builder(JOB_LATENCY.getName())
+              .description(JOB_LATENCY.getDescription())
+              .tag(ActorMetricsKeyName.ACTOR_NAME.asString(), actorName)
+              .serviceLevelObjectives(JOB_LATENCY.getTimerSLOs())
+              .register(registry);
+      meters.add(jobLatency);
+      meters.add(
+          FunctionCounter.builder(
+                  ACTOR_CPU_TIME.getName(),
+                  cpuTime,
+                  adder -> adder.sum() / (double) TimeUnit.SECONDS.toNanos(1))
+              .description(ACTOR_CPU_TIME.getDescription())
+              .baseUnit("seconds")
+              .tag(ActorMetricsKeyName.ACTOR_NAME.asString(), actorName)
+              .register(registry));
+      meters.add(
+          FunctionCounter.builder(JOBS_SUBMITTED.getName(), submittedJobs, LongAdder::sum)
+              .description(JOBS_SUBMITTED.getDescription())
+              .tag(ActorMetricsKeyName.ACTOR_NAME.asString(), actorName)
+              .register(registry));
+      meters.add(
+          FunctionCounter.builder(JOBS_EXECUTED.getName(), executedJobs, LongAdder::sum)
+              .description(JOBS_EXECUTED.getDescription())
+              .tag(ActorMetricsKeyName.ACTOR_NAME.asString(), actorName)
+              .register(registry));
+    }
+
+    /**
+     * Called by the actor thread before it executes the actor.
+     *
+     * @return the CPU time of the current thread if this execution is sampled, otherwise -1
+     */
+    long startExecution() {
+      sampling = executions++ % samplingInterval == 0;
+      return sampling ? currentThreadCpuTime() : -1;
+    }
+
+    /**
+     * Called by the actor thread after it executed the actor.
+     *
+     * @param cpuTimeAtStart the value returned by {@link #startExecution()}
+     */
+    void endExecution(final long cpuTimeAtStart) {
+      if (cpuTimeAtStart < 0) {
+        return;
+      }
+
+      final long cpuTimeAtEnd = currentThreadCpuTime();
+      if (cpuTimeAtEnd >= cpuTimeAtStart) {
+        addCpuTime((cpuTimeAtEnd - cpuTimeAtStart) * samplingInterval);
+      }
+    }
+
+    void countSubmittedJob() {
+      submittedJobs.increment();
+    }
+
+    /**
+     * Called by the actor thread for every job it executes.
+     *
+     * @param latencyNs the time since the job was scheduled, or -1 if it is unknown
+     */
+    void onJobExecuted(final long latencyNs) {
+      executedJobs.increment();
+      if (sampling && latencyNs >= 0 && jobLatency != null) {
+        jobLatency.record(latencyNs, TimeUnit.NANOSECONDS);
+      }
+    }
+
+    @Override
+    public void close() {
+      profiles.remove(this);
+      if (registry != null) {
+        meters.forEach(registry::remove);
+      }
+    }
+
+    void addCpuTime(final long cpuTimeNs) {
+      cpuTime.add(cpuTimeNs);
+
+      // a sample which is added concurrently to the start of a new bucket may get lost, which is
+      // fine for the purpose of the sliding window
+      final long bucket = currentBucket();
+      final int index = (int) Math.floorMod(bucket, (long) WINDOW_BUCKETS);
+      if (buckets.get(index) == bucket) {
+        bucketCpuTimes.addAndGet(index, cpuTimeNs);
+      } else {
+        bucketCpuTimes.set(index, cpuTimeNs);
+        buckets.set(index, bucket);
+      }
+    }
+
+    private ActorCpuUsage toCpuUsage(final long windowStart) {
+      long windowCpuTime = 0;
+      for (int i = 0; i < WINDOW_BUCKETS; i++) {
+        if (buckets.get(i) >= windowStart) {
+          windowCpuTime += bucketCpuTimes.get(i);
+        }
+      }
+
+      return new ActorCpuUsage(
+          actorName, Duration.ofNanos(windowCpuTime), submittedJobs.sum(), executedJobs.sum());
+    }
+  }
+}
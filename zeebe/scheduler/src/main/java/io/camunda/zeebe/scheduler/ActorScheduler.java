@@ -22,11 +22,17 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
   private final AtomicReference<SchedulerState> state = new AtomicReference<>();
   private final ActorExecutor actorTaskExecutor;
   private final ActorMetrics metrics;
+  private final ActorProfiler profiler;
 
   public ActorScheduler(final ActorSchedulerBuilder builder) {
     state.set(SchedulerState.NEW);
     actorTaskExecutor = builder.getActorExecutor();
     metrics = builder.getActorMetrics();
+    profiler = builder.getActorProfiler();
+    if (profiler != null) {
+      profiler.register(builder.getCpuBoundActorThreads());
+      profiler.register(builder.getIoBoundActorThreads());
+    }
   }
 
   /**
@@ -62,6 +68,9 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
 
     final ActorTask task = actor.actor.task;
     task.setActorMetrics(metrics.scoped(actor.getName()));
+    if (profiler != null) {
+      task.setProfile(profiler.profile(actor.getName()));
+    }
 
     return switch (schedulingHints) {
       case CPU_BOUND -> actorTaskExecutor.submitCpuBound(task);
@@ -75,6 +84,13 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     }
   }
 
+  /**
+   * @return the profiler of the actors, or null if the actors are not profiled
+   */
+  public ActorProfiler getProfiler() {
+    return profiler;
+  }
+
   public void start() {
     if (state.compareAndSet(SchedulerState.NEW, SchedulerState.RUNNING)) {
       actorTaskExecutor.start();
@@ -129,15 +145,20 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private ActorClock actorClock;
     private int cpuBoundThreadsCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
     private ActorThreadGroup cpuBoundActorGroup;
+    private int cpuBoundThreadNodesCount = 1;
     private int ioBoundThreadsCount = 2;
+    private boolean ioBoundThreadsVirtual = false;
     private ActorThreadGroup ioBoundActorGroup;
     private ActorThreadFactory actorThreadFactory;
     private ActorExecutor actorExecutor;
     private ActorTimerQueue actorTimerQueue;
     private final boolean enableMetrics = false;
+    private boolean lifoSlotEnabled = false;
+    private boolean hierarchicalTimerWheelEnabled = false;
     private Supplier<IdleStrategy> idleStrategySupplier =
         ActorSchedulerBuilder::defaultIdleStrategySupplier;
     private ActorMetrics actorMetrics = ActorMetrics.disabled();
+    private ActorProfiler actorProfiler;
 
     public static IdleStrategy defaultIdleStrategySupplier() {
       return new BackoffIdleStrategy(
@@ -147,6 +168,14 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
           DEFAULT_MAX_PARK_PERIOD_NS);
     }
 
+    /**
+     * Idle strategy of actor threads which run on virtual threads: they park right away, as
+     * spinning or yielding would hold on to a carrier thread which other virtual threads need.
+     */
+    public static IdleStrategy virtualIdleStrategySupplier() {
+      return new BackoffIdleStrategy(0, 0, DEFAULT_MIN_PARK_PERIOD_NS, DEFAULT_MAX_PARK_PERIOD_NS);
+    }
+
     public String getSchedulerName() {
       return schedulerName;
     }
@@ -184,6 +213,22 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public boolean isHierarchicalTimerWheelEnabled() {
+      return hierarchicalTimerWheelEnabled;
+    }
+
+    /**
+     * If enabled, each actor thread keeps its timers in a hierarchical timer wheel, which only
+     * visits the timers which are due when expiring timers, instead of all timers of the current
+     * tick's spoke. This pays off if many timers are pending at once. Has no effect if a timer
+     * queue is set explicitly via {@link #setActorTimerQueue(ActorTimerQueue)}.
+     */
+    public ActorSchedulerBuilder setHierarchicalTimerWheelEnabled(
+        final boolean hierarchicalTimerWheelEnabled) {
+      this.hierarchicalTimerWheelEnabled = hierarchicalTimerWheelEnabled;
+      return this;
+    }
+
     public int getCpuBoundActorThreadCount() {
       return cpuBoundThreadsCount;
     }
@@ -193,6 +238,34 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public int getCpuBoundActorThreadNodeCount() {
+      return cpuBoundThreadNodesCount;
+    }
+
+    /**
+     * Splits the CPU bound threads into the given number of nodes of adjacent threads, e.g. one per
+     * NUMA node of the machine. Actors stay on the node they were first submitted on, and threads
+     * only steal actors from other nodes if there is nothing to steal on their own node. Pinning
+     * the threads of a node to the cores of a NUMA node is left to the operating system.
+     */
+    public ActorSchedulerBuilder setCpuBoundActorThreadNodeCount(final int nodeCount) {
+      cpuBoundThreadNodesCount = nodeCount;
+      return this;
+    }
+
+    public boolean isLifoSlotEnabled() {
+      return lifoSlotEnabled;
+    }
+
+    /**
+     * If enabled, an actor which is woken up by another actor runs next on the same thread, instead
+     * of after all other actors which are queued on this thread.
+     */
+    public ActorSchedulerBuilder setLifoSlotEnabled(final boolean lifoSlotEnabled) {
+      this.lifoSlotEnabled = lifoSlotEnabled;
+      return this;
+    }
+
     public int getIoBoundActorThreadCount() {
       return ioBoundThreadsCount;
     }
@@ -202,6 +275,22 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public boolean isIoBoundActorThreadsVirtual() {
+      return ioBoundThreadsVirtual;
+    }
+
+    /**
+     * If enabled, the I/O bound actors run on virtual threads, such that an actor which waits on a
+     * lock or parks does not block a platform thread. Blocking file I/O still pins the carrier
+     * thread, which the JDK compensates for by temporarily adding carriers. The I/O bound thread
+     * count caps how many I/O bound actors run concurrently. The CPU bound actors always run on
+     * platform threads.
+     */
+    public ActorSchedulerBuilder setIoBoundActorThreadsVirtual(final boolean virtual) {
+      ioBoundThreadsVirtual = virtual;
+      return this;
+    }
+
     public ActorThreadFactory getActorThreadFactory() {
       return actorThreadFactory;
     }
@@ -233,6 +322,19 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public ActorProfiler getActorProfiler() {
+      return actorProfiler;
+    }
+
+    /**
+     * Profiles the CPU time, jobs and queues of the actors with the given profiler, see {@link
+     * ActorProfiler}. Actors are not profiled if the profiler is null, which is the default.
+     */
+    public ActorSchedulerBuilder setActorProfiler(final ActorProfiler actorProfiler) {
+      this.actorProfiler = actorProfiler;
+      return this;
+    }
+
     private void initActorThreadFactory() {
       if (actorThreadFactory == null) {
         actorThreadFactory = new DefaultActorThreadFactory();
@@ -10,6 +10,7 @@ package io.camunda.zeebe.scheduler;
 import static io.camunda.zeebe.scheduler.ActorThread.ensureCalledFromActorThread;
 
 import io.camunda.zeebe.scheduler.ActorMetrics.ActorMetricsScoped;
+import io.camunda.zeebe.scheduler.ActorProfiler.ActorProfile;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.util.Loggers;
@@ -46,6 +47,10 @@ public class ActorTask {
   boolean shouldYield;
   final AtomicReference<TaskSchedulingState> schedulingState = new AtomicReference<>();
   final AtomicLong stateCount = new AtomicLong(0);
+  // the node of the thread group the task is affine to, see WorkStealingGroup
+  int affinityNode = -1;
+  // when the task was last submitted to its thread group, only set if the metrics are enabled
+  long submittedAtNanos;
   private final CompletableActorFuture<Void> jobClosingTaskFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> startingFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> jobStartingTaskFuture = new CompletableActorFuture<>();
@@ -61,6 +66,8 @@ public class ActorTask {
   private volatile Queue<ActorJob> submittedJobs = new ClosedQueue();
 
   private ActorMetricsScoped metrics = ActorMetricsScoped.NOOP;
+  // null if the actors are not profiled
+  private ActorProfile profile;
 
   public ActorTask(final Actor actor) {
     this.actor = actor;
@@ -69,6 +76,7 @@ public class ActorTask {
   /** called when the task is initially scheduled. */
   public ActorFuture<Void> onTaskScheduled(final ActorThreadGroup actorThreadGroup) {
     this.actorThreadGroup = actorThreadGroup;
+    affinityNode = -1;
     // reset previous state to allow re-scheduling
     closeFuture.close();
     closeFuture.setAwaitingResult();
@@ -261,6 +269,9 @@ public class ActorTask {
       failJob(j);
     }
     metrics.close();
+    if (profile != null) {
+      profile.close();
+    }
   }
 
   private void failJob(final ActorJob job) {
@@ -546,6 +557,14 @@ public class ActorTask {
     metrics = scoped;
   }
 
+  ActorProfile getProfile() {
+    return profile;
+  }
+
+  void setProfile(final ActorProfile profile) {
+    this.profile = profile;
+  }
+
   /** Describes an actor's scheduling state */
   public enum TaskSchedulingState {
     NOT_SCHEDULED,
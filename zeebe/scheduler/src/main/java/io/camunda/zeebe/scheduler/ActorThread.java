@@ -26,6 +26,8 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private static final Logger LOG = Loggers.ACTOR_LOGGER;
   private static final FatalErrorHandler FATAL_ERROR_HANDLER = FatalErrorHandler.withLogger(LOG);
   private static final VarHandle STATE_HANDLE;
+  // the actor thread whose loop runs on the current virtual thread, see #startVirtual()
+  private static final ThreadLocal<ActorThread> VIRTUAL_ACTOR_THREAD = new ThreadLocal<>();
 
   static {
     try {
@@ -49,6 +51,8 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private final BoundedArrayQueue<ActorJob> jobs = new BoundedArrayQueue<>(2048);
   private final ActorThreadGroup actorThreadGroup;
   private volatile ActorThreadState state;
+  // the thread which runs the loop of this actor thread, which is either itself or a virtual thread
+  private volatile Thread runner = this;
 
   public ActorThread(
       final String name,
@@ -99,6 +103,11 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     currentTask = taskScheduler.getNextTask();
 
     if (currentTask != null) {
+      if (actorMetrics.isEnabled()) {
+        actorMetrics.observeTaskQueueingLatency(
+            actorThreadGroup.getGroupName(), System.nanoTime() - currentTask.submittedAtNanos);
+      }
+
       final var metrics = currentTask.getActorMetrics();
       try (final var timer = metrics.startExecutionTimer()) {
         executeCurrentTask();
@@ -123,12 +132,20 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
     idleStrategy.onTaskExecuted();
 
+    // only the execution itself is profiled, since another thread may pick up the task as soon as
+    // it is resubmitted or woken up
+    final var profile = currentTask.getProfile();
+    final long cpuTimeAtStart = profile != null ? profile.startExecution() : -1;
+
     try {
       resubmit = currentTask.execute(this);
     } catch (final Throwable e) {
       FATAL_ERROR_HANDLER.handleError(e);
       LOG.error("Unexpected error occurred in task {}", currentTask, e);
     } finally {
+      if (profile != null) {
+        profile.endExecution(cpuTimeAtStart);
+      }
       clock.update();
       properties.keySet().forEach(MDC::remove);
     }
@@ -165,9 +182,12 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
      * This implementation takes advantage of the fact that ActorTaskRunner extends Thread
      * itself. If we can cast down, the current thread is the current ActorTaskRunner.
      */
-    return Thread.currentThread() instanceof ActorThread
-        ? (ActorThread) Thread.currentThread()
-        : null;
+    final Thread thread = Thread.currentThread();
+    if (thread instanceof ActorThread) {
+      return (ActorThread) thread;
+    }
+
+    return thread.isVirtual() ? VIRTUAL_ACTOR_THREAD.get() : null;
   }
 
   public static ActorThread ensureCalledFromActorThread(final String methodName) {
@@ -214,6 +234,37 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
   }
 
+  /**
+   * Starts the loop of this actor thread on a new virtual thread, instead of on this platform
+   * thread. Jobs which wait on locks, sleep or park then release the platform thread which carries
+   * the virtual thread. Note that blocking file I/O still pins the carrier thread, the JDK only
+   * compensates for it by temporarily adding a carrier to its pool.
+   *
+   * <p>While idle, the loop parks instead of spinning or yielding, so that it does not hold on to a
+   * carrier thread which is shared with all other virtual threads.
+   */
+  public synchronized void startVirtual() {
+    if (STATE_HANDLE.compareAndSet(this, ActorThreadState.NEW, ActorThreadState.RUNNING)) {
+      idleStrategy =
+          new ActorTaskRunnerIdleStrategy(ActorSchedulerBuilder.virtualIdleStrategySupplier());
+      runner =
+          Thread.ofVirtual()
+              .name(getName())
+              .unstarted(
+                  () -> {
+                    VIRTUAL_ACTOR_THREAD.set(this);
+                    try {
+                      run();
+                    } finally {
+                      VIRTUAL_ACTOR_THREAD.remove();
+                    }
+                  });
+      runner.start();
+    } else {
+      throw new IllegalStateException("Cannot start runner, not in state 'NEW'.");
+    }
+  }
+
   @Override
   public void run() {
     idleStrategy.init();
@@ -291,7 +342,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
 
     public void hintWorkAvailable() {
-      LockSupport.unpark(ActorThread.this);
+      LockSupport.unpark(runner);
     }
 
     protected void onIdle() {
@@ -10,7 +10,6 @@ package io.camunda.zeebe.scheduler;
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
 import io.camunda.zeebe.util.Loggers;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * A thread group is a group of threads which process the same kind of tasks (ie. blocking I/O vs.
@@ -22,17 +21,30 @@ public abstract class ActorThreadGroup {
   protected final WorkStealingGroup tasks;
   protected final int numOfThreads;
   private final String schedulerName;
+  private final boolean lifoSlotEnabled;
+  private final boolean metricsEnabled;
 
   public ActorThreadGroup(
       final String groupName,
       final int numOfThreads,
       final ActorSchedulerBuilder builder,
       final String schedulerName) {
+    this(groupName, numOfThreads, 1, builder, schedulerName);
+  }
+
+  public ActorThreadGroup(
+      final String groupName,
+      final int numOfThreads,
+      final int numOfNodes,
+      final ActorSchedulerBuilder builder,
+      final String schedulerName) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
     this.schedulerName = schedulerName;
+    lifoSlotEnabled = builder.isLifoSlotEnabled();
+    metricsEnabled = builder.getActorMetrics().isEnabled();
 
-    tasks = new WorkStealingGroup(numOfThreads);
+    tasks = new WorkStealingGroup(numOfThreads, numOfNodes, builder.getActorProfiler() != null);
 
     threads = new ActorThread[numOfThreads];
 
@@ -47,7 +59,7 @@ public abstract class ActorThreadGroup {
                   this,
                   tasks,
                   builder.getActorClock(),
-                  builder.getActorTimerQueue(),
+                  newTimerQueue(builder),
                   builder.getActorMetrics(),
                   builder.getIdleStrategySupplier().get());
 
@@ -56,11 +68,25 @@ public abstract class ActorThreadGroup {
   }
 
   public void submit(final ActorTask actorTask) {
+    if (metricsEnabled) {
+      actorTask.submittedAtNanos = System.nanoTime();
+    }
+
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
-      tasks.submit(actorTask, current.getRunnerId());
+    final int currentThreadId =
+        current != null && current.getActorThreadGroup() == this ? current.getRunnerId() : -1;
+    final int node = tasks.getAffinityNode(actorTask, currentThreadId);
+
+    if (currentThreadId >= 0 && tasks.getNode(currentThreadId) == node) {
+      // a task which is resubmitted after it ran goes to the queue, so it does not run again
+      // right away
+      if (lifoSlotEnabled && current.getCurrentTask() != actorTask) {
+        tasks.submitToLifoSlot(actorTask, currentThreadId);
+      } else {
+        tasks.submit(actorTask, currentThreadId);
+      }
     } else {
-      final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
+      final int threadId = tasks.getRandomThread(node);
       tasks.submit(actorTask, threadId);
       threads[threadId].hintWorkAvailable();
     }
@@ -72,6 +98,18 @@ public abstract class ActorThreadGroup {
     }
   }
 
+  public String getGroupName() {
+    return groupName;
+  }
+
+  /**
+   * @return the number of actors queued on the given thread, which is only tracked if the actors
+   *     are profiled
+   */
+  int getQueueDepth(final int threadId) {
+    return tasks.getQueueDepth(threadId);
+  }
+
   public String getSchedulerName() {
     return schedulerName;
   }
@@ -101,4 +139,13 @@ public abstract class ActorThreadGroup {
                 Loggers.ACTOR_LOGGER.debug(
                     "Closing actor thread ground '{}': closed successfully", groupName));
   }
+
+  private static ActorTimerQueue newTimerQueue(final ActorSchedulerBuilder builder) {
+    if (builder.getActorTimerQueue() != null || !builder.isHierarchicalTimerWheelEnabled()) {
+      return builder.getActorTimerQueue();
+    }
+
+    final var clock = builder.getActorClock();
+    return ActorTimerQueue.newHierarchicalTimerQueue(clock != null ? clock.getTimeMillis() : 0);
+  }
 }
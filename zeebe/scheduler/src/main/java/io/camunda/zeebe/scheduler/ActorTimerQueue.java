@@ -11,13 +11,22 @@ import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.util.Loggers;
 import java.util.concurrent.TimeUnit;
 import org.agrona.DeadlineTimerWheel;
+import org.agrona.DeadlineTimerWheel.TimerHandler;
 import org.agrona.collections.Long2ObjectHashMap;
 import org.slf4j.Logger;
 
-public final class ActorTimerQueue extends DeadlineTimerWheel {
+/**
+ * The timers of the actors of a single actor thread. By default, the timers are kept in a single
+ * level timer wheel, which has to visit all timers of a tick's spoke whenever it expires a tick. A
+ * {@link #newHierarchicalTimerQueue(long) hierarchical} timer wheel only visits the timers which
+ * are due, which pays off if a thread keeps many timers pending.
+ */
+public final class ActorTimerQueue {
+  static final TimeUnit TIME_UNIT = TimeUnit.MILLISECONDS;
   private static final Logger LOG = Loggers.ACTOR_LOGGER;
   private static final int DEFAULT_TICKS_PER_WHEEL = 32;
   private final Long2ObjectHashMap<TimerSubscription> timerJobMap = new Long2ObjectHashMap<>();
+  private final TimerWheel timerWheel;
 
   private final TimerHandler timerHandler =
       (timeUnit, now, timerId) -> {
@@ -37,21 +46,35 @@ public final class ActorTimerQueue extends DeadlineTimerWheel {
   }
 
   public ActorTimerQueue(final ActorClock clock, final int ticksPerWheel) {
-    super(TimeUnit.MILLISECONDS, clock.getTimeMillis(), 1, ticksPerWheel);
+    this(new SingleLevelTimerWheel(clock.getTimeMillis(), ticksPerWheel));
+  }
+
+  private ActorTimerQueue(final TimerWheel timerWheel) {
+    this.timerWheel = timerWheel;
+  }
+
+  /**
+   * Returns a timer queue backed by a hierarchical timer wheel, on which scheduling and cancelling
+   * a timer takes constant time, and expiring timers only visits the timers which are due.
+   *
+   * @param startTimeMillis the time from which on the timers are expired
+   */
+  public static ActorTimerQueue newHierarchicalTimerQueue(final long startTimeMillis) {
+    return new ActorTimerQueue(new HierarchicalTimerWheel(startTimeMillis));
   }
 
   public void processExpiredTimers(final ActorClock clock) {
     int timersProcessed = 0;
 
     do {
-      timersProcessed = poll(clock.getTimeMillis(), timerHandler, Integer.MAX_VALUE);
+      timersProcessed = timerWheel.poll(clock.getTimeMillis(), timerHandler, Integer.MAX_VALUE);
     } while (timersProcessed > 0);
   }
 
   public void schedule(final TimerSubscription timer, final ActorClock now) {
     final long deadline = timer.getDeadline(now);
 
-    final long timerId = scheduleTimer(deadline);
+    final long timerId = timerWheel.scheduleTimer(deadline);
     timer.setTimerId(timerId);
     if (timerJobMap.containsKey(timerId)) {
       throw new IllegalStateException(
@@ -68,6 +91,32 @@ public final class ActorTimerQueue extends DeadlineTimerWheel {
     final long timerId = timer.getTimerId();
 
     timerJobMap.remove(timerId);
-    cancelTimer(timerId);
+    timerWheel.cancelTimer(timerId);
+  }
+
+  long timerCount() {
+    return timerWheel.timerCount();
+  }
+
+  /** The timer wheel which keeps the deadlines of the timers, by the id it assigned to them. */
+  interface TimerWheel {
+    long scheduleTimer(long deadline);
+
+    boolean cancelTimer(long timerId);
+
+    /**
+     * Expires the timers which are due at the given time, up to the given limit.
+     *
+     * @return the number of expired timers
+     */
+    int poll(long now, TimerHandler handler, int expiryLimit);
+
+    long timerCount();
+  }
+
+  static final class SingleLevelTimerWheel extends DeadlineTimerWheel implements TimerWheel {
+    SingleLevelTimerWheel(final long startTime, final int ticksPerWheel) {
+      super(TIME_UNIT, startTime, 1, ticksPerWheel);
+    }
   }
 }
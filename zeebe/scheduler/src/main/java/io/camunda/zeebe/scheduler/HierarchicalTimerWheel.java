@@ -0,0 +1,279 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import org.agrona.DeadlineTimerWheel.TimerHandler;
+import org.agrona.collections.Long2ObjectHashMap;
+
+/**
+ * A hashed hierarchical timer wheel with a resolution of one millisecond. Scheduling and cancelling
+ * a timer is O(1), and polling only visits the timers which are due, regardless of how many timers
+ * are pending.
+ *
+ * <p>The wheel consists of levels of 64 slots each, where a slot of level {@code l} spans {@code
+ * 64^l} milliseconds. A timer is placed on the lowest level on which its deadline is within the
+ * current rotation, i.e. the deadline and the current tick only differ in the bits of this level
+ * and the levels below. Whenever the current tick enters a slot of a higher level, the timers of
+ * this slot are cascaded down to the lower levels, until they reach the lowest level, on which they
+ * expire. Each level keeps a bitmap of its non-empty slots, such that polling skips over empty
+ * slots, and the wheel can catch up with large jumps of the clock quickly.
+ *
+ * <p>Not thread safe; it is confined to the actor thread it belongs to.
+ */
+final class HierarchicalTimerWheel implements ActorTimerQueue.TimerWheel {
+  private static final int SLOT_BITS = 6;
+  private static final int SLOTS = 1 << SLOT_BITS;
+  private static final int SLOT_MASK = SLOTS - 1;
+  // enough levels to cover all 64 bits of a deadline
+  private static final int LEVELS = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+  private static final int MAX_POOLED_TIMERS = 1024;
+
+  private final Timer[][] slots = new Timer[LEVELS][SLOTS];
+  private final long[] occupiedSlots = new long[LEVELS];
+  private final Long2ObjectHashMap<Timer> timers = new Long2ObjectHashMap<>();
+  private Timer pool;
+  private int pooledTimers;
+  private long nextTimerId;
+  // the tick which is expired last; all timers with an earlier deadline have expired
+  private long currentTick;
+
+  HierarchicalTimerWheel(final long startTime) {
+    currentTick = startTime;
+  }
+
+  @Override
+  public long scheduleTimer(final long deadline) {
+    final Timer timer = newTimer();
+    timer.timerId = nextTimerId++;
+    timer.deadline = deadline;
+    timers.put(timer.timerId, timer);
+    place(timer);
+    return timer.timerId;
+  }
+
+  @Override
+  public boolean cancelTimer(final long timerId) {
+    final Timer timer = timers.remove(timerId);
+    if (timer == null) {
+      return false;
+    }
+
+    unlink(timer);
+    release(timer);
+    return true;
+  }
+
+  @Override
+  public int poll(final long now, final TimerHandler handler, final int expiryLimit) {
+    if (now < currentTick) {
+      rewindTo(now);
+    }
+
+    int expired = 0;
+
+    while (true) {
+      final int slot = (int) (currentTick & SLOT_MASK);
+      while (slots[0][slot] != null) {
+        if (expired >= expiryLimit) {
+          return expired;
+        }
+
+        final Timer timer = slots[0][slot];
+        unlink(timer);
+        timers.remove(timer.timerId);
+
+        if (!handler.onTimerExpiry(ActorTimerQueue.TIME_UNIT, now, timer.timerId)) {
+          // the handler rejected the timer; it expires again on the next poll
+          timers.put(timer.timerId, timer);
+          link(timer, 0, slot);
+          return expired;
+        }
+
+        release(timer);
+        expired++;
+      }
+
+      final long nextTick = nextEventTick();
+      if (nextTick > now) {
+        // stay on the current time, such that timers which are scheduled in the meantime with a
+        // deadline up to now expire on the next poll
+        if (currentTick < now) {
+          advanceTo(now);
+        }
+
+        return expired;
+      }
+
+      advanceTo(nextTick);
+    }
+  }
+
+  @Override
+  public long timerCount() {
+    return timers.size();
+  }
+
+  /**
+   * Returns the next tick after the current tick at which either a slot of the lowest level has to
+   * be expired, or a slot of a higher level has to be cascaded.
+   */
+  private long nextEventTick() {
+    long nextTick = Long.MAX_VALUE;
+
+    for (int level = 0; level < LEVELS; level++) {
+      final int shift = level * SLOT_BITS;
+      final int currentSlot = (int) ((currentTick >>> shift) & SLOT_MASK);
+      // the current slot of the lowest level was just expired, and the current slots of the
+      // higher levels are always empty, as their timers would have been placed on a lower level
+      final long laterSlots =
+          currentSlot == SLOT_MASK ? 0 : occupiedSlots[level] >>> (currentSlot + 1);
+      if (laterSlots != 0) {
+        final int slot = currentSlot + 1 + Long.numberOfTrailingZeros(laterSlots);
+        final long tick = rotationStart(currentTick, level) + ((long) slot << shift);
+        nextTick = Math.min(nextTick, tick);
+      }
+    }
+
+    return nextTick;
+  }
+
+  /**
+   * Moves the current tick forward to the given tick, and cascades the slots of the higher levels
+   * which start at this tick. Any slots which are skipped on the way must be empty.
+   */
+  private void advanceTo(final long tick) {
+    currentTick = tick;
+
+    for (int level = LEVELS - 1; level > 0; level--) {
+      final int shift = level * SLOT_BITS;
+      if ((tick & ((1L << shift) - 1)) == 0) {
+        cascade(level, (int) ((tick >>> shift) & SLOT_MASK));
+      }
+    }
+  }
+
+  /**
+   * Moves the current tick back to the given tick, if the clock went backwards. All pending timers
+   * are placed anew relative to the given tick, such that each timer still expires once the clock
+   * reaches its deadline. This visits all pending timers, but the clock is not expected to go
+   * backwards often.
+   */
+  private void rewindTo(final long tick) {
+    Timer pending = null;
+    for (int level = 0; level < LEVELS; level++) {
+      while (occupiedSlots[level] != 0) {
+        final int slot = Long.numberOfTrailingZeros(occupiedSlots[level]);
+        while (slots[level][slot] != null) {
+          final Timer timer = slots[level][slot];
+          unlink(timer);
+          timer.next = pending;
+          pending = timer;
+        }
+      }
+    }
+
+    currentTick = tick;
+    while (pending != null) {
+      final Timer next = pending.next;
+      pending.next = null;
+      place(pending);
+      pending = next;
+    }
+  }
+
+  private void cascade(final int level, final int slot) {
+    Timer timer = slots[level][slot];
+    slots[level][slot] = null;
+    occupiedSlots[level] &= ~(1L << slot);
+
+    while (timer != null) {
+      final Timer next = timer.next;
+      timer.previous = null;
+      timer.next = null;
+      place(timer);
+      timer = next;
+    }
+  }
+
+  private void place(final Timer timer) {
+    final long deadline = Math.max(timer.deadline, currentTick);
+    final long differentBits = deadline ^ currentTick;
+    final int level =
+        differentBits == 0
+            ? 0
+            : (Long.SIZE - 1 - Long.numberOfLeadingZeros(differentBits)) / SLOT_BITS;
+    final int slot = (int) ((deadline >>> (level * SLOT_BITS)) & SLOT_MASK);
+    link(timer, level, slot);
+  }
+
+  private void link(final Timer timer, final int level, final int slot) {
+    final Timer head = slots[level][slot];
+    timer.level = level;
+    timer.slot = slot;
+    timer.previous = null;
+    timer.next = head;
+    if (head != null) {
+      head.previous = timer;
+    }
+
+    slots[level][slot] = timer;
+    occupiedSlots[level] |= 1L << slot;
+  }
+
+  private void unlink(final Timer timer) {
+    if (timer.previous != null) {
+      timer.previous.next = timer.next;
+    } else {
+      slots[timer.level][timer.slot] = timer.next;
+      if (timer.next == null) {
+        occupiedSlots[timer.level] &= ~(1L << timer.slot);
+      }
+    }
+
+    if (timer.next != null) {
+      timer.next.previous = timer.previous;
+    }
+
+    timer.previous = null;
+    timer.next = null;
+  }
+
+  private Timer newTimer() {
+    if (pool == null) {
+      return new Timer();
+    }
+
+    final Timer timer = pool;
+    pool = timer.next;
+    timer.next = null;
+    pooledTimers--;
+    return timer;
+  }
+
+  private void release(final Timer timer) {
+    if (pooledTimers < MAX_POOLED_TIMERS) {
+      timer.next = pool;
+      pool = timer;
+      pooledTimers++;
+    }
+  }
+
+  private static long rotationStart(final long tick, final int level) {
+    final int rotationShift = (level + 1) * SLOT_BITS;
+    return rotationShift >= Long.SIZE ? 0 : tick & -(1L << rotationShift);
+  }
+
+  private static final class Timer {
+    private long timerId;
+    private long deadline;
+    private int level;
+    private int slot;
+    private Timer previous;
+    private Timer next;
+  }
+}
@@ -8,11 +8,50 @@
 package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * Thread group for the blocking, I/O bound, tasks. Optionally, its threads run on virtual threads,
+ * which park while idle and release their carrier thread while waiting on locks. Blocking file I/O
+ * still pins the carrier thread; the JDK only compensates for it by temporarily adding carriers.
+ * The number of threads caps how many I/O bound actors run concurrently.
+ */
 public final class IoThreadGroup extends ActorThreadGroup {
+  private final boolean virtual;
+  private final ActorMetrics actorMetrics;
+  private VirtualThreadPinningMonitor pinningMonitor;
 
   public IoThreadGroup(final ActorSchedulerBuilder builder) {
     super(
         "zb-fs-workers", builder.getIoBoundActorThreadCount(), builder, builder.getSchedulerName());
+    virtual = builder.isIoBoundActorThreadsVirtual();
+    actorMetrics = builder.getActorMetrics();
+  }
+
+  @Override
+  public void start() {
+    if (!virtual) {
+      super.start();
+      return;
+    }
+
+    if (actorMetrics.isEnabled()) {
+      pinningMonitor = VirtualThreadPinningMonitor.start(groupName, actorMetrics);
+    }
+
+    for (final ActorThread actorThread : threads) {
+      actorThread.startVirtual();
+    }
+  }
+
+  @Override
+  public CompletableFuture<Void> closeAsync() {
+    return super.closeAsync()
+        .whenComplete(
+            (ok, error) -> {
+              if (pinningMonitor != null) {
+                pinningMonitor.close();
+              }
+            });
   }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.util.CloseableSilently;
+import io.camunda.zeebe.util.Loggers;
+import java.time.Duration;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Observes when the virtual threads of a thread group are pinned to their carrier thread, e.g.
+ * because they block inside a synchronized block or a native call. A pinned virtual thread blocks
+ * its carrier, and with it all other virtual threads which could run on this carrier.
+ *
+ * <p>The JVM reports pinning only through the {@code jdk.VirtualThreadPinned} flight recorder
+ * event, so the monitor streams these events from an in-process recording.
+ */
+final class VirtualThreadPinningMonitor implements CloseableSilently {
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final Duration PINNED_THRESHOLD = Duration.ofMillis(1);
+
+  private final RecordingStream recording;
+
+  private VirtualThreadPinningMonitor(final RecordingStream recording) {
+    this.recording = recording;
+  }
+
+  /**
+   * Starts to observe the virtual threads of the given thread group.
+   *
+   * @return the started monitor, or null if the flight recorder is not available
+   */
+  static VirtualThreadPinningMonitor start(final String groupName, final ActorMetrics metrics) {
+    final RecordingStream recording;
+    try {
+      recording = new RecordingStream();
+    } catch (final IllegalStateException | SecurityException e) {
+      Loggers.ACTOR_LOGGER.warn(
+          "Failed to start flight recorder, will not observe pinning of virtual threads of '{}'",
+          groupName,
+          e);
+      return null;
+    }
+
+    final var threadNamePrefix = groupName + "-";
+    recording.enable(PINNED_EVENT).withThreshold(PINNED_THRESHOLD);
+    recording.onEvent(
+        PINNED_EVENT,
+        event -> {
+          if (isOnThreadOf(event, threadNamePrefix)) {
+            metrics.observeVirtualThreadPinned(groupName, event.getDuration().toNanos());
+          }
+        });
+    recording.startAsync();
+
+    return new VirtualThreadPinningMonitor(recording);
+  }
+
+  @Override
+  public void close() {
+    recording.close();
+  }
+
+  private static boolean isOnThreadOf(final RecordedEvent event, final String threadNamePrefix) {
+    final var thread = event.getThread();
+    return thread != null
+        && thread.getJavaName() != null
+        && thread.getJavaName().startsWith(threadNamePrefix);
+  }
+}
@@ -10,18 +10,68 @@ package io.camunda.zeebe.scheduler;
 import static io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState.QUEUED;
 
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
-/** Workstealing group maintains a queue per thread. */
+/**
+ * Workstealing group maintains a queue per thread.
+ *
+ * <p>Optionally, each thread also has a LIFO slot, which holds the task that was submitted last
+ * from the thread itself. The thread runs this task next, before the tasks in its queue, so that an
+ * actor which is woken up by a message runs right after the sender, while the message is still in
+ * the caches of the core. The slot can only be accessed by its own thread; it is never stolen from.
+ *
+ * <p>The threads can also be split into nodes of adjacent threads, e.g. one per NUMA node of the
+ * machine. Each task is affine to the node it was first submitted on: it is always queued on one of
+ * the threads of this node, and threads only steal tasks of other nodes if there is nothing to
+ * steal on their own node.
+ *
+ * <p>If enabled, the group also keeps track of the number of tasks in the queue of each thread,
+ * i.e. the tasks which were appended to the queue but not yet taken from it, either by its own
+ * thread or by a thief.
+ */
 public final class WorkStealingGroup implements TaskScheduler {
+  /**
+   * After this many tasks in a row were taken from the LIFO slot, the queue of the thread is polled
+   * first. Otherwise, two actors which keep waking up each other would starve all other tasks of
+   * the thread.
+   */
+  static final int MAX_CONSECUTIVE_LIFO_SLOT_TASKS = 3;
+
   private final int numOfThreads;
+  private final int numOfNodes;
   private final ActorTaskQueue[] taskQueues;
+  private final LifoSlot[] lifoSlots;
+  private final AtomicInteger nextNode = new AtomicInteger();
+  // null if the queue depths are not tracked
+  private final AtomicIntegerArray queueDepths;
 
   public WorkStealingGroup(final int numOfThreads) {
+    this(numOfThreads, 1);
+  }
+
+  public WorkStealingGroup(final int numOfThreads, final int numOfNodes) {
+    this(numOfThreads, numOfNodes, false);
+  }
+
+  public WorkStealingGroup(
+      final int numOfThreads, final int numOfNodes, final boolean trackQueueDepths) {
+    if (numOfNodes < 1 || numOfNodes > Math.max(1, numOfThreads)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected the number of nodes to be at least 1 and at most the number of threads %d, but was %d",
+              numOfThreads, numOfNodes));
+    }
+
     this.numOfThreads = numOfThreads;
+    this.numOfNodes = numOfNodes;
     taskQueues = new ActorTaskQueue[numOfThreads];
+    lifoSlots = new LifoSlot[numOfThreads];
     for (int i = 0; i < numOfThreads; i++) {
       taskQueues[i] = new ActorTaskQueue();
+      lifoSlots[i] = new LifoSlot();
     }
+    queueDepths = trackQueueDepths ? new AtomicIntegerArray(numOfThreads) : null;
   }
 
   /**
@@ -32,7 +82,58 @@ public final class WorkStealingGroup implements TaskScheduler {
    */
   public void submit(final ActorTask task, final int threadId) {
     task.schedulingState.set(QUEUED);
-    taskQueues[threadId].append(task);
+    append(task, threadId);
+  }
+
+  /**
+   * Submit the task into the LIFO slot of the provided thread, so that it is the next task which
+   * the thread runs. The task which was in the slot before is moved to the thread's queue. Must be
+   * called from the thread itself.
+   *
+   * @param task the task to submit
+   * @param threadId the id of the current thread
+   */
+  public void submitToLifoSlot(final ActorTask task, final int threadId) {
+    task.schedulingState.set(QUEUED);
+
+    final LifoSlot slot = lifoSlots[threadId];
+    final ActorTask previousTask = slot.task;
+    slot.task = task;
+
+    if (previousTask != null) {
+      append(previousTask, threadId);
+    }
+  }
+
+  /**
+   * Returns the node the task is affine to. If the task has no affinity yet, it becomes affine to
+   * the node of the given thread, or, if it is submitted from outside this group, to the next node
+   * in a round-robin fashion.
+   *
+   * @param task the task which is submitted
+   * @param threadId the id of the submitting thread, or -1 if it does not belong to this group
+   * @return the node of the task
+   */
+  int getAffinityNode(final ActorTask task, final int threadId) {
+    if (task.affinityNode < 0) {
+      task.affinityNode =
+          threadId >= 0 ? getNode(threadId) : Math.floorMod(nextNode.getAndIncrement(), numOfNodes);
+    }
+
+    return task.affinityNode;
+  }
+
+  int getNode(final int threadId) {
+    return threadId * numOfNodes / numOfThreads;
+  }
+
+  /**
+   * @return a random thread of the given node
+   */
+  int getRandomThread(final int node) {
+    final int firstThread = getFirstThread(node);
+    return firstThread
+        + ThreadLocalRandom.current().nextInt(getFirstThread(node + 1) - firstThread);
   }
 
   /**
@@ -43,7 +144,27 @@ public final class WorkStealingGroup implements TaskScheduler {
   @Override
   public ActorTask getNextTask() {
     final ActorThread currentThread = ActorThread.current();
-    ActorTask nextTask = taskQueues[currentThread.getRunnerId()].pop();
+    final int threadId = currentThread.getRunnerId();
+    final LifoSlot slot = lifoSlots[threadId];
+
+    if (slot.task != null) {
+      final ActorTask task = slot.task;
+      slot.task = null;
+
+      if (slot.consecutiveTasks < MAX_CONSECUTIVE_LIFO_SLOT_TASKS) {
+        slot.consecutiveTasks++;
+        return task;
+      }
+
+      // give the other tasks of the thread a chance to run
+      append(task, threadId);
+    }
+
+    slot.consecutiveTasks = 0;
+    ActorTask nextTask = taskQueues[threadId].pop();
+    if (nextTask != null) {
+      onTaskTaken(threadId);
+    }
 
     if (nextTask == null) {
       nextTask = trySteal(currentThread);
@@ -58,8 +179,25 @@ public final class WorkStealingGroup implements TaskScheduler {
    *
    * <p>Work stealing is a mechanism for <em>load balancing</em>: it relies upon the assumption that
    * there is more work to do than there is resources (threads) to run it.
+   *
+   * <p>Runners steal from the other runners of their own node first, and only if these have nothing
+   * to steal from the runners of the other nodes.
    */
   private ActorTask trySteal(final ActorThread currentThread) {
+    final int runnerId = currentThread.getRunnerId();
+    final int node = getNode(runnerId);
+
+    ActorTask stolenActor =
+        trySteal(runnerId, getFirstThread(node), getFirstThread(node + 1) - getFirstThread(node));
+
+    if (stolenActor == null && numOfNodes > 1) {
+      stolenActor = trySteal(runnerId, 0, numOfThreads);
+    }
+
+    return stolenActor;
+  }
+
+  private ActorTask trySteal(final int thiefId, final int firstVictim, final int numOfVictims) {
     /*
      * This implementation uses a random offset into the runner array. The idea is to
      *
@@ -75,15 +213,16 @@ public final class WorkStealingGroup implements TaskScheduler {
      * Experimental verification of the effectiveness of the optimization has not been conducted yet.
      * Also, the optimization only makes sense if the system uses at least 3 runners.
      */
-    final int offset = ThreadLocalRandom.current().nextInt(numOfThreads);
+    final int offset = ThreadLocalRandom.current().nextInt(numOfVictims);
 
-    for (int i = offset; i < offset + numOfThreads; i++) {
-      final int runnerId = i % numOfThreads;
+    for (int i = offset; i < offset + numOfVictims; i++) {
+      final int runnerId = firstVictim + i % numOfVictims;
 
-      if (runnerId != currentThread.getRunnerId()) {
+      if (runnerId != thiefId) {
         final ActorTask stolenActor = taskQueues[runnerId].trySteal();
 
         if (stolenActor != null) {
+          onTaskTaken(runnerId);
           return stolenActor;
         }
       }
@@ -91,4 +230,39 @@ public final class WorkStealingGroup implements TaskScheduler {
 
     return null;
   }
+
+  /**
+   * @return the number of tasks in the queue of the given thread, or 0 if the queue depths are not
+   *     tracked
+   */
+  int getQueueDepth(final int threadId) {
+    return queueDepths != null ? queueDepths.get(threadId) : 0;
+  }
+
+  private void append(final ActorTask task, final int threadId) {
+    if (queueDepths != null) {
+      queueDepths.incrementAndGet(threadId);
+    }
+    taskQueues[threadId].append(task);
+  }
+
+  private void onTaskTaken(final int threadId) {
+    if (queueDepths != null) {
+      queueDepths.decrementAndGet(threadId);
+    }
+  }
+
+  /**
+   * The threads of a node are the ones from its first thread up to, excluding, the first thread of
+   * the next node. This is the inverse of {@link #getNode(int)}.
+   */
+  private int getFirstThread(final int node) {
+    return (node * numOfThreads + numOfNodes - 1) / numOfNodes;
+  }
+
+  /** Only accessed by the thread it belongs to. */
+  private static final class LifoSlot {
+    private ActorTask task;
+    private int consecutiveTasks;
+  }
 }
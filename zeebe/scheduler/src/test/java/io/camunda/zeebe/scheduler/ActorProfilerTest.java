@@ -0,0 +1,301 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.scheduler.ActorMetricsDoc.ActorMetricsKeyName;
+import io.camunda.zeebe.scheduler.ActorProfiler.ActorCpuUsage;
+import io.camunda.zeebe.scheduler.ActorProfiler.ThreadQueueDepth;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+final class ActorProfilerTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicLong nanoClock = new AtomicLong();
+  private ActorScheduler scheduler;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void shouldCountSubmittedAndExecutedJobs() {
+    // given
+    startScheduler(new ActorProfiler(meterRegistry, 1, Duration.ofMinutes(1), System::nanoTime));
+    final var actor = new NamedActor("counted");
+    scheduler.submitActor(actor).join();
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      actor.call(() -> null).join();
+    }
+
+    // then - the jobs of the actor's lifecycle are counted as well
+    Awaitility.await("all submitted jobs have been executed")
+        .untilAsserted(
+            () -> {
+              final var usage = getUsage("counted");
+              assertThat(usage.submittedJobs()).isGreaterThanOrEqualTo(10);
+              assertThat(usage.executedJobs()).isEqualTo(usage.submittedJobs());
+              assertThat(
+                      meterRegistry
+                          .get(ActorMetricsDoc.JOBS_EXECUTED.getName())
+                          .tag(ActorMetricsKeyName.ACTOR_NAME.asString(), "counted")
+                          .functionCounter()
+                          .count())
+                  .isEqualTo(usage.executedJobs());
+              assertThat(
+                      meterRegistry
+                          .get(ActorMetricsDoc.JOB_LATENCY.getName())
+                          .tag(ActorMetricsKeyName.ACTOR_NAME.asString(), "counted")
+                          .timer()
+                          .count())
+                  .isEqualTo(usage.executedJobs());
+            });
+  }
+
+  @Test
+  void shouldRankActorsByCpuTime() {
+    // given
+    Assumptions.assumeTrue(ManagementFactory.getThreadMXBean().isCurrentThreadCpuTimeSupported());
+    startScheduler(new ActorProfiler(meterRegistry, 1, Duration.ofMinutes(1), System::nanoTime));
+    final var busy = new NamedActor("busy");
+    final var idle = new NamedActor("idle");
+    scheduler.submitActor(busy).join();
+    scheduler.submitActor(idle).join();
+
+    // when
+    busy.call(() -> spin(Duration.ofMillis(50))).join();
+    idle.call(() -> null).join();
+
+    // then
+    final var topActors = scheduler.getProfiler().getTopActorsByCpuTime(1);
+    assertThat(topActors).extracting(ActorCpuUsage::actorName).containsExactly("busy");
+    assertThat(topActors.getFirst().cpuTime()).isPositive();
+    assertThat(
+            meterRegistry
+                .get(ActorMetricsDoc.ACTOR_CPU_TIME.getName())
+                .tag(ActorMetricsKeyName.ACTOR_NAME.asString(), "busy")
+                .functionCounter()
+                .count())
+        .isPositive();
+  }
+
+  @Test
+  void shouldOnlyRankCpuTimeWithinWindow() {
+    // given
+    final var profiler = new ActorProfiler(null, 1, Duration.ofSeconds(60), nanoClock::get);
+    final var old = profiler.profile("old");
+    final var recent = profiler.profile("recent");
+    old.addCpuTime(Duration.ofSeconds(5).toNanos());
+
+    // when
+    nanoClock.set(Duration.ofSeconds(50).toNanos());
+    recent.addCpuTime(Duration.ofSeconds(1).toNanos());
+    nanoClock.set(Duration.ofSeconds(70).toNanos());
+
+    // then
+    assertThat(profiler.getTopActorsByCpuTime(2))
+        .extracting(ActorCpuUsage::actorName, ActorCpuUsage::cpuTime)
+        .containsExactly(tuple("recent", Duration.ofSeconds(1)), tuple("old", Duration.ZERO));
+  }
+
+  @Test
+  void shouldOnlySampleEveryNthExecution() {
+    // given
+    final var profiler = new ActorProfiler(null, 10, Duration.ofMinutes(1), nanoClock::get);
+    final var profile = profiler.profile("sampled");
+
+    // when
+    final var sampledExecutions = new ArrayList<Long>();
+    for (int i = 0; i < 20; i++) {
+      final long cpuTimeAtStart = profile.startExecution();
+      sampledExecutions.add(cpuTimeAtStart);
+      profile.endExecution(cpuTimeAtStart);
+    }
+
+    // then - only every tenth execution is measured
+    assertThat(sampledExecutions).filteredOn(cpuTime -> cpuTime >= 0).hasSizeLessThanOrEqualTo(2);
+    assertThat(sampledExecutions.subList(1, 10)).containsOnly(-1L);
+  }
+
+  @Test
+  void shouldTrackQueueDepthOfThreads() throws InterruptedException {
+    // given - the only CPU bound thread is blocked
+    startScheduler(new ActorProfiler(meterRegistry));
+    final var blocked = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+    final var blocking = new NamedActor("blocking");
+    scheduler.submitActor(blocking).join();
+    blocking.run(
+        () -> {
+          blocked.countDown();
+          await(release);
+        });
+    blocked.await();
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      scheduler.submitActor(new NamedActor("queued-" + i));
+    }
+
+    // then
+    assertThat(scheduler.getProfiler().getQueueDepths())
+        .filteredOn(depth -> depth.threadGroup().equals("zb-actors"))
+        .extracting(ThreadQueueDepth::depth)
+        .containsExactly(3);
+    assertThat(
+            meterRegistry
+                .get(ActorMetricsDoc.THREAD_QUEUE_DEPTH.getName())
+                .tag(ActorMetricsKeyName.THREAD_GROUP.asString(), "zb-actors")
+                .gauge()
+                .value())
+        .isEqualTo(3);
+
+    // when
+    release.countDown();
+
+    // then
+    Awaitility.await("queued actors have been started")
+        .untilAsserted(
+            () ->
+                assertThat(scheduler.getProfiler().getQueueDepths())
+                    .extracting(ThreadQueueDepth::depth)
+                    .containsOnly(0));
+  }
+
+  @Test
+  void shouldRemoveProfileOfClosedActor() {
+    // given
+    startScheduler(new ActorProfiler(meterRegistry));
+    final var actor = new NamedActor("closed");
+    scheduler.submitActor(actor).join();
+
+    // when
+    actor.closeAsync().join();
+
+    // then
+    assertThat(scheduler.getProfiler().getTopActorsByCpuTime(10)).isEmpty();
+    assertThat(
+            meterRegistry
+                .find(ActorMetricsDoc.JOBS_EXECUTED.getName())
+                .tag(ActorMetricsKeyName.ACTOR_NAME.asString(), "closed")
+                .meters())
+        .isEmpty();
+  }
+
+  @Test
+  void shouldNotProfileActorsByDefault() throws Exception {
+    // given
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    scheduler.start();
+    final var actor = new NamedActor("unprofiled");
+
+    // when
+    scheduler.submitActor(actor).join();
+
+    // then
+    assertThat(scheduler.getProfiler()).isNull();
+    assertThat(actor.actor.task.getProfile()).isNull();
+  }
+
+  @Test
+  void shouldProfileActorsOnVirtualThreads() {
+    // given
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setIoBoundActorThreadsVirtual(true)
+            .setActorProfiler(
+                new ActorProfiler(meterRegistry, 1, Duration.ofMinutes(1), System::nanoTime))
+            .build();
+    scheduler.start();
+    final var actor = new NamedActor("virtual");
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      actor.call(() -> spin(Duration.ofMillis(1))).join();
+    }
+
+    // then - the jobs are counted, but the CPU time of virtual threads is not sampled
+    Awaitility.await("all submitted jobs have been executed")
+        .untilAsserted(
+            () -> {
+              final var usage = getUsage("virtual");
+              assertThat(usage.executedJobs()).isGreaterThanOrEqualTo(10);
+              assertThat(usage.cpuTime()).isZero();
+            });
+  }
+
+  private ActorCpuUsage getUsage(final String actorName) {
+    return scheduler.getProfiler().getTopActorsByCpuTime(Integer.MAX_VALUE).stream()
+        .filter(usage -> usage.actorName().equals(actorName))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private void startScheduler(final ActorProfiler profiler) {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setActorProfiler(profiler)
+            .build();
+    scheduler.start();
+  }
+
+  private static Object spin(final Duration duration) {
+    final long deadline = System.nanoTime() + duration.toNanos();
+    long iterations = 0;
+    while (System.nanoTime() < deadline) {
+      iterations++;
+    }
+    return iterations;
+  }
+
+  private static void await(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static final class NamedActor extends Actor {
+    private final String name;
+
+    private NamedActor(final String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+  }
+}
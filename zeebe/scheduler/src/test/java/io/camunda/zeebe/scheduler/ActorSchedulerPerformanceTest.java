@@ -0,0 +1,157 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast actors exchange messages with each other, for different numbers of CPU bound
+ * threads, with and without the LIFO slot. Pairs of actors send messages back and forth: the
+ * throughput benchmark counts the messages all pairs exchange, while the latency benchmark reports
+ * the time of a single round trip between two actors.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@State(Scope.Benchmark)
+public class ActorSchedulerPerformanceTest {
+  private static final int PAIR_COUNT = 8;
+  private static final int ROUND_TRIPS = 1_000;
+
+  @Param({"1", "2", "4"})
+  private int threadCount;
+
+  @Param({"false", "true"})
+  private boolean lifoSlotEnabled;
+
+  private ActorScheduler scheduler;
+  private List<PingActor> pingActors;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(threadCount)
+            .setIoBoundActorThreadCount(1)
+            .setLifoSlotEnabled(lifoSlotEnabled)
+            .build();
+    scheduler.start();
+
+    pingActors =
+        IntStream.range(0, PAIR_COUNT)
+            .mapToObj(
+                i -> {
+                  final var pongActor = new PongActor();
+                  final var pingActor = new PingActor(pongActor);
+                  scheduler.submitActor(pongActor).join();
+                  scheduler.submitActor(pingActor).join();
+                  return pingActor;
+                })
+            .toList();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    scheduler.close();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(PAIR_COUNT * ROUND_TRIPS * 2)
+  public Void measureMessageThroughput() {
+    final var roundTrips = new CompletableFuture<?>[PAIR_COUNT];
+    for (int i = 0; i < PAIR_COUNT; i++) {
+      roundTrips[i] = pingActors.get(i).ping(ROUND_TRIPS);
+    }
+
+    return CompletableFuture.allOf(roundTrips).join();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Void measureMessageLatency() {
+    return pingActors.getFirst().ping(1).join();
+  }
+
+  @JMHTest("measureMessageThroughput")
+  void shouldNotExchangeMessagesSlowerWithLifoSlot(final JMHTestCase testCase) {
+    // given - the options are accumulated, so the second run needs a test case of its own
+    final var withoutLifoSlotResult =
+        testCase
+            .withOptions(options -> options.param("threadCount", "4"))
+            .withOptions(options -> options.param("lifoSlotEnabled", "false"))
+            .run();
+
+    // when
+    final var withLifoSlotResult =
+        JMHTestCase.of(
+                ActorSchedulerPerformanceTest.class,
+                "measureMessageThroughput",
+                options -> options.param("threadCount", "4").param("lifoSlotEnabled", "true"))
+            .run();
+
+    // then
+    withLifoSlotResult.isAtLeast(withoutLifoSlotResult, 0.2);
+  }
+
+  private static final class PingActor extends Actor {
+    private final PongActor pongActor;
+    private CompletableFuture<Void> roundTrips;
+
+    private PingActor(final PongActor pongActor) {
+      this.pongActor = pongActor;
+    }
+
+    CompletableFuture<Void> ping(final int count) {
+      final var result = new CompletableFuture<Void>();
+      actor.run(
+          () -> {
+            roundTrips = result;
+            onPong(count);
+          });
+      return result;
+    }
+
+    private void onPong(final int remainingRoundTrips) {
+      if (remainingRoundTrips == 0) {
+        roundTrips.complete(null);
+      } else {
+        pongActor.pong(this, remainingRoundTrips - 1);
+      }
+    }
+  }
+
+  private static final class PongActor extends Actor {
+    void pong(final PingActor pingActor, final int remainingRoundTrips) {
+      actor.run(() -> pingActor.actor.run(() -> pingActor.onPong(remainingRoundTrips)));
+    }
+  }
+}
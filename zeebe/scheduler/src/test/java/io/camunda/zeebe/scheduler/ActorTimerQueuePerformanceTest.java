@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.ActorTimerQueue.SingleLevelTimerWheel;
+import io.camunda.zeebe.scheduler.ActorTimerQueue.TimerWheel;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DeadlineTimerWheel.TimerHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the single level timer wheel of the {@link ActorTimerQueue} with the hierarchical one,
+ * while a million timers are pending. The tick benchmark advances the time by one millisecond and
+ * expires the timers which are due, re-scheduling as many timers as expired to keep the number of
+ * pending timers constant; the other benchmark schedules and cancels a single timer.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@State(Scope.Benchmark)
+public class ActorTimerQueuePerformanceTest {
+  private static final int PENDING_TIMERS = 1_000_000;
+  // the deadlines are spread over ten minutes, e.g. like job timeouts
+  private static final int MAX_DELAY_MS = 600_000;
+
+  @Param({"single", "hierarchical"})
+  private String timerWheel;
+
+  private final SplittableRandom random = new SplittableRandom(1);
+  private final TimerHandler handler = (timeUnit, now, timerId) -> true;
+  private TimerWheel wheel;
+  private long now;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    wheel =
+        switch (timerWheel) {
+          case "single" -> new SingleLevelTimerWheel(0, 32);
+          case "hierarchical" -> new HierarchicalTimerWheel(0);
+          default -> throw new IllegalArgumentException("Unknown timer wheel " + timerWheel);
+        };
+
+    for (int i = 0; i < PENDING_TIMERS; i++) {
+      wheel.scheduleTimer(1 + random.nextInt(MAX_DELAY_MS));
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public int measureTick() {
+    now++;
+
+    int expired = 0;
+    int timersExpired;
+    do {
+      timersExpired = wheel.poll(now, handler, Integer.MAX_VALUE);
+      expired += timersExpired;
+    } while (timersExpired > 0);
+
+    for (int i = 0; i < expired; i++) {
+      wheel.scheduleTimer(now + 1 + random.nextInt(MAX_DELAY_MS));
+    }
+
+    return expired;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public boolean measureScheduleAndCancel() {
+    final long timerId = wheel.scheduleTimer(now + 1 + random.nextInt(MAX_DELAY_MS));
+    return wheel.cancelTimer(timerId);
+  }
+
+  @JMHTest("measureTick")
+  void shouldExpireTimersFasterWithHierarchicalTimerWheel(final JMHTestCase testCase) {
+    // given
+    final var singleLevelResult =
+        testCase.withOptions(options -> options.param("timerWheel", "single")).run();
+
+    // when
+    final var hierarchicalResult =
+        JMHTestCase.of(
+                ActorTimerQueuePerformanceTest.class,
+                "measureTick",
+                options -> options.param("timerWheel", "hierarchical"))
+            .run();
+
+    // then
+    hierarchicalResult.isAtLeast(singleLevelResult, 0.2);
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import org.agrona.DeadlineTimerWheel.TimerHandler;
+import org.junit.jupiter.api.Test;
+
+final class HierarchicalTimerWheelTest {
+
+  private final List<Long> expiredTimers = new ArrayList<>();
+  private final TimerHandler handler =
+      (timeUnit, now, timerId) -> {
+        expiredTimers.add(timerId);
+        return true;
+      };
+
+  @Test
+  void shouldExpireTimersInOrderOfDeadline() {
+    // given
+    final var wheel = new HierarchicalTimerWheel(0);
+    final long late = wheel.scheduleTimer(100);
+    final long early = wheel.scheduleTimer(5);
+    final long middle = wheel.scheduleTimer(70);
+
+    // when
+    for (long now = 0; now <= 100; now++) {
+      wheel.poll(now, handler, Integer.MAX_VALUE);
+    }
+
+    // then
+    assertThat(expiredTimers).containsExactly(early, middle, late);
+    assertThat(wheel.timerCount()).isZero();
+  }
+
+  @Test
+  void shouldNotExpireTimerBeforeDeadline() {
+    // given
+    final var wheel = new HierarchicalTimerWheel(0);
+    final long timerId = wheel.scheduleTimer(10_000);
+
+    // when
+    wheel.poll(9_999, handler, Integer.MAX_VALUE);
+
+    // then
+    assertThat(expiredTimers).isEmpty();
+
+    // when
+    wheel.poll(10_000, handler, Integer.MAX_VALUE);
+
+    // then
+    assertThat(expiredTimers).containsExactly(timerId);
+  }
+
+  @Test
+  void shouldExpireFarFutureTimerAfterClockJump() {
+    // given
+    final long start = System.currentTimeMillis();
+    final var wheel = new HierarchicalTimerWheel(start);
+    final long deadline = start + Duration.ofDays(30).toMillis();
+    final long timerId = wheel.scheduleTimer(deadline);
+
+    // when
+    wheel.poll(deadline - 1, handler, Integer.MAX_VALUE);
+    wheel.poll(deadline + Duration.ofHours(1).toMillis(), handler, Integer.MAX_VALUE);
+
+    // then
+    assertThat(expiredTimers).containsExactly(timerId);
+  }
+
+  @Test
+  void shouldExpireOverdueTimerOnNextPoll() {
+    // given
+    final var wheel = new HierarchicalTimerWheel(0);
+    wheel.poll(1_000, handler, Integer.MAX_VALUE);
+
+    // when
+    final long timerId = wheel.scheduleTimer(500);
+    wheel.poll(1_000, handler, Integer.MAX_VALUE);
+
+    // then
+    assertThat(expiredTimers).containsExactly(timerId);
+  }
+
+  @Test
+  void shouldExpireTimerAtDeadlineAfterClockWentBackwards() {
+    // given
+    final var wheel = new HierarchicalTimerWheel(10_000);
+    final long later = wheel.scheduleTimer(10_500);
+    wheel.poll(10_000, handler, Integer.MAX_VALUE);
+
+    // when
+    final long timerId = wheel.scheduleTimer(110);
+    wheel.poll(100, handler, Integer.MAX_VALUE);
+
+    // then
+    assertThat(expiredTimers).isEmpty();
+
+    // when
+    wheel.poll(110, handler, Integer.MAX_VALUE);
+    wheel.poll(10_499, handler, Integer.MAX_VALUE);
+
+    // then
+    assertThat(expiredTimers).containsExactly(timerId);
+
+    // when
+    wheel.poll(10_500, handler, Integer.MAX_VALUE);
+
+    // then
+    assertThat(expiredTimers).containsExactly(timerId, later);
+  }
+
+  @Test
+  void shouldNotExpireCancelledTimer() {
+    // given
+    final var wheel = new HierarchicalTimerWheel(0);
+    final long cancelled = wheel.scheduleTimer(10);
+    final long other = wheel.scheduleTimer(10);
+
+    // when
+    final boolean wasCancelled = wheel.cancelTimer(cancelled);
+    wheel.poll(10, handler, Integer.MAX_VALUE);
+
+    // then
+    assertThat(wasCancelled).isTrue();
+    assertThat(wheel.cancelTimer(cancelled)).isFalse();
+    assertThat(expiredTimers).containsExactly(other);
+  }
+
+  @Test
+  void shouldExpireNoMoreTimersThanLimit() {
+    // given
+    final var wheel = new HierarchicalTimerWheel(0);
+    for (int i = 0; i < 5; i++) {
+      wheel.scheduleTimer(3);
+    }
+
+    // when
+    final int expired = wheel.poll(3, handler, 2);
+
+    // then
+    assertThat(expired).isEqualTo(2);
+    assertThat(wheel.timerCount()).isEqualTo(3);
+    assertThat(wheel.poll(3, handler, Integer.MAX_VALUE)).isEqualTo(3);
+  }
+
+  @Test
+  void shouldExpireRejectedTimerAgainOnNextPoll() {
+    // given
+    final var wheel = new HierarchicalTimerWheel(0);
+    final long timerId = wheel.scheduleTimer(1);
+
+    // when
+    final int expired = wheel.poll(1, (timeUnit, now, id) -> false, Integer.MAX_VALUE);
+
+    // then
+    assertThat(expired).isZero();
+    assertThat(wheel.poll(1, handler, Integer.MAX_VALUE)).isOne();
+    assertThat(expiredTimers).containsExactly(timerId);
+  }
+
+  @Test
+  void shouldExpireAllDueTimersWhileTimeAdvances() {
+    // given
+    final var random = new Random(42);
+    final var wheel = new HierarchicalTimerWheel(0);
+    final NavigableMap<Long, Set<Long>> pendingByDeadline = new TreeMap<>();
+    final Map<Long, Long> pendingDeadlines = new HashMap<>();
+
+    // when - timers over a wide range of deadlines are scheduled and cancelled, while the time
+    // advances both in small steps and in large jumps
+    long now = 0;
+    for (int step = 0; step < 10_000; step++) {
+      final long deadline = now + (1L << random.nextInt(32)) + random.nextInt(64);
+      final long timerId = wheel.scheduleTimer(deadline);
+      pendingByDeadline.computeIfAbsent(deadline, ignored -> new HashSet<>()).add(timerId);
+      pendingDeadlines.put(timerId, deadline);
+
+      if (random.nextInt(4) == 0) {
+        final long cancelled = random.nextLong(timerId + 1);
+        final Long cancelledDeadline = pendingDeadlines.remove(cancelled);
+        assertThat(wheel.cancelTimer(cancelled)).isEqualTo(cancelledDeadline != null);
+        if (cancelledDeadline != null) {
+          pendingByDeadline.get(cancelledDeadline).remove(cancelled);
+        }
+      }
+
+      now += random.nextInt(10) == 0 ? random.nextInt(1 << 20) : random.nextInt(3);
+      if (random.nextInt(100) == 0) {
+        now = Math.max(0, now - random.nextInt(1 << 16));
+      }
+      wheel.poll(now, handler, Integer.MAX_VALUE);
+
+      // then
+      final var dueTimers = pendingByDeadline.headMap(now, true);
+      final List<Long> expectedTimers = dueTimers.values().stream().flatMap(Set::stream).toList();
+      assertThat(expiredTimers).containsExactlyInAnyOrderElementsOf(expectedTimers);
+      expectedTimers.forEach(pendingDeadlines::remove);
+      dueTimers.clear();
+      expiredTimers.clear();
+      assertThat(wheel.timerCount()).isEqualTo(pendingDeadlines.size());
+    }
+  }
+}
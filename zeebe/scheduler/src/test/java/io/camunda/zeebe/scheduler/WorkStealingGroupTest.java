@@ -0,0 +1,193 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import java.time.Duration;
+import java.util.stream.IntStream;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class WorkStealingGroupTest {
+
+  private ActorScheduler scheduler;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void shouldSplitThreadsIntoNodes() {
+    // given
+    final var group = new WorkStealingGroup(5, 2);
+
+    // when
+    final var nodes = IntStream.range(0, 5).map(group::getNode).boxed().toList();
+
+    // then
+    assertThat(nodes).containsExactly(0, 0, 0, 1, 1);
+    assertThat(IntStream.range(0, 100).map(i -> group.getRandomThread(1)))
+        .allMatch(threadId -> threadId == 3 || threadId == 4);
+  }
+
+  @Test
+  void shouldRejectMoreNodesThanThreads() {
+    // when - then
+    assertThatThrownBy(() -> new WorkStealingGroup(2, 3))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldMakeTaskAffineToNodeOfSubmittingThread() {
+    // given
+    final var group = new WorkStealingGroup(4, 2);
+    final var task = new ActorTask(new Actor() {});
+
+    // when
+    final int node = group.getAffinityNode(task, 3);
+
+    // then - the task stays on its node, regardless of where it is submitted from afterwards
+    assertThat(node).isOne();
+    assertThat(group.getAffinityNode(task, 0)).isOne();
+    assertThat(group.getAffinityNode(task, -1)).isOne();
+  }
+
+  @Test
+  void shouldDistributeExternallySubmittedTasksOverNodes() {
+    // given
+    final var group = new WorkStealingGroup(4, 2);
+
+    // when
+    final var nodes =
+        IntStream.range(0, 4)
+            .map(i -> group.getAffinityNode(new ActorTask(new Actor() {}), -1))
+            .boxed()
+            .toList();
+
+    // then
+    assertThat(nodes).containsExactly(0, 1, 0, 1);
+  }
+
+  @Test
+  void shouldRunWokenUpActorOnThreadOfSender() {
+    // given
+    startScheduler(4, true);
+    final var receiver = new ThreadRecordingActor();
+    final var sender = new SendingActor(receiver);
+    scheduler.submitActor(receiver).join();
+    scheduler.submitActor(sender).join();
+
+    // when - then
+    for (int i = 0; i < 100; i++) {
+      // the receiver must be waiting, otherwise it picks up the message wherever it runs
+      Awaitility.await("receiver is waiting")
+          .until(() -> receiver.actor.task.getState() == TaskSchedulingState.WAITING);
+      assertThat(sender.sendAndCompareThreads().join()).isTrue();
+    }
+  }
+
+  @Test
+  void shouldNotStarveOtherActorsWithLifoSlot() {
+    // given - two actors which keep waking up each other on a single thread
+    startScheduler(1, true);
+    final var first = new PingPongActor();
+    final var second = new PingPongActor();
+    scheduler.submitActor(first).join();
+    scheduler.submitActor(second).join();
+    first.startPingPong(second);
+
+    // when
+    final var other = new Actor() {};
+    scheduler.submitActor(other);
+
+    // then
+    assertThat(other.call(() -> null)).succeedsWithin(Duration.ofSeconds(10));
+    first.stopPingPong();
+  }
+
+  @Test
+  void shouldRunActorsOnAllNodes() {
+    // given
+    startScheduler(4, false, 2);
+    final var actors = IntStream.range(0, 8).mapToObj(i -> new ThreadRecordingActor()).toList();
+    actors.forEach(actor -> scheduler.submitActor(actor).join());
+
+    // when - then
+    for (final var actor : actors) {
+      assertThat(actor.getThread()).succeedsWithin(Duration.ofSeconds(10));
+    }
+  }
+
+  private void startScheduler(final int threads, final boolean lifoSlotEnabled) {
+    startScheduler(threads, lifoSlotEnabled, 1);
+  }
+
+  private void startScheduler(final int threads, final boolean lifoSlotEnabled, final int nodes) {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(threads)
+            .setCpuBoundActorThreadNodeCount(nodes)
+            .setIoBoundActorThreadCount(1)
+            .setLifoSlotEnabled(lifoSlotEnabled)
+            .build();
+    scheduler.start();
+  }
+
+  private static final class ThreadRecordingActor extends Actor {
+    ActorFuture<Thread> getThread() {
+      return actor.call(Thread::currentThread);
+    }
+  }
+
+  private static final class SendingActor extends Actor {
+    private final ThreadRecordingActor receiver;
+
+    private SendingActor(final ThreadRecordingActor receiver) {
+      this.receiver = receiver;
+    }
+
+    ActorFuture<Boolean> sendAndCompareThreads() {
+      final ActorFuture<Boolean> result = new CompletableActorFuture<>();
+      actor.run(
+          () -> {
+            final var sendingThread = Thread.currentThread();
+            actor.runOnCompletion(
+                receiver.getThread(),
+                (receivingThread, error) -> result.complete(receivingThread == sendingThread));
+          });
+      return result;
+    }
+  }
+
+  private static final class PingPongActor extends Actor {
+    private volatile boolean running = true;
+
+    void startPingPong(final PingPongActor other) {
+      actor.run(() -> ping(other));
+    }
+
+    void stopPingPong() {
+      running = false;
+    }
+
+    private void ping(final PingPongActor other) {
+      if (running) {
+        other.actor.run(() -> other.ping(this));
+      }
+    }
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler.iobound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorThread;
+import io.camunda.zeebe.scheduler.SchedulingHints;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class VirtualIoBoundActorsIntegrationTest {
+  private static final int IO_THREAD_COUNT = 8;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private ActorScheduler scheduler;
+
+  @BeforeEach
+  void setup() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(IO_THREAD_COUNT)
+            .setIoBoundActorThreadsVirtual(true)
+            .setMeterRegistry(meterRegistry)
+            .build();
+    scheduler.start();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    scheduler.close();
+  }
+
+  @Test
+  void shouldRunIoBoundActorOnVirtualThread() {
+    // given
+    final var actor = new BlockingActor();
+
+    // when
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // then
+    assertThat(actor.isOnVirtualActorThread().join()).isTrue();
+  }
+
+  @Test
+  void shouldRunCpuBoundActorOnPlatformThread() {
+    // given
+    final var actor = new BlockingActor();
+
+    // when
+    scheduler.submitActor(actor, SchedulingHints.cpuBound()).join();
+
+    // then
+    assertThat(actor.isOnVirtualActorThread().join()).isFalse();
+  }
+
+  @Test
+  void shouldBlockConcurrentlyUpToThreadCount() throws InterruptedException {
+    // given
+    final var blocked = new CountDownLatch(IO_THREAD_COUNT);
+    final var release = new CountDownLatch(1);
+    final var actors =
+        IntStream.range(0, IO_THREAD_COUNT).mapToObj(i -> new BlockingActor()).toList();
+    actors.forEach(actor -> scheduler.submitActor(actor, SchedulingHints.ioBound()).join());
+
+    // when
+    final var results = actors.stream().map(actor -> actor.block(blocked, release)).toList();
+
+    // then - all actors block at once, even though there are fewer carrier threads
+    assertThat(blocked.await(10, TimeUnit.SECONDS)).isTrue();
+    release.countDown();
+    results.forEach(result -> assertThat(result).succeedsWithin(Duration.ofSeconds(10)));
+  }
+
+  @Test
+  void shouldRunTimersOnVirtualThread() {
+    // given
+    final var actor = new BlockingActor();
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // when
+    final var timerFired = actor.runDelayed(Duration.ofMillis(10));
+
+    // then
+    assertThat(timerFired).succeedsWithin(Duration.ofSeconds(10));
+  }
+
+  @Test
+  void shouldObserveQueueingLatency() {
+    // given
+    final var actor = new BlockingActor();
+
+    // when
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // then
+    assertThat(
+            meterRegistry
+                .get("zeebe.actor.task.queueing.latency")
+                .tag("threadGroup", "zb-fs-workers")
+                .timer()
+                .count())
+        .isPositive();
+  }
+
+  private static final class BlockingActor extends Actor {
+    ActorFuture<Boolean> isOnVirtualActorThread() {
+      return actor.call(() -> Thread.currentThread().isVirtual() && ActorThread.current() != null);
+    }
+
+    ActorFuture<Void> block(final CountDownLatch blocked, final CountDownLatch release) {
+      return actor.call(
+          () -> {
+            blocked.countDown();
+            release.await();
+            return null;
+          });
+    }
+
+    ActorFuture<Void> runDelayed(final Duration delay) {
+      final ActorFuture<Void> fired = new CompletableActorFuture<>();
+      actor.run(() -> actor.schedule(delay, () -> fired.complete(null)));
+      return fired;
+    }
+  }
+}
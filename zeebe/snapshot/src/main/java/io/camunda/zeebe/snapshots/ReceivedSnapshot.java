@@ -8,6 +8,8 @@
 package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. It can be
@@ -30,4 +32,23 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Returns the files of the previous snapshot which could be reused for this snapshot, mapped to
+   * their checksums. The sender can compare these with the checksums of its own files, and skip
+   * sending the files which are unchanged.
+   *
+   * @return the reusable files and their checksums; empty if there is nothing to reuse
+   */
+  Map<String, Long> reusableFiles();
+
+  /**
+   * Takes over the given files from the previous snapshot, instead of receiving them as chunks.
+   * Files which were already taken over are ignored. In case of failure, e.g. if one of the files
+   * is not {@link #reusableFiles() reusable}, the future will be completed with a
+   * SnapshotWriteException.
+   *
+   * @param fileNames the names of the files to reuse
+   */
+  ActorFuture<Void> reuse(Collection<String> fileNames);
 }
@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.Iterator;
 
 /**
@@ -27,6 +28,15 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    */
   void seek(ByteBuffer id);
 
+  /**
+   * Skips all chunks of the given files, e.g. because the receiver already holds them. Skipped
+   * files are not read again after a {@link #reset()}, but still count towards the total count of
+   * the chunks.
+   *
+   * @param fileNames the names of the files to skip
+   */
+  void skip(Collection<String> fileNames);
+
   /**
    * Returns the next chunk ID; if {@link #hasNext()} should return false, then this will return
    * null.
@@ -18,10 +18,18 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32C;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,6 +37,8 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(FileBasedReceivedSnapshot.class);
   private static final int BLOCK_SIZE = 512 * 1024;
+  // only SST files are reused, as they are immutable and make up most of a RocksDB snapshot
+  private static final String REUSABLE_FILE_EXTENSION = ".sst";
 
   private final Path directory;
   private final ConcurrencyControl actor;
@@ -39,21 +49,42 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private FileBasedSnapshotMetadata metadata;
   private ByteBuffer metadataBuffer;
   private long writtenMetadataBytes;
-  private SfvChecksumImpl checksumCollection;
+  private final SfvChecksumImpl checksumCollection = new SfvChecksumImpl();
+  // the checksum of the file which is currently received, as its chunks arrive in order
+  private final CRC32C fileChecksum = new CRC32C();
+
+  // the previous snapshot, reserved until this snapshot is persisted or aborted; may be null
+  private final FileBasedSnapshotReservation baseReservation;
+  private final Map<String, Long> reusableFiles;
+  private final Set<String> reusedFiles = new HashSet<>();
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
       final Path directory,
       final FileBasedSnapshotStoreImpl snapshotStore,
-      final ConcurrencyControl actor) {
+      final ConcurrencyControl actor,
+      final FileBasedSnapshotReservation baseReservation) {
     this.snapshotId = snapshotId;
     this.snapshotStore = snapshotStore;
     this.directory = directory;
     this.actor = actor;
+    this.baseReservation = baseReservation;
+    reusableFiles = collectReusableFiles(baseReservation);
     expectedTotalCount = Integer.MIN_VALUE;
     writtenMetadataBytes = 0;
   }
 
+  private static Map<String, Long> collectReusableFiles(
+      final FileBasedSnapshotReservation baseReservation) {
+    if (baseReservation == null) {
+      return Map.of();
+    }
+
+    return baseReservation.getSnapshot().getChecksums().getChecksums().entrySet().stream()
+        .filter(file -> file.getKey().endsWith(REUSABLE_FILE_EXTENSION))
+        .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+  }
+
   @Override
   public long index() {
     return snapshotId.getIndex();
@@ -68,6 +99,59 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         });
   }
 
+  @Override
+  public Map<String, Long> reusableFiles() {
+    return reusableFiles;
+  }
+
+  @Override
+  public ActorFuture<Void> reuse(final Collection<String> fileNames) {
+    return actor.call(
+        () -> {
+          reuseInternal(fileNames);
+          return null;
+        });
+  }
+
+  private void reuseInternal(final Collection<String> fileNames) throws SnapshotWriteException {
+    for (final var fileName : fileNames) {
+      if (reusedFiles.contains(fileName)) {
+        continue;
+      }
+
+      final var checksum = reusableFiles.get(fileName);
+      if (checksum == null) {
+        throw new SnapshotWriteException(
+            String.format(
+                "Expected to reuse file %s for snapshot %s, but it is not part of the previous snapshot",
+                fileName, snapshotId));
+      }
+
+      final var source = baseReservation.getSnapshot().getPath().resolve(fileName);
+      final var target = directory.resolve(fileName);
+      try {
+        FileUtil.ensureDirectoryExists(directory);
+        linkOrCopy(source, target);
+      } catch (final IOException e) {
+        throw new SnapshotWriteException(
+            String.format("Failed to reuse file %s for snapshot %s", fileName, snapshotId), e);
+      }
+
+      checksumCollection.updateFromChecksum(target, checksum);
+      reusedFiles.add(fileName);
+      LOGGER.trace("Reused file {} of snapshot {} from {}", fileName, snapshotId, source);
+    }
+  }
+
+  private void linkOrCopy(final Path source, final Path target) throws IOException {
+    try {
+      Files.createLink(target, source);
+    } catch (final UnsupportedOperationException | IOException e) {
+      LOGGER.debug("Failed to hard link {} to {}, copying it instead", source, target, e);
+      Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
   private void applyInternal(final SnapshotChunk snapshotChunk) throws SnapshotWriteException {
     checkSnapshotIdIsValid(snapshotChunk.getSnapshotId());
 
@@ -100,11 +184,12 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
     writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
 
-    if (checksumCollection == null) {
-      checksumCollection = new SfvChecksumImpl();
+    // files may be split into multiple chunks, so the checksum is built up over all of them
+    if (snapshotChunk.getFileBlockPosition() == 0) {
+      fileChecksum.reset();
     }
-    checksumCollection.updateFromBytes(
-        snapshotFile.getFileName().toString(), snapshotChunk.getContent());
+    fileChecksum.update(snapshotChunk.getContent());
+    checksumCollection.updateFromChecksum(snapshotFile, fileChecksum.getValue());
 
     if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
       try {
@@ -234,10 +319,17 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     } catch (final IOException e) {
       LOGGER.warn("Failed to delete pending snapshot {}", this, e);
     } finally {
+      releaseBaseSnapshot();
       snapshotStore.removePendingSnapshot(this);
     }
   }
 
+  private void releaseBaseSnapshot() {
+    if (baseReservation != null) {
+      baseReservation.getSnapshot().removeReservationNow(baseReservation);
+    }
+  }
+
   private void persistInternal(final CompletableActorFuture<PersistedSnapshot> future) {
     if (snapshotStore.hasSnapshotId(snapshotId.getSnapshotIdAsString())) {
       abortInternal();
@@ -272,6 +364,9 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
                 snapshotId.getExportedPosition(),
                 Long.MAX_VALUE);
       }
+      // reused files are hard links, so the previous snapshot can be deleted once this one is
+      // persisted
+      releaseBaseSnapshot();
       final PersistedSnapshot value =
           snapshotStore.persistNewSnapshot(snapshotId, checksumCollection, metadata);
       future.complete(value);
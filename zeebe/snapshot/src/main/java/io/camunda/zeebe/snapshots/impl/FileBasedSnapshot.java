@@ -129,9 +129,8 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
         new CompletableActorFuture<>();
     actor.run(
         () -> {
-          if (!deleted) {
-            final FileBasedSnapshotReservation reservation = new FileBasedSnapshotReservation(this);
-            reservations.add(reservation);
+          final FileBasedSnapshotReservation reservation = tryReserve();
+          if (reservation != null) {
             snapshotLocked.complete(reservation);
           } else {
             snapshotLocked.completeExceptionally(
@@ -211,10 +210,34 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
         + '}';
   }
 
+  /**
+   * Reserves the snapshot right away; must be called from within the store's actor.
+   *
+   * @return the reservation, or null if the snapshot was already deleted
+   */
+  FileBasedSnapshotReservation tryReserve() {
+    if (deleted) {
+      return null;
+    }
+
+    final FileBasedSnapshotReservation reservation = new FileBasedSnapshotReservation(this);
+    reservations.add(reservation);
+    return reservation;
+  }
+
+  /**
+   * Removes the reservation right away; must be called from within the store's actor.
+   *
+   * @param reservation the reservation to remove
+   */
+  void removeReservationNow(final FileBasedSnapshotReservation reservation) {
+    reservations.remove(reservation);
+  }
+
   ActorFuture<Void> removeReservation(final FileBasedSnapshotReservation reservation) {
     return actor.call(
         () -> {
-          reservations.remove(reservation);
+          removeReservationNow(reservation);
           return null;
         });
   }
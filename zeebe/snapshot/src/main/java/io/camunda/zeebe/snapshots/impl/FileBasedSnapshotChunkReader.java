@@ -15,6 +15,7 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.NavigableSet;
 import java.util.TreeSet;
 
@@ -75,6 +76,14 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     chunksView = new TreeSet<>(chunks.tailSet(chunkId.fileName(), true));
   }
 
+  @Override
+  public void skip(final Collection<String> fileNames) {
+    for (final var fileName : fileNames) {
+      chunks.remove(fileName);
+      chunksView.remove(fileName);
+    }
+  }
+
   @Override
   public ByteBuffer nextId() {
     if (chunksView.isEmpty()) {
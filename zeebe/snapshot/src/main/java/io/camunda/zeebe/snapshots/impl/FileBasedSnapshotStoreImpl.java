@@ -76,6 +76,7 @@ public final class FileBasedSnapshotStoreImpl {
   private final Set<PersistableSnapshot> pendingSnapshots = new HashSet<>();
   private final Set<FileBasedSnapshot> availableSnapshots = new HashSet<>();
   private final CRC32CChecksumProvider checksumProvider;
+  private final SnapshotChecksumCache checksumCache = new SnapshotChecksumCache();
   private final ConcurrencyControl actor;
 
   public FileBasedSnapshotStoreImpl(
@@ -108,6 +109,7 @@ public final class FileBasedSnapshotStoreImpl {
     currentPersistedSnapshotRef.set(latestSnapshot);
     if (latestSnapshot != null) {
       availableSnapshots.add(latestSnapshot);
+      checksumCache.reset(latestSnapshot.getPath(), latestSnapshot.getChecksums());
     }
     purgePendingSnapshotsDirectory();
   }
@@ -347,8 +349,12 @@ public final class FileBasedSnapshotStoreImpl {
       final FileBasedSnapshotId parsedSnapshotId,
       final Path directory,
       final CompletableActorFuture<FileBasedReceivedSnapshot> newSnapshotFuture) {
+    // reserve the latest snapshot, such that the received snapshot can reuse its files until it is
+    // persisted or aborted
+    final var baseSnapshot = currentPersistedSnapshotRef.get();
+    final var baseReservation = baseSnapshot != null ? baseSnapshot.tryReserve() : null;
     final var newPendingSnapshot =
-        new FileBasedReceivedSnapshot(parsedSnapshotId, directory, this, actor);
+        new FileBasedReceivedSnapshot(parsedSnapshotId, directory, this, actor, baseReservation);
     addPendingSnapshot(newPendingSnapshot);
     newSnapshotFuture.complete(newPendingSnapshot);
   }
@@ -533,6 +539,7 @@ public final class FileBasedSnapshotStoreImpl {
       }
 
       availableSnapshots.add(newPersistedSnapshot);
+      checksumCache.reset(destination, immutableChecksumsSFV);
 
       LOGGER.info("Committed new snapshot {}", newPersistedSnapshot.getId());
 
@@ -597,6 +604,10 @@ public final class FileBasedSnapshotStoreImpl {
     return name.endsWith(CHECKSUM_SUFFIX);
   }
 
+  SnapshotChecksumCache getChecksumCache() {
+    return checksumCache;
+  }
+
   SnapshotMetrics getSnapshotMetrics() {
     return snapshotMetrics;
   }
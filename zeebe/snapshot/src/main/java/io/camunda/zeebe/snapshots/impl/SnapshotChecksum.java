@@ -38,22 +38,39 @@ final class SnapshotChecksum {
   }
 
   public static MutableChecksumsSFV calculate(final Path snapshotDirectory) throws IOException {
-    return createChecksumForSnapshot(snapshotDirectory, snapshotPath -> Map.of());
+    return createChecksumForSnapshot(
+        snapshotDirectory, snapshotPath -> Map.of(), new SnapshotChecksumCache());
   }
 
   public static MutableChecksumsSFV calculateWithProvidedChecksums(
       final Path snapshotDirectory, final CRC32CChecksumProvider provider) throws IOException {
-    return createChecksumForSnapshot(snapshotDirectory, provider);
+    return createChecksumForSnapshot(snapshotDirectory, provider, new SnapshotChecksumCache());
+  }
+
+  /**
+   * Calculates the checksums of the given snapshot, but reuses the cached checksums of files which
+   * are shared with the latest persisted snapshot instead of reading them again.
+   */
+  public static MutableChecksumsSFV calculateWithProvidedChecksums(
+      final Path snapshotDirectory,
+      final CRC32CChecksumProvider provider,
+      final SnapshotChecksumCache cache)
+      throws IOException {
+    return createChecksumForSnapshot(snapshotDirectory, provider, cache);
   }
 
   private static MutableChecksumsSFV createChecksumForSnapshot(
-      final Path snapshotDirectory, final CRC32CChecksumProvider provider) throws IOException {
+      final Path snapshotDirectory,
+      final CRC32CChecksumProvider provider,
+      final SnapshotChecksumCache cache)
+      throws IOException {
 
     try (final var fileStream =
         Files.list(snapshotDirectory).filter(SnapshotChecksum::isNotMetadataFile).sorted()) {
       final SfvChecksumImpl sfvChecksum = new SfvChecksumImpl();
       final Map<String, Long> fullFileChecksums = provider.getSnapshotChecksums(snapshotDirectory);
-      fileStream.forEachOrdered(path -> updateChecksum(sfvChecksum, fullFileChecksums, path));
+      fileStream.forEachOrdered(
+          path -> updateChecksum(sfvChecksum, fullFileChecksums, cache, path));
 
       // While persisting transient snapshot, the checksum of metadata file is added at the end.
       // Hence when we recalculate the checksum, we must follow the same order. Otherwise base on
@@ -90,16 +107,24 @@ final class SnapshotChecksum {
   private static void updateChecksum(
       final MutableChecksumsSFV checksum,
       final Map<String, Long> fullFileChecksums,
+      final SnapshotChecksumCache cache,
       final Path file) {
     final String fileName = file.getFileName().toString();
     if (fullFileChecksums.containsKey(fileName)) {
       checksum.updateFromChecksum(file, fullFileChecksums.get(fileName));
-    } else {
-      try {
-        checksum.updateFromFile(file);
-      } catch (final IOException e) {
-        throw new UncheckedIOException(e);
-      }
+      return;
+    }
+
+    final Long cachedChecksum = cache.get(file);
+    if (cachedChecksum != null) {
+      checksum.updateFromChecksum(file, cachedChecksum);
+      return;
+    }
+
+    try {
+      checksum.updateFromFile(file);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
     }
   }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.snapshots.impl;
+
+import io.camunda.zeebe.snapshots.ImmutableChecksumsSFV;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the CRC32C checksums of the files of the latest persisted snapshot, keyed by their inode
+ * and size. RocksDB checkpoints hard link the immutable SST files of the runtime database, so most
+ * files of a new snapshot are the very same files as in the previous snapshot, and only the files
+ * which were created since then have to be read to calculate their checksums.
+ *
+ * <p>The cache only ever contains the files of the latest persisted snapshot. These are not deleted
+ * before the next snapshot is persisted, which means their inodes cannot be reused by other files
+ * while the cache refers to them.
+ *
+ * <p>Not thread safe; it is confined to the actor of the snapshot store.
+ */
+final class SnapshotChecksumCache {
+  private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotChecksumCache.class);
+
+  private final Map<FileIdentity, Long> checksums = new HashMap<>();
+
+  /**
+   * Returns the cached checksum of the given file.
+   *
+   * @param file the file to look up
+   * @return the checksum of the file, or null if it is unknown
+   */
+  Long get(final Path file) {
+    if (checksums.isEmpty()) {
+      return null;
+    }
+
+    final var identity = identify(file);
+    return identity == null ? null : checksums.get(identity);
+  }
+
+  /**
+   * Replaces the cached checksums with the ones of the given persisted snapshot.
+   *
+   * @param snapshotDirectory the directory of the snapshot
+   * @param snapshotChecksums the checksums of the files of the snapshot
+   */
+  void reset(final Path snapshotDirectory, final ImmutableChecksumsSFV snapshotChecksums) {
+    checksums.clear();
+    snapshotChecksums
+        .getChecksums()
+        .forEach(
+            (fileName, checksum) -> {
+              final var identity = identify(snapshotDirectory.resolve(fileName));
+              if (identity != null) {
+                checksums.put(identity, checksum);
+              }
+            });
+  }
+
+  private FileIdentity identify(final Path file) {
+    try {
+      final var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      // the file key is the device and inode on unix, but may not be available on every platform
+      if (attributes.fileKey() == null || !attributes.isRegularFile()) {
+        return null;
+      }
+
+      return new FileIdentity(attributes.fileKey(), attributes.size());
+    } catch (final IOException e) {
+      LOGGER.trace("Failed to read attributes of {}, will not use cached checksum", file, e);
+      return null;
+    }
+  }
+
+  private record FileIdentity(Object fileKey, long size) {}
+}
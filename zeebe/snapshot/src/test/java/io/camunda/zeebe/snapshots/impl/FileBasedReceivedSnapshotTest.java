@@ -27,7 +27,9 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
@@ -349,6 +351,138 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldComputeChecksumsOfChunkedFiles() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(2);
+
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(receivedPersistedSnapshot.getChecksums().getChecksums())
+        .isEqualTo(persistedSnapshot.getChecksums().getChecksums());
+  }
+
+  @Test
+  public void shouldNotHaveReusableFilesWithoutPreviousSnapshot() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L, Map.of("1.sst", "sst"));
+
+    // when
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // then
+    assertThat(receivedSnapshot.reusableFiles()).isEmpty();
+  }
+
+  @Test
+  public void shouldOnlyHaveSstFilesOfPreviousSnapshotAsReusable() {
+    // given
+    final var previousSnapshot =
+        receiveSnapshot(takePersistedSnapshot(1L, Map.of("1.sst", "sst", "OPTIONS", "options")))
+            .persist()
+            .join();
+    final var persistedSnapshot = takePersistedSnapshot(2L, Map.of("1.sst", "sst"));
+
+    // when
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // then
+    assertThat(receivedSnapshot.reusableFiles())
+        .containsExactly(
+            Map.entry("1.sst", previousSnapshot.getChecksums().getChecksums().get("1.sst")));
+  }
+
+  @Test
+  public void shouldReceiveSnapshotWhenReusingFilesOfPreviousSnapshot() throws IOException {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L, Map.of("1.sst", "unchanged", "2.sst", "old")))
+        .persist()
+        .join();
+    final var persistedSnapshot =
+        takePersistedSnapshot(2L, Map.of("1.sst", "unchanged", "2.sst", "new", "3.sst", "added"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.skip(Set.of("1.sst"));
+      receivedSnapshot.reuse(List.of("1.sst")).join();
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(receivedPersistedSnapshot.getChecksums().getChecksums())
+        .isEqualTo(persistedSnapshot.getChecksums().getChecksums());
+    assertThat(receivedPersistedSnapshot.getPath().resolve("1.sst")).hasContent("unchanged");
+    assertThat(receivedPersistedSnapshot.getPath().resolve("2.sst")).hasContent("new");
+    assertThat(receiverSnapshotsDir)
+        .asInstanceOf(DirectoryAssert.factory())
+        .as("the previous snapshot is deleted even though its files were reused")
+        .isDirectoryContainingExactly(
+            receivedPersistedSnapshot.getPath(),
+            ((FileBasedSnapshot) receivedPersistedSnapshot).getChecksumPath());
+  }
+
+  @Test
+  public void shouldIgnoreFilesWhichWereAlreadyReused() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L, Map.of("1.sst", "unchanged"))).persist().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L, Map.of("1.sst", "unchanged"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    receivedSnapshot.reuse(List.of("1.sst")).join();
+
+    // when - then
+    assertThatCode(() -> receivedSnapshot.reuse(List.of("1.sst")).join())
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  public void shouldNotReuseFileWhichIsNotReusable() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L, Map.of("1.sst", "sst"))).persist().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L, Map.of("2.sst", "sst"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when - then
+    assertThatThrownBy(() -> receivedSnapshot.reuse(List.of("2.sst")).join())
+        .hasCauseInstanceOf(SnapshotWriteException.class);
+  }
+
+  @Test
+  public void shouldReleasePreviousSnapshotOnAbort() {
+    // given
+    final var previousSnapshot =
+        receiveSnapshot(takePersistedSnapshot(1L, Map.of("1.sst", "sst"))).persist().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L, Map.of("1.sst", "sst"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    assertThat(previousSnapshot.isReserved()).isTrue();
+
+    // when
+    receivedSnapshot.abort().join();
+
+    // then
+    assertThat(previousSnapshot.isReserved()).isFalse();
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
@@ -363,16 +497,21 @@ public class FileBasedReceivedSnapshotTest {
   }
 
   private PersistedSnapshot takePersistedSnapshot(final long index) {
+    return takePersistedSnapshot(index, SNAPSHOT_FILE_CONTENTS);
+  }
+
+  private PersistedSnapshot takePersistedSnapshot(
+      final long index, final Map<String, String> fileContents) {
     final var transientSnapshot = senderSnapshotStore.newTransientSnapshot(index, 0L, 1, 0).get();
-    transientSnapshot.take(this::writeSnapshot).join();
+    transientSnapshot.take(path -> writeSnapshot(path, fileContents)).join();
     return transientSnapshot.withLastFollowupEventPosition(100L).persist().join();
   }
 
-  private boolean writeSnapshot(final Path path) {
+  private boolean writeSnapshot(final Path path, final Map<String, String> fileContents) {
     try {
       FileUtil.ensureDirectoryExists(path);
 
-      for (final var entry : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      for (final var entry : fileContents.entrySet()) {
         final var fileName = path.resolve(entry.getKey());
         final var fileContent = entry.getValue().getBytes(StandardCharsets.UTF_8);
         Files.write(fileName, fileContent, CREATE_NEW, StandardOpenOption.WRITE);
@@ -164,6 +164,51 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(snapshotChunkIds).containsExactly("file1", "file2", "file3");
   }
 
+  @Test
+  public void shouldSkipFiles() throws IOException {
+    // given
+    final var snapshotChunks = new ArrayList<SnapshotChunk>();
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunks.add(snapshotChunkReader.next());
+
+      // when
+      snapshotChunkReader.skip(List.of("file2"));
+      snapshotChunks.addAll(getAllChunks(snapshotChunkReader));
+    }
+
+    // then
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file1", "file3");
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getTotalCount)
+        .containsOnly(SNAPSHOT_CHUNK.size());
+  }
+
+  @Test
+  public void shouldSeekPastSkippedFiles() throws IOException {
+    // given
+    final var snapshotChunkIds = new ArrayList<ByteBuffer>();
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunkReader.skip(List.of("file2"));
+
+      // when
+      snapshotChunkReader.seek(asByteBuffer("file2__0"));
+      snapshotChunkIds.add(snapshotChunkReader.nextId());
+
+      // then - skipped files are not read again after a reset
+      snapshotChunkReader.reset();
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunkIds.add(snapshotChunkReader.nextId());
+        snapshotChunkReader.next();
+      }
+    }
+
+    assertThat(snapshotChunkIds)
+        .containsExactly(
+            asByteBuffer("file3__0"), asByteBuffer("file1__0"), asByteBuffer("file3__0"));
+  }
+
   @Test
   public void shouldThrowExceptionOnReachingLimit() throws IOException {
     // given
@@ -185,6 +185,37 @@ public class FileBasedTransientSnapshotTest {
             persistedSnapshot.getPath(), persistedSnapshot.getChecksumPath());
   }
 
+  @Test
+  public void shouldCalculateChecksumOfFilesSharedWithPreviousSnapshot() throws IOException {
+    // given
+    final var oldSnapshot = snapshotStore.newTransientSnapshot(1L, 0L, 1L, 0L).get();
+    oldSnapshot.take(this::writeSnapshot);
+    final var oldPath = oldSnapshot.persist().join().getPath();
+
+    // when - like a RocksDB checkpoint, the new snapshot links the files which did not change
+    final var newSnapshot = snapshotStore.newTransientSnapshot(2L, 0L, 1L, 0L).get();
+    newSnapshot.take(
+        path -> {
+          try {
+            FileUtil.ensureDirectoryExists(path);
+            Files.createLink(path.resolve("file1"), oldPath.resolve("file1"));
+            Files.writeString(path.resolve("file3"), "file3 contents", CREATE_NEW);
+          } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+    final var persistedSnapshot = (FileBasedSnapshot) newSnapshot.persist().join();
+
+    // then
+    assertThat(persistedSnapshot.getChecksums().getChecksums())
+        .containsOnlyKeys("file1", "file3", FileBasedSnapshotStoreImpl.METADATA_FILE_NAME);
+    assertThat(
+            persistedSnapshot
+                .getChecksums()
+                .sameChecksums(SnapshotChecksum.calculate(persistedSnapshot.getPath())))
+        .isTrue();
+  }
+
   @Test
   public void shouldRemoveTransientSnapshotOnPersist() {
     // given
@@ -21,6 +21,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.Duration;
+import java.util.Map;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
 import org.agrona.IoUtil;
@@ -211,6 +212,47 @@ public final class SnapshotChecksumTest {
     assertThat(checksumCalculatedInSteps.sameChecksums(checksumCalculatedAtOnce)).isTrue();
   }
 
+  @Test
+  void shouldNotReadFilesWhichAreSharedWithCachedSnapshot() throws IOException {
+    // given
+    final var cache = new SnapshotChecksumCache();
+    cache.reset(multipleFileSnapshot, SnapshotChecksum.calculate(multipleFileSnapshot));
+    final var newSnapshot = createTempDir("new");
+    Files.createLink(newSnapshot.resolve("file1.txt"), multipleFileSnapshot.resolve("file1.txt"));
+    createChunk(newSnapshot, "file4.txt");
+
+    // when - the shared file is modified in place, which would never happen with real snapshots
+    Files.writeString(multipleFileSnapshot.resolve("file1.txt"), "FILE1.TXT");
+    final var actual =
+        SnapshotChecksum.calculateWithProvidedChecksums(newSnapshot, path -> Map.of(), cache);
+
+    // then - the checksum of the shared file is taken from the cache, not read from the file
+    final var expected = SnapshotChecksum.calculate(singleFileSnapshot).getChecksums();
+    assertThat(actual.getChecksums())
+        .containsEntry("file1.txt", expected.get("file1.txt"))
+        .containsKey("file4.txt");
+  }
+
+  @Test
+  void shouldReadFilesWhichAreNotSharedWithCachedSnapshot() throws IOException {
+    // given
+    final var cache = new SnapshotChecksumCache();
+    cache.reset(multipleFileSnapshot, SnapshotChecksum.calculate(multipleFileSnapshot));
+    final var newSnapshot = createTempDir("new");
+    Files.copy(multipleFileSnapshot.resolve("file1.txt"), newSnapshot.resolve("file1.txt"));
+    Files.writeString(newSnapshot.resolve("file1.txt"), "FILE1.TXT");
+
+    // when
+    final var actual =
+        SnapshotChecksum.calculateWithProvidedChecksums(newSnapshot, path -> Map.of(), cache);
+
+    // then
+    assertThat(actual.sameChecksums(SnapshotChecksum.calculate(newSnapshot))).isTrue();
+    assertThat(actual.getChecksums().get("file1.txt"))
+        .isNotEqualTo(
+            SnapshotChecksum.calculate(singleFileSnapshot).getChecksums().get("file1.txt"));
+  }
+
   private Path createTempDir(final String name) throws IOException {
     final var path = temporaryFolder.resolve(name);
     FileUtil.ensureDirectoryExists(path);
@@ -38,6 +38,25 @@ public interface RecordProcessor {
    */
   boolean accepts(ValueType valueType);
 
+  /**
+   * Returns true if the values of records with the given valueType may be decoded lazily, i.e. a
+   * property is only decoded when it is accessed. Properties which are neither accessed nor changed
+   * are written as they were read, such that a follow-up record which copies the value of the
+   * command with only a few changes is mostly a copy of the command's bytes.
+   *
+   * <p>A lazily decoded value refers to the record's bytes in the log, and must not be used after
+   * {@link RecordProcessor#process(TypedRecord, ProcessingResultBuilder)} or {@link
+   * RecordProcessor#replay(TypedRecord)} returned. Invalid properties only fail when they are
+   * accessed. As the values are shared by all processors, they are decoded lazily for all of them
+   * as soon as one processor returns true.
+   *
+   * @param valueType valueType of a record
+   * @return true if the values of the records can be decoded lazily, false by default
+   */
+  default boolean decodesLazily(final ValueType valueType) {
+    return false;
+  }
+
   /**
    * Called by platform in order to replay a single record
    *
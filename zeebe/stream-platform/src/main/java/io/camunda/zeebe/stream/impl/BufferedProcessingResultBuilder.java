@@ -28,6 +28,7 @@ import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.StringUtil;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Implementation of {@code ProcessingResultBuilder} that buffers the processing results. After
@@ -48,7 +49,14 @@ final class BufferedProcessingResultBuilder implements ProcessingResultBuilder {
 
   BufferedProcessingResultBuilder(
       final RecordBatchSizePredicate predicate, final long operationReference) {
-    mutableRecordBatch = new RecordBatch(predicate);
+    this(predicate, operationReference, valueType -> false);
+  }
+
+  BufferedProcessingResultBuilder(
+      final RecordBatchSizePredicate predicate,
+      final long operationReference,
+      final Predicate<ValueType> decodesLazily) {
+    mutableRecordBatch = new RecordBatch(predicate, decodesLazily);
     this.operationReference = operationReference;
   }
 
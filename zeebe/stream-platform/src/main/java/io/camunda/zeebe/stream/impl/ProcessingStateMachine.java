@@ -342,7 +342,9 @@ public final class ProcessingStateMachine {
     // be appended to the followup events
     final var processingResultBuilder =
         new BufferedProcessingResultBuilder(
-            logStreamWriter::canWriteEvents, initialCommand.getOperationReference());
+            logStreamWriter::canWriteEvents,
+            initialCommand.getOperationReference(),
+            recordValues::decodesLazily);
     var lastProcessingResultSize = 0;
 
     // It might be that we reached the batch size limit during processing a command.
@@ -10,6 +10,7 @@ package io.camunda.zeebe.stream.impl;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.logstreams.impl.Loggers;
+import io.camunda.zeebe.logstreams.impl.log.BulkLogStreamBatchReaderImpl;
 import io.camunda.zeebe.logstreams.impl.log.LogStreamBatchReaderImpl;
 import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
@@ -105,7 +106,12 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     replayStrategy = new RecoverableRetryStrategy(actor);
     streamProcessorMode = context.getProcessorMode();
     logStream = context.getLogStream();
-    logStreamBatchReader = new LogStreamBatchReaderImpl(context.getLogStreamReader());
+    final var logStreamReader = context.getLogStreamReader();
+    // reading in bulk only pays off if the reader reads whole windows of events ahead
+    logStreamBatchReader =
+        logStreamReader.isReadingAhead()
+            ? new BulkLogStreamBatchReaderImpl(logStreamReader)
+            : new LogStreamBatchReaderImpl(logStreamReader);
     replayMetrics = new ReplayMetrics(context.getMeterRegistry());
   }
 
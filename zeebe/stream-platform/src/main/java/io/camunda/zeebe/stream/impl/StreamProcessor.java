@@ -13,6 +13,7 @@ import io.camunda.zeebe.logstreams.impl.Loggers;
 import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
@@ -35,6 +36,7 @@ import io.camunda.zeebe.util.health.HealthReport;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -124,7 +126,7 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
     streamProcessorContext =
         processorBuilder
             .getProcessingContext()
-            .eventCache(new RecordValues())
+            .eventCache(new RecordValues(lazilyDecodedValueTypes(processorBuilder)))
             .actor(actor)
             .abortCondition(this::isClosed);
     logStream = streamProcessorContext.getLogStream();
@@ -135,6 +137,18 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
     recordProcessors.addAll(processorBuilder.getRecordProcessors());
   }
 
+  private static Set<ValueType> lazilyDecodedValueTypes(
+      final StreamProcessorBuilder processorBuilder) {
+    final var valueTypes = EnumSet.noneOf(ValueType.class);
+    for (final var valueType : ValueType.values()) {
+      if (processorBuilder.getRecordProcessors().stream()
+          .anyMatch(processor -> processor.decodesLazily(valueType))) {
+        valueTypes.add(valueType);
+      }
+    }
+    return valueTypes;
+  }
+
   public static StreamProcessorBuilder builder() {
     return new StreamProcessorBuilder();
   }
@@ -153,7 +167,7 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
 
   @Override
   protected void onActorStarting() {
-    final var reader = logStream.newLogStreamReader();
+    final var reader = logStream.newReadAheadLogStreamReader();
     logStreamReader = reader;
     streamProcessorContext.logStreamReader(reader);
   }
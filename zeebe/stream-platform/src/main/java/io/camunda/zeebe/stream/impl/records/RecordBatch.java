@@ -9,6 +9,7 @@ package io.camunda.zeebe.stream.impl.records;
 
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.stream.api.records.ExceededBatchRecordSizeException;
 import io.camunda.zeebe.stream.api.records.ImmutableRecordBatch;
 import io.camunda.zeebe.stream.api.records.MutableRecordBatch;
@@ -21,15 +22,29 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Spliterator;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 public final class RecordBatch implements MutableRecordBatch {
 
   final List<RecordBatchEntry> recordBatchEntries = new ArrayList<>();
   private int batchSize;
   private final RecordBatchSizePredicate recordBatchSizePredicate;
+  private final Predicate<ValueType> decodesLazily;
 
   public RecordBatch(final RecordBatchSizePredicate recordBatchSizePredicate) {
+    this(recordBatchSizePredicate, valueType -> false);
+  }
+
+  /**
+   * @param decodesLazily whether the values of the appended records of a value type are decoded
+   *     lazily, see {@link RecordBatchEntry#createEntry(long, RecordMetadata, int, BufferWriter,
+   *     boolean)}
+   */
+  public RecordBatch(
+      final RecordBatchSizePredicate recordBatchSizePredicate,
+      final Predicate<ValueType> decodesLazily) {
     this.recordBatchSizePredicate = recordBatchSizePredicate;
+    this.decodesLazily = decodesLazily;
   }
 
   public static ImmutableRecordBatch empty() {
@@ -43,7 +58,8 @@ public final class RecordBatch implements MutableRecordBatch {
       final int sourceIndex,
       final BufferWriter valueWriter) {
     final var recordBatchEntry =
-        RecordBatchEntry.createEntry(key, metadata, sourceIndex, valueWriter);
+        RecordBatchEntry.createEntry(
+            key, metadata, sourceIndex, valueWriter, decodesLazily.test(metadata.getValueType()));
     final var entryLength = recordBatchEntry.getLength();
 
     if (!recordBatchSizePredicate.test(recordBatchEntries.size() + 1, batchSize + entryLength)) {
@@ -30,6 +30,19 @@ public record RecordBatchEntry(
       final RecordMetadata metadata,
       final int sourceIndex,
       final BufferWriter valueWriter) {
+    return createEntry(key, metadata, sourceIndex, valueWriter, false);
+  }
+
+  /**
+   * @param lazyDecoding whether the copied value is decoded lazily, see {@link
+   *     UnifiedRecordValue#setLazyDecoding(boolean)}
+   */
+  public static RecordBatchEntry createEntry(
+      final long key,
+      final RecordMetadata metadata,
+      final int sourceIndex,
+      final BufferWriter valueWriter,
+      final boolean lazyDecoding) {
 
     // we need to copy the value, to make sure that it will not change later
     final var bytes = new byte[valueWriter.getLength()];
@@ -38,6 +51,9 @@ public record RecordBatchEntry(
 
     final UnifiedRecordValue unifiedRecordValue =
         ReflectUtil.newInstance(EVENT_REGISTRY.get(metadata.getValueType()));
+    // the copy is owned by the entry, so with lazy decoding the value only needs to be decoded
+    // when it is accessed; otherwise it is written as it is
+    unifiedRecordValue.setLazyDecoding(lazyDecoding);
     unifiedRecordValue.wrap(recordValueBuffer, 0, recordValueBuffer.capacity());
 
     return new RecordBatchEntry(metadata, key, sourceIndex, unifiedRecordValue);
@@ -15,16 +15,39 @@ import io.camunda.zeebe.util.ReflectUtil;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.Set;
 
 public final class RecordValues {
 
   private final Map<ValueType, UnifiedRecordValue> eventCache;
+  private final Set<ValueType> lazilyDecodedValueTypes;
 
   public RecordValues() {
+    this(Set.of());
+  }
+
+  /**
+   * @param lazilyDecodedValueTypes the value types whose values are decoded lazily, see {@link
+   *     UnifiedRecordValue#setLazyDecoding(boolean)}
+   */
+  public RecordValues(final Set<ValueType> lazilyDecodedValueTypes) {
     final EnumMap<ValueType, UnifiedRecordValue> cache = new EnumMap<>(ValueType.class);
-    TypedEventRegistry.EVENT_REGISTRY.forEach((t, c) -> cache.put(t, ReflectUtil.newInstance(c)));
+    TypedEventRegistry.EVENT_REGISTRY.forEach(
+        (t, c) -> {
+          final UnifiedRecordValue value = ReflectUtil.newInstance(c);
+          value.setLazyDecoding(lazilyDecodedValueTypes.contains(t));
+          cache.put(t, value);
+        });
 
     eventCache = Collections.unmodifiableMap(cache);
+    this.lazilyDecodedValueTypes = Set.copyOf(lazilyDecodedValueTypes);
+  }
+
+  /**
+   * @return true if the values of the given type are decoded lazily
+   */
+  public boolean decodesLazily(final ValueType valueType) {
+    return lazilyDecodedValueTypes.contains(valueType);
   }
 
   public UnifiedRecordValue readRecordValue(final LoggedEvent event, final ValueType valueType) {
@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.ValueType;
@@ -75,6 +76,37 @@ class RecordBatchTest {
     assertThat(recordBatch).map(RecordBatchEntry::recordValue).containsOnly(processInstanceRecord);
   }
 
+  @Test
+  void shouldNotDecodeLazilyByDefault() {
+    // given
+    final var recordBatch = new RecordBatch((count, size) -> true);
+
+    // when
+    recordBatch.appendRecord(1, RECORD_METADATA, -1, Records.processInstance(1));
+
+    // then
+    assertThat(recordBatch)
+        .map(RecordBatchEntry::unifiedRecordValue)
+        .allMatch(value -> !value.isLazyDecoding());
+  }
+
+  @Test
+  void shouldDecodeLazilyIfEnabledForValueType() {
+    // given
+    final var recordBatch = new RecordBatch((count, size) -> true, VALUE_TYPE::equals);
+    final var otherMetadata = new RecordMetadata().valueType(ValueType.JOB);
+
+    // when
+    recordBatch.appendRecord(1, RECORD_METADATA, -1, Records.processInstance(1));
+    recordBatch.appendRecord(2, otherMetadata, -1, Records.job(2));
+
+    // then
+    assertThat(recordBatch)
+        .map(RecordBatchEntry::unifiedRecordValue)
+        .map(UnifiedRecordValue::isLazyDecoding)
+        .containsExactly(true, false);
+  }
+
   @Test
   void shouldUseRecordSizePredicate() {
     // given
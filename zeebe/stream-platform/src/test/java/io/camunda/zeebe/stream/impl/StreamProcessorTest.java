@@ -30,6 +30,7 @@ import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.ValueType;
@@ -434,6 +435,50 @@ public final class StreamProcessorTest {
     }
   }
 
+  @Test
+  void shouldWriteFollowUpEventWithLazilyDecodedCommandValue() {
+    // given
+    final var defaultRecordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    when(defaultRecordProcessor.decodesLazily(ValueType.PROCESS_INSTANCE)).thenReturn(true);
+    final var resultBuilderCaptor = ArgumentCaptor.forClass(ProcessingResultBuilder.class);
+    when(defaultRecordProcessor.process(any(), resultBuilderCaptor.capture()))
+        .thenAnswer(
+            (invocation) -> {
+              final TypedRecord<ProcessInstanceRecord> command = invocation.getArgument(0);
+              final var resultBuilder = resultBuilderCaptor.getValue();
+              resultBuilder.appendRecordReturnEither(
+                  1,
+                  command.getValue().setElementId("task"),
+                  new RecordMetadata()
+                      .recordType(RecordType.EVENT)
+                      .intent(ELEMENT_ACTIVATING)
+                      .rejectionType(RejectionType.NULL_VAL)
+                      .rejectionReason(""));
+              return resultBuilder.build();
+            });
+
+    streamPlatform.startStreamProcessor();
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command()
+            .processInstance(ACTIVATE_ELEMENT, Records.processInstance(1, "process")));
+
+    // then
+    verify(defaultRecordProcessor, TIMEOUT).process(any(), any());
+
+    final var logStreamReader = streamPlatform.getLogStream().newLogStreamReader();
+    logStreamReader.seekToFirstEvent();
+    logStreamReader.next();
+    await("should write follow up event")
+        .untilAsserted(() -> assertThat(logStreamReader.hasNext()).isTrue());
+    final var followUpValue = new ProcessInstanceRecord();
+    logStreamReader.next().readValue(followUpValue);
+    assertThat(followUpValue.getProcessInstanceKey()).isEqualTo(1);
+    assertThat(followUpValue.getBpmnProcessId()).isEqualTo("process");
+    assertThat(followUpValue.getElementId()).isEqualTo("task");
+  }
+
   @Test
   public void shouldSetSourcePointerForFollowUpRecords() {
     // given
@@ -83,4 +83,62 @@ public final class JMHAssert extends AbstractAssert<JMHAssert, RunResult> {
 
     return myself;
   }
+
+  /**
+   * Asserts that the result of this benchmark is at least the score of the given reference
+   * benchmark. Useful to compare an implementation against the one it replaces, independently of
+   * the machine the benchmarks run on.
+   *
+   * @param reference the results of the reference benchmark
+   * @param maxDeviation the maximum allowed deviation used to compute a real minimum score
+   * @return itself for chaining
+   */
+  @SuppressWarnings("UnusedReturnValue")
+  public JMHAssert isAtLeast(final JMHAssert reference, final double maxDeviation) {
+    return isAtLeast(reference.actual.getPrimaryResult().getScore(), maxDeviation);
+  }
+
+  /**
+   * Asserts that the given secondary result of this benchmark, e.g. one reported by a profiler, is
+   * at most the given fraction of the same secondary result of the reference benchmark. Useful to
+   * verify that an implementation allocates less than the one it replaces, via the {@code
+   * gc.alloc.rate.norm} result of the {@link org.openjdk.jmh.profile.GCProfiler}.
+   *
+   * @param label the label of the secondary result, e.g. {@code gc.alloc.rate.norm}
+   * @param reference the results of the reference benchmark
+   * @param maxRatio the maximum allowed ratio of this benchmark's score to the reference score
+   * @return itself for chaining
+   */
+  @SuppressWarnings("UnusedReturnValue")
+  public JMHAssert hasSecondaryResultAtMost(
+      final String label, final JMHAssert reference, final double maxRatio) {
+    final double score = getSecondaryScore(actual, label);
+    final double referenceScore = getSecondaryScore(reference.actual, label);
+    final double maximumScore = referenceScore * maxRatio;
+
+    if (score > maximumScore) {
+      throwAssertionError(
+          new BasicErrorMessageFactory(
+              "Expected %s to be at most %s of the reference score %s, i.e. %s, but got %s",
+              label,
+              DECIMAL_FORMAT.format(maxRatio * 100) + "%",
+              DECIMAL_FORMAT.format(referenceScore),
+              DECIMAL_FORMAT.format(maximumScore),
+              DECIMAL_FORMAT.format(score)));
+    }
+
+    return myself;
+  }
+
+  private double getSecondaryScore(final RunResult result, final String label) {
+    final var secondaryResult = result.getSecondaryResults().get(label);
+    if (secondaryResult == null) {
+      throwAssertionError(
+          new BasicErrorMessageFactory(
+              "Expected benchmark to have a secondary result %s, but only got %s",
+              label, result.getSecondaryResults().keySet()));
+    }
+
+    return secondaryResult.getScore();
+  }
 }
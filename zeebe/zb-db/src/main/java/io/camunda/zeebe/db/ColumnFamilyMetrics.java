@@ -17,4 +17,10 @@ public interface ColumnFamilyMetrics {
   CloseableSilently measureDeleteLatency();
 
   CloseableSilently measureIterateLatency();
+
+  /** Counts a read which was served by the cache of the column family. */
+  void countCacheHit();
+
+  /** Counts a read which had to go to the database, although the column family is cached. */
+  void countCacheMiss();
 }
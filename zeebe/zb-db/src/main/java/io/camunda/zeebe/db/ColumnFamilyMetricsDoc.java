@@ -53,6 +53,41 @@ public enum ColumnFamilyMetricsDoc implements ExtendedMeterDocumentation {
       return KEYS;
     }
 
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Number of reads per column family which were served by its cache, or missed it */
+  CACHE_ACCESS {
+    private static final KeyName[] KEYS =
+        new KeyName[] {
+          PartitionKeyNames.PARTITION,
+          ColumnFamilyMetricsKeyName.COLUMN_FAMILY,
+          ColumnFamilyMetricsKeyName.CACHE_RESULT
+        };
+
+    @Override
+    public String getName() {
+      return "zeebe.rocksdb.cache.access";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of reads per column family which were served by its cache, or missed it";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return KEYS;
+    }
+
     @Override
     public KeyName[] getAdditionalKeyNames() {
       return PartitionKeyNames.values();
@@ -77,6 +112,13 @@ public enum ColumnFamilyMetricsDoc implements ExtendedMeterDocumentation {
       public String asString() {
         return "operation";
       }
+    },
+    /** Whether a read was served by the cache, either {@code hit} or {@code miss} */
+    CACHE_RESULT {
+      @Override
+      public String asString() {
+        return "result";
+      }
     }
   }
 
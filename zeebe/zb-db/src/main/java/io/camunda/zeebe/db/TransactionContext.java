@@ -34,4 +34,13 @@ public interface TransactionContext {
    * @return the transaction object
    */
   ZeebeDbTransaction getCurrentTransaction();
+
+  /**
+   * Registers a listener which is called whenever a transaction of this context is rolled back,
+   * i.e. its changes are discarded. Useful to reset in-memory state which was derived from these
+   * changes.
+   *
+   * @param listener the listener, which is called on the thread rolling back the transaction
+   */
+  void addRollbackListener(Runnable listener);
 }
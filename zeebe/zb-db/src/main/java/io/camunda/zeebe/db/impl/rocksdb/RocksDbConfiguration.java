@@ -8,6 +8,7 @@
 package io.camunda.zeebe.db.impl.rocksdb;
 
 import java.util.Properties;
+import java.util.Set;
 
 public final class RocksDbConfiguration {
 
@@ -43,6 +44,20 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  /**
+   * Reading values into direct buffers which are reused per column family avoids allocating a new
+   * array for every read. It is disabled by default, as the returned values then point into a
+   * buffer which is overwritten by the next read of the same column family, so callers have to copy
+   * everything they want to keep across reads.
+   */
+  public static final boolean DEFAULT_DIRECT_VALUE_BUFFERS_ENABLED = false;
+
+  /**
+   * Approximate number of bytes which the committed keys and values of each cached column family
+   * may take up in memory. See {@link #setCachedColumnFamilies(Set)}.
+   */
+  public static final long DEFAULT_COLUMN_FAMILY_CACHE_SIZE = 32 * 1024 * 1024L;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -51,6 +66,9 @@ public final class RocksDbConfiguration {
   private boolean walDisabled = DEFAULT_WAL_DISABLED;
 
   private boolean sstPartitioningEnabled = DEFAULT_SST_PARTITIONING_ENABLED;
+  private boolean directValueBuffersEnabled = DEFAULT_DIRECT_VALUE_BUFFERS_ENABLED;
+  private Set<String> cachedColumnFamilies = Set.of();
+  private long columnFamilyCacheSize = DEFAULT_COLUMN_FAMILY_CACHE_SIZE;
 
   /**
    * Defines how many files are kept open by RocksDB, per default it is unlimited (-1). This is done
@@ -155,4 +173,37 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public boolean isDirectValueBuffersEnabled() {
+    return directValueBuffersEnabled;
+  }
+
+  public RocksDbConfiguration setDirectValueBuffersEnabled(
+      final boolean directValueBuffersEnabled) {
+    this.directValueBuffersEnabled = directValueBuffersEnabled;
+    return this;
+  }
+
+  public Set<String> getCachedColumnFamilies() {
+    return cachedColumnFamilies;
+  }
+
+  /**
+   * Sets the names of the column families whose committed values are kept in an in-memory cache in
+   * front of RocksDB, e.g. {@code ELEMENT_INSTANCE_KEY}. Writes go through to RocksDB and only
+   * update the cache once their transaction is committed. None are cached by default.
+   */
+  public RocksDbConfiguration setCachedColumnFamilies(final Set<String> cachedColumnFamilies) {
+    this.cachedColumnFamilies = cachedColumnFamilies;
+    return this;
+  }
+
+  public long getColumnFamilyCacheSize() {
+    return columnFamilyCacheSize;
+  }
+
+  public RocksDbConfiguration setColumnFamilyCacheSize(final long columnFamilyCacheSize) {
+    this.columnFamilyCacheSize = columnFamilyCacheSize;
+    return this;
+  }
 }
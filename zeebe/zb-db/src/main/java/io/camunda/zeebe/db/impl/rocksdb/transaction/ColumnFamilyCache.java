@@ -0,0 +1,165 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.LinkedHashMap;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Object2IntHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Caches the committed values of a single column family in memory, in front of RocksDB. The cache
+ * is bounded by the approximate size of its entries, and evicts the least recently used entries
+ * when it grows beyond it.
+ *
+ * <p>The cache only ever contains committed values, such that it can be shared by all transactions
+ * reading the column family:
+ *
+ * <ul>
+ *   <li>A write marks its key as pending until its transaction is committed or rolled back, see
+ *       {@link ZeebeTransaction#writeThrough(ColumnFamilyCache, DirectBuffer, byte[])}. Reads of a
+ *       pending key bypass the cache, so the writing transaction sees its own writes, while other
+ *       transactions read the committed value from RocksDB.
+ *   <li>Once committed, a write updates the cache with its value; a rolled back write only removes
+ *       the key, such that the next read fetches the committed value again.
+ *   <li>A value read from RocksDB after a miss is only added if no key of the column family was
+ *       written or completed in the meantime, which prevents a concurrent reader from caching a
+ *       value which was overwritten while it was reading.
+ * </ul>
+ *
+ * <p>Transactions of different contexts may access the same column family from different threads,
+ * so all accesses are synchronized.
+ */
+final class ColumnFamilyCache {
+  // approximate memory used per entry on top of its key and value, i.e. the map entry, the key
+  // buffer and the array headers
+  private static final int ENTRY_OVERHEAD = 96;
+  private static final int MISSING_COUNT = 0;
+
+  private final long maxSize;
+  private final LinkedHashMap<DirectBuffer, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final Object2IntHashMap<DirectBuffer> pendingWrites =
+      new Object2IntHashMap<>(MISSING_COUNT);
+  private long size;
+  private long generation;
+
+  ColumnFamilyCache(final long maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * @return the cached value of the given key, or null if it is not cached or has pending writes
+   */
+  synchronized byte[] get(final DirectBuffer key) {
+    if (pendingWrites.containsKey(key)) {
+      return null;
+    }
+
+    return entries.get(key);
+  }
+
+  /**
+   * Returns the current generation of the cache, which changes on every write. Call it before
+   * reading a missed value from RocksDB, and pass it to {@link #putIfUnchanged(DirectBuffer,
+   * byte[], long)} afterwards.
+   */
+  synchronized long generation() {
+    return generation;
+  }
+
+  /**
+   * Adds a value which was read from RocksDB, unless the column family was written since the given
+   * generation was obtained, or the key has pending writes.
+   *
+   * @param key the key, which is copied
+   * @param value the committed value, which must not be modified afterwards
+   */
+  synchronized void putIfUnchanged(final DirectBuffer key, final byte[] value, final long since) {
+    if (generation != since || pendingWrites.containsKey(key)) {
+      return;
+    }
+
+    put(copyOf(key), value);
+  }
+
+  /**
+   * Marks the given key as written by a transaction which is still open, until {@link
+   * #complete(DirectBuffer, byte[], boolean)} is called for the same write.
+   *
+   * @param key a copy of the key, which is not modified afterwards
+   */
+  synchronized void markPending(final DirectBuffer key) {
+    generation++;
+    pendingWrites.put(key, pendingWrites.getValue(key) + 1);
+    remove(key);
+  }
+
+  /**
+   * Completes a write which was marked as pending before, once its transaction is committed or
+   * rolled back.
+   *
+   * @param key the key which was passed to {@link #markPending(DirectBuffer)}
+   * @param value the written value, or null if the key was deleted
+   * @param committed true if the transaction was committed, false if it was rolled back
+   */
+  synchronized void complete(final DirectBuffer key, final byte[] value, final boolean committed) {
+    generation++;
+    final int pendingCount = pendingWrites.getValue(key) - 1;
+    if (pendingCount > 0) {
+      pendingWrites.put(key, pendingCount);
+    } else {
+      pendingWrites.removeKey(key);
+    }
+
+    remove(key);
+    if (committed && value != null && pendingCount <= 0) {
+      put(key, value);
+    }
+  }
+
+  synchronized long size() {
+    return size;
+  }
+
+  private void put(final DirectBuffer key, final byte[] value) {
+    final long entrySize = entrySize(key, value);
+    if (entrySize > maxSize) {
+      return;
+    }
+
+    final byte[] previous = entries.put(key, value);
+    if (previous != null) {
+      size -= entrySize(key, previous);
+    }
+    size += entrySize;
+
+    final var iterator = entries.entrySet().iterator();
+    while (size > maxSize && iterator.hasNext()) {
+      final var eldest = iterator.next();
+      size -= entrySize(eldest.getKey(), eldest.getValue());
+      iterator.remove();
+    }
+  }
+
+  private void remove(final DirectBuffer key) {
+    final byte[] previous = entries.remove(key);
+    if (previous != null) {
+      size -= entrySize(key, previous);
+    }
+  }
+
+  private static long entrySize(final DirectBuffer key, final byte[] value) {
+    return (long) key.capacity() + value.length + ENTRY_OVERHEAD;
+  }
+
+  static DirectBuffer copyOf(final DirectBuffer buffer) {
+    final byte[] bytes = new byte[buffer.capacity()];
+    buffer.getBytes(0, bytes);
+    return new UnsafeBuffer(bytes);
+  }
+}
@@ -13,10 +13,12 @@ import io.camunda.zeebe.db.impl.ZeebeDbConstants;
 import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
 import java.util.Queue;
-import java.util.function.ObjIntConsumer;
+import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.rocksdb.RocksIterator;
 
 public class ColumnFamilyContext {
 
@@ -26,18 +28,24 @@ public class ColumnFamilyContext {
   private final ExpandableArrayBuffer keyBuffer = new ExpandableArrayBuffer();
   private final ExpandableArrayBuffer valueBuffer = new ExpandableArrayBuffer();
 
-  private final DirectBuffer keyViewBuffer = new UnsafeBuffer(0, 0);
+  // RocksDB reads keys from and copies values into direct buffers without going through new arrays
+  private final ExpandableDirectByteBuffer directKeyBuffer = new ExpandableDirectByteBuffer();
+  private final ExpandableDirectByteBuffer directValueBuffer = new ExpandableDirectByteBuffer();
+
   private final DirectBuffer valueViewBuffer = new UnsafeBuffer(0, 0);
+  private final DirectBuffer writtenKeyBuffer = new UnsafeBuffer(0, 0);
 
-  private final Queue<ExpandableArrayBuffer> prefixKeyBuffers;
+  private final Queue<PrefixIteration> prefixIterations;
   private int keyLength;
+  // writes only use the key buffer, so the key is copied into the direct key buffer on demand
+  private boolean isDirectKeyWritten;
   private final long columnFamilyPrefix;
 
   ColumnFamilyContext(final long columnFamilyPrefix) {
     this.columnFamilyPrefix = columnFamilyPrefix;
-    prefixKeyBuffers = new ArrayDeque<>();
-    prefixKeyBuffers.add(new ExpandableArrayBuffer());
-    prefixKeyBuffers.add(new ExpandableArrayBuffer());
+    prefixIterations = new ArrayDeque<>();
+    prefixIterations.add(new PrefixIteration());
+    prefixIterations.add(new PrefixIteration());
   }
 
   public void writeKey(final DbKey key) {
@@ -46,6 +54,7 @@ public class ColumnFamilyContext {
     keyLength += Long.BYTES;
     key.write(keyBuffer, Long.BYTES);
     keyLength += key.getLength();
+    isDirectKeyWritten = false;
   }
 
   public int getKeyLength() {
@@ -56,29 +65,44 @@ public class ColumnFamilyContext {
     return keyBuffer.byteArray();
   }
 
-  public void writeValue(final DbValue value) {
-    value.write(valueBuffer, 0);
+  /**
+   * @return a view of the key written last, including the column family prefix
+   */
+  DirectBuffer getWrittenKey() {
+    writtenKeyBuffer.wrap(keyBuffer, 0, keyLength);
+    return writtenKeyBuffer;
   }
 
-  public byte[] getValueBufferArray() {
-    return valueBuffer.byteArray();
+  /**
+   * @return a direct buffer containing the key written last, from its position up to its limit
+   */
+  ByteBuffer getDirectKey() {
+    if (!isDirectKeyWritten) {
+      directKeyBuffer.putBytes(0, keyBuffer, 0, keyLength);
+      isDirectKeyWritten = true;
+    }
+
+    return directKeyBuffer.byteBuffer().clear().limit(keyLength);
   }
 
-  public void wrapKeyView(final byte[] key) {
-    if (key != null) {
-      // wrap without the column family key
-      keyViewBuffer.wrap(key, Long.BYTES, key.length - Long.BYTES);
-    } else {
-      keyViewBuffer.wrap(ZERO_SIZE_ARRAY);
-    }
+  ByteBuffer getDirectValueBuffer() {
+    return directValueBuffer.byteBuffer();
   }
 
-  public DirectBuffer getKeyView() {
-    return isKeyViewEmpty() ? null : keyViewBuffer;
+  /**
+   * Ensures that the direct value buffer can hold a value of the given length. Expanding it
+   * replaces the buffer returned by {@link #getDirectValueBuffer()}.
+   */
+  void ensureDirectValueCapacity(final int valueLength) {
+    directValueBuffer.checkLimit(valueLength);
   }
 
-  public boolean isKeyViewEmpty() {
-    return keyViewBuffer.capacity() == ZERO_SIZE_ARRAY.length;
+  public void writeValue(final DbValue value) {
+    value.write(valueBuffer, 0);
+  }
+
+  public byte[] getValueBufferArray() {
+    return valueBuffer.byteArray();
   }
 
   public void wrapValueView(final byte[] value) {
@@ -89,6 +113,19 @@ public class ColumnFamilyContext {
     }
   }
 
+  /**
+   * Wraps the value view around the value which was read into the direct value buffer.
+   *
+   * @param valueLength the length of the value, or a negative value if there is none
+   */
+  void wrapDirectValueView(final int valueLength) {
+    if (valueLength > 0) {
+      valueViewBuffer.wrap(directValueBuffer, 0, valueLength);
+    } else {
+      valueViewBuffer.wrap(ZERO_SIZE_ARRAY);
+    }
+  }
+
   public DirectBuffer getValueView() {
     return isValueViewEmpty() ? null : valueViewBuffer;
   }
@@ -97,30 +134,116 @@ public class ColumnFamilyContext {
     return valueViewBuffer.capacity() == ZERO_SIZE_ARRAY.length;
   }
 
-  public void withPrefixKey(final DbKey key, final ObjIntConsumer<byte[]> prefixKeyConsumer) {
-    if (prefixKeyBuffers.peek() == null) {
+  /**
+   * Runs the given iteration over the keys with the given prefix. Each iteration gets buffers of
+   * its own, such that an iteration can be nested into another one on the same column family.
+   */
+  void withPrefixKey(final DbKey key, final Consumer<PrefixIteration> iteration) {
+    if (prefixIterations.peek() == null) {
       throw new IllegalStateException(
           "Currently nested prefix iterations are not supported! This will cause unexpected behavior.");
     }
 
-    final ExpandableArrayBuffer prefixKeyBuffer = prefixKeyBuffers.remove();
+    final PrefixIteration prefixIteration = prefixIterations.remove();
     try {
-      prefixKeyBuffer.putLong(0, columnFamilyPrefix, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
-      key.write(prefixKeyBuffer, Long.BYTES);
-      final int prefixLength = Long.BYTES + key.getLength();
-
-      prefixKeyConsumer.accept(prefixKeyBuffer.byteArray(), prefixLength);
+      prefixIteration.writePrefix(columnFamilyPrefix, key);
+      iteration.accept(prefixIteration);
     } finally {
-      prefixKeyBuffers.add(prefixKeyBuffer);
+      prefixIterations.add(prefixIteration);
     }
   }
 
-  ByteBuffer keyWithColumnFamily(DbKey key) {
-    final var bytes = ByteBuffer.allocate(Long.BYTES + key.getLength());
-    final var buffer = new UnsafeBuffer(bytes);
+  /**
+   * Writes the given key with the column family prefix into the direct key buffer, replacing the
+   * key written last.
+   *
+   * @return the direct key buffer, from its position up to its limit
+   */
+  ByteBuffer keyWithColumnFamily(final DbKey key) {
+    writeKey(key);
+    return getDirectKey();
+  }
+
+  /**
+   * The buffers of a single prefix iteration, which the iterator reads its keys and values into.
+   */
+  static final class PrefixIteration {
+    private final ExpandableArrayBuffer prefixBuffer = new ExpandableArrayBuffer();
+    private final ExpandableDirectByteBuffer keyBuffer = new ExpandableDirectByteBuffer();
+    private final ExpandableDirectByteBuffer valueBuffer = new ExpandableDirectByteBuffer();
+    private final DirectBuffer keyView = new UnsafeBuffer(0, 0);
+    private final DirectBuffer valueView = new UnsafeBuffer(0, 0);
+    private int prefixLength;
+    private int keyLength;
+
+    private void writePrefix(final long columnFamilyPrefix, final DbKey key) {
+      prefixBuffer.putLong(0, columnFamilyPrefix, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+      key.write(prefixBuffer, Long.BYTES);
+      prefixLength = Long.BYTES + key.getLength();
+    }
+
+    /**
+     * Reads the current key of the given iterator, and wraps the key view around it.
+     *
+     * @return true if the key starts with the prefix of this iteration, false otherwise
+     */
+    boolean readKey(final RocksIterator iterator) {
+      keyLength = iterator.key(keyBuffer.byteBuffer().clear());
+      if (keyLength > keyBuffer.capacity()) {
+        keyBuffer.checkLimit(keyLength);
+        iterator.key(keyBuffer.byteBuffer().clear());
+      }
+
+      // wrap without the column family key
+      keyView.wrap(keyBuffer, Long.BYTES, keyLength - Long.BYTES);
+      return startsWithPrefix();
+    }
 
-    buffer.putLong(0, columnFamilyPrefix, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
-    key.write(buffer, Long.BYTES);
-    return bytes;
+    private boolean startsWithPrefix() {
+      if (keyLength < prefixLength) {
+        return false;
+      }
+
+      for (int i = 0; i < prefixLength; i++) {
+        if (keyBuffer.getByte(i) != prefixBuffer.getByte(i)) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+
+    /**
+     * Reads the current value of the given iterator, and wraps the value view around it.
+     *
+     * @param direct whether to read the value into a reused direct buffer, instead of a new array
+     */
+    void readValue(final RocksIterator iterator, final boolean direct) {
+      if (!direct) {
+        final byte[] value = iterator.value();
+        valueView.wrap(value != null ? value : ZERO_SIZE_ARRAY);
+        return;
+      }
+
+      int valueLength = iterator.value(valueBuffer.byteBuffer().clear());
+      if (valueLength > valueBuffer.capacity()) {
+        valueBuffer.checkLimit(valueLength);
+        valueLength = iterator.value(valueBuffer.byteBuffer().clear());
+      }
+
+      if (valueLength > 0) {
+        valueView.wrap(valueBuffer, 0, valueLength);
+      } else {
+        valueView.wrap(ZERO_SIZE_ARRAY);
+      }
+    }
+
+    DirectBuffer keyView() {
+      return keyView;
+    }
+
+    DirectBuffer valueView() {
+      return valueView;
+    }
   }
 }
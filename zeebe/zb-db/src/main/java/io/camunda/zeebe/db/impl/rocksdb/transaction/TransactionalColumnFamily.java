@@ -7,8 +7,6 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
-import static io.camunda.zeebe.util.buffer.BufferUtil.startsWith;
-
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.ColumnFamilyMetrics;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
@@ -18,14 +16,17 @@ import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.ColumnFamilyContext.PrefixIteration;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransaction.PooledIterator;
 import io.camunda.zeebe.protocol.EnumValue;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
-import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
 /**
@@ -39,6 +40,13 @@ import org.rocksdb.RocksIterator;
  *       depend difficult to follow call chains between the different public methods such as {@link
  *       TransactionalColumnFamily#forEach(Consumer)} and {@link
  *       TransactionalColumnFamily#whileEqualPrefix(DbKey, BiConsumer)}
+ *   <li>Reads go through direct buffers and iterators are reused within a transaction, such that
+ *       the hot paths don't allocate. Values are only read into direct buffers if enabled via
+ *       {@link io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration#setDirectValueBuffersEnabled},
+ *       since the returned value then points into a buffer which is overwritten by the next read of
+ *       this column family.
+ *   <li>Column families can be cached in memory, see {@link ColumnFamilyCache}. Point reads go
+ *       through the cache, while iteration always reads from RocksDB.
  * </ul>
  */
 class TransactionalColumnFamily<
@@ -47,6 +55,10 @@ class TransactionalColumnFamily<
         ValueType extends DbValue>
     implements ColumnFamily<KeyType, ValueType> {
 
+  // used to look up whether a key exists without copying its value
+  private static final ByteBuffer EMPTY_DIRECT_BUFFER = ByteBuffer.allocateDirect(0);
+  private static final int DELETED = -1;
+
   private final ZeebeTransactionDb<ColumnFamilyNames> transactionDb;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final ColumnFamilyNames columnFamily;
@@ -56,6 +68,11 @@ class TransactionalColumnFamily<
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
   private final ColumnFamilyMetrics metrics;
+  private final boolean directValueBuffersEnabled;
+  private final ColumnFamilyCache cache;
+
+  // lambdas passed to ensureInOpenTransaction can't return a value, so exists stores it here
+  private int probedValueLength;
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -72,6 +89,8 @@ class TransactionalColumnFamily<
     this.keyInstance = keyInstance;
     this.valueInstance = valueInstance;
     this.metrics = metrics;
+    directValueBuffersEnabled = transactionDb.isDirectValueBuffersEnabled();
+    cache = transactionDb.getColumnFamilyCache(columnFamily);
     columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
   }
@@ -92,6 +111,7 @@ class TransactionalColumnFamily<
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            writeThrough(transaction, value.getLength());
           });
     }
   }
@@ -111,6 +131,7 @@ class TransactionalColumnFamily<
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            writeThrough(transaction, value.getLength());
           });
     }
   }
@@ -129,6 +150,7 @@ class TransactionalColumnFamily<
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            writeThrough(transaction, value.getLength());
           });
     }
   }
@@ -139,13 +161,19 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            if (cache != null) {
+              readThroughCache(transaction);
+            } else if (directValueBuffersEnabled) {
+              readDirectValue(transaction);
+            } else {
+              final byte[] value =
+                  transaction.get(
+                      transactionDb.getDefaultNativeHandle(),
+                      transactionDb.getReadOptionsNativeHandle(),
+                      columnFamilyContext.getKeyBufferArray(),
+                      columnFamilyContext.getKeyLength());
+              columnFamilyContext.wrapValueView(value);
+            }
           });
       final var valueBuffer = columnFamilyContext.getValueView();
       if (valueBuffer != null) {
@@ -229,6 +257,7 @@ class TransactionalColumnFamily<
                 transactionDb.getDefaultNativeHandle(),
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
+            writeThrough(transaction, DELETED);
           });
     }
   }
@@ -243,6 +272,7 @@ class TransactionalColumnFamily<
                 transactionDb.getDefaultNativeHandle(),
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
+            writeThrough(transaction, DELETED);
           });
     }
   }
@@ -253,15 +283,9 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            probedValueLength = probeValueLength(transaction);
           });
-      return !columnFamilyContext.isValueViewEmpty();
+      return probedValueLength > 0;
     }
   }
 
@@ -306,13 +330,7 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
-    if (value != null) {
+    if (probeValueLength(transaction) >= 0) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " already exists");
     }
@@ -322,13 +340,7 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
-    if (value == null) {
+    if (probeValueLength(transaction) < 0) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " does not exist");
     }
@@ -344,9 +356,103 @@ class TransactionalColumnFamily<
         () -> operation.run((ZeebeTransaction) context.getCurrentTransaction()));
   }
 
-  RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
+  /**
+   * Looks up the key which was written last, without copying its value.
+   *
+   * @return the length of the value, or a negative value if the key does not exist
+   */
+  private int probeValueLength(final ZeebeTransaction transaction) throws Exception {
+    if (cache != null) {
+      final byte[] cachedValue = cache.get(columnFamilyContext.getWrittenKey());
+      if (cachedValue != null) {
+        metrics.countCacheHit();
+        return cachedValue.length;
+      }
+      metrics.countCacheMiss();
+    }
+
+    return getDirect(transaction, EMPTY_DIRECT_BUFFER);
+  }
+
+  /**
+   * Reads the value of the key which was written last from the cache, or from RocksDB if it isn't
+   * cached. Values read from RocksDB are added to the cache, and are never modified afterwards, so
+   * the value view can point to the cached array directly.
+   */
+  private void readThroughCache(final ZeebeTransaction transaction) throws Exception {
+    final var cacheKey = columnFamilyContext.getWrittenKey();
+    final byte[] cachedValue = cache.get(cacheKey);
+    if (cachedValue != null) {
+      metrics.countCacheHit();
+      columnFamilyContext.wrapValueView(cachedValue);
+      return;
+    }
+
+    metrics.countCacheMiss();
+    final long generation = cache.generation();
+    final byte[] value =
+        transaction.get(
+            transactionDb.getDefaultNativeHandle(),
+            transactionDb.getReadOptionsNativeHandle(),
+            columnFamilyContext.getKeyBufferArray(),
+            columnFamilyContext.getKeyLength());
+    columnFamilyContext.wrapValueView(value);
+    if (value != null) {
+      cache.putIfUnchanged(cacheKey, value, generation);
+    }
+  }
+
+  /**
+   * Registers the write of the key and value which were written last with the transaction, such
+   * that the cache is updated once the transaction is committed.
+   *
+   * @param valueLength the length of the written value, or {@link #DELETED} if the key was deleted
+   */
+  private void writeThrough(final ZeebeTransaction transaction, final int valueLength) {
+    if (cache == null) {
+      return;
+    }
+
+    final byte[] value;
+    if (valueLength == DELETED) {
+      value = null;
+    } else {
+      value = Arrays.copyOf(columnFamilyContext.getValueBufferArray(), valueLength);
+    }
+
+    transaction.writeThrough(
+        cache, ColumnFamilyCache.copyOf(columnFamilyContext.getWrittenKey()), value);
+  }
+
+  /** Reads the value of the key which was written last into the direct value buffer. */
+  private void readDirectValue(final ZeebeTransaction transaction) throws Exception {
+    int valueLength = getDirect(transaction, columnFamilyContext.getDirectValueBuffer());
+    while (valueLength > columnFamilyContext.getDirectValueBuffer().capacity()) {
+      // only the beginning of the value was copied, so read it again into a large enough buffer
+      columnFamilyContext.ensureDirectValueCapacity(valueLength);
+      valueLength = getDirect(transaction, columnFamilyContext.getDirectValueBuffer());
+    }
+
+    columnFamilyContext.wrapDirectValueView(valueLength);
+  }
+
+  private int getDirect(final ZeebeTransaction transaction, final ByteBuffer valueBuffer)
+      throws Exception {
+    return transaction.get(
+        transactionDb.getDefaultNativeHandle(),
+        transactionDb.getReadOptionsNativeHandle(),
+        columnFamilyContext.getDirectKey(),
+        columnFamilyContext.getKeyLength(),
+        valueBuffer,
+        valueBuffer.capacity());
+  }
+
+  PooledIterator acquireIterator(final TransactionContext context) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.acquireIterator(
+        transactionDb.getPrefixReadOptions(),
+        transactionDb.getDefaultHandle(),
+        transactionDb.getLatestSequenceNumber());
   }
 
   /**
@@ -390,21 +496,20 @@ class TransactionalColumnFamily<
        */
       columnFamilyContext.withPrefixKey(
           prefix,
-          (prefixKey, prefixLength) -> {
-            try (final RocksIterator iterator =
-                newIterator(context, transactionDb.getPrefixReadOptions())) {
-
+          prefixIteration -> {
+            try (final var pooledIterator = acquireIterator(context)) {
+              final RocksIterator iterator = pooledIterator.iterator();
               boolean shouldVisitNext = true;
 
               for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
                   iterator.isValid() && shouldVisitNext;
                   iterator.next()) {
-                final byte[] keyBytes = iterator.key();
-                if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
+                if (!prefixIteration.readKey(iterator)) {
                   break;
                 }
 
-                shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
+                shouldVisitNext =
+                    visit(keyInstance, valueInstance, visitor, iterator, prefixIteration);
               }
             }
           });
@@ -437,15 +542,14 @@ class TransactionalColumnFamily<
      */
     columnFamilyContext.withPrefixKey(
         prefix,
-        (prefixKey, prefixLength) -> {
-          try (final RocksIterator iterator =
-              newIterator(context, transactionDb.getPrefixReadOptions())) {
+        prefixIteration -> {
+          try (final var pooledIterator = acquireIterator(context)) {
+            final RocksIterator iterator = pooledIterator.iterator();
 
             for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
                 iterator.isValid();
                 iterator.next()) {
-              final byte[] keyBytes = iterator.key();
-              if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
+              if (!prefixIteration.readKey(iterator)) {
                 break;
               }
 
@@ -461,15 +565,13 @@ class TransactionalColumnFamily<
       final KeyType keyInstance,
       final ValueType valueInstance,
       final KeyValuePairVisitor<KeyType, ValueType> iteratorConsumer,
-      final RocksIterator iterator) {
-    final var keyBytes = iterator.key();
-
-    columnFamilyContext.wrapKeyView(keyBytes);
-    columnFamilyContext.wrapValueView(iterator.value());
+      final RocksIterator iterator,
+      final PrefixIteration prefixIteration) {
+    prefixIteration.readValue(iterator, directValueBuffersEnabled);
 
-    final DirectBuffer keyViewBuffer = columnFamilyContext.getKeyView();
+    final DirectBuffer keyViewBuffer = prefixIteration.keyView();
     keyInstance.wrap(keyViewBuffer, 0, keyViewBuffer.capacity());
-    final DirectBuffer valueViewBuffer = columnFamilyContext.getValueView();
+    final DirectBuffer valueViewBuffer = prefixIteration.valueView();
     valueInstance.wrap(valueViewBuffer, 0, valueViewBuffer.capacity());
 
     return iteratorConsumer.visit(keyInstance, valueInstance);
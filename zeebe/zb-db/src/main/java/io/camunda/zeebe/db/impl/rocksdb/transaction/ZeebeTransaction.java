@@ -12,6 +12,12 @@ import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRoc
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import org.agrona.DirectBuffer;
 import org.agrona.LangUtil;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
@@ -24,7 +30,18 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
 
+  // iterators are only valid within the transaction they were created for, so all of them are
+  // closed when the transaction ends
+  private final List<PooledIterator> iterators = new ArrayList<>();
+  private final Deque<PooledIterator> idleIterators = new ArrayDeque<>();
+
+  // writes to cached column families, which update their caches once this transaction ends
+  private final List<CacheWrite> cacheWrites = new ArrayList<>();
+  private final List<Runnable> rollbackListeners = new ArrayList<>();
+
   private boolean inCurrentTransaction;
+  // true from the start of a transaction until it is committed successfully or rolled back
+  private boolean hasUncommittedChanges;
   private Transaction transaction;
 
   public ZeebeTransaction(
@@ -80,6 +97,40 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  /**
+   * Reads the value of the given key into the given direct buffer, without allocating a new array
+   * for it. If the value is longer than the given value length, only its beginning is copied.
+   *
+   * @return the full length of the value, or a negative value if the key does not exist
+   */
+  public int get(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final ByteBuffer key,
+      final int keyLength,
+      final ByteBuffer value,
+      final int valueLength)
+      throws Exception {
+    try {
+      final int keyOffset = 0;
+      final int valueOffset = 0;
+      return (int)
+          RocksDbInternal.getDirectWithHandle.invokeExact(
+              nativeHandle,
+              readOptionsHandle,
+              key,
+              keyOffset,
+              keyLength,
+              value,
+              valueOffset,
+              valueLength,
+              columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+      return -1; // unreachable
+    }
+  }
+
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
     try {
@@ -94,9 +145,72 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     return transaction.getIterator(options, handle);
   }
 
+  /**
+   * Returns an iterator which is reused within this transaction: closing it returns it to this
+   * transaction, and it is only released once the transaction ends. As all callers iterate over the
+   * same column family with the same options, the pooled iterators are interchangeable.
+   *
+   * <p>Iterators see the writes of this transaction even if they happen after the iterator was
+   * created, but not the writes committed by other transactions in the meantime. Since RocksDB
+   * doesn't support refreshing transaction iterators, an idle iterator is only reused if the latest
+   * sequence number of the database didn't change since it was created.
+   *
+   * @param latestSequenceNumber the current latest sequence number of the database
+   */
+  PooledIterator acquireIterator(
+      final ReadOptions options, final ColumnFamilyHandle handle, final long latestSequenceNumber) {
+    PooledIterator pooledIterator;
+    while ((pooledIterator = idleIterators.poll()) != null) {
+      if (pooledIterator.sequenceNumber == latestSequenceNumber) {
+        return pooledIterator;
+      }
+
+      iterators.remove(pooledIterator);
+      pooledIterator.iterator.close();
+    }
+
+    pooledIterator =
+        new PooledIterator(transaction.getIterator(options, handle), latestSequenceNumber);
+    iterators.add(pooledIterator);
+    return pooledIterator;
+  }
+
+  /**
+   * Registers a write to a cached column family, which was already applied to this transaction. The
+   * key stays pending in the cache until this transaction is committed, which then updates the
+   * cache with the written value, or rolled back.
+   *
+   * @param key a copy of the written key, including the column family prefix
+   * @param value a copy of the written value, or null if the key was deleted
+   */
+  void writeThrough(final ColumnFamilyCache cache, final DirectBuffer key, final byte[] value) {
+    cache.markPending(key);
+    cacheWrites.add(new CacheWrite(cache, key, value));
+  }
+
+  void addRollbackListener(final Runnable listener) {
+    rollbackListeners.add(listener);
+  }
+
+  private void completeCacheWrites(final boolean committed) {
+    // complete in order, such that the last write of a key determines the cached value
+    for (final var write : cacheWrites) {
+      write.cache().complete(write.key(), write.value(), committed);
+    }
+    cacheWrites.clear();
+  }
+
+  private void closeIterators() {
+    iterators.forEach(pooledIterator -> pooledIterator.iterator.close());
+    iterators.clear();
+    idleIterators.clear();
+  }
+
   void resetTransaction() {
+    closeIterators();
     transaction = transactionRenovator.renewTransaction(transaction);
     inCurrentTransaction = true;
+    hasUncommittedChanges = true;
   }
 
   boolean isInCurrentTransaction() {
@@ -144,16 +258,60 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.commit();
+    closeIterators();
+
+    boolean committed = false;
+    try {
+      transaction.commit();
+      committed = true;
+      hasUncommittedChanges = false;
+    } finally {
+      completeCacheWrites(committed);
+    }
   }
 
   void rollbackInternal() throws RocksDBException {
+    // a transaction which was committed already has no changes left to discard, but one whose
+    // commit failed has
+    final boolean discardsChanges = hasUncommittedChanges;
     inCurrentTransaction = false;
-    transaction.rollback();
+    hasUncommittedChanges = false;
+    closeIterators();
+    try {
+      transaction.rollback();
+    } finally {
+      completeCacheWrites(false);
+      if (discardsChanges) {
+        rollbackListeners.forEach(Runnable::run);
+      }
+    }
   }
 
   @Override
   public void close() {
+    closeIterators();
+    completeCacheWrites(false);
     transaction.close();
   }
+
+  private record CacheWrite(ColumnFamilyCache cache, DirectBuffer key, byte[] value) {}
+
+  final class PooledIterator implements AutoCloseable {
+    private final RocksIterator iterator;
+    private final long sequenceNumber;
+
+    private PooledIterator(final RocksIterator iterator, final long sequenceNumber) {
+      this.iterator = iterator;
+      this.sequenceNumber = sequenceNumber;
+    }
+
+    RocksIterator iterator() {
+      return iterator;
+    }
+
+    @Override
+    public void close() {
+      idleIterators.push(this);
+    }
+  }
 }
@@ -29,7 +29,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
@@ -60,6 +63,11 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private final AccessMetricsConfiguration accessMetricsConfiguration;
   private final MeterRegistry meterRegistry;
   private final RocksDBMetricExporter metricExporter;
+  private final boolean directValueBuffersEnabled;
+  private final Set<String> cachedColumnFamilies;
+  private final long columnFamilyCacheSize;
+  private final Map<ColumnFamilyNames, ColumnFamilyCache> columnFamilyCaches =
+      new ConcurrentHashMap<>();
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
@@ -77,6 +85,9 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     this.accessMetricsConfiguration = accessMetricsConfiguration;
     this.meterRegistry = meterRegistry;
     metricExporter = new RocksDBMetricExporter(meterRegistry);
+    directValueBuffersEnabled = rocksDbConfiguration.isDirectValueBuffersEnabled();
+    cachedColumnFamilies = rocksDbConfiguration.getCachedColumnFamilies();
+    columnFamilyCacheSize = rocksDbConfiguration.getColumnFamilyCacheSize();
 
     prefixReadOptions =
         new ReadOptions()
@@ -158,6 +169,29 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return defaultNativeHandle;
   }
 
+  protected long getLatestSequenceNumber() {
+    return optimisticTransactionDB.getLatestSequenceNumber();
+  }
+
+  protected boolean isDirectValueBuffersEnabled() {
+    return directValueBuffersEnabled;
+  }
+
+  /**
+   * Returns the cache of the given column family if it is configured to be cached. The cache is
+   * shared by all instances of the column family, as they may read and write the same keys.
+   *
+   * @return the cache of the column family, or null if it is not cached
+   */
+  ColumnFamilyCache getColumnFamilyCache(final ColumnFamilyNames columnFamily) {
+    if (!cachedColumnFamilies.contains(columnFamily.name())) {
+      return null;
+    }
+
+    return columnFamilyCaches.computeIfAbsent(
+        columnFamily, ignored -> new ColumnFamilyCache(columnFamilyCacheSize));
+  }
+
   @Override
   public <KeyType extends DbKey, ValueType extends DbValue>
       ColumnFamily<KeyType, ValueType> createColumnFamily(
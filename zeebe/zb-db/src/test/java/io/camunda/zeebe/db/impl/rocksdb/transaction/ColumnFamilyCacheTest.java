@@ -0,0 +1,144 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.Test;
+
+final class ColumnFamilyCacheTest {
+  private static final DirectBuffer KEY = BufferUtil.wrapString("key");
+  private static final DirectBuffer OTHER_KEY = BufferUtil.wrapString("other");
+
+  private final ColumnFamilyCache cache = new ColumnFamilyCache(1024);
+
+  @Test
+  void shouldCacheReadValue() {
+    // given
+    final var value = new byte[] {1, 2, 3};
+
+    // when
+    cache.putIfUnchanged(KEY, value, cache.generation());
+
+    // then
+    assertThat(cache.get(KEY)).isSameAs(value);
+  }
+
+  @Test
+  void shouldNotCacheReadValueIfWrittenWhileReading() {
+    // given
+    final long generation = cache.generation();
+    cache.markPending(OTHER_KEY);
+    cache.complete(OTHER_KEY, new byte[] {4}, true);
+
+    // when
+    cache.putIfUnchanged(KEY, new byte[] {1}, generation);
+
+    // then
+    assertThat(cache.get(KEY)).isNull();
+    assertThat(cache.get(OTHER_KEY)).containsExactly(4);
+  }
+
+  @Test
+  void shouldBypassPendingKey() {
+    // given
+    cache.putIfUnchanged(KEY, new byte[] {1}, cache.generation());
+
+    // when
+    cache.markPending(KEY);
+    cache.putIfUnchanged(KEY, new byte[] {2}, cache.generation());
+
+    // then
+    assertThat(cache.get(KEY)).isNull();
+  }
+
+  @Test
+  void shouldCacheCommittedWrite() {
+    // given
+    cache.markPending(KEY);
+
+    // when
+    cache.complete(KEY, new byte[] {2}, true);
+
+    // then
+    assertThat(cache.get(KEY)).containsExactly(2);
+  }
+
+  @Test
+  void shouldRemoveKeyOnRollback() {
+    // given
+    cache.putIfUnchanged(KEY, new byte[] {1}, cache.generation());
+    cache.markPending(KEY);
+
+    // when
+    cache.complete(KEY, new byte[] {2}, false);
+
+    // then
+    assertThat(cache.get(KEY)).isNull();
+  }
+
+  @Test
+  void shouldRemoveKeyOnCommittedDelete() {
+    // given
+    cache.putIfUnchanged(KEY, new byte[] {1}, cache.generation());
+    cache.markPending(KEY);
+
+    // when
+    cache.complete(KEY, null, true);
+
+    // then
+    assertThat(cache.get(KEY)).isNull();
+  }
+
+  @Test
+  void shouldKeepKeyPendingUntilAllWritesAreCompleted() {
+    // given
+    cache.markPending(KEY);
+    cache.markPending(KEY);
+
+    // when
+    cache.complete(KEY, new byte[] {1}, true);
+
+    // then
+    assertThat(cache.get(KEY)).isNull();
+    cache.complete(KEY, new byte[] {2}, true);
+    assertThat(cache.get(KEY)).containsExactly(2);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntries() {
+    // given - each entry takes up a bit less than half of the cache
+    final var cache = new ColumnFamilyCache(700);
+    final var firstKey = BufferUtil.wrapString("first");
+    final var secondKey = BufferUtil.wrapString("second");
+    cache.putIfUnchanged(firstKey, new byte[200], cache.generation());
+    cache.putIfUnchanged(secondKey, new byte[200], cache.generation());
+
+    // when
+    cache.get(firstKey);
+    cache.putIfUnchanged(KEY, new byte[200], cache.generation());
+
+    // then
+    assertThat(cache.get(firstKey)).isNotNull();
+    assertThat(cache.get(secondKey)).isNull();
+    assertThat(cache.get(KEY)).isNotNull();
+    assertThat(cache.size()).isLessThanOrEqualTo(700);
+  }
+
+  @Test
+  void shouldNotCacheValueLargerThanCache() {
+    // when
+    cache.putIfUnchanged(KEY, new byte[2048], cache.generation());
+
+    // then
+    assertThat(cache.get(KEY)).isNull();
+    assertThat(cache.size()).isZero();
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.KeyValuePairVisitor;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionOperation;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Measures the throughput and the allocations of a transaction which reads from a {@link
+ * TransactionalColumnFamily} like the engine usually does: a few point lookups, existence checks
+ * and prefix iterations. Values are either read into byte arrays, or into the pooled direct value
+ * buffer of the column family.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@State(Scope.Benchmark)
+public class TransactionalColumnFamilyPerformanceTest {
+  private static final String ALLOCATION_RATE = "gc.alloc.rate.norm";
+  private static final int PREFIX_COUNT = 100;
+  private static final int SUFFIX_COUNT = 10;
+  private static final int READS_PER_TRANSACTION = 10;
+
+  @Param({"false", "true"})
+  private boolean directValueBuffers;
+
+  private Path directory;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext context;
+  private DbLong prefix;
+  private DbLong suffix;
+  private DbCompositeKey<DbLong, DbLong> key;
+  private DbLong value;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily;
+  private TransactionOperation readOperation;
+  private KeyValuePairVisitor<DbCompositeKey<DbLong, DbLong>, DbLong> valueVisitor;
+  private long nextPrefix;
+  private long sum;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("zb-db-benchmark");
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration().setDirectValueBuffersEnabled(directValueBuffers),
+            new ConsistencyChecksSettings(false, false),
+            new AccessMetricsConfiguration(Kind.NONE, 1),
+            SimpleMeterRegistry::new);
+    zeebeDb = factory.createDb(directory.toFile());
+    context = zeebeDb.createContext();
+
+    prefix = new DbLong();
+    suffix = new DbLong();
+    key = new DbCompositeKey<>(prefix, suffix);
+    value = new DbLong();
+    columnFamily = zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+    context.runInTransaction(this::insertEntries);
+
+    // create the operation and visitor once, such that the benchmark measures the column family
+    readOperation = this::readEntries;
+    valueVisitor = this::addValue;
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public long measureReadTransaction() {
+    context.runInTransaction(readOperation);
+    return sum;
+  }
+
+  @JMHTest("measureReadTransaction")
+  void shouldAllocateLessWithDirectValueBuffers(final JMHTestCase testCase) {
+    // given - the options are accumulated, so the second run needs a test case of its own
+    final var arrayResult =
+        testCase
+            .withOptions(
+                options ->
+                    options.param("directValueBuffers", "false").addProfiler(GCProfiler.class))
+            .run();
+
+    // when
+    final var directResult =
+        JMHTestCase.of(
+                TransactionalColumnFamilyPerformanceTest.class,
+                "measureReadTransaction",
+                options ->
+                    options.param("directValueBuffers", "true").addProfiler(GCProfiler.class))
+            .run();
+
+    // then
+    directResult.hasSecondaryResultAtMost(ALLOCATION_RATE, arrayResult, 0.5);
+    directResult.isAtLeast(arrayResult, 0.2);
+  }
+
+  private void insertEntries() {
+    for (long p = 0; p < PREFIX_COUNT; p++) {
+      prefix.wrapLong(p);
+      for (long s = 0; s < SUFFIX_COUNT; s++) {
+        suffix.wrapLong(s);
+        value.wrapLong(p * SUFFIX_COUNT + s);
+        columnFamily.insert(key, value);
+      }
+    }
+  }
+
+  private void readEntries() {
+    for (int i = 0; i < READS_PER_TRANSACTION; i++) {
+      prefix.wrapLong(nextPrefix);
+      suffix.wrapLong(i % SUFFIX_COUNT);
+
+      final var result = columnFamily.get(key);
+      sum += result.getValue();
+      if (columnFamily.exists(key)) {
+        sum++;
+      }
+      columnFamily.whileEqualPrefix(prefix, valueVisitor);
+
+      nextPrefix = (nextPrefix + 1) % PREFIX_COUNT;
+    }
+  }
+
+  private boolean addValue(final DbCompositeKey<DbLong, DbLong> key, final DbLong value) {
+    sum += value.getValue();
+    return true;
+  }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ColumnFamilyMetricsDoc;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class ZeebeRocksDbCacheTest {
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext context;
+  private TransactionContext otherContext;
+  private ColumnFamily<DbLong, DbString> columnFamily;
+  private ColumnFamily<DbLong, DbString> otherColumnFamily;
+  private DbLong key;
+  private DbString value;
+  private DbLong otherKey;
+  private DbString otherValue;
+
+  @BeforeEach
+  void setup(final @TempDir File directory) {
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration().setCachedColumnFamilies(Set.of("DEFAULT")),
+            new ConsistencyChecksSettings(true, true),
+            new AccessMetricsConfiguration(Kind.FINE, 1),
+            () -> meterRegistry);
+    zeebeDb = factory.createDb(directory);
+
+    context = zeebeDb.createContext();
+    key = new DbLong();
+    value = new DbString();
+    columnFamily = zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+
+    otherContext = zeebeDb.createContext();
+    otherKey = new DbLong();
+    otherValue = new DbString();
+    otherColumnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, otherContext, otherKey, otherValue);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  void shouldCacheValueReadAfterMiss() {
+    // given - the rolled back write removes the key from the cache
+    upsert(1, "foo");
+    rollbackUpsert(1, "bar");
+
+    // when
+    get(1);
+    final var result = get(1);
+
+    // then
+    assertThat(result).isEqualTo("foo");
+    assertThat(cacheAccesses("miss")).isEqualTo(1);
+    assertThat(cacheAccesses("hit")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldSeeOwnWritesWithinTransaction() {
+    // given
+    upsert(1, "foo");
+    get(1);
+
+    // when
+    context.runInTransaction(
+        () -> {
+          upsert(1, "bar");
+
+          // then
+          assertThat(get(1)).isEqualTo("bar");
+        });
+  }
+
+  @Test
+  void shouldNotSeeUncommittedWritesOfOtherTransaction() throws Exception {
+    // given
+    upsert(1, "foo");
+    get(1);
+
+    // when
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(() -> upsert(1, "bar"));
+
+    // then
+    assertThat(getFromOtherContext(1)).isEqualTo("foo");
+    transaction.commit();
+    assertThat(getFromOtherContext(1)).isEqualTo("bar");
+  }
+
+  @Test
+  void shouldNotCacheRolledBackWrites() {
+    // given
+    upsert(1, "foo");
+    get(1);
+
+    // when
+    rollbackUpsert(1, "bar");
+
+    // then
+    assertThat(get(1)).isEqualTo("foo");
+    assertThat(getFromOtherContext(1)).isEqualTo("foo");
+  }
+
+  @Test
+  void shouldNotCacheDeletedKey() {
+    // given
+    upsert(1, "foo");
+    get(1);
+
+    // when
+    key.wrapLong(1);
+    columnFamily.deleteExisting(key);
+
+    // then
+    assertThat(get(1)).isNull();
+    assertThat(columnFamily.exists(key)).isFalse();
+  }
+
+  @Test
+  void shouldCacheCommittedWrites() {
+    // given
+    upsert(1, "foo");
+
+    // when
+    final var result = getFromOtherContext(1);
+
+    // then
+    assertThat(result).isEqualTo("foo");
+    assertThat(cacheAccesses("hit")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldUseCacheToCheckPreconditions() {
+    // given
+    upsert(1, "foo");
+
+    // when
+    key.wrapLong(1);
+    value.wrapString("bar");
+
+    // then
+    assertThatThrownBy(() -> columnFamily.insert(key, value))
+        .hasMessageContaining("already exists");
+    assertThat(get(1)).isEqualTo("foo");
+  }
+
+  private void upsert(final long key, final String value) {
+    this.key.wrapLong(key);
+    this.value.wrapString(value);
+    columnFamily.upsert(this.key, this.value);
+  }
+
+  private void rollbackUpsert(final long key, final String value) {
+    assertThatThrownBy(
+            () ->
+                context.runInTransaction(
+                    () -> {
+                      upsert(key, value);
+                      throw new RuntimeException("expected");
+                    }))
+        .hasMessage("expected");
+  }
+
+  private String get(final long key) {
+    this.key.wrapLong(key);
+    final var result = columnFamily.get(this.key);
+    return result == null ? null : result.toString();
+  }
+
+  private String getFromOtherContext(final long key) {
+    otherKey.wrapLong(key);
+    final var result = otherColumnFamily.get(otherKey);
+    return result == null ? null : result.toString();
+  }
+
+  private double cacheAccesses(final String result) {
+    return meterRegistry
+        .get(ColumnFamilyMetricsDoc.CACHE_ACCESS.getName())
+        .tag(ColumnFamilyMetricsDoc.ColumnFamilyMetricsKeyName.CACHE_RESULT.asString(), result)
+        .counter()
+        .count();
+  }
+}
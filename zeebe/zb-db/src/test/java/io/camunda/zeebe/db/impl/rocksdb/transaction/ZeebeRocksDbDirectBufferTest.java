@@ -0,0 +1,222 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class ZeebeRocksDbDirectBufferTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, BufferView> columnFamily;
+  private DbLong key;
+  private BufferView value;
+
+  @Before
+  public void setup() throws Exception {
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration().setDirectValueBuffersEnabled(true),
+            new ConsistencyChecksSettings(true, true),
+            new AccessMetricsConfiguration(Kind.NONE, 1),
+            SimpleMeterRegistry::new);
+    zeebeDb = factory.createDb(temporaryFolder.newFolder());
+    context = zeebeDb.createContext();
+
+    key = new DbLong();
+    value = new BufferView();
+    columnFamily = zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  public void shouldGetValueLargerThanBuffer() {
+    // given
+    final var largeValue = "a".repeat(64 * 1024);
+    upsert(1, "small");
+    upsert(2, largeValue);
+
+    // when
+    final var smallResult = get(1);
+    final var largeResult = get(2);
+
+    // then
+    assertThat(smallResult).isEqualTo("small");
+    assertThat(largeResult).isEqualTo(largeValue);
+  }
+
+  @Test
+  public void shouldNotOverwriteValueWhenCheckingExistence() {
+    // given
+    upsert(1, "first");
+    upsert(2, "second");
+    key.wrapLong(1);
+    final var result = columnFamily.get(key);
+
+    // when
+    key.wrapLong(2);
+    final var exists = columnFamily.exists(key);
+
+    // then
+    assertThat(exists).isTrue();
+    assertThat(result.toString()).isEqualTo("first");
+  }
+
+  @Test
+  public void shouldIterateOverValuesLargerThanBuffer() {
+    // given
+    final var largeValue = "a".repeat(64 * 1024);
+    upsert(1, "small");
+    upsert(2, largeValue);
+    upsert(3, "small again");
+
+    // when
+    final List<String> values = new ArrayList<>();
+    columnFamily.forEach(v -> values.add(v.toString()));
+
+    // then
+    assertThat(values).containsExactly("small", largeValue, "small again");
+  }
+
+  @Test
+  public void shouldSeeOwnWritesWhenReusingIterator() {
+    // given
+    upsert(1, "first");
+    final List<String> values = new ArrayList<>();
+
+    // when
+    context.runInTransaction(
+        () -> {
+          columnFamily.forEach(v -> {});
+          upsert(2, "second");
+          columnFamily.forEach(v -> values.add(v.toString()));
+        });
+
+    // then
+    assertThat(values).containsExactly("first", "second");
+  }
+
+  @Test
+  public void shouldSeeWritesOfOtherTransactionsWhenReusingIterator() {
+    // given
+    final var otherKey = new DbLong();
+    final var otherValue = new BufferView();
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), otherKey, otherValue);
+    upsert(1, "first");
+    final List<String> values = new ArrayList<>();
+
+    // when
+    context.runInTransaction(
+        () -> {
+          columnFamily.forEach(v -> {});
+          otherKey.wrapLong(2);
+          otherValue.wrapString("second");
+          otherColumnFamily.upsert(otherKey, otherValue);
+          columnFamily.forEach(v -> values.add(v.toString()));
+        });
+
+    // then
+    assertThat(values).containsExactly("first", "second");
+  }
+
+  @Test
+  public void shouldNotOverwriteValuesOfOuterIterationWhenNesting() {
+    // given
+    upsert(1, "first");
+    upsert(2, "second");
+    upsert(3, "third");
+    final List<String> outerValues = new ArrayList<>();
+    final List<String> innerValues = new ArrayList<>();
+
+    // when
+    columnFamily.forEach(
+        outerValue -> {
+          // keep a view of the buffer the outer value was read into, as the value is shared
+          final var outerView = new UnsafeBuffer(outerValue.view);
+          columnFamily.forEach(innerValue -> innerValues.add(innerValue.toString()));
+          outerValues.add(BufferUtil.bufferAsString(outerView));
+        });
+
+    // then
+    assertThat(outerValues).containsExactly("first", "second", "third");
+    assertThat(innerValues).hasSize(9);
+  }
+
+  private void upsert(final long key, final String value) {
+    this.key.wrapLong(key);
+    this.value.wrapString(value);
+    columnFamily.upsert(this.key, this.value);
+  }
+
+  private String get(final long key) {
+    this.key.wrapLong(key);
+    final var result = columnFamily.get(this.key);
+    return result == null ? null : result.toString();
+  }
+
+  /** A value which only wraps the buffer it was read from, like most values of the engine. */
+  private static final class BufferView implements DbValue {
+    private final DirectBuffer view = new UnsafeBuffer(0, 0);
+
+    private void wrapString(final String string) {
+      view.wrap(BufferUtil.wrapString(string));
+    }
+
+    @Override
+    public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+      view.wrap(buffer, offset, length);
+    }
+
+    @Override
+    public int getLength() {
+      return view.capacity();
+    }
+
+    @Override
+    public void write(final MutableDirectBuffer buffer, final int offset) {
+      buffer.putBytes(offset, view, 0, view.capacity());
+    }
+
+    @Override
+    public String toString() {
+      return BufferUtil.bufferAsString(view);
+    }
+  }
+}
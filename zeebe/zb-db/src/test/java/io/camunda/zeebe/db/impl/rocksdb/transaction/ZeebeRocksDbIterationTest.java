@@ -14,6 +14,7 @@ import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransaction.PooledIterator;
 import java.io.File;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Before;
@@ -21,7 +22,6 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
-import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
 public final class ZeebeRocksDbIterationTest {
@@ -60,12 +60,14 @@ public final class ZeebeRocksDbIterationTest {
     final AtomicReference<RocksIterator> spyIterator = new AtomicReference<>();
     Mockito.doAnswer(
             invocation -> {
-              final Object spy = Mockito.spy(invocation.callRealMethod());
-              spyIterator.set((RocksIterator) spy);
-              return spy;
+              final var pooledIterator = Mockito.spy((PooledIterator) invocation.callRealMethod());
+              final var spy = Mockito.spy(pooledIterator.iterator());
+              Mockito.doReturn(spy).when(pooledIterator).iterator();
+              spyIterator.set(spy);
+              return pooledIterator;
             })
         .when(columnFamily)
-        .newIterator(Mockito.any(TransactionContext.class), Mockito.any(ReadOptions.class));
+        .acquireIterator(Mockito.any(TransactionContext.class));
 
     final long prefixes = 3;
     final long suffixes = 5;
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -16,10 +18,12 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
 import io.camunda.zeebe.util.exception.RecoverableException;
 import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -35,12 +39,13 @@ public final class ZeebeRocksDbTransactionTest {
   private final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
       DefaultZeebeDbFactory.getDefaultFactory();
 
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
   private TransactionContext transactionContext;
 
   @Before
   public void setup() throws Exception {
     final File pathName = temporaryFolder.newFolder();
-    final ZeebeDb<DefaultColumnFamily> zeebeDb = dbFactory.createDb(pathName);
+    zeebeDb = dbFactory.createDb(pathName);
     transactionContext = zeebeDb.createContext();
   }
 
@@ -214,4 +219,80 @@ public final class ZeebeRocksDbTransactionTest {
     // when
     currentTransaction.rollback();
   }
+
+  @Test
+  public void shouldNotifyRollbackListenerOnRollback() throws Exception {
+    // given
+    final var rollbacks = new AtomicInteger();
+    transactionContext.addRollbackListener(rollbacks::incrementAndGet);
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(rollbacks).hasValue(1);
+  }
+
+  @Test
+  public void shouldNotifyRollbackListenerIfTransactionFails() {
+    // given
+    final var rollbacks = new AtomicInteger();
+    transactionContext.addRollbackListener(rollbacks::incrementAndGet);
+
+    // when
+    assertThatThrownBy(
+            () ->
+                transactionContext.runInTransaction(
+                    () -> {
+                      throw new IllegalStateException("expected");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    // then
+    assertThat(rollbacks).hasValue(1);
+  }
+
+  @Test
+  public void shouldNotifyRollbackListenerIfCommitFails() throws Exception {
+    // given
+    final var rollbacks = new AtomicInteger();
+    transactionContext.addRollbackListener(rollbacks::incrementAndGet);
+
+    final var key = new DbLong();
+    key.wrapLong(1);
+    final var value = new DbLong();
+    value.wrapLong(1);
+    final var columnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, transactionContext, key, value);
+    final var otherContext = zeebeDb.createContext();
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, otherContext, key, value);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    columnFamily.upsert(key, value);
+    // a concurrent write of the same key makes the optimistic transaction fail on commit
+    otherContext.runInTransaction(() -> otherColumnFamily.upsert(key, value));
+
+    // when
+    assertThatThrownBy(transaction::commit).isInstanceOf(ZeebeDbException.class);
+    transaction.rollback();
+
+    // then
+    assertThat(rollbacks).hasValue(1);
+  }
+
+  @Test
+  public void shouldNotNotifyRollbackListenerOnCommit() throws Exception {
+    // given
+    final var rollbacks = new AtomicInteger();
+    transactionContext.addRollbackListener(rollbacks::incrementAndGet);
+
+    // when
+    transactionContext.runInTransaction(() -> {});
+    transactionContext.getCurrentTransaction().commit();
+
+    // then
+    assertThat(rollbacks).hasValue(0);
+  }
 }